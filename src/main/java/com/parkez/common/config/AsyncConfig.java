@@ -0,0 +1,25 @@
+package com.parkez.common.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.Executor;
+
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+
+    // 주차장 좌표 비동기 변환 (Kakao 지연이 요청 스레드로 전파되지 않도록 분리)
+    @Bean
+    public Executor geocodeTaskExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(1_000);
+        executor.setThreadNamePrefix("geocode-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -15,6 +15,7 @@ import java.time.Duration;
 @Configuration
 public class RedisConfig {
 
+    // 변경 이벤트와 공공데이터 Lambda 가 무효화하지만, 무효화 실패(Redis 장애, REDIS_URL 미설정)에 대비해 짧게 유지
     public static final Duration PARKING_LOT_SEARCH_TTL = Duration.ofMinutes(5);
 
     @Bean
@@ -0,0 +1,80 @@
+package com.parkez.parkinglot.client.kakaomap.geocode;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * 주소 → 좌표 변환 캐시. 정규화한 주소를 키로 메모리(Caffeine) → Redis → Kakao 순으로 조회한다.
+ * Redis 장애 시 Kakao 호출로 대체하며, 주소를 찾지 못한 경우는 캐시하지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CachedGeocodeClient {
+
+    private static final String KEY_PREFIX = "geocode:";
+    private static final Duration REDIS_TTL = Duration.ofDays(30);
+    private static final String DELIMITER = ",";
+
+    private final KakaoGeocodeClient kakaoGeocodeClient;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Cache<String, Geocode> cache = Caffeine.newBuilder()
+            .maximumSize(10_000)
+            .expireAfterWrite(Duration.ofHours(6))
+            .build();
+
+    public Geocode getGeocode(String address) {
+        String normalized = normalize(address);
+        Geocode cached = cache.getIfPresent(normalized);
+        if (cached != null) {
+            return cached;
+        }
+
+        Geocode geocode = readRedis(normalized).orElseGet(() -> {
+            Geocode loaded = kakaoGeocodeClient.getGeocode(address);
+            writeRedis(normalized, loaded);
+            return loaded;
+        });
+        cache.put(normalized, geocode);
+        return geocode;
+    }
+
+    // 앞뒤 공백 제거, 연속 공백은 하나로
+    public static String normalize(String address) {
+        return address == null ? "" : address.trim().replaceAll("\\s+", " ");
+    }
+
+    private Optional<Geocode> readRedis(String normalized) {
+        try {
+            String value = stringRedisTemplate.opsForValue().get(KEY_PREFIX + normalized);
+            if (value == null) {
+                return Optional.empty();
+            }
+            String[] coordinates = value.split(DELIMITER);
+            return Optional.of(Geocode.builder()
+                    .longitude(Double.valueOf(coordinates[0]))
+                    .latitude(Double.valueOf(coordinates[1]))
+                    .build());
+        } catch (Exception e) {
+            log.warn("[지오코딩 캐시] Redis 조회 실패, Kakao 호출로 대체 : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void writeRedis(String normalized, Geocode geocode) {
+        try {
+            stringRedisTemplate.opsForValue().set(KEY_PREFIX + normalized,
+                    geocode.getLongitude() + DELIMITER + geocode.getLatitude(), REDIS_TTL);
+        } catch (Exception e) {
+            log.warn("[지오코딩 캐시] Redis 저장 실패 : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.parkez.parkinglot.client.kakaomap.geocode;
+
+import com.parkez.parkinglot.domain.repository.ReverseGeocodeCacheRepository;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 좌표 → 주소 변환 결과 캐시. 메모리(웜 Lambda 재사용) → reverse_geocode_cache 테이블 → Kakao API 순으로 조회한다.
+ * 좌표는 소수점 5자리(약 1m)로 반올림한 값을 키로 사용하므로, 같은 데이터를 다시 적재하면 Kakao 호출이 거의 없다.
+ * "주소 없음" 결과는 테이블에 저장하지 않고 메모리에만 짧게(NOT_FOUND_TTL) 기억한다.
+ */
+@Slf4j
+public class CachedReverseGeocodeClient implements ReverseGeocodeClient {
+
+    private static final double KEY_SCALE = 100_000d;
+    private static final int MAX_MEMORY_ENTRIES = 100_000;
+    private static final long NOT_FOUND_TTL_MILLIS = Duration.ofMinutes(10).toMillis();
+
+    private final ReverseGeocodeClient delegate;
+    private final ReverseGeocodeCacheRepository cacheRepository;
+    private final Map<CoordinateKey, String> memoryCache = new ConcurrentHashMap<>();
+    private final Map<CoordinateKey, Long> notFoundUntil = new ConcurrentHashMap<>();
+
+    public CachedReverseGeocodeClient(ReverseGeocodeClient delegate, ReverseGeocodeCacheRepository cacheRepository) {
+        this.delegate = delegate;
+        this.cacheRepository = cacheRepository;
+    }
+
+    @Override
+    public String getAddress(Double longitude, Double latitude) {
+        if (longitude == null || latitude == null) {
+            return delegate.getAddress(longitude, latitude);
+        }
+
+        CoordinateKey key = CoordinateKey.of(longitude, latitude);
+        String cached = memoryCache.get(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (isRecentlyNotFound(key)) {
+            return SimpleKakaoGeocodeClient.NOT_FOUND_ADDRESS;
+        }
+
+        // 이전 버전에서 저장된 "주소 없음" 행은 캐시 적중으로 보지 않고 다시 조회한다
+        Optional<String> stored = findStored(key)
+                .filter(address -> !SimpleKakaoGeocodeClient.NOT_FOUND_ADDRESS.equals(address));
+        if (stored.isPresent()) {
+            remember(key, stored.get());
+            return stored.get();
+        }
+
+        String address = delegate.getAddress(longitude, latitude);
+        if (SimpleKakaoGeocodeClient.NOT_FOUND_ADDRESS.equals(address)) {
+            rememberNotFound(key);
+        } else if (address != null) {
+            remember(key, address);
+            store(key, address);
+        }
+        return address;
+    }
+
+    private boolean isRecentlyNotFound(CoordinateKey key) {
+        Long until = notFoundUntil.get(key);
+        if (until == null) {
+            return false;
+        }
+        if (until > System.currentTimeMillis()) {
+            return true;
+        }
+        notFoundUntil.remove(key, until);
+        return false;
+    }
+
+    private void rememberNotFound(CoordinateKey key) {
+        if (notFoundUntil.size() >= MAX_MEMORY_ENTRIES) {
+            notFoundUntil.clear();
+        }
+        notFoundUntil.put(key, System.currentTimeMillis() + NOT_FOUND_TTL_MILLIS);
+    }
+
+    // 캐시 테이블 장애는 Kakao 호출로 대체 (적재를 실패시키지 않음)
+    private Optional<String> findStored(CoordinateKey key) {
+        try {
+            return cacheRepository.findAddress(key.latitudeKey(), key.longitudeKey());
+        } catch (RuntimeException e) {
+            log.warn("[역지오코딩 캐시] 조회 실패 : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private void store(CoordinateKey key, String address) {
+        try {
+            cacheRepository.save(key.latitudeKey(), key.longitudeKey(), address);
+        } catch (RuntimeException e) {
+            log.warn("[역지오코딩 캐시] 저장 실패 : {}", e.getMessage());
+        }
+    }
+
+    private void remember(CoordinateKey key, String address) {
+        if (memoryCache.size() >= MAX_MEMORY_ENTRIES) {
+            memoryCache.clear();
+        }
+        memoryCache.put(key, address);
+    }
+
+    private record CoordinateKey(long latitudeKey, long longitudeKey) {
+        static CoordinateKey of(double longitude, double latitude) {
+            return new CoordinateKey(Math.round(latitude * KEY_SCALE), Math.round(longitude * KEY_SCALE));
+        }
+    }
+}
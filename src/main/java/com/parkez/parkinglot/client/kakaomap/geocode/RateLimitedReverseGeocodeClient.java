@@ -0,0 +1,19 @@
+package com.parkez.parkinglot.client.kakaomap.geocode;
+
+// Kakao 호출 직전에만 토큰을 사용하도록 캐시 안쪽에 둔다 (Cached → RateLimited → SimpleKakao)
+public class RateLimitedReverseGeocodeClient implements ReverseGeocodeClient {
+
+    private final ReverseGeocodeClient delegate;
+    private final TokenBucketRateLimiter rateLimiter;
+
+    public RateLimitedReverseGeocodeClient(ReverseGeocodeClient delegate, TokenBucketRateLimiter rateLimiter) {
+        this.delegate = delegate;
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public String getAddress(Double longitude, Double latitude) {
+        rateLimiter.acquire();
+        return delegate.getAddress(longitude, latitude);
+    }
+}
@@ -0,0 +1,7 @@
+package com.parkez.parkinglot.client.kakaomap.geocode;
+
+// 좌표 → 주소 변환 (Lambda 공공데이터 적재용)
+public interface ReverseGeocodeClient {
+
+    String getAddress(Double longitude, Double latitude);
+}
@@ -3,12 +3,16 @@ package com.parkez.parkinglot.client.kakaomap.geocode;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import java.io.IOException;
 import java.net.URI;
 import java.net.http.HttpClient;
 import java.net.http.HttpRequest;
 import java.net.http.HttpResponse;
 
-public class SimpleKakaoGeocodeClient {
+public class SimpleKakaoGeocodeClient implements ReverseGeocodeClient {
+
+    // 정상 응답이지만 좌표에 해당하는 주소가 없을 때 반환하는 값 (캐시는 이 값을 영구 저장하지 않음)
+    public static final String NOT_FOUND_ADDRESS = "좌표로 주소를 찾을 수 없습니다.";
 
     private static final String COORD_URL = "https://dapi.kakao.com/v2/local/geo/coord2address.json";
     private final HttpClient client = HttpClient.newHttpClient();
@@ -19,21 +23,36 @@ public class SimpleKakaoGeocodeClient {
         this.apikey = apikey;
     }
 
+    @Override
     public String getAddress(Double longitude, Double latitude) {
+        HttpResponse<String> response = send(longitude, latitude);
+        // 401/429/5xx 등의 오류 응답을 "주소 없음"으로 취급하면 잘못된 결과가 캐시되므로 예외로 전파한다
+        if (response.statusCode() / 100 != 2) {
+            throw new RuntimeException("Kakao API 오류 응답 : status=" + response.statusCode());
+        }
         try {
-            URI uri = URI.create(COORD_URL + "?x=" + longitude + "&y=" + latitude);
-            HttpRequest request = HttpRequest.newBuilder(uri)
-                    .header("Authorization", "KakaoAK " + apikey)
-                    .GET()
-                    .build();
-            HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
             JsonNode docs = mapper.readTree(response.body()).path("documents");
             if (docs.isEmpty() || docs.isNull()) {
-                return "좌표로 주소를 찾을 수 없습니다.";
+                return NOT_FOUND_ADDRESS;
             }
             return docs.get(0).path("address").path("address_name").asText();
+        } catch (IOException e) {
+            throw new RuntimeException("Kakao API 응답 파싱 실패", e);
+        }
+    }
 
-        } catch (Exception e) {
+    private HttpResponse<String> send(Double longitude, Double latitude) {
+        try {
+            URI uri = URI.create(COORD_URL + "?x=" + longitude + "&y=" + latitude);
+            HttpRequest request = HttpRequest.newBuilder(uri)
+                    .header("Authorization", "KakaoAK " + apikey)
+                    .GET()
+                    .build();
+            return client.send(request, HttpResponse.BodyHandlers.ofString());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Kakao API 호출 실패", e);
+        } catch (IOException e) {
             throw new RuntimeException("Kakao API 호출 실패", e);
         }
     }
@@ -0,0 +1,111 @@
+package com.parkez.parkinglot.client.redis;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheEvictMessage;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCachePublisher;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchCacheIndex;
+import com.parkez.parkinglot.spatial.ParkingLotGeoIndex;
+import com.parkez.parkinglot.spatial.ParkingLotLocation;
+import io.lettuce.core.GeoValue;
+import io.lettuce.core.RedisClient;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.api.StatefulRedisConnection;
+import io.lettuce.core.api.async.RedisAsyncCommands;
+import io.lettuce.core.api.sync.RedisCommands;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// Spring 컨텍스트가 없는 Lambda 에서 주차장 좌표를 Redis GEO 집합에 기록하고 검색 캐시를 무효화하는 클라이언트
+public class SimpleRedisGeoClient {
+
+    private static final long COMMAND_TIMEOUT_SECONDS = 10;
+    private static final int DELETE_CHUNK_SIZE = 1_000;
+
+    private final RedisClient redisClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    public SimpleRedisGeoClient(String redisUrl) {
+        this.redisClient = RedisClient.create(redisUrl);
+    }
+
+    @SuppressWarnings("unchecked")
+    public void addAll(List<ParkingLotLocation> locations) {
+        if (locations.isEmpty()) {
+            return;
+        }
+
+        GeoValue<String>[] values = locations.stream()
+                .map(location -> GeoValue.just(location.getLongitude(), location.getLatitude(), String.valueOf(location.getParkingLotId())))
+                .toArray(GeoValue[]::new);
+
+        try (StatefulRedisConnection<String, String> connection = redisClient.connect()) {
+            connection.sync().geoadd(ParkingLotGeoIndex.GEO_KEY, values);
+            recordChanges(connection.sync(), locations.stream().collect(Collectors.toMap(
+                    location -> String.valueOf(location.getParkingLotId()),
+                    location -> location.getLongitude() + "," + location.getLatitude(),
+                    (first, second) -> second
+            )));
+        } catch (Exception e) {
+            throw new RuntimeException("Redis GEO 적재 실패", e);
+        }
+    }
+
+    public void removeAll(List<Long> parkingLotIds) {
+        if (parkingLotIds.isEmpty()) {
+            return;
+        }
+
+        String[] members = parkingLotIds.stream().map(String::valueOf).toArray(String[]::new);
+        try (StatefulRedisConnection<String, String> connection = redisClient.connect()) {
+            connection.sync().zrem(ParkingLotGeoIndex.GEO_KEY, members);
+            recordChanges(connection.sync(), Arrays.stream(members)
+                    .collect(Collectors.toMap(Function.identity(), member -> ParkingLotGeoIndex.REMOVED, (first, second) -> second)));
+        } catch (Exception e) {
+            throw new RuntimeException("Redis GEO 삭제 실패", e);
+        }
+    }
+
+    // 애플리케이션의 검색 캐시 역색인(ParkingLotSearchCacheIndex)으로 메시지 범위의 검색 캐시(L2)를 삭제하고,
+    // 모든 인스턴스가 같은 범위의 L1 을 무효화하도록 발행 (색인 값과 메시지는 애플리케이션의 JSON 직렬화 형식을 따름)
+    public void evictSearchCache(ParkingLotSearchCacheEvictMessage message) {
+        List<String> indexKeys = new ArrayList<>(ParkingLotSearchCacheIndex.indexKeys(message, System.currentTimeMillis()));
+        if (indexKeys.isEmpty()) {
+            return;
+        }
+
+        try (StatefulRedisConnection<String, String> connection = redisClient.connect()) {
+            RedisAsyncCommands<String, String> commands = connection.async();
+            List<RedisFuture<Set<String>>> futures = indexKeys.stream().map(commands::smembers).toList();
+            Set<String> keys = new LinkedHashSet<>(indexKeys);
+            for (RedisFuture<Set<String>> future : futures) {
+                for (String member : future.get(COMMAND_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                    keys.add(objectMapper.readValue(member, String.class));
+                }
+            }
+
+            List<String> deleteKeys = new ArrayList<>(keys);
+            for (int from = 0; from < deleteKeys.size(); from += DELETE_CHUNK_SIZE) {
+                List<String> chunk = deleteKeys.subList(from, Math.min(from + DELETE_CHUNK_SIZE, deleteKeys.size()));
+                connection.sync().del(chunk.toArray(String[]::new));
+            }
+            connection.sync().publish(ParkingLotSearchCachePublisher.CHANNEL, objectMapper.writeValueAsString(message.encode()));
+        } catch (Exception e) {
+            throw new RuntimeException("검색 캐시 삭제 실패", e);
+        }
+    }
+
+    // 서버가 GEO 집합을 재적재 중이면 교체 후 다시 반영되도록 변경 기록 (ParkingLotGeoIndex.rebuild 참고)
+    private void recordChanges(RedisCommands<String, String> commands, Map<String, String> changes) {
+        if (commands.exists(ParkingLotGeoIndex.REBUILDING_KEY) > 0) {
+            commands.hset(ParkingLotGeoIndex.CHANGES_KEY, changes);
+        }
+    }
+}
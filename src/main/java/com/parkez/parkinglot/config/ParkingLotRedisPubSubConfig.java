@@ -0,0 +1,26 @@
+package com.parkez.parkinglot.config;
+
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCachePublisher;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheSubscriber;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.listener.PatternTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@Configuration
+@RequiredArgsConstructor
+public class ParkingLotRedisPubSubConfig {
+
+    private final RedisConnectionFactory connectionFactory;
+    private final ParkingLotSearchCacheSubscriber parkingLotSearchCacheSubscriber;
+
+    @Bean
+    public RedisMessageListenerContainer parkingLotMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(parkingLotSearchCacheSubscriber, new PatternTopic(ParkingLotSearchCachePublisher.CHANNEL));
+        return container;
+    }
+}
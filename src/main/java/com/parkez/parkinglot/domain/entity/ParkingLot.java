@@ -2,6 +2,7 @@ package com.parkez.parkinglot.domain.entity;
 
 import com.parkez.common.entity.BaseDeleteEntity;
 import com.parkez.parkinglot.domain.enums.ChargeType;
+import com.parkez.parkinglot.domain.enums.GeocodeStatus;
 import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
 import com.parkez.parkinglot.domain.enums.SourceType;
 import com.parkez.user.domain.entity.User;
@@ -10,8 +11,13 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.GeometryFactory;
+import org.locationtech.jts.geom.Point;
+import org.locationtech.jts.geom.PrecisionModel;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.List;
@@ -28,6 +34,9 @@ import java.util.Objects;
 )
 public class ParkingLot extends BaseDeleteEntity {
 
+    private static final int SRID_WGS84 = 4326;
+    private static final GeometryFactory GEOMETRY_FACTORY = new GeometryFactory(new PrecisionModel(), SRID_WGS84);
+
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long id;
@@ -44,6 +53,10 @@ public class ParkingLot extends BaseDeleteEntity {
     private Double latitude;
     private Double longitude;
 
+    // SPATIAL 인덱스용 위치 (x = 경도, y = 위도), 위도/경도와 항상 함께 갱신
+    @Column(columnDefinition = "POINT SRID 4326")
+    private Point location;
+
     @Column(nullable = false)
     private LocalTime openedAt;
 
@@ -74,6 +87,15 @@ public class ParkingLot extends BaseDeleteEntity {
     @OneToMany(mappedBy = "parkingLot", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<ParkingLotImage> images;
 
+    // 비동기 좌표 변환 상태 (공공데이터 적재 행은 항상 좌표가 있으므로 NULL 허용)
+    @Enumerated(EnumType.STRING)
+    private GeocodeStatus geocodeStatus;
+
+    private Integer geocodeAttempts;
+
+    // 이 시각이 지나도 PENDING 이면 재시도 대상
+    private LocalDateTime geocodeRetryAt;
+
     @Builder
     private ParkingLot(User owner, String name, String address,
                        Double latitude, Double longitude,
@@ -87,6 +109,7 @@ public class ParkingLot extends BaseDeleteEntity {
         this.address = address;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.location = toLocation(latitude, longitude);
         this.openedAt = openedAt;
         this.closedAt = closedAt;
         this.pricePerHour = pricePerHour;
@@ -106,6 +129,7 @@ public class ParkingLot extends BaseDeleteEntity {
         this.address = address;
         this.latitude = latitude;
         this.longitude = longitude;
+        this.location = toLocation(latitude, longitude);
         this.openedAt = openedAt;
         this.closedAt = closedAt;
         this.pricePerHour = pricePerHour;
@@ -135,9 +159,38 @@ public class ParkingLot extends BaseDeleteEntity {
     public void updateGeocode(Double latitude, Double longitude) {
         this.latitude = latitude;
         this.longitude = longitude;
+        this.location = toLocation(latitude, longitude);
+        this.geocodeStatus = null;
+        this.geocodeAttempts = null;
+        this.geocodeRetryAt = null;
+    }
+
+    // 비동기 좌표 변환 요청 (retryAt 까지 처리되지 않으면 재시도)
+    public void requestGeocode(LocalDateTime retryAt) {
+        this.geocodeStatus = GeocodeStatus.PENDING;
+        this.geocodeAttempts = 0;
+        this.geocodeRetryAt = retryAt;
+    }
+
+    // 좌표 변환 실패 기록 (retryAt 이 null 이면 더 이상 재시도하지 않고 실패로 표시)
+    public void recordGeocodeFailure(LocalDateTime retryAt) {
+        this.geocodeAttempts = getGeocodeAttemptCount() + 1;
+        this.geocodeStatus = retryAt != null ? GeocodeStatus.PENDING : GeocodeStatus.FAILED;
+        this.geocodeRetryAt = retryAt;
+    }
+
+    public int getGeocodeAttemptCount() {
+        return geocodeAttempts != null ? geocodeAttempts : 0;
     }
 
     public boolean isPublicData() {
         return Objects.equals(this.sourceType, SourceType.PUBLIC_DATA);
     }
-}
\ No newline at end of file
+
+    // SPATIAL 인덱스 컬럼은 NOT NULL 이어야 하므로 좌표가 없으면 (0, 0)으로 대체 (국내 반경 검색에 걸리지 않음)
+    private static Point toLocation(Double latitude, Double longitude) {
+        double x = longitude != null ? longitude : 0d;
+        double y = latitude != null ? latitude : 0d;
+        return GEOMETRY_FACTORY.createPoint(new Coordinate(x, y));
+    }
+}
@@ -0,0 +1,63 @@
+package com.parkez.parkinglot.domain.entity;
+
+import com.parkez.common.entity.BaseEntity;
+import com.parkez.parkinglot.dto.aggregation.ParkingLotAggregation;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+@Table(name = "parking_lot_stats")
+public class ParkingLotStats extends BaseEntity {
+
+    @Id
+    private Long parkingLotId;
+
+    @Column(nullable = false)
+    private long parkingZoneCount;
+
+    @Column(nullable = false)
+    private long reviewCount;
+
+    // 평균 평점은 합계 / 리뷰 수로 계산 (증분 갱신 시 오차 누적 방지)
+    @Column(nullable = false)
+    private long ratingSum;
+
+    @Builder
+    private ParkingLotStats(Long parkingLotId, long parkingZoneCount, long reviewCount, long ratingSum) {
+        this.parkingLotId = parkingLotId;
+        this.parkingZoneCount = parkingZoneCount;
+        this.reviewCount = reviewCount;
+        this.ratingSum = ratingSum;
+    }
+
+    public static ParkingLotStats empty(Long parkingLotId) {
+        return ParkingLotStats.builder()
+                .parkingLotId(parkingLotId)
+                .build();
+    }
+
+    public static ParkingLotStats from(ParkingLotAggregation aggregation) {
+        long reviewCount = aggregation.getReviewCount() != null ? aggregation.getReviewCount() : 0L;
+        long ratingSum = aggregation.getAvgRating() != null ? Math.round(aggregation.getAvgRating() * reviewCount) : 0L;
+
+        return ParkingLotStats.builder()
+                .parkingLotId(aggregation.getParkingLotId())
+                .parkingZoneCount(aggregation.getParkingZoneCount() != null ? aggregation.getParkingZoneCount() : 0L)
+                .reviewCount(reviewCount)
+                .ratingSum(ratingSum)
+                .build();
+    }
+
+    public ParkingLotAggregation toAggregation() {
+        Double avgRating = reviewCount > 0 ? (double) ratingSum / reviewCount : null;
+        return new ParkingLotAggregation(parkingLotId, parkingZoneCount, reviewCount, avgRating);
+    }
+}
@@ -0,0 +1,14 @@
+package com.parkez.parkinglot.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 비동기 좌표 변환 진행 상태 (변환이 끝났거나 요청한 적이 없으면 null)
+@Getter
+@RequiredArgsConstructor
+public enum GeocodeStatus {
+    PENDING("좌표 변환 대기"),
+    FAILED("좌표 변환 실패");
+
+    private final String description;
+}
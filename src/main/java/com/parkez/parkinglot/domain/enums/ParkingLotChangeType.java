@@ -0,0 +1,19 @@
+package com.parkez.parkinglot.domain.enums;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum ParkingLotChangeType {
+    CREATED("등록", true),
+    UPDATED("정보 수정", true),
+    STATUS_CHANGED("상태 변경", true),
+    IMAGES_UPDATED("이미지 수정", false),
+    DELETED("삭제", true);
+
+    private final String description;
+
+    // 검색 결과 구성(포함 여부, 전체 건수)이 바뀔 수 있는 변경인지 (등록/이동은 기존에 없던 결과에 나타나고, 삭제/상태 변경은 건수가 바뀜)
+    private final boolean searchMembershipChanged;
+}
@@ -7,6 +7,12 @@ public interface PageStateRepository {
 
     int readPage(Connection connection) throws SQLException;
 
+    int alignPage(Connection connection, int perPage) throws SQLException;
+
     void updatePage(Connection connection, int nextPage) throws SQLException;
 
+    long readSyncRun(Connection connection) throws SQLException;
+
+    void startNextSyncRun(Connection connection) throws SQLException;
+
 }
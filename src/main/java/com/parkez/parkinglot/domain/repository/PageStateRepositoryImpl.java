@@ -26,6 +26,50 @@ public class PageStateRepositoryImpl implements PageStateRepository {
         }
     }
 
+    // current_page 는 per_page 단위라서 페이지 크기가 바뀌면(단건 2 <-> bulk 1000) 같은 페이지 번호가 다른 행을 가리킨다.
+    // 크기가 바뀌었으면 지금까지 처리한 행 수를 새 크기로 환산해 기록 (행을 건너뛰지 않도록 내림, 일부 행은 다시 처리)
+    // 동기화 회차는 그대로 두어도 회차 안의 행이 빠짐없이 처리된다
+    @Override
+    public int alignPage(Connection connection, int perPage) throws SQLException {
+        String sql = """
+                SELECT current_page, per_page
+                 FROM public_data_page_state
+                 WHERE id = 1
+                 FOR UPDATE
+                """;
+        int page;
+        int storedPerPage;
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()
+        ) {
+            if (!resultSet.next()) {
+                throw new IllegalStateException("페이지 상태가 없음");
+            }
+            page = resultSet.getInt("current_page");
+            storedPerPage = resultSet.getInt("per_page");
+        }
+        if (storedPerPage == perPage) {
+            return page;
+        }
+
+        long processedRows = (long) (page - 1) * storedPerPage;
+        int alignedPage = (int) (processedRows / perPage) + 1;
+        String updateSql = """
+                UPDATE public_data_page_state
+                 SET current_page = ?,
+                    per_page = ?,
+                    updated_at = NOW()
+                 WHERE id = 1
+                """;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(updateSql)) {
+            preparedStatement.setInt(1, alignedPage);
+            preparedStatement.setInt(2, perPage);
+            preparedStatement.executeUpdate();
+        }
+        return alignedPage;
+    }
+
     @Override
     public void updatePage(Connection connection, int nextPage) throws SQLException {
         String sql = """
@@ -39,4 +83,35 @@ public class PageStateRepositoryImpl implements PageStateRepository {
             preparedStatement.executeUpdate();
         }
     }
+
+    // 전체 페이지를 한 바퀴 도는 동기화 회차 (source row 의 last_seen_run 과 비교해 사라진 주차장 판단)
+    @Override
+    public long readSyncRun(Connection connection) throws SQLException {
+        String sql = """
+                SELECT sync_run
+                 FROM public_data_page_state
+                 WHERE id = 1
+                """;
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()
+        ) {
+            if (resultSet.next()) {
+                return resultSet.getLong("sync_run");
+            }
+            throw new IllegalStateException("페이지 상태가 없음");
+        }
+    }
+
+    @Override
+    public void startNextSyncRun(Connection connection) throws SQLException {
+        String sql = """
+                UPDATE public_data_page_state
+                 SET sync_run = sync_run + 1
+                 WHERE id = 1
+                """;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.executeUpdate();
+        }
+    }
 }
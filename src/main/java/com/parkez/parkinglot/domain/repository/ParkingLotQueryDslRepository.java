@@ -1,5 +1,6 @@
 package com.parkez.parkinglot.domain.repository;
 
+import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
 import com.parkez.parkinglot.dto.aggregation.ParkingLotAggregation;
 import com.parkez.parkinglot.dto.response.MyParkingLotSearchResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
@@ -7,22 +8,43 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
 
 public interface ParkingLotQueryDslRepository {
 
     // 주차장 다건 조회
     Page<ParkingLotSearchResponse> searchParkingLotsByConditions(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters, Pageable pageable);
 
+    // 주차장 다건 조회 (거리 조건 대신 공간 인덱스가 찾은 주차장 ID로 한정)
+    Page<ParkingLotSearchResponse> searchParkingLotsByConditions(String name, String address, List<Long> parkingLotIds, Pageable pageable);
+
+    // 주차장 커서 기반 다건 조회 (위치 조건이 있으면 거리순, 없으면 ID순 / GROUP BY, COUNT 없음)
+    List<ParkingLotSearchResponse> searchParkingLotsByCursor(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters,
+                                                             Long cursorParkingLotId, Double cursorDistance, int limit);
+
+    // 최대 반경 안에서 특정 상태의 주차장을 가까운 순으로 limit 건 조회 (공간 인덱스 미적재 시 최근접 조회용)
+    List<ParkingLotSearchResponse> searchNearestParkingLots(double userLatitude, double userLongitude, int maxRadiusInMeters,
+                                                            ParkingLotStatus status, int limit);
+
+    // 주차장 ID 목록으로 조회 (공간 인덱스가 정렬한 ID 페이지를 채우는 용도, 순서는 보장하지 않음)
+    List<ParkingLotSearchResponse> searchParkingLotsByIds(List<Long> parkingLotIds);
+
+    // 위경도 범위(geohash 칸) 내 주차장 전체 조회 (geo 타일 캐시 적재용)
+    List<ParkingLotSearchResponse> searchParkingLotsInBounds(String name, String address,
+                                                             double minLatitude, double maxLatitude, double minLongitude, double maxLongitude);
+
+    // 검색 조건에 맞는 주차장 수
+    long countParkingLotsByConditions(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters);
+
     // 주차장 단건 조회
     ParkingLotSearchResponse searchParkingLotById(Long parkingLotId);
 
     // 본인이 소유한 주차장 조회
     Page<MyParkingLotSearchResponse> findMyParkingLots(Long userId, Pageable pageable);
 
-    // 이미지 조회
-    List<String> findImageListByParkingLotId(Long parkingLotId);
+    // 이미지 일괄 조회 (주차장 ID -> 이미지 URL 목록)
+    Map<Long, List<String>> findImageListByParkingLotIds(List<Long> parkingLotIds);
 
-    // 조회에 필요한 집계
-    Optional<ParkingLotAggregation> getAggregationByParkingLotId(Long parkingLotId);
+    // 조회에 필요한 집계 일괄 조회
+    List<ParkingLotAggregation> getAggregationsByParkingLotIds(List<Long> parkingLotIds);
 }
@@ -2,8 +2,13 @@ package com.parkez.parkinglot.domain.repository;
 
 
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.spatial.ParkingLotLocation;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
@@ -13,4 +18,31 @@ public interface ParkingLotRepository extends JpaRepository<ParkingLot, Long>, P
 
     boolean existsByIdAndDeletedAtIsNull(Long parkingLotId);
 
+    @Query("""
+            SELECT pl.id FROM ParkingLot pl
+            WHERE pl.id > :lastParkingLotId
+            AND pl.deletedAt IS NULL
+            ORDER BY pl.id ASC
+            """)
+    List<Long> findActiveIdsAfter(@Param("lastParkingLotId") Long lastParkingLotId, Pageable pageable);
+
+    @Query("""
+            SELECT new com.parkez.parkinglot.spatial.ParkingLotLocation(pl.id, pl.latitude, pl.longitude)
+            FROM ParkingLot pl
+            WHERE pl.deletedAt IS NULL
+            AND pl.latitude IS NOT NULL
+            AND pl.longitude IS NOT NULL
+            """)
+    List<ParkingLotLocation> findAllActiveLocations();
+
+    // 재시도 시각이 지난 좌표 변환 대기 주차장
+    @Query("""
+            SELECT pl FROM ParkingLot pl
+            WHERE pl.geocodeStatus = com.parkez.parkinglot.domain.enums.GeocodeStatus.PENDING
+            AND pl.geocodeRetryAt <= :now
+            AND pl.deletedAt IS NULL
+            ORDER BY pl.geocodeRetryAt ASC
+            """)
+    List<ParkingLot> findGeocodeRetryTargets(@Param("now") LocalDateTime now, Pageable pageable);
+
 }
@@ -1,12 +1,19 @@
 package com.parkez.parkinglot.domain.repository;
 
+import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
 import com.parkez.parkinglot.dto.aggregation.ParkingLotAggregation;
 import com.parkez.parkinglot.dto.response.MyParkingLotSearchResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
+import com.parkez.parkinglot.spatial.GeoUtils;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.ConstructorExpression;
+import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.core.types.dsl.CaseBuilder;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.core.types.dsl.StringPath;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
@@ -16,8 +23,13 @@ import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Repository;
 import org.springframework.util.StringUtils;
 
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
 
 import static com.parkez.parkinglot.domain.entity.QParkingLot.parkingLot;
 import static com.parkez.parkinglot.domain.entity.QParkingLotImage.parkingLotImage;
@@ -29,12 +41,27 @@ import static com.parkez.review.domain.entity.QReview.review;
 @RequiredArgsConstructor
 public class ParkingLotRepositoryImpl implements ParkingLotQueryDslRepository {
 
+    private static final int NGRAM_TOKEN_SIZE = 2;
+    private static final Pattern BOOLEAN_MODE_OPERATORS = Pattern.compile("[+\\-<>()~*\"@]");
+
     private final JPAQueryFactory jpaQueryFactory;
 
     // 다건 조회
     @Override
     public Page<ParkingLotSearchResponse> searchParkingLotsByConditions(String name, String address,
                                                                         Double userLatitude, Double userLongitude, Integer radiusInMeters, Pageable pageable) {
+        return searchParkingLots(name, address, withinRadius(userLatitude, userLongitude, radiusInMeters), pageable);
+    }
+
+    // 다건 조회 (공간 인덱스로 거리 조건을 통과한 주차장 ID 한정)
+    @Override
+    public Page<ParkingLotSearchResponse> searchParkingLotsByConditions(String name, String address,
+                                                                        List<Long> parkingLotIds, Pageable pageable) {
+        return searchParkingLots(name, address, parkingLot.id.in(parkingLotIds), pageable);
+    }
+
+    private Page<ParkingLotSearchResponse> searchParkingLots(String name, String address,
+                                                             BooleanExpression locationCondition, Pageable pageable) {
 
         List<ParkingLotSearchResponse> dtoList = jpaQueryFactory
                 .select(Projections.constructor(ParkingLotSearchResponse.class,
@@ -53,7 +80,7 @@ public class ParkingLotRepositoryImpl implements ParkingLotQueryDslRepository {
                 .where(
                         nameContains(name),
                         addressContains(address),
-                        withinRadius(userLatitude, userLongitude, radiusInMeters),
+                        locationCondition,
                         parkingLot.address.isNotEmpty(),
                         notDeleted()
                 )
@@ -68,24 +95,202 @@ public class ParkingLotRepositoryImpl implements ParkingLotQueryDslRepository {
                         parkingLot.sourceType,
                         parkingLot.status
                 )
+                .orderBy(relevanceOrder(name, address))
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
                 .fetch();
 
         // page 쿼리
-        JPAQuery<Long> countQuery = jpaQueryFactory
+        JPAQuery<Long> countQuery = countQuery(name, address, locationCondition);
+
+        return PageableExecutionUtils.getPage(dtoList, pageable, countQuery::fetchOne);
+    }
+
+    // 커서 기반 다건 조회
+    @Override
+    public List<ParkingLotSearchResponse> searchParkingLotsByCursor(String name, String address,
+                                                                    Double userLatitude, Double userLongitude, Integer radiusInMeters,
+                                                                    Long cursorParkingLotId, Double cursorDistance, int limit) {
+        ConstructorExpression<ParkingLotSearchResponse> projection = Projections.constructor(ParkingLotSearchResponse.class,
+                parkingLot.id,
+                parkingLot.name,
+                parkingLot.address,
+                parkingLot.openedAt,
+                parkingLot.closedAt,
+                parkingLot.pricePerHour,
+                parkingLot.quantity.as("totalQuantity"),
+                parkingLot.chargeType,
+                parkingLot.sourceType,
+                parkingLot.status.as("parkingLotStatus")
+        );
+
+        // 위치 조건이 없으면 ID 순
+        if (userLatitude == null || userLongitude == null || radiusInMeters == null) {
+            return jpaQueryFactory
+                    .select(projection)
+                    .from(parkingLot)
+                    .where(
+                            nameContains(name),
+                            addressContains(address),
+                            afterIdCursor(cursorParkingLotId),
+                            parkingLot.address.isNotEmpty(),
+                            notDeleted()
+                    )
+                    .orderBy(parkingLot.id.asc())
+                    .limit(limit)
+                    .fetch();
+        }
+
+        // 위치 조건이 있으면 (거리, ID) 순
+        NumberExpression<Double> distance = distanceFrom(userLatitude, userLongitude);
+        List<Tuple> rows = jpaQueryFactory
+                .select(projection, distance)
+                .from(parkingLot)
+                .where(
+                        nameContains(name),
+                        addressContains(address),
+                        withinRadius(userLatitude, userLongitude, radiusInMeters),
+                        afterDistanceCursor(distance, cursorParkingLotId, cursorDistance),
+                        parkingLot.address.isNotEmpty(),
+                        notDeleted()
+                )
+                .orderBy(distance.asc(), parkingLot.id.asc())
+                .limit(limit)
+                .fetch();
+
+        return rows.stream()
+                .map(row -> {
+                    ParkingLotSearchResponse dto = row.get(projection);
+                    dto.updateDistance(row.get(distance));
+                    return dto;
+                })
+                .toList();
+    }
+
+    // 최대 반경 안에서 특정 상태의 주차장을 가까운 순으로 조회
+    @Override
+    public List<ParkingLotSearchResponse> searchNearestParkingLots(double userLatitude, double userLongitude, int maxRadiusInMeters,
+                                                                   ParkingLotStatus status, int limit) {
+        ConstructorExpression<ParkingLotSearchResponse> projection = Projections.constructor(ParkingLotSearchResponse.class,
+                parkingLot.id,
+                parkingLot.name,
+                parkingLot.address,
+                parkingLot.openedAt,
+                parkingLot.closedAt,
+                parkingLot.pricePerHour,
+                parkingLot.quantity.as("totalQuantity"),
+                parkingLot.chargeType,
+                parkingLot.sourceType,
+                parkingLot.status.as("parkingLotStatus")
+        );
+        NumberExpression<Double> distance = distanceFrom(userLatitude, userLongitude);
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(projection, distance)
+                .from(parkingLot)
+                .where(
+                        withinRadius(userLatitude, userLongitude, maxRadiusInMeters),
+                        parkingLot.status.eq(status),
+                        parkingLot.address.isNotEmpty(),
+                        notDeleted()
+                )
+                .orderBy(distance.asc(), parkingLot.id.asc())
+                .limit(limit)
+                .fetch();
+
+        return rows.stream()
+                .map(row -> {
+                    ParkingLotSearchResponse dto = row.get(projection);
+                    dto.updateDistance(row.get(distance));
+                    return dto;
+                })
+                .toList();
+    }
+
+    // 주차장 ID 목록으로 조회
+    @Override
+    public List<ParkingLotSearchResponse> searchParkingLotsByIds(List<Long> parkingLotIds) {
+        if (parkingLotIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory
+                .select(Projections.constructor(ParkingLotSearchResponse.class,
+                        parkingLot.id,
+                        parkingLot.name,
+                        parkingLot.address,
+                        parkingLot.openedAt,
+                        parkingLot.closedAt,
+                        parkingLot.pricePerHour,
+                        parkingLot.quantity.as("totalQuantity"),
+                        parkingLot.chargeType,
+                        parkingLot.sourceType,
+                        parkingLot.status.as("parkingLotStatus")
+                ))
+                .from(parkingLot)
+                .where(
+                        parkingLot.id.in(parkingLotIds),
+                        parkingLot.address.isNotEmpty(),
+                        notDeleted()
+                )
+                .fetch();
+    }
+
+    // 위경도 범위 내 주차장 전체 조회 (칸 경계 중복을 막기 위해 최소값 포함, 최대값 미포함)
+    @Override
+    public List<ParkingLotSearchResponse> searchParkingLotsInBounds(String name, String address,
+                                                                    double minLatitude, double maxLatitude,
+                                                                    double minLongitude, double maxLongitude) {
+        return jpaQueryFactory
+                .select(Projections.constructor(ParkingLotSearchResponse.class,
+                        parkingLot.id,
+                        parkingLot.name,
+                        parkingLot.address,
+                        parkingLot.openedAt,
+                        parkingLot.closedAt,
+                        parkingLot.pricePerHour,
+                        parkingLot.quantity.as("totalQuantity"),
+                        parkingLot.chargeType,
+                        parkingLot.sourceType,
+                        parkingLot.status.as("parkingLotStatus"),
+                        parkingLot.latitude,
+                        parkingLot.longitude
+                ))
+                .from(parkingLot)
+                .where(
+                        nameContains(name),
+                        addressContains(address),
+                        parkingLot.latitude.goe(minLatitude),
+                        parkingLot.latitude.lt(maxLatitude),
+                        parkingLot.longitude.goe(minLongitude),
+                        parkingLot.longitude.lt(maxLongitude),
+                        parkingLot.address.isNotEmpty(),
+                        notDeleted()
+                )
+                .orderBy(parkingLot.id.asc())
+                .fetch();
+    }
+
+    // 검색 조건에 맞는 주차장 수
+    @Override
+    public long countParkingLotsByConditions(String name, String address,
+                                             Double userLatitude, Double userLongitude, Integer radiusInMeters) {
+        Long count = countQuery(name, address, withinRadius(userLatitude, userLongitude, radiusInMeters)).fetchOne();
+        return count != null ? count : 0L;
+    }
+
+    private JPAQuery<Long> countQuery(String name, String address, BooleanExpression locationCondition) {
+        return jpaQueryFactory
                 .select(parkingLot.count())
                 .distinct()
                 .from(parkingLot)
                 .where(
                         nameContains(name),
                         addressContains(address),
-                        withinRadius(userLatitude, userLongitude, radiusInMeters),
+                        locationCondition,
                         parkingLot.address.isNotEmpty(),
                         notDeleted()
                 );
-
-        return PageableExecutionUtils.getPage(dtoList, pageable, countQuery::fetchOne);
     }
 
     // 단건 조회
@@ -151,24 +356,40 @@ public class ParkingLotRepositoryImpl implements ParkingLotQueryDslRepository {
         return PageableExecutionUtils.getPage(myParkingLots, pageable, countQuery::fetchOne);
     }
 
-    // 이미지 리스트 찾기
+    // 이미지 리스트 일괄 조회
     @Override
-    public List<String> findImageListByParkingLotId(Long parkingLotId) {
-        return jpaQueryFactory
-                .select(parkingLotImage.imageUrl)
+    public Map<Long, List<String>> findImageListByParkingLotIds(List<Long> parkingLotIds) {
+        if (parkingLotIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        List<Tuple> rows = jpaQueryFactory
+                .select(parkingLotImage.parkingLot.id, parkingLotImage.imageUrl)
                 .from(parkingLotImage)
-                .where(parkingLotImage.parkingLot.id.eq(parkingLotId))
+                .where(parkingLotImage.parkingLot.id.in(parkingLotIds))
+                .orderBy(parkingLotImage.id.asc())
                 .fetch();
+
+        return rows.stream()
+                .collect(Collectors.groupingBy(
+                        row -> row.get(parkingLotImage.parkingLot.id),
+                        LinkedHashMap::new,
+                        Collectors.mapping(row -> row.get(parkingLotImage.imageUrl), Collectors.toList())
+                ));
     }
 
-    // 주차장 조회시 필요한 집계 쿼리
+    // 주차장 조회시 필요한 집계 일괄 조회
     @Override
-    public Optional<ParkingLotAggregation> getAggregationByParkingLotId(Long parkingLotId) {
-        return Optional.ofNullable(jpaQueryFactory.select(
+    public List<ParkingLotAggregation> getAggregationsByParkingLotIds(List<Long> parkingLotIds) {
+        if (parkingLotIds.isEmpty()) {
+            return Collections.emptyList();
+        }
+
+        return jpaQueryFactory.select(
                         Projections.constructor(
                                 ParkingLotAggregation.class,
                                 parkingLot.id,
-                                parkingZone.countDistinct(),
+                                activeParkingZoneCount(),
                                 review.count(),
                                 review.rating.avg()
                         ))
@@ -176,34 +397,119 @@ public class ParkingLotRepositoryImpl implements ParkingLotQueryDslRepository {
                 .leftJoin(parkingZone).on(parkingZone.parkingLot.id.eq(parkingLot.id))
                 .leftJoin(reservation).on(reservation.parkingZone.id.eq(parkingZone.id))
                 .leftJoin(review).on(review.reservation.id.eq(reservation.id))
-                .where(parkingLot.id.eq(parkingLotId))
+                .where(parkingLot.id.in(parkingLotIds))
                 .groupBy(parkingLot.id)
-                .fetchOne());
+                .fetch();
     }
 
-    // 이름 조건
+    // 삭제되지 않은 주차공간 수 (삭제된 주차공간의 리뷰는 집계에 유지)
+    private NumberExpression<Long> activeParkingZoneCount() {
+        return new CaseBuilder()
+                .when(parkingZone.deletedAt.isNull()).then(parkingZone.id)
+                .otherwise(Expressions.nullExpression(Long.class))
+                .countDistinct();
+    }
+
+    // 이름 조건 (ngram FULLTEXT 인덱스 사용, 짧은 검색어는 LIKE)
     private BooleanExpression nameContains(String name) {
-        return StringUtils.hasText(name) ? parkingLot.name.contains(name) : null;
+        if (!StringUtils.hasText(name)) {
+            return null;
+        }
+        return isFullTextSearchable(name)
+                ? matchAgainst(parkingLot.name, name).gt(0)
+                : parkingLot.name.contains(name);
     }
 
-    // 주소 조건
+    // 주소 조건 (ngram FULLTEXT 인덱스 사용, 짧은 검색어는 LIKE)
     private BooleanExpression addressContains(String address) {
-        return StringUtils.hasText(address) ? parkingLot.address.contains(address) : null;
+        if (!StringUtils.hasText(address)) {
+            return null;
+        }
+        return isFullTextSearchable(address)
+                ? matchAgainst(parkingLot.address, address).gt(0)
+                : parkingLot.address.contains(address);
+    }
+
+    // 이름/주소 검색 시 관련도 높은 순, 검색어가 없으면 정렬 없음
+    private OrderSpecifier<?>[] relevanceOrder(String name, String address) {
+        NumberExpression<Double> relevance = null;
+        if (StringUtils.hasText(name) && isFullTextSearchable(name)) {
+            relevance = matchAgainst(parkingLot.name, name);
+        }
+        if (StringUtils.hasText(address) && isFullTextSearchable(address)) {
+            NumberExpression<Double> addressRelevance = matchAgainst(parkingLot.address, address);
+            relevance = relevance == null ? addressRelevance : relevance.add(addressRelevance);
+        }
+        return relevance == null ? new OrderSpecifier<?>[0] : new OrderSpecifier<?>[]{relevance.desc()};
+    }
+
+    private NumberExpression<Double> matchAgainst(StringPath column, String keyword) {
+        return Expressions.numberTemplate(Double.class, "match_against({0}, {1})", column, toPhrase(keyword));
     }
 
-    // 거리 범위 조건
+    // ngram 토큰 크기(2) 미만이면 FULLTEXT 로 찾을 수 없음
+    private boolean isFullTextSearchable(String keyword) {
+        return sanitize(keyword).replace(" ", "").length() >= NGRAM_TOKEN_SIZE;
+    }
+
+    // boolean mode 구문으로 감싸 부분 문자열 검색과 같은 의미로 사용 (연산자 문자 제거)
+    private String toPhrase(String keyword) {
+        return "\"" + sanitize(keyword) + "\"";
+    }
+
+    private String sanitize(String keyword) {
+        return BOOLEAN_MODE_OPERATORS.matcher(keyword).replaceAll(" ").trim();
+    }
+
+    // 거리 범위 조건 (SPATIAL 인덱스로 사각 범위를 먼저 거른 뒤 실제 거리로 보정)
     private BooleanExpression withinRadius(Double userLatitude, Double userLongitude, Integer radiusInMeters) {
         if (userLatitude == null || userLongitude == null || radiusInMeters == null) {
             return null;
         }
-        // 거리 계산
-        NumberExpression<Double> distance = Expressions.numberTemplate(
+        // 반경을 덮는 사각 범위 (location 컬럼의 SPATIAL 인덱스 사용)
+        NumberExpression<Integer> inBoundingBox = Expressions.numberTemplate(
+                Integer.class,
+                "MBRContains(ST_GeomFromText({0}, 4326, 'axis-order=long-lat'), {1})",
+                boundingBox(userLatitude, userLongitude, radiusInMeters),
+                parkingLot.location
+        );
+        return inBoundingBox.eq(1).and(distanceFrom(userLatitude, userLongitude).loe(radiusInMeters));
+    }
+
+    // 거리 계산
+    private NumberExpression<Double> distanceFrom(Double userLatitude, Double userLongitude) {
+        return Expressions.numberTemplate(
                 Double.class,
                 "ST_Distance_Sphere(POINT({0}, {1}), POINT({2}, {3}))",
                 parkingLot.longitude, parkingLot.latitude,
                 userLongitude, userLatitude
         );
-        return distance.loe(radiusInMeters);
+    }
+
+    // ID 커서 조건
+    private BooleanExpression afterIdCursor(Long cursorParkingLotId) {
+        return cursorParkingLotId != null ? parkingLot.id.gt(cursorParkingLotId) : null;
+    }
+
+    // (거리, ID) 커서 조건
+    private BooleanExpression afterDistanceCursor(NumberExpression<Double> distance, Long cursorParkingLotId, Double cursorDistance) {
+        if (cursorParkingLotId == null || cursorDistance == null) {
+            return null;
+        }
+        return distance.gt(cursorDistance)
+                .or(distance.eq(cursorDistance).and(parkingLot.id.gt(cursorParkingLotId)));
+    }
+
+    // 반경을 감싸는 사각형 WKT (경도 위도 순)
+    private String boundingBox(double latitude, double longitude, int radiusInMeters) {
+        double latDelta = GeoUtils.latitudeDelta(radiusInMeters);
+        double lngDelta = GeoUtils.longitudeDelta(latitude, radiusInMeters);
+        double minLat = Math.max(-90d, latitude - latDelta);
+        double maxLat = Math.min(90d, latitude + latDelta);
+        double minLng = Math.max(-180d, longitude - lngDelta);
+        double maxLng = Math.min(180d, longitude + lngDelta);
+        return String.format(Locale.ROOT, "POLYGON((%f %f, %f %f, %f %f, %f %f, %f %f))",
+                minLng, minLat, maxLng, minLat, maxLng, maxLat, minLng, maxLat, minLng, minLat);
     }
 
     // 삭제x 조건
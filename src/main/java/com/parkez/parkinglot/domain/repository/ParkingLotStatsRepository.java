@@ -0,0 +1,45 @@
+package com.parkez.parkinglot.domain.repository;
+
+import com.parkez.parkinglot.domain.entity.ParkingLotStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ParkingLotStatsRepository extends JpaRepository<ParkingLotStats, Long> {
+
+    // 원자적 증분 갱신 (갱신된 row 수 반환, 0이면 통계 row 없음)
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            UPDATE ParkingLotStats s
+            SET s.parkingZoneCount = s.parkingZoneCount + :parkingZoneDelta,
+                s.reviewCount = s.reviewCount + :reviewDelta,
+                s.ratingSum = s.ratingSum + :ratingDelta
+            WHERE s.parkingLotId = :parkingLotId
+            """)
+    int applyDelta(
+            @Param("parkingLotId") Long parkingLotId,
+            @Param("parkingZoneDelta") long parkingZoneDelta,
+            @Param("reviewDelta") long reviewDelta,
+            @Param("ratingDelta") long ratingDelta
+    );
+
+    // 통계 row를 주어진 값으로 저장 (없으면 생성, 있으면 덮어씀 - 동시에 재계산해도 중복 키 오류 없음)
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+            INSERT INTO parking_lot_stats
+              (parking_lot_id, parking_zone_count, review_count, rating_sum, created_at, modified_at)
+            VALUES (:parkingLotId, :parkingZoneCount, :reviewCount, :ratingSum, NOW(), NOW())
+            ON DUPLICATE KEY UPDATE
+              parking_zone_count = VALUES(parking_zone_count),
+              review_count = VALUES(review_count),
+              rating_sum = VALUES(rating_sum),
+              modified_at = NOW()
+            """, nativeQuery = true)
+    int upsert(
+            @Param("parkingLotId") Long parkingLotId,
+            @Param("parkingZoneCount") long parkingZoneCount,
+            @Param("reviewCount") long reviewCount,
+            @Param("ratingSum") long ratingSum
+    );
+}
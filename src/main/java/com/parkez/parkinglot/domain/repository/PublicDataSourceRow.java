@@ -0,0 +1,11 @@
+package com.parkez.parkinglot.domain.repository;
+
+// 공공데이터 원본 행(좌표 단위)의 마지막 동기화 상태
+public record PublicDataSourceRow(
+        double longitude,
+        double latitude,
+        Long parkingLotId,
+        String contentHash,
+        boolean missing
+) {
+}
@@ -0,0 +1,24 @@
+package com.parkez.parkinglot.domain.repository;
+
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.spatial.ParkingLotLocation;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.List;
+
+public interface PublicDataSourceRowRepository {
+
+    List<PublicDataSourceRow> findByCoordinates(Connection connection, List<ParkingLot> parkingLots) throws SQLException;
+
+    void upsert(Connection connection, List<PublicDataSourceRow> rows, long syncRun) throws SQLException;
+
+    void touch(Connection connection, List<PublicDataSourceRow> rows, long syncRun) throws SQLException;
+
+    long countTracked(Connection connection) throws SQLException;
+
+    List<ParkingLotLocation> findDisappearedParkingLots(Connection connection, long syncRun) throws SQLException;
+
+    void markDisappeared(Connection connection, long syncRun) throws SQLException;
+
+}
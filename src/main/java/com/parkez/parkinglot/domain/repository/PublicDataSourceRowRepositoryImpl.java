@@ -0,0 +1,170 @@
+package com.parkez.parkinglot.domain.repository;
+
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.spatial.ParkingLotLocation;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class PublicDataSourceRowRepositoryImpl implements PublicDataSourceRowRepository {
+
+    private static final int CHUNK_SIZE = 500;
+
+    @Override
+    public List<PublicDataSourceRow> findByCoordinates(Connection connection, List<ParkingLot> parkingLots) throws SQLException {
+        List<PublicDataSourceRow> rows = new ArrayList<>();
+        for (int from = 0; from < parkingLots.size(); from += CHUNK_SIZE) {
+            List<ParkingLot> chunk = parkingLots.subList(from, Math.min(from + CHUNK_SIZE, parkingLots.size()));
+            String sql = """
+                    SELECT longitude, latitude, parking_lot_id, content_hash, missing_since
+                     FROM public_data_source_row
+                     WHERE (longitude, latitude) IN (%s)
+                    """.formatted(placeholders(chunk.size()));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (ParkingLot parkingLot : chunk) {
+                    preparedStatement.setDouble(index++, parkingLot.getLongitude());
+                    preparedStatement.setDouble(index++, parkingLot.getLatitude());
+                }
+                try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                    while (resultSet.next()) {
+                        rows.add(new PublicDataSourceRow(
+                                resultSet.getDouble("longitude"),
+                                resultSet.getDouble("latitude"),
+                                resultSet.getLong("parking_lot_id"),
+                                resultSet.getString("content_hash"),
+                                resultSet.getTimestamp("missing_since") != null
+                        ));
+                    }
+                }
+            }
+        }
+        return rows;
+    }
+
+    // 새로 저장했거나 내용이 바뀐 행: 해시/주차장 ID 갱신, 사라짐 표시 해제
+    @Override
+    public void upsert(Connection connection, List<PublicDataSourceRow> rows, long syncRun) throws SQLException {
+        if (rows.isEmpty()) {
+            return;
+        }
+        String sql = """
+                INSERT INTO public_data_source_row
+                  (longitude, latitude, parking_lot_id, content_hash, last_seen_run, missing_since, updated_at)
+                VALUES (?, ?, ?, ?, ?, NULL, NOW())
+                 ON DUPLICATE KEY UPDATE parking_lot_id = VALUES(parking_lot_id),
+                                         content_hash = VALUES(content_hash),
+                                         last_seen_run = VALUES(last_seen_run),
+                                         missing_since = NULL,
+                                         updated_at = VALUES(updated_at)
+                """;
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            for (PublicDataSourceRow row : rows) {
+                preparedStatement.setDouble(1, row.longitude());
+                preparedStatement.setDouble(2, row.latitude());
+                preparedStatement.setLong(3, row.parkingLotId());
+                preparedStatement.setString(4, row.contentHash());
+                preparedStatement.setLong(5, syncRun);
+                preparedStatement.addBatch();
+            }
+            preparedStatement.executeBatch();
+        }
+    }
+
+    // 내용이 그대로인 행: 이번 회차에 본 것만 기록
+    @Override
+    public void touch(Connection connection, List<PublicDataSourceRow> rows, long syncRun) throws SQLException {
+        for (int from = 0; from < rows.size(); from += CHUNK_SIZE) {
+            List<PublicDataSourceRow> chunk = rows.subList(from, Math.min(from + CHUNK_SIZE, rows.size()));
+            String sql = """
+                    UPDATE public_data_source_row
+                     SET last_seen_run = ?
+                     WHERE (longitude, latitude) IN (%s)
+                    """.formatted(placeholders(chunk.size()));
+            try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+                int index = 1;
+                preparedStatement.setLong(index++, syncRun);
+                for (PublicDataSourceRow row : chunk) {
+                    preparedStatement.setDouble(index++, row.longitude());
+                    preparedStatement.setDouble(index++, row.latitude());
+                }
+                preparedStatement.executeUpdate();
+            }
+        }
+    }
+
+    @Override
+    public long countTracked(Connection connection) throws SQLException {
+        String sql = """
+                SELECT COUNT(*)
+                 FROM public_data_source_row
+                 WHERE missing_since IS NULL
+                """;
+        try (
+                PreparedStatement preparedStatement = connection.prepareStatement(sql);
+                ResultSet resultSet = preparedStatement.executeQuery()
+        ) {
+            return resultSet.next() ? resultSet.getLong(1) : 0L;
+        }
+    }
+
+    // 이번 회차에 한 번도 보이지 않은 행의 주차장 ID 와 좌표
+    @Override
+    public List<ParkingLotLocation> findDisappearedParkingLots(Connection connection, long syncRun) throws SQLException {
+        String sql = """
+                SELECT parking_lot_id, latitude, longitude
+                 FROM public_data_source_row
+                 WHERE last_seen_run < ?
+                   AND missing_since IS NULL
+                """;
+        List<ParkingLotLocation> parkingLots = new ArrayList<>();
+        try (PreparedStatement preparedStatement = connection.prepareStatement(sql)) {
+            preparedStatement.setLong(1, syncRun);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                while (resultSet.next()) {
+                    parkingLots.add(new ParkingLotLocation(resultSet.getLong(1), resultSet.getDouble(2), resultSet.getDouble(3)));
+                }
+            }
+        }
+        return parkingLots;
+    }
+
+    // 사라진 행의 공공데이터 주차장을 폐업 처리하고 사라진 시각을 기록 (다시 나타나면 upsert 에서 해제)
+    @Override
+    public void markDisappeared(Connection connection, long syncRun) throws SQLException {
+        String closeSql = """
+                UPDATE parking_lot pl
+                  JOIN public_data_source_row s ON s.parking_lot_id = pl.id
+                 SET pl.status = 'CLOSED',
+                     pl.modified_at = NOW()
+                 WHERE s.last_seen_run < ?
+                   AND s.missing_since IS NULL
+                   AND pl.source_type = 'PUBLIC_DATA'
+                   AND pl.deleted_at IS NULL
+                """;
+        String markSql = """
+                UPDATE public_data_source_row
+                 SET missing_since = NOW()
+                 WHERE last_seen_run < ?
+                   AND missing_since IS NULL
+                """;
+        try (
+                PreparedStatement closeStatement = connection.prepareStatement(closeSql);
+                PreparedStatement markStatement = connection.prepareStatement(markSql)
+        ) {
+            closeStatement.setLong(1, syncRun);
+            closeStatement.executeUpdate();
+            markStatement.setLong(1, syncRun);
+            markStatement.executeUpdate();
+        }
+    }
+
+    private String placeholders(int size) {
+        return String.join(", ", Collections.nCopies(size, "(?, ?)"));
+    }
+}
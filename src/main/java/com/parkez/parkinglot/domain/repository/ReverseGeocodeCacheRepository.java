@@ -0,0 +1,11 @@
+package com.parkez.parkinglot.domain.repository;
+
+import java.util.Optional;
+
+public interface ReverseGeocodeCacheRepository {
+
+    Optional<String> findAddress(long latitudeKey, long longitudeKey);
+
+    void save(long latitudeKey, long longitudeKey, String address);
+
+}
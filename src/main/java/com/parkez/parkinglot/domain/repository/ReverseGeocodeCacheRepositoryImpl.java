@@ -0,0 +1,60 @@
+package com.parkez.parkinglot.domain.repository;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Optional;
+
+public class ReverseGeocodeCacheRepositoryImpl implements ReverseGeocodeCacheRepository {
+
+    private final DataSource dataSource;
+
+    public ReverseGeocodeCacheRepositoryImpl(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @Override
+    public Optional<String> findAddress(long latitudeKey, long longitudeKey) {
+        String sql = """
+                SELECT address
+                 FROM reverse_geocode_cache
+                 WHERE latitude_key = ?
+                   AND longitude_key = ?
+                """;
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)
+        ) {
+            preparedStatement.setLong(1, latitudeKey);
+            preparedStatement.setLong(2, longitudeKey);
+            try (ResultSet resultSet = preparedStatement.executeQuery()) {
+                return resultSet.next() ? Optional.of(resultSet.getString("address")) : Optional.empty();
+            }
+        } catch (SQLException e) {
+            throw new RuntimeException("역지오코딩 캐시 조회 실패", e);
+        }
+    }
+
+    @Override
+    public void save(long latitudeKey, long longitudeKey, String address) {
+        String sql = """
+                INSERT INTO reverse_geocode_cache
+                  (latitude_key, longitude_key, address, created_at)
+                VALUES (?, ?, ?, NOW())
+                 ON DUPLICATE KEY UPDATE address = VALUES(address)
+                """;
+        try (
+                Connection connection = dataSource.getConnection();
+                PreparedStatement preparedStatement = connection.prepareStatement(sql)
+        ) {
+            preparedStatement.setLong(1, latitudeKey);
+            preparedStatement.setLong(2, longitudeKey);
+            preparedStatement.setString(3, address);
+            preparedStatement.executeUpdate();
+        } catch (SQLException e) {
+            throw new RuntimeException("역지오코딩 캐시 저장 실패", e);
+        }
+    }
+}
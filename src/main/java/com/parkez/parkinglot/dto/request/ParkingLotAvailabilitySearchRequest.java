@@ -0,0 +1,67 @@
+package com.parkez.parkinglot.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Schema(description = "시간대 예약 가능 주차장 검색 조건 DTO")
+public class ParkingLotAvailabilitySearchRequest {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int DEFAULT_MAX_RADIUS_IN_METERS = 5_000;
+
+    @NotNull
+    @Schema(description = "사용자 현재 위도", example = "37.499907900646")
+    private Double userLatitude;
+
+    @NotNull
+    @Schema(description = "사용자 현재 경도", example = "127.03302069842")
+    private Double userLongitude;
+
+    @NotNull(message = "시작 날짜 및 시간은 필수값입니다.")
+    @Schema(description = "이용 시작 날짜 및 시간", example = "2025.04.07 14:00")
+    @DateTimeFormat(pattern = "yyyy.MM.dd HH:mm")
+    private LocalDateTime startDateTime;
+
+    @NotNull(message = "종료 날짜 및 시간은 필수값입니다.")
+    @Schema(description = "이용 종료 날짜 및 시간", example = "2025.04.07 17:00")
+    @DateTimeFormat(pattern = "yyyy.MM.dd HH:mm")
+    private LocalDateTime endDateTime;
+
+    @Positive
+    @Max(50)
+    @Schema(description = "조회할 주차장 수 (default: 10)", example = "10")
+    private Integer size;
+
+    @Positive
+    @Max(50_000)
+    @Schema(description = "최대 검색 범위(미터) (default: 5000)", example = "5000")
+    private Integer maxRadiusInMeters;
+
+    @Builder
+    private ParkingLotAvailabilitySearchRequest(Double userLatitude, Double userLongitude,
+                                                LocalDateTime startDateTime, LocalDateTime endDateTime,
+                                                Integer size, Integer maxRadiusInMeters) {
+        this.userLatitude = userLatitude;
+        this.userLongitude = userLongitude;
+        this.startDateTime = startDateTime;
+        this.endDateTime = endDateTime;
+        this.size = size;
+        this.maxRadiusInMeters = maxRadiusInMeters;
+    }
+
+    public int getSizeOrDefault() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+
+    public int getMaxRadiusOrDefault() {
+        return maxRadiusInMeters != null ? maxRadiusInMeters : DEFAULT_MAX_RADIUS_IN_METERS;
+    }
+}
@@ -0,0 +1,65 @@
+package com.parkez.parkinglot.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "주차장 커서 기반 다건 검색 조건 DTO")
+public class ParkingLotCursorSearchRequest {
+
+    private static final int DEFAULT_SIZE = 10;
+
+    @Schema(description = "주차장 이름", example = "한빛")
+    private String name;
+
+    @Schema(description = "주차장 주소", example = "강남")
+    private String address;
+
+    @Schema(description = "사용자 현재 위도", example = "37.499907900646")
+    private Double userLatitude;
+
+    @Schema(description = "사용자 현재 경도", example = "127.03302069842")
+    private Double userLongitude;
+
+    @Schema(description = "검색 범위(미터)", example = "10000")
+    private Integer radiusInMeters;
+
+    @Schema(description = "이전 페이지 마지막 주차장 ID (첫 페이지는 생략)", example = "120")
+    private Long cursorParkingLotId;
+
+    @Schema(description = "이전 페이지 마지막 주차장 거리(미터), 위치 조건이 있을 때만 사용", example = "350.5")
+    private Double cursorDistance;
+
+    @Positive
+    @Max(100)
+    @Schema(description = "페이지 크기 (default: 10)", example = "10")
+    private Integer size;
+
+    @Schema(description = "전체 건수 포함 여부 (default: false)", example = "false")
+    private Boolean includeTotal;
+
+    @Builder
+    private ParkingLotCursorSearchRequest(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters,
+                                          Long cursorParkingLotId, Double cursorDistance, Integer size, Boolean includeTotal) {
+        this.name = name;
+        this.address = address;
+        this.userLatitude = userLatitude;
+        this.userLongitude = userLongitude;
+        this.radiusInMeters = radiusInMeters;
+        this.cursorParkingLotId = cursorParkingLotId;
+        this.cursorDistance = cursorDistance;
+        this.size = size;
+        this.includeTotal = includeTotal;
+    }
+
+    public int getSizeOrDefault() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+
+    public boolean isTotalRequested() {
+        return Boolean.TRUE.equals(includeTotal);
+    }
+}
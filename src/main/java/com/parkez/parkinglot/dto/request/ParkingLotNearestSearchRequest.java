@@ -0,0 +1,50 @@
+package com.parkez.parkinglot.dto.request;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Schema(description = "최근접 주차장 검색 조건 DTO")
+public class ParkingLotNearestSearchRequest {
+
+    private static final int DEFAULT_SIZE = 10;
+    private static final int DEFAULT_MAX_RADIUS_IN_METERS = 20_000;
+
+    @NotNull
+    @Schema(description = "사용자 현재 위도", example = "37.499907900646")
+    private Double userLatitude;
+
+    @NotNull
+    @Schema(description = "사용자 현재 경도", example = "127.03302069842")
+    private Double userLongitude;
+
+    @Positive
+    @Max(50)
+    @Schema(description = "조회할 주차장 수 (default: 10)", example = "10")
+    private Integer size;
+
+    @Positive
+    @Max(50_000)
+    @Schema(description = "최대 검색 범위(미터) (default: 20000)", example = "20000")
+    private Integer maxRadiusInMeters;
+
+    @Builder
+    private ParkingLotNearestSearchRequest(Double userLatitude, Double userLongitude, Integer size, Integer maxRadiusInMeters) {
+        this.userLatitude = userLatitude;
+        this.userLongitude = userLongitude;
+        this.size = size;
+        this.maxRadiusInMeters = maxRadiusInMeters;
+    }
+
+    public int getSizeOrDefault() {
+        return size != null ? size : DEFAULT_SIZE;
+    }
+
+    public int getMaxRadiusOrDefault() {
+        return maxRadiusInMeters != null ? maxRadiusInMeters : DEFAULT_MAX_RADIUS_IN_METERS;
+    }
+}
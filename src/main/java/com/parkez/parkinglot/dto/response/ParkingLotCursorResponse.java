@@ -0,0 +1,57 @@
+package com.parkez.parkinglot.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.util.List;
+
+@Getter
+@Schema(description = "주차장 커서 기반 조회 응답 DTO")
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class ParkingLotCursorResponse {
+
+    @Schema(description = "주차장 목록")
+    private final List<ParkingLotSearchResponse> content;
+
+    @Schema(description = "다음 페이지 존재 여부", example = "true")
+    private final boolean hasNext;
+
+    @Schema(description = "다음 페이지 요청 시 사용할 주차장 ID", example = "130")
+    private final Long nextCursorParkingLotId;
+
+    @Schema(description = "다음 페이지 요청 시 사용할 거리(미터)", example = "512.3")
+    private final Double nextCursorDistance;
+
+    @Schema(description = "전체 건수 (includeTotal=true 일 때만 포함)", example = "243")
+    private final Long totalElements;
+
+    private ParkingLotCursorResponse(List<ParkingLotSearchResponse> content, boolean hasNext,
+                                     Long nextCursorParkingLotId, Double nextCursorDistance, Long totalElements) {
+        this.content = content;
+        this.hasNext = hasNext;
+        this.nextCursorParkingLotId = nextCursorParkingLotId;
+        this.nextCursorDistance = nextCursorDistance;
+        this.totalElements = totalElements;
+    }
+
+    // size + 1 건 조회 결과로 다음 페이지 여부와 커서 계산
+    public static ParkingLotCursorResponse of(List<ParkingLotSearchResponse> rows, int size) {
+        boolean hasNext = rows.size() > size;
+        List<ParkingLotSearchResponse> content = hasNext ? rows.subList(0, size) : rows;
+
+        if (!hasNext || content.isEmpty()) {
+            return new ParkingLotCursorResponse(content, hasNext, null, null, null);
+        }
+        ParkingLotSearchResponse last = content.get(content.size() - 1);
+        return new ParkingLotCursorResponse(content, true, last.getParkingLotId(), last.getDistanceInMeters(), null);
+    }
+
+    public ParkingLotCursorResponse withContent(List<ParkingLotSearchResponse> content) {
+        return new ParkingLotCursorResponse(content, hasNext, nextCursorParkingLotId, nextCursorDistance, totalElements);
+    }
+
+    public ParkingLotCursorResponse withTotalElements(Long totalElements) {
+        return new ParkingLotCursorResponse(content, hasNext, nextCursorParkingLotId, nextCursorDistance, totalElements);
+    }
+}
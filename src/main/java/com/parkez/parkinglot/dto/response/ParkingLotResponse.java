@@ -4,6 +4,7 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
 import com.parkez.parkinglot.domain.entity.ParkingLotImage;
 import com.parkez.parkinglot.domain.enums.ChargeType;
+import com.parkez.parkinglot.domain.enums.GeocodeStatus;
 import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
 import com.parkez.parkinglot.domain.enums.SourceType;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -64,6 +65,9 @@ public class ParkingLotResponse {
     @Schema(description = "default 이미지", example = "parking-lot-default.jpg")
     private String defaultImage;
 
+    @Schema(description = "좌표 변환 상태 (완료되었으면 null)", example = "PENDING")
+    private GeocodeStatus geocodeStatus;
+
 
     @Builder
     private ParkingLotResponse(Long id, String name, String address,
@@ -71,7 +75,8 @@ public class ParkingLotResponse {
                                SourceType sourceType, ChargeType chargeType,
                                ParkingLotStatus status, Integer quantity,
                                String description, BigDecimal pricePerHour,
-                               LocalTime openedAt, LocalTime closedAt, String defaultImage
+                               LocalTime openedAt, LocalTime closedAt, String defaultImage,
+                               GeocodeStatus geocodeStatus
     ) {
         this.id = id;
         this.name = name;
@@ -87,6 +92,7 @@ public class ParkingLotResponse {
         this.closedAt = closedAt;
         this.address = address;
         this.defaultImage = defaultImage;
+        this.geocodeStatus = geocodeStatus;
     }
 
     public static ParkingLotResponse from(ParkingLot parkingLot) {
@@ -110,6 +116,7 @@ public class ParkingLotResponse {
                 .closedAt(parkingLot.getClosedAt())
                 .address(parkingLot.getAddress())
                 .defaultImage(defaultImage)
+                .geocodeStatus(parkingLot.getGeocodeStatus())
                 .build();
     }
 }
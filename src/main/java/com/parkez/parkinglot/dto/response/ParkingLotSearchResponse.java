@@ -1,6 +1,7 @@
 package com.parkez.parkinglot.dto.response;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
 import com.parkez.parkinglot.domain.entity.ParkingLotImage;
 import com.parkez.parkinglot.domain.enums.ChargeType;
@@ -45,6 +46,10 @@ public class ParkingLotSearchResponse {
     @Schema(description = "사용 가능한 주차 대수", example = "80")
     private Long availableQuantity;
 
+    @Schema(description = "현재 이용 가능한 주차 공간 수 (진행 중인 예약 반영), 실시간 정보를 조회할 수 없으면 생략", example = "3")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long availableNow;
+
     @Schema(description = "요금 유형", example = "PAID")
     private ChargeType chargeType;
 
@@ -64,6 +69,18 @@ public class ParkingLotSearchResponse {
     @Schema(description = "이미지 URL 목록", example = "[\"https://example.com/image1.jpg\", \"https://example.com/image2.jpg\"]")
     private List<String> images;
 
+    @Schema(description = "위도", example = "37.499907900646")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double latitude;
+
+    @Schema(description = "경도", example = "127.03302069842")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double longitude;
+
+    @Schema(description = "사용자 위치로부터의 거리(미터), 위치 조건이 있을 때만 포함", example = "350.5")
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Double distanceInMeters;
+
     @Builder
     private ParkingLotSearchResponse(Long parkingLotId, String name, String address,
                                      LocalTime openedAt, LocalTime closedAt, BigDecimal pricePerHour,
@@ -123,6 +140,47 @@ public class ParkingLotSearchResponse {
         this.parkingLotStatus = parkingLotStatus;
     }
 
+    // 위치 포함 조회용 생성자 (geo 타일 캐시)
+    public ParkingLotSearchResponse(Long parkingLotId, String name, String address,
+                                    LocalTime openedAt, LocalTime closedAt, BigDecimal pricePerHour, Integer totalQuantity,
+                                    ChargeType chargeType, SourceType sourceType, ParkingLotStatus parkingLotStatus,
+                                    Double latitude, Double longitude) {
+        this(parkingLotId, name, address, openedAt, closedAt, pricePerHour, totalQuantity, chargeType, sourceType, parkingLotStatus);
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+
+    // 캐시에 공유된 객체를 변경하지 않도록 거리만 채운 복사본 생성
+    public ParkingLotSearchResponse copyWithDistance(Double distanceInMeters) {
+        ParkingLotSearchResponse copy = copy();
+        copy.distanceInMeters = distanceInMeters;
+        return copy;
+    }
+
+    // 캐시에 공유된 객체를 변경하지 않도록 현재 이용 가능 수만 채운 복사본 생성
+    public ParkingLotSearchResponse copyWithAvailableNow(Long availableNow) {
+        ParkingLotSearchResponse copy = copy();
+        copy.availableNow = availableNow;
+        return copy;
+    }
+
+    private ParkingLotSearchResponse copy() {
+        ParkingLotSearchResponse copy = new ParkingLotSearchResponse(parkingLotId, name, address, openedAt, closedAt,
+                pricePerHour, totalQuantity, chargeType, sourceType, parkingLotStatus, latitude, longitude);
+        copy.availableQuantity = this.availableQuantity;
+        copy.availableNow = this.availableNow;
+        copy.reviewCount = this.reviewCount;
+        copy.averageRating = this.averageRating;
+        copy.images = this.images;
+        copy.distanceInMeters = this.distanceInMeters;
+        return copy;
+    }
+
+    // 거리
+    public void updateDistance(Double distanceInMeters) {
+        this.distanceInMeters = distanceInMeters;
+    }
+
     // 이미지
     public void updateImage(List<String> images) {
         this.images = images;
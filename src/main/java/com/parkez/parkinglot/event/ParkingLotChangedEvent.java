@@ -0,0 +1,43 @@
+package com.parkez.parkinglot.event;
+
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.domain.enums.ParkingLotChangeType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParkingLotChangedEvent {
+    private final Long parkingLotId;
+    private final Double latitude;
+    private final Double longitude;
+    // 변경 전 좌표 (좌표가 바뀌지 않는 변경은 현재 좌표와 같음)
+    private final Double previousLatitude;
+    private final Double previousLongitude;
+    private final ParkingLotChangeType changeType;
+
+    public static ParkingLotChangedEvent of(ParkingLot parkingLot, ParkingLotChangeType changeType) {
+        return of(parkingLot, changeType, parkingLot.getLatitude(), parkingLot.getLongitude());
+    }
+
+    public static ParkingLotChangedEvent of(ParkingLot parkingLot, ParkingLotChangeType changeType,
+                                            Double previousLatitude, Double previousLongitude) {
+        return new ParkingLotChangedEvent(
+                parkingLot.getId(),
+                parkingLot.getLatitude(),
+                parkingLot.getLongitude(),
+                previousLatitude,
+                previousLongitude,
+                changeType
+        );
+    }
+
+    public boolean isDeleted() {
+        return changeType == ParkingLotChangeType.DELETED;
+    }
+
+    public boolean hasLocation() {
+        return latitude != null && longitude != null;
+    }
+}
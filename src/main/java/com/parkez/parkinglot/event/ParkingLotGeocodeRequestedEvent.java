@@ -0,0 +1,18 @@
+package com.parkez.parkinglot.event;
+
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 주소가 등록/변경된 주차장의 주소 → 좌표 변환 요청 (커밋 후 비동기 처리)
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParkingLotGeocodeRequestedEvent {
+    private final Long parkingLotId;
+    private final String address;
+
+    public static ParkingLotGeocodeRequestedEvent of(ParkingLot parkingLot) {
+        return new ParkingLotGeocodeRequestedEvent(parkingLot.getId(), parkingLot.getAddress());
+    }
+}
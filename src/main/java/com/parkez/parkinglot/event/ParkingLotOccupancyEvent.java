@@ -0,0 +1,31 @@
+package com.parkez.parkinglot.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParkingLotOccupancyEvent {
+    private final Long parkingLotId;
+    private final Long parkingZoneId;
+    private final Long reservationId;
+    private final Long userId;
+    private final LocalDateTime startDateTime;
+    private final LocalDateTime endDateTime;
+    private final boolean occupied;
+
+    // 예약 생성/확정 (예약 시간 동안 주차공간 점유)
+    public static ParkingLotOccupancyEvent occupied(Long parkingLotId, Long parkingZoneId, Long reservationId, Long userId,
+                                                    LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return new ParkingLotOccupancyEvent(parkingLotId, parkingZoneId, reservationId, userId, startDateTime, endDateTime, true);
+    }
+
+    // 예약 취소/만료/사용 완료 (주차공간 점유 해제)
+    public static ParkingLotOccupancyEvent released(Long parkingLotId, Long parkingZoneId, Long reservationId,
+                                                    LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return new ParkingLotOccupancyEvent(parkingLotId, parkingZoneId, reservationId, null, startDateTime, endDateTime, false);
+    }
+}
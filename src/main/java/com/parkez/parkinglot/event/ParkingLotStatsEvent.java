@@ -0,0 +1,34 @@
+package com.parkez.parkinglot.event;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParkingLotStatsEvent {
+    private final Long parkingLotId;
+    private final long parkingZoneDelta;
+    private final long reviewDelta;
+    private final long ratingDelta;
+
+    public static ParkingLotStatsEvent parkingZoneCreated(Long parkingLotId) {
+        return new ParkingLotStatsEvent(parkingLotId, 1, 0, 0);
+    }
+
+    public static ParkingLotStatsEvent parkingZoneDeleted(Long parkingLotId) {
+        return new ParkingLotStatsEvent(parkingLotId, -1, 0, 0);
+    }
+
+    public static ParkingLotStatsEvent reviewCreated(Long parkingLotId, int rating) {
+        return new ParkingLotStatsEvent(parkingLotId, 0, 1, rating);
+    }
+
+    public static ParkingLotStatsEvent reviewUpdated(Long parkingLotId, int oldRating, int newRating) {
+        return new ParkingLotStatsEvent(parkingLotId, 0, 0, newRating - oldRating);
+    }
+
+    public static ParkingLotStatsEvent reviewDeleted(Long parkingLotId, int rating) {
+        return new ParkingLotStatsEvent(parkingLotId, 0, -1, -rating);
+    }
+}
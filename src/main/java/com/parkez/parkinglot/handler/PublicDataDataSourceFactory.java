@@ -0,0 +1,34 @@
+package com.parkez.parkinglot.handler;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+
+// Spring 컨텍스트가 없는 공공데이터 적재(Lambda, 오프라인 시딩)용 커넥션 풀
+final class PublicDataDataSourceFactory {
+
+    // RDS/프록시의 유휴 연결 정리보다 먼저 교체
+    private static final long DB_MAX_LIFETIME_MILLIS = 300_000L;
+
+    private PublicDataDataSourceFactory() {
+    }
+
+    // 배치 INSERT 를 다중 행 INSERT 로 묶어 전송하도록 rewriteBatchedStatements 를 켠다
+    static HikariDataSource create(String jdbcUrl, String dbUser, String dbPassword, int poolSize) {
+        HikariConfig config = new HikariConfig();
+        config.setJdbcUrl(withRewriteBatchedStatements(jdbcUrl));
+        config.setUsername(dbUser);
+        config.setPassword(dbPassword);
+        config.setMaximumPoolSize(poolSize);
+        config.setMinimumIdle(1);
+        config.setMaxLifetime(DB_MAX_LIFETIME_MILLIS);
+        config.setPoolName("public-data-pool");
+        return new HikariDataSource(config);
+    }
+
+    private static String withRewriteBatchedStatements(String jdbcUrl) {
+        if (jdbcUrl == null || jdbcUrl.contains("rewriteBatchedStatements")) {
+            return jdbcUrl;
+        }
+        return jdbcUrl + (jdbcUrl.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+    }
+}
@@ -3,68 +3,140 @@ package com.parkez.parkinglot.handler;
 import com.amazonaws.services.lambda.runtime.Context;
 import com.amazonaws.services.lambda.runtime.RequestHandler;
 import com.amazonaws.services.lambda.runtime.events.ScheduledEvent;
+import com.parkez.parkinglot.client.kakaomap.geocode.CachedReverseGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.RateLimitedReverseGeocodeClient;
 import com.parkez.parkinglot.client.kakaomap.geocode.SimpleKakaoGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.TokenBucketRateLimiter;
 import com.parkez.parkinglot.client.publicData.ParkingLotData;
+import com.parkez.parkinglot.client.redis.SimpleRedisGeoClient;
 import com.parkez.parkinglot.domain.repository.PageStateRepository;
 import com.parkez.parkinglot.domain.repository.PageStateRepositoryImpl;
+import com.parkez.parkinglot.domain.repository.PublicDataSourceRowRepositoryImpl;
+import com.parkez.parkinglot.domain.repository.ReverseGeocodeCacheRepositoryImpl;
+import com.parkez.parkinglot.service.PublicDataBulkImporter;
 import com.parkez.parkinglot.service.PublicDataReader;
 import com.parkez.parkinglot.service.PublicDataWriter;
 import com.parkez.user.service.JdbcUserReader;
 
+import javax.sql.DataSource;
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.SQLException;
+import java.time.Duration;
 import java.util.List;
 
 public class PublicDataHandler
         implements RequestHandler<ScheduledEvent, Void> {
 
 
-    private final String jdbcUrl;
-    private final String dbUser;
-    private final String dbPassword;
+    // warm 호출 간에 재사용하는 커넥션 풀 (핸들러 인스턴스당 하나)
+    private final DataSource dataSource;
 
     private final PublicDataReader reader;
     private final PublicDataWriter writer;
     private final PageStateRepository pageStateRepository;
 
+    // bulk 모드: 한 번 호출에 시간 예산 안에서 여러 페이지를 적재
+    private final boolean bulkMode;
+    private final long timeBudgetMillis;
+    private final PublicDataBulkImporter bulkImporter;
+
+    private static final int DEFAULT_BULK_PER_PAGE = 1_000;
+    private static final int DEFAULT_PAGES_IN_FLIGHT = 4;
+    private static final int DEFAULT_FETCH_THREADS = 2;
+    private static final int DEFAULT_CONVERT_THREADS = 4;
+    private static final int DEFAULT_GEOCODE_CONCURRENCY = 8;
+    private static final int DEFAULT_GEOCODE_PERMITS_PER_SECOND = 10;
+    private static final int DEFAULT_GEOCODE_BURST = 10;
+    private static final int DEFAULT_DB_POOL_SIZE = 10;
+    // 예산이 끝난 뒤 진행 중인 페이지를 저장할 여유 시간
+    private static final long TIME_BUDGET_MARGIN_MILLIS = 60_000L;
+
 
     public PublicDataHandler() {
-        this.jdbcUrl = System.getenv("JDBC_URL");
-        this.dbUser = System.getenv("DB_USERNAME");
-        this.dbPassword = System.getenv("DB_PASSWORD");
+        this.dataSource = PublicDataDataSourceFactory.create(
+                System.getenv("JDBC_URL"),
+                System.getenv("DB_USERNAME"),
+                System.getenv("DB_PASSWORD"),
+                parseInt(System.getenv("PUBLIC_DATA_DB_POOL_SIZE"), DEFAULT_DB_POOL_SIZE)
+        );
         String dataUrl = System.getenv("PARKING_LOT_PUBLIC_DATA_URL");
         String serviceKey = System.getenv("PARKING_LOT_PUBLIC_DATA_SERVICE_KEY");
         String defaultImg = System.getenv("PARKING_LOT_DEFAULT_IMAGE_URL");
         String adminEmail = System.getenv("PARKING_LOT_PUBLIC_DATA_ADMIN_EMAIL");
         String kakaoKey = System.getenv("KAKAO_API_KEY");
+        String redisUrl = System.getenv("REDIS_URL");
+        this.bulkMode = Boolean.parseBoolean(System.getenv("PUBLIC_DATA_BULK_MODE"));
+        this.timeBudgetMillis = parseLong(System.getenv("PUBLIC_DATA_TIME_BUDGET_MILLIS"), 0L);
 
-        this.reader = new PublicDataReader(dataUrl, serviceKey);
+        this.reader = bulkMode
+                ? new PublicDataReader(dataUrl, serviceKey, parseInt(System.getenv("PUBLIC_DATA_PER_PAGE"), DEFAULT_BULK_PER_PAGE))
+                : new PublicDataReader(dataUrl, serviceKey);
         this.pageStateRepository = new PageStateRepositoryImpl();
 
-        JdbcUserReader userReader = new JdbcUserReader(jdbcUrl, dbUser, dbPassword);
-        SimpleKakaoGeocodeClient geocodeClient = new SimpleKakaoGeocodeClient(kakaoKey);
+        JdbcUserReader userReader = new JdbcUserReader(dataSource);
+        // 좌표 → 주소 변환은 메모리/reverse_geocode_cache 캐시를 먼저 확인하고, Kakao 호출은 토큰 버킷으로 속도 제한
+        CachedReverseGeocodeClient geocodeClient = new CachedReverseGeocodeClient(
+                new RateLimitedReverseGeocodeClient(
+                        new SimpleKakaoGeocodeClient(kakaoKey),
+                        new TokenBucketRateLimiter(
+                                parseInt(System.getenv("KAKAO_GEOCODE_PERMITS_PER_SECOND"), DEFAULT_GEOCODE_PERMITS_PER_SECOND),
+                                DEFAULT_GEOCODE_BURST
+                        )
+                ),
+                new ReverseGeocodeCacheRepositoryImpl(dataSource)
+        );
+        // REDIS_URL 미설정 시 GEO 집합 반영과 검색 캐시 무효화 생략 (정기 재적재와 검색 캐시 TTL 로 반영)
+        SimpleRedisGeoClient redisGeoClient = (redisUrl == null || redisUrl.isBlank()) ? null : new SimpleRedisGeoClient(redisUrl);
 
         this.writer = new PublicDataWriter(
-                jdbcUrl, dbUser, dbPassword,
+                dataSource,
                 userReader, geocodeClient,
-                pageStateRepository, adminEmail,
-                defaultImg
-
+                pageStateRepository, new PublicDataSourceRowRepositoryImpl(),
+                adminEmail,
+                defaultImg, redisGeoClient,
+                parseInt(System.getenv("PUBLIC_DATA_GEOCODE_CONCURRENCY"), DEFAULT_GEOCODE_CONCURRENCY)
+        );
+        this.bulkImporter = new PublicDataBulkImporter(
+                reader, writer,
+                parseInt(System.getenv("PUBLIC_DATA_PAGES_IN_FLIGHT"), DEFAULT_PAGES_IN_FLIGHT),
+                DEFAULT_FETCH_THREADS, DEFAULT_CONVERT_THREADS
         );
     }
 
     @Override
     public Void handleRequest(ScheduledEvent scheduledEvent, Context context) {
+        // PUBLIC_DATA_BULK_MODE / PUBLIC_DATA_PER_PAGE 를 바꾸면 페이지 크기가 달라지므로 체크포인트를 새 크기로 환산
         int page;
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+        try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
-            page = pageStateRepository.readPage(connection);
+            page = pageStateRepository.alignPage(connection, reader.getPerPage());
+            connection.commit();
         } catch (SQLException e) {
             throw new RuntimeException("페이지 상태 읽기 실패", e);
         }
+        if (bulkMode) {
+            bulkImporter.importPages(page, Duration.ofMillis(resolveTimeBudget(context)));
+            return null;
+        }
+
         List<ParkingLotData> dataList = reader.fetchPage(page);
         writer.savePublicData(dataList);
         return null;
     }
+
+    // 설정값이 없으면 Lambda 남은 실행 시간에서 여유 시간을 뺀 만큼 사용
+    private long resolveTimeBudget(Context context) {
+        if (timeBudgetMillis > 0) {
+            return timeBudgetMillis;
+        }
+        return Math.max(0L, context.getRemainingTimeInMillis() - TIME_BUDGET_MARGIN_MILLIS);
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        return (value == null || value.isBlank()) ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static long parseLong(String value, long defaultValue) {
+        return (value == null || value.isBlank()) ? defaultValue : Long.parseLong(value);
+    }
 }
@@ -0,0 +1,115 @@
+package com.parkez.parkinglot.handler;
+
+import com.parkez.parkinglot.client.kakaomap.geocode.CachedReverseGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.RateLimitedReverseGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.ReverseGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.SimpleKakaoGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.TokenBucketRateLimiter;
+import com.parkez.parkinglot.client.redis.SimpleRedisGeoClient;
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.domain.repository.PageStateRepositoryImpl;
+import com.parkez.parkinglot.domain.repository.PublicDataSourceRowRepositoryImpl;
+import com.parkez.parkinglot.domain.repository.ReverseGeocodeCacheRepositoryImpl;
+import com.parkez.parkinglot.service.PublicDataFileReader;
+import com.parkez.parkinglot.service.PublicDataWriter;
+import com.parkez.user.service.JdbcUserReader;
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 내려받은 공공데이터 파일(JSON/CSV)로 주차장을 일괄 적재하는 오프라인 시딩 진입점.
+ * 사용법: java -cp <buildZip 의 lib/*> com.parkez.parkinglot.handler.PublicDataSeedCommand <파일 경로> [문자셋, 기본 UTF-8]
+ * DB/Redis 설정은 Lambda 와 같은 환경 변수를 사용하며, 주소가 있는 행은 Kakao 를 호출하지 않는다 (KAKAO_API_KEY 선택).
+ * 페이지 상태는 바꾸지 않고, 묶음마다 페이지 상태 행을 잠가(FOR UPDATE) Lambda 정기 동기화와 번갈아 저장한다.
+ * 시딩한 주차장은 원본 행을 만들지 않으므로, 이후 API 가 돌려줄 때부터 동기화(폐업 판단) 대상이 된다.
+ */
+@Slf4j
+public class PublicDataSeedCommand {
+
+    private static final int DEFAULT_CHUNK_SIZE = 5_000;
+    private static final int DEFAULT_DB_POOL_SIZE = 4;
+    private static final int DEFAULT_GEOCODE_CONCURRENCY = 8;
+    private static final int DEFAULT_GEOCODE_PERMITS_PER_SECOND = 10;
+    private static final int DEFAULT_GEOCODE_BURST = 10;
+
+    public static void main(String[] args) {
+        if (args.length < 1) {
+            System.err.println("usage: PublicDataSeedCommand <file.json|file.csv> [charset]");
+            System.exit(2);
+        }
+        Path file = Path.of(args[0]);
+        Charset charset = args.length > 1 ? Charset.forName(args[1]) : StandardCharsets.UTF_8;
+
+        HikariDataSource dataSource = PublicDataDataSourceFactory.create(
+                System.getenv("JDBC_URL"),
+                System.getenv("DB_USERNAME"),
+                System.getenv("DB_PASSWORD"),
+                parseInt(System.getenv("PUBLIC_DATA_DB_POOL_SIZE"), DEFAULT_DB_POOL_SIZE)
+        );
+        String redisUrl = System.getenv("REDIS_URL");
+        PublicDataWriter writer = new PublicDataWriter(
+                dataSource,
+                new JdbcUserReader(dataSource), geocodeClient(dataSource, System.getenv("KAKAO_API_KEY")),
+                new PageStateRepositoryImpl(), new PublicDataSourceRowRepositoryImpl(),
+                System.getenv("PARKING_LOT_PUBLIC_DATA_ADMIN_EMAIL"),
+                System.getenv("PARKING_LOT_DEFAULT_IMAGE_URL"),
+                (redisUrl == null || redisUrl.isBlank()) ? null : new SimpleRedisGeoClient(redisUrl),
+                parseInt(System.getenv("PUBLIC_DATA_GEOCODE_CONCURRENCY"), DEFAULT_GEOCODE_CONCURRENCY)
+        );
+        PublicDataFileReader reader = new PublicDataFileReader(
+                parseInt(System.getenv("PUBLIC_DATA_SEED_CHUNK_SIZE"), DEFAULT_CHUNK_SIZE)
+        );
+
+        int exitCode = 0;
+        AtomicLong saved = new AtomicLong();
+        long startedAt = System.currentTimeMillis();
+        try {
+            // 한 묶음씩 변환 → 저장하므로 메모리 사용량은 묶음 크기로 제한됨
+            long read = reader.read(file, charset, chunk -> {
+                List<ParkingLot> parkingLots = writer.convertToParkingLots(chunk);
+                writer.saveParkingLots(parkingLots);
+                log.info("[공공데이터 시딩] 묶음 저장 read={}, converted={}, total={}",
+                        chunk.size(), parkingLots.size(), saved.addAndGet(parkingLots.size()));
+            });
+            log.info("[공공데이터 시딩] 완료 file={}, read={}, converted={}, elapsedMillis={}",
+                    file, read, saved.get(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("[공공데이터 시딩] 실패 file={}, converted={}", file, saved.get(), e);
+            exitCode = 1;
+        } finally {
+            dataSource.close();
+        }
+        // Redis 클라이언트 등 비데몬 스레드가 남지 않도록 명시적으로 종료
+        System.exit(exitCode);
+    }
+
+    // KAKAO_API_KEY 가 없으면 주소가 비어 있는 행만 변환 실패로 건너뜀
+    private static ReverseGeocodeClient geocodeClient(DataSource dataSource, String kakaoKey) {
+        if (kakaoKey == null || kakaoKey.isBlank()) {
+            return (longitude, latitude) -> {
+                throw new IllegalStateException("KAKAO_API_KEY 가 없어 주소를 변환할 수 없습니다.");
+            };
+        }
+        return new CachedReverseGeocodeClient(
+                new RateLimitedReverseGeocodeClient(
+                        new SimpleKakaoGeocodeClient(kakaoKey),
+                        new TokenBucketRateLimiter(
+                                parseInt(System.getenv("KAKAO_GEOCODE_PERMITS_PER_SECOND"), DEFAULT_GEOCODE_PERMITS_PER_SECOND),
+                                DEFAULT_GEOCODE_BURST
+                        )
+                ),
+                new ReverseGeocodeCacheRepositoryImpl(dataSource)
+        );
+    }
+
+    private static int parseInt(String value, int defaultValue) {
+        return (value == null || value.isBlank()) ? defaultValue : Integer.parseInt(value);
+    }
+}
@@ -0,0 +1,30 @@
+package com.parkez.parkinglot.listener;
+
+import com.parkez.parkinglot.event.ParkingLotChangedEvent;
+import com.parkez.parkinglot.spatial.ParkingLotGeoIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotGeoIndexListener {
+
+    private final ParkingLotGeoIndex parkingLotGeoIndex;
+
+    // 커밋된 변경만 Redis GEO 집합에 반영 (실패해도 요청은 성공, 누락분은 정기 재적재로 보정)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotChangedEvent(ParkingLotChangedEvent event) {
+        try {
+            if (event.isDeleted() || !event.hasLocation()) {
+                parkingLotGeoIndex.remove(event.getParkingLotId());
+                return;
+            }
+            parkingLotGeoIndex.add(event.getParkingLotId(), event.getLatitude(), event.getLongitude());
+        } catch (Exception e) {
+            log.warn("[GEO 인덱스] 주차장 좌표 반영 실패 parkingLotId={} : {}", event.getParkingLotId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.parkez.parkinglot.listener;
+
+import com.parkez.common.exception.ParkingEasyException;
+import com.parkez.parkinglot.client.kakaomap.geocode.CachedGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.Geocode;
+import com.parkez.parkinglot.event.ParkingLotGeocodeRequestedEvent;
+import com.parkez.parkinglot.exception.ParkingLotErrorCode;
+import com.parkez.parkinglot.service.ParkingLotWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotGeocodeListener {
+
+    private final CachedGeocodeClient cachedGeocodeClient;
+    private final ParkingLotWriter parkingLotWriter;
+
+    // 커밋된 주차장의 좌표를 별도 스레드에서 채움
+    // 실패하면 기존 좌표를 유지하고 상태를 기록 (일시적 오류는 ParkingLotGeocodeScheduler 가 재시도)
+    @Async("geocodeTaskExecutor")
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotGeocodeRequestedEvent(ParkingLotGeocodeRequestedEvent event) {
+        try {
+            Geocode geocode = cachedGeocodeClient.getGeocode(event.getAddress());
+            boolean filled = parkingLotWriter.fillGeocode(event.getParkingLotId(), event.getAddress(),
+                    geocode.getLatitude(), geocode.getLongitude());
+            if (!filled) {
+                log.info("[지오코딩] 주소가 변경되었거나 삭제된 주차장, 반영 생략 parkingLotId={}", event.getParkingLotId());
+            }
+        } catch (DataIntegrityViolationException e) {
+            log.warn("[지오코딩] 같은 좌표의 주차장이 이미 있음 parkingLotId={}", event.getParkingLotId());
+            recordFailure(event, false);
+        } catch (ParkingEasyException e) {
+            log.warn("[지오코딩] 주차장 좌표 비동기 변환 실패 parkingLotId={} : {}", event.getParkingLotId(), e.getMessage());
+            recordFailure(event, e.getErrorCode() != ParkingLotErrorCode.NOT_FOUND_ADDRESS);
+        } catch (Exception e) {
+            log.warn("[지오코딩] 주차장 좌표 비동기 변환 실패 parkingLotId={} : {}", event.getParkingLotId(), e.getMessage());
+            recordFailure(event, true);
+        }
+    }
+
+    private void recordFailure(ParkingLotGeocodeRequestedEvent event, boolean retryable) {
+        try {
+            parkingLotWriter.failGeocode(event.getParkingLotId(), event.getAddress(), retryable);
+        } catch (Exception e) {
+            log.error("[지오코딩] 실패 상태 기록 실패 parkingLotId={}", event.getParkingLotId(), e);
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.parkez.parkinglot.listener;
+
+import com.parkez.parkinglot.event.ParkingLotOccupancyEvent;
+import com.parkez.parkinglot.occupancy.ParkingLotOccupancyStore;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotOccupancyListener {
+
+    private final ParkingLotOccupancyStore parkingLotOccupancyStore;
+
+    // 커밋된 예약 상태 변경만 반영 (실패해도 예약 처리에는 영향 없음, 점유 정보는 검색 표시용)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotOccupancyEvent(ParkingLotOccupancyEvent event) {
+        try {
+            if (event.isOccupied()) {
+                parkingLotOccupancyStore.occupy(event.getParkingLotId(), event.getParkingZoneId(), event.getReservationId(),
+                        event.getStartDateTime(), event.getEndDateTime());
+                return;
+            }
+            parkingLotOccupancyStore.release(event.getParkingLotId(), event.getParkingZoneId(), event.getReservationId(),
+                    event.getStartDateTime());
+        } catch (Exception e) {
+            log.warn("[주차장 점유] 반영 실패 reservationId={} : {}", event.getReservationId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.parkez.parkinglot.listener;
+
+import com.parkez.parkinglot.event.ParkingLotChangedEvent;
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheEvictMessage;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCachePublisher;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchCacheIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotSearchCacheListener {
+
+    private final ParkingLotSearchCacheIndex parkingLotSearchCacheIndex;
+    private final ParkingLotSearchCachePublisher parkingLotSearchCachePublisher;
+
+    // 주차장 변경이 커밋되면 관련 검색 캐시(L2) 삭제 후 전체 인스턴스의 L1 에서 같은 범위 무효화
+    // 결과 구성(포함 여부, 건수)이 바뀌는 변경은 이전/새 좌표 칸의 결과까지, 나머지는 해당 주차장이 포함된 결과만 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotChangedEvent(ParkingLotChangedEvent event) {
+        try {
+            List<Long> parkingLotIds = List.of(event.getParkingLotId());
+            parkingLotSearchCacheIndex.evictByParkingLotId(event.getParkingLotId());
+            if (!event.getChangeType().isSearchMembershipChanged()) {
+                parkingLotSearchCachePublisher.publishEvict(ParkingLotSearchCacheEvictMessage.of(parkingLotIds));
+                return;
+            }
+
+            Set<String> tileCells = new LinkedHashSet<>();
+            parkingLotSearchCacheIndex.evictByLocation(event.getPreviousLatitude(), event.getPreviousLongitude());
+            addTileCell(tileCells, event.getPreviousLatitude(), event.getPreviousLongitude());
+            if (!Objects.equals(event.getPreviousLatitude(), event.getLatitude())
+                    || !Objects.equals(event.getPreviousLongitude(), event.getLongitude())) {
+                parkingLotSearchCacheIndex.evictByLocation(event.getLatitude(), event.getLongitude());
+                addTileCell(tileCells, event.getLatitude(), event.getLongitude());
+            }
+            parkingLotSearchCachePublisher.publishEvict(ParkingLotSearchCacheEvictMessage.of(parkingLotIds, tileCells));
+        } catch (Exception e) {
+            log.error("[주차장 검색 캐시] 무효화 실패 parkingLotId={}", event.getParkingLotId(), e);
+        }
+    }
+
+    // 리뷰/주차공간 변경으로 집계(리뷰 수, 평점, 주차 가능 대수)가 바뀐 주차장의 검색 캐시 삭제
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotStatsEvent(ParkingLotStatsEvent event) {
+        try {
+            parkingLotSearchCacheIndex.evictByParkingLotId(event.getParkingLotId());
+            parkingLotSearchCachePublisher.publishEvict(ParkingLotSearchCacheEvictMessage.of(List.of(event.getParkingLotId())));
+        } catch (Exception e) {
+            log.error("[주차장 검색 캐시] 무효화 실패 parkingLotId={}", event.getParkingLotId(), e);
+        }
+    }
+
+    private void addTileCell(Set<String> tileCells, Double latitude, Double longitude) {
+        String tileCell = ParkingLotSearchCacheIndex.tileCell(latitude, longitude);
+        if (tileCell != null) {
+            tileCells.add(tileCell);
+        }
+    }
+}
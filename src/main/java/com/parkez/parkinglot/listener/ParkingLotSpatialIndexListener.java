@@ -0,0 +1,24 @@
+package com.parkez.parkinglot.listener;
+
+import com.parkez.parkinglot.event.ParkingLotChangedEvent;
+import com.parkez.parkinglot.spatial.ParkingLotSpatialIndex;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ParkingLotSpatialIndexListener {
+
+    private final ParkingLotSpatialIndex parkingLotSpatialIndex;
+
+    // 커밋된 변경만 공간 인덱스에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotChangedEvent(ParkingLotChangedEvent event) {
+        if (event.isDeleted() || !event.hasLocation()) {
+            parkingLotSpatialIndex.remove(event.getParkingLotId());
+            return;
+        }
+        parkingLotSpatialIndex.upsert(event.getParkingLotId(), event.getLatitude(), event.getLongitude());
+    }
+}
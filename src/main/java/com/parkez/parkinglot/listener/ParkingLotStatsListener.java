@@ -0,0 +1,20 @@
+package com.parkez.parkinglot.listener;
+
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
+import com.parkez.parkinglot.service.ParkingLotStatsWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ParkingLotStatsListener {
+
+    private final ParkingLotStatsWriter parkingLotStatsWriter;
+
+    // 리뷰/주차공간 변경과 같은 트랜잭션에서 통계 반영
+    @EventListener
+    public void handleParkingLotStatsEvent(ParkingLotStatsEvent event) {
+        parkingLotStatsWriter.apply(event);
+    }
+}
@@ -0,0 +1,242 @@
+package com.parkez.parkinglot.occupancy;
+
+import com.parkez.reservation.availability.ReservationInterval;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 주차장별로 진행 중이거나 예정된 예약(PENDING, CONFIRMED)을 Redis ZSET 으로 유지하여
+ * 검색 결과에 현재 이용 중인 주차공간 수를 DB 조회 없이 채운다.
+ * 멤버는 "예약ID:주차공간ID:시작시각(ms)", 점수는 종료시각(ms)이며 종료된 예약은 조회 시 정리한다.
+ * 이벤트 반영 누락분은 ParkingLotOccupancyScheduler 가 DB 기준으로 주기적으로 다시 적재하며,
+ * 재적재 중의 점유/해제는 기록해 두었다가 교체 후 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotOccupancyStore {
+
+    private static final String KEY_PREFIX = "parking-lot:occupancy:";
+    private static final String KEY_FORMAT = KEY_PREFIX + "%d";
+    private static final Pattern KEY_PATTERN = Pattern.compile(Pattern.quote(KEY_PREFIX) + "(\\d+)");
+    private static final String RELOAD_KEY_SUFFIX = ":reload";
+    private static final String MEMBER_DELIMITER = ":";
+    private static final long SCAN_COUNT = 1_000L;
+
+    // 재적재 중 표시(값은 재적재 토큰, 노드 간 재적재 락을 겸함)와, 그동안의 점유/해제 기록 ("주차장ID/멤버" -> 종료시각(ms), 해제는 빈 문자열)
+    public static final String REBUILDING_KEY = "parking-lot:occupancy:rebuilding";
+    public static final String CHANGES_KEY = "parking-lot:occupancy:changes";
+    private static final String RELEASED = "";
+    private static final String CHANGE_DELIMITER = "/";
+    private static final Duration REBUILDING_TTL = Duration.ofMinutes(9);
+    // 다른 노드가 재적재 중이라 건너뛴 경우의 rebuild 반환값
+    public static final int SKIPPED = -1;
+
+    // 자신이 잡은 재적재 표시만 삭제 (TTL 만료 후 다른 노드가 잡은 표시는 유지)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    public void occupy(Long parkingLotId, Long parkingZoneId, Long reservationId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        String key = key(parkingLotId);
+        String member = member(reservationId, parkingZoneId, startDateTime);
+        long endMillis = toEpochMillis(endDateTime);
+        stringRedisTemplate.opsForZSet().add(key, member, endMillis);
+        stringRedisTemplate.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, toEpochMillis(LocalDateTime.now()));
+        recordChange(parkingLotId, member, String.valueOf(endMillis));
+    }
+
+    public void release(Long parkingLotId, Long parkingZoneId, Long reservationId, LocalDateTime startDateTime) {
+        String member = member(reservationId, parkingZoneId, startDateTime);
+        stringRedisTemplate.opsForZSet().remove(key(parkingLotId), member);
+        recordChange(parkingLotId, member, RELEASED);
+    }
+
+    // 재적재 중이면 RENAME 후 다시 반영할 수 있도록 변경 기록 (DB 조회 이후의 변경을 적재분이 덮지 않도록)
+    private void recordChange(Long parkingLotId, String member, String change) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(REBUILDING_KEY))) {
+            stringRedisTemplate.opsForHash().put(CHANGES_KEY, parkingLotId + CHANGE_DELIMITER + member, change);
+        }
+    }
+
+    // 활성 예약이 있는 주차장과 이미 키가 있는 주차장만 DB 기준으로 교체 (키는 있는데 활성 예약이 없으면 삭제)
+    // 조회 전에 재적재 중 표시를 SET NX 로 잡아 노드 간 동시 재적재를 막고(이미 재적재 중이면 SKIPPED), 그 사이의 점유/해제는 교체 후 다시 반영
+    public int rebuild(Supplier<List<Long>> activeParkingLotIdLoader,
+                       Function<List<Long>, Map<Long, List<ReservationInterval>>> intervalLoader, int chunkSize) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(REBUILDING_KEY, token, REBUILDING_TTL))) {
+            log.info("[주차장 점유] 다른 노드가 재적재 중이므로 건너뜀");
+            return SKIPPED;
+        }
+        stringRedisTemplate.delete(CHANGES_KEY);
+        try {
+            Set<Long> parkingLotIdSet = new TreeSet<>(activeParkingLotIdLoader.get());
+            parkingLotIdSet.addAll(scanParkingLotIds());
+
+            List<Long> parkingLotIds = new ArrayList<>(parkingLotIdSet);
+            for (int from = 0; from < parkingLotIds.size(); from += chunkSize) {
+                reload(intervalLoader.apply(parkingLotIds.subList(from, Math.min(from + chunkSize, parkingLotIds.size()))));
+            }
+            return parkingLotIds.size();
+        } finally {
+            // 기록을 다시 반영한 뒤 표시를 풀어야 다음 재적재가 기록을 지우기 전에 반영됨
+            try {
+                replayChanges();
+            } finally {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(REBUILDING_KEY), token);
+            }
+        }
+    }
+
+    // SCAN 으로 점유 키가 있는 주차장 ID 조회 (임시 키, 재적재 표시/기록 키 제외)
+    private Set<Long> scanParkingLotIds() {
+        Set<Long> parkingLotIds = new HashSet<>();
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(SCAN_COUNT).build();
+        try (Cursor<String> cursor = stringRedisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                Matcher matcher = KEY_PATTERN.matcher(cursor.next());
+                if (matcher.matches()) {
+                    parkingLotIds.add(Long.valueOf(matcher.group(1)));
+                }
+            }
+        }
+        return parkingLotIds;
+    }
+
+    private void replayChanges() {
+        Map<Object, Object> changes = stringRedisTemplate.opsForHash().entries(CHANGES_KEY);
+        stringRedisTemplate.delete(CHANGES_KEY);
+        changes.forEach((field, change) -> {
+            String[] parts = String.valueOf(field).split(CHANGE_DELIMITER, 2);
+            String key = key(Long.valueOf(parts[0]));
+            String value = String.valueOf(change);
+            if (RELEASED.equals(value)) {
+                stringRedisTemplate.opsForZSet().remove(key, parts[1]);
+                return;
+            }
+            stringRedisTemplate.opsForZSet().add(key, parts[1], Double.parseDouble(value));
+        });
+    }
+
+    // 주차장별 ZSET 을 DB 의 활성 예약으로 교체 (임시 키에 적재 후 RENAME, 예약이 없으면 삭제)
+    public void reload(Map<Long, List<ReservationInterval>> intervalsByParkingLot) {
+        if (intervalsByParkingLot.isEmpty()) {
+            return;
+        }
+
+        stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                intervalsByParkingLot.forEach((parkingLotId, intervals) -> {
+                    String key = key(parkingLotId);
+                    if (intervals.isEmpty()) {
+                        operations.delete(key);
+                        return;
+                    }
+                    Set<ZSetOperations.TypedTuple<String>> tuples = new HashSet<>();
+                    for (ReservationInterval interval : intervals) {
+                        tuples.add(ZSetOperations.TypedTuple.of(
+                                member(interval.reservationId(), interval.parkingZoneId(), interval.startDateTime()),
+                                (double) toEpochMillis(interval.endDateTime())));
+                    }
+                    String reloadKey = key + RELOAD_KEY_SUFFIX;
+                    operations.delete(reloadKey);
+                    operations.opsForZSet().add(reloadKey, tuples);
+                    operations.rename(reloadKey, key);
+                });
+                return null;
+            }
+        });
+    }
+
+    // 주차장별 현재 이용 중인 주차공간 수 (한 번의 파이프라인으로 조회, Redis 장애 시 빈 Map)
+    public Map<Long, Long> countOccupiedZones(List<Long> parkingLotIds, LocalDateTime now) {
+        if (parkingLotIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+
+        long nowMillis = toEpochMillis(now);
+        try {
+            List<Object> results = stringRedisTemplate.executePipelined(new SessionCallback<Object>() {
+                @Override
+                @SuppressWarnings("unchecked")
+                public Object execute(RedisOperations operations) {
+                    for (Long parkingLotId : parkingLotIds) {
+                        String key = key(parkingLotId);
+                        operations.opsForZSet().removeRangeByScore(key, Double.NEGATIVE_INFINITY, nowMillis);
+                        operations.opsForZSet().rangeByScore(key, nowMillis, Double.POSITIVE_INFINITY);
+                    }
+                    return null;
+                }
+            });
+
+            Map<Long, Long> occupiedZones = new HashMap<>();
+            for (int i = 0; i < parkingLotIds.size(); i++) {
+                Object members = results.get(i * 2 + 1);
+                occupiedZones.put(parkingLotIds.get(i), countOccupiedZones(
+                        members instanceof Collection<?> collection ? collection : Collections.emptySet(), nowMillis));
+            }
+            return occupiedZones;
+        } catch (Exception e) {
+            log.warn("[주차장 점유] 이용 중 주차공간 조회 실패 : {}", e.getMessage());
+            return Collections.emptyMap();
+        }
+    }
+
+    // 이미 시작한 예약이 잡고 있는 주차공간 수 (종료 전 예약만 전달됨)
+    static long countOccupiedZones(Collection<?> members, long nowMillis) {
+        Set<String> parkingZoneIds = new HashSet<>();
+        for (Object member : members) {
+            String[] parts = String.valueOf(member).split(MEMBER_DELIMITER);
+            if (parts.length == 3 && Long.parseLong(parts[2]) <= nowMillis) {
+                parkingZoneIds.add(parts[1]);
+            }
+        }
+        return parkingZoneIds.size();
+    }
+
+    private String key(Long parkingLotId) {
+        return String.format(KEY_FORMAT, parkingLotId);
+    }
+
+    private String member(Long reservationId, Long parkingZoneId, LocalDateTime startDateTime) {
+        return reservationId + MEMBER_DELIMITER + parkingZoneId + MEMBER_DELIMITER + toEpochMillis(startDateTime);
+    }
+
+    private static long toEpochMillis(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+}
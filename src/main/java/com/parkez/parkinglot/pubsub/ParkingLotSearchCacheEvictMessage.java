@@ -0,0 +1,73 @@
+package com.parkez.parkinglot.pubsub;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * L1 검색 캐시 무효화 메시지. 검색 캐시 역색인(ParkingLotSearchCacheIndex)과 같은 기준으로 무효화할 범위를 담는다.
+ * - 주차장 ID: 해당 주차장이 포함된 결과
+ * - 결과 구성이 바뀐 경우: 좌표가 속한 타일 칸(geohash 5자리)과 그 상위 칸, 위치 조건이 없는 결과
+ * Spring 컨텍스트가 없는 공공데이터 Lambda 도 발행하므로 "ID 목록|칸 목록|구성 변경 여부" 문자열로 주고받는다.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class ParkingLotSearchCacheEvictMessage {
+
+    private static final String SECTION_DELIMITER = "|";
+    private static final String VALUE_DELIMITER = ",";
+
+    private final Set<Long> parkingLotIds;
+    private final Set<String> tileCells;
+    private final boolean membershipChanged;
+
+    // 주차장 내용만 바뀐 변경 (해당 주차장이 포함된 결과만 무효화)
+    public static ParkingLotSearchCacheEvictMessage of(Collection<Long> parkingLotIds) {
+        return new ParkingLotSearchCacheEvictMessage(new LinkedHashSet<>(parkingLotIds), Set.of(), false);
+    }
+
+    // 등록, 이동, 삭제처럼 결과 구성이 바뀌는 변경 (좌표 칸과 위치 조건이 없는 결과까지 무효화)
+    public static ParkingLotSearchCacheEvictMessage of(Collection<Long> parkingLotIds, Collection<String> tileCells) {
+        return new ParkingLotSearchCacheEvictMessage(new LinkedHashSet<>(parkingLotIds), new LinkedHashSet<>(tileCells), true);
+    }
+
+    public String encode() {
+        return join(parkingLotIds) + SECTION_DELIMITER + join(tileCells) + SECTION_DELIMITER + (membershipChanged ? "1" : "0");
+    }
+
+    // 형식이 맞지 않으면(이전 버전 메시지 등) null
+    public static ParkingLotSearchCacheEvictMessage decode(String encoded) {
+        if (encoded == null) {
+            return null;
+        }
+        String[] sections = encoded.split("\\" + SECTION_DELIMITER, -1);
+        if (sections.length != 3) {
+            return null;
+        }
+        try {
+            Set<Long> parkingLotIds = split(sections[0]).stream()
+                    .map(Long::valueOf)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            return new ParkingLotSearchCacheEvictMessage(parkingLotIds, split(sections[1]), "1".equals(sections[2]));
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static String join(Collection<?> values) {
+        return values.stream().map(String::valueOf).collect(Collectors.joining(VALUE_DELIMITER));
+    }
+
+    private static Set<String> split(String section) {
+        if (section.isEmpty()) {
+            return Set.of();
+        }
+        return new LinkedHashSet<>(Arrays.asList(section.split(VALUE_DELIMITER)));
+    }
+}
@@ -0,0 +1,19 @@
+package com.parkez.parkinglot.pubsub;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class ParkingLotSearchCachePublisher {
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static final String CHANNEL = "parking-lot-search-cache-evict";
+
+    // 모든 인스턴스(자신 포함)의 L1 검색 캐시 중 메시지 범위에 해당하는 항목 무효화 요청
+    public void publishEvict(ParkingLotSearchCacheEvictMessage message) {
+        redisTemplate.convertAndSend(CHANNEL, message.encode());
+    }
+}
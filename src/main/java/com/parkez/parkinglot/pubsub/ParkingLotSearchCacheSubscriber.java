@@ -0,0 +1,42 @@
+package com.parkez.parkinglot.pubsub;
+
+import com.parkez.parkinglot.rediscache.ParkingLotSearchLocalCache;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ParkingLotSearchCacheSubscriber implements MessageListener {
+
+    private final ParkingLotSearchLocalCache parkingLotSearchLocalCache;
+    private final GenericJackson2JsonRedisSerializer redisSerializer;
+
+    // 메시지 범위에 해당하는 항목만 무효화하고, 해석할 수 없는 메시지면 전체 무효화
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        ParkingLotSearchCacheEvictMessage evictMessage = decode(message.getBody());
+        if (evictMessage == null) {
+            parkingLotSearchLocalCache.invalidateAll();
+            log.debug("주차장 검색 L1 캐시 전체 무효화");
+            return;
+        }
+        parkingLotSearchLocalCache.invalidate(evictMessage);
+        log.debug("주차장 검색 L1 캐시 무효화 parkingLotIds={}, tileCells={}",
+                evictMessage.getParkingLotIds(), evictMessage.getTileCells());
+    }
+
+    private ParkingLotSearchCacheEvictMessage decode(byte[] body) {
+        try {
+            Object payload = redisSerializer.deserialize(body);
+            return payload instanceof String encoded ? ParkingLotSearchCacheEvictMessage.decode(encoded) : null;
+        } catch (SerializationException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.parkez.parkinglot.rediscache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkez.common.config.RedisConfig;
+import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
+import com.parkez.parkinglot.service.ParkingLotReader;
+import com.parkez.parkinglot.spatial.GeoHash;
+import com.parkez.parkinglot.spatial.GeoUtils;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * 위치 조건 검색 결과를 geohash 칸(타일) + 검색 조건 단위로 캐시한다.
+ * 반경이 덮는 타일을 모아 거리로 거른 뒤 메모리에서 페이징하므로, 가까운 사용자끼리 같은 캐시를 공유한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotGeoTileCache {
+
+    // 약 4.9km x 4.9km
+    private static final int TILE_PRECISION = 5;
+    // 반경이 너무 넓어 타일이 많아지면 타일 캐시를 사용하지 않음
+    private static final int MAX_TILES = 36;
+
+    private static final Comparator<Candidate> DISTANCE_ORDER = Comparator
+            .comparingDouble(Candidate::distance)
+            .thenComparing(candidate -> candidate.parkingLot().getParkingLotId());
+
+    private final ParkingLotReader parkingLotReader;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper redisObjectMapper;
+    private final ParkingLotSearchLocalCache parkingLotSearchLocalCache;
+    private final ParkingLotSearchCacheIndex parkingLotSearchCacheIndex;
+    private final ParkingLotSearchCacheLoader parkingLotSearchCacheLoader;
+
+    // 타일 캐시로 처리할 수 없는 조건(위치 없음, 넓은 반경)이면 empty
+    public Optional<Page<ParkingLotSearchResponse>> search(String name, String address,
+                                                           Double userLatitude, Double userLongitude, Integer radiusInMeters,
+                                                           int page, int size) {
+        if (userLatitude == null || userLongitude == null || radiusInMeters == null) {
+            return Optional.empty();
+        }
+
+        Set<String> geohashes = GeoHash.coveringCells(userLatitude, userLongitude, radiusInMeters, TILE_PRECISION);
+        if (geohashes.size() > MAX_TILES) {
+            return Optional.empty();
+        }
+
+        // 반경 내 주차장만 거리순 정렬
+        List<Candidate> candidates = new ArrayList<>();
+        for (List<ParkingLotSearchResponse> tile : getTiles(name, address, geohashes)) {
+            for (ParkingLotSearchResponse parkingLot : tile) {
+                if (parkingLot.getLatitude() == null || parkingLot.getLongitude() == null) {
+                    continue;
+                }
+                double distance = GeoUtils.distanceInMeters(userLatitude, userLongitude, parkingLot.getLatitude(), parkingLot.getLongitude());
+                if (distance <= radiusInMeters) {
+                    candidates.add(new Candidate(parkingLot, distance));
+                }
+            }
+        }
+        candidates.sort(DISTANCE_ORDER);
+
+        // 메모리 페이징
+        Pageable pageable = PageRequest.of(page - 1, size);
+        int fromIndex = (int) Math.min(pageable.getOffset(), candidates.size());
+        int toIndex = Math.min(fromIndex + size, candidates.size());
+        List<ParkingLotSearchResponse> content = candidates.subList(fromIndex, toIndex).stream()
+                .map(candidate -> candidate.parkingLot().copyWithDistance(candidate.distance()))
+                .toList();
+
+        return Optional.of(new PageImpl<>(content, pageable, candidates.size()));
+    }
+
+    // L1 -> L2(multiGet 한 번) -> DB 순으로 타일 조회
+    private List<List<ParkingLotSearchResponse>> getTiles(String name, String address, Set<String> geohashes) {
+        List<List<ParkingLotSearchResponse>> tiles = new ArrayList<>();
+        Map<String, String> remoteKeys = new LinkedHashMap<>();
+
+        for (String geohash : geohashes) {
+            String tileKey = ParkingLotSearchRedisKey.generateTileRedisKey(name, address, geohash);
+            List<ParkingLotSearchResponse> localTile = parkingLotSearchLocalCache.getTile(tileKey);
+            if (localTile != null) {
+                tiles.add(localTile);
+            } else {
+                remoteKeys.put(tileKey, geohash);
+            }
+        }
+        if (remoteKeys.isEmpty()) {
+            return tiles;
+        }
+
+        List<String> tileKeys = new ArrayList<>(remoteKeys.keySet());
+        List<Object> cachedTiles = redisTemplate.opsForValue().multiGet(tileKeys);
+
+        for (int i = 0; i < tileKeys.size(); i++) {
+            String tileKey = tileKeys.get(i);
+            Object cachedTile = cachedTiles != null && cachedTiles.size() == tileKeys.size() ? cachedTiles.get(i) : null;
+            List<ParkingLotSearchResponse> tile = convertTile(tileKey, cachedTile);
+            String geohash = remoteKeys.get(tileKey);
+            if (tile != null) {
+                parkingLotSearchLocalCache.putTile(tileKey, tile, geohash);
+            } else {
+                tile = parkingLotSearchCacheLoader.load(tileKey, () -> loadTile(tileKey, name, address, geohash));
+            }
+            tiles.add(tile);
+        }
+        return tiles;
+    }
+
+    private List<ParkingLotSearchResponse> convertTile(String tileKey, Object cachedTile) {
+        if (cachedTile == null) {
+            return null;
+        }
+        try {
+            return redisObjectMapper.convertValue(cachedTile, new TypeReference<List<ParkingLotSearchResponse>>() {
+            });
+        } catch (IllegalArgumentException e) {
+            log.error("Redis 타일 역직렬화 오류 key={} : {}", tileKey, e.getMessage());
+            return null;
+        }
+    }
+
+    private List<ParkingLotSearchResponse> loadTile(String tileKey, String name, String address, String geohash) {
+        double[] bounds = GeoHash.bounds(geohash);
+        List<ParkingLotSearchResponse> tile = parkingLotReader.findParkingLotsInBounds(name, address,
+                bounds[0], bounds[1], bounds[2], bounds[3]);
+
+        redisTemplate.opsForValue().set(tileKey, tile, RedisConfig.PARKING_LOT_SEARCH_TTL);
+        parkingLotSearchCacheIndex.registerTile(tileKey, geohash, tile.stream()
+                .map(ParkingLotSearchResponse::getParkingLotId)
+                .toList());
+        parkingLotSearchLocalCache.putTile(tileKey, tile, geohash);
+        return tile;
+    }
+
+    private record Candidate(ParkingLotSearchResponse parkingLot, double distance) {
+    }
+}
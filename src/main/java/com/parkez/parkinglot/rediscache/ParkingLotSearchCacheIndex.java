@@ -0,0 +1,173 @@
+package com.parkez.parkinglot.rediscache;
+
+import com.parkez.common.config.RedisConfig;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheEvictMessage;
+import com.parkez.parkinglot.spatial.GeoHash;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.stereotype.Component;
+import org.springframework.util.CollectionUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 검색 캐시 키 역색인.
+ * - 주차장 ID -> 해당 주차장이 포함된 검색 캐시 키 (내용이 바뀐 주차장의 결과만 삭제)
+ * - geohash 칸 -> 그 칸의 주차장에 결과가 좌우되는 검색 캐시 키 (등록/이동한 주차장의 이전·새 좌표 칸만 삭제)
+ * - 위치 조건이 없거나 범위가 너무 넓은 검색 키는 전역 묶음에 기록
+ * 칸/전역 묶음은 검색 캐시 TTL 단위로 나눠 기록하므로 마지막 기록 후 TTL이 지나면 묶음 키 자체가 만료된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ParkingLotSearchCacheIndex {
+
+    private static final String PARKING_LOT_KEYS_FORMAT = "parking-lot-search-keys:lot:%d";
+    private static final String GEO_KEYS_FORMAT = "parking-lot-search-keys:geo:%s:%d";
+    private static final String GLOBAL_KEYS_FORMAT = "parking-lot-search-keys:global:%d";
+
+    // 타일 캐시 칸(약 4.9km)과 반경 검색 결과를 묶는 칸(약 39km x 19.5km)
+    static final int TILE_PRECISION = 5;
+    static final int AREA_PRECISION = 4;
+    // 반경이 이보다 넓은 검색은 칸 대신 전역 묶음에 기록
+    private static final int MAX_AREA_RADIUS_IN_METERS = 50_000;
+    private static final int MAX_AREA_CELLS = 36;
+
+    private static final Duration BUCKET_SIZE = RedisConfig.PARKING_LOT_SEARCH_TTL;
+    // 묶음 키는 마지막 기록 후 검색 캐시 TTL만큼 유지 (그 안의 키는 모두 이미 만료)
+    private static final Duration BUCKET_TTL = RedisConfig.PARKING_LOT_SEARCH_TTL.plus(BUCKET_SIZE);
+    // 아직 살아있는 검색 키가 기록됐을 수 있는 묶음 수 (현재 + TTL 을 덮는 이전 묶음, 나누어 떨어지지 않으면 올림)
+    private static final int LIVE_BUCKETS = (int) ((RedisConfig.PARKING_LOT_SEARCH_TTL.toMillis() + BUCKET_SIZE.toMillis() - 1)
+            / BUCKET_SIZE.toMillis()) + 1;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // geo 타일 캐시 키를 타일 칸과 포함된 주차장별로 기록
+    public void registerTile(String tileKey, String geohash, Collection<Long> parkingLotIds) {
+        register(tileKey, parkingLotIds, List.of(geoKey(geohash, currentBucket())));
+    }
+
+    // 검색 결과(페이지, 전체 건수) 키를 검색 범위를 덮는 칸과 포함된 주차장별로 기록
+    public void register(String searchKey, Collection<Long> parkingLotIds,
+                         Double userLatitude, Double userLongitude, Integer radiusInMeters) {
+        long bucket = currentBucket();
+        Set<String> areaCells = areaCells(userLatitude, userLongitude, radiusInMeters);
+        List<String> scopeKeys = areaCells.isEmpty()
+                ? List.of(globalKey(bucket))
+                : areaCells.stream().map(cell -> geoKey(cell, bucket)).toList();
+        register(searchKey, parkingLotIds, scopeKeys);
+    }
+
+    // 해당 주차장이 포함된 검색 결과만 삭제
+    public void evictByParkingLotId(Long parkingLotId) {
+        evictIndexedKeys(List.of(parkingLotKey(parkingLotId)));
+    }
+
+    // 좌표가 속한 칸과 전역 묶음의 검색 결과 삭제 (등록, 이동, 삭제처럼 결과 구성이 바뀌는 변경)
+    public void evictByLocation(Double latitude, Double longitude) {
+        evictIndexedKeys(locationIndexKeys(tileCell(latitude, longitude), System.currentTimeMillis()));
+    }
+
+    // 무효화 메시지 범위의 색인 키 (Spring 컨텍스트가 없는 공공데이터 Lambda 가 같은 키를 직접 삭제할 때 사용)
+    public static Set<String> indexKeys(ParkingLotSearchCacheEvictMessage message, long nowMillis) {
+        Set<String> indexKeys = new LinkedHashSet<>();
+        message.getParkingLotIds().forEach(parkingLotId -> indexKeys.add(parkingLotKey(parkingLotId)));
+        if (message.isMembershipChanged()) {
+            indexKeys.addAll(locationIndexKeys(null, nowMillis));
+            message.getTileCells().forEach(tileCell -> indexKeys.addAll(locationIndexKeys(tileCell, nowMillis)));
+        }
+        return indexKeys;
+    }
+
+    // 아직 살아있는 묶음의 전역 색인 키와, 타일 칸이 있으면 그 칸과 상위 칸의 색인 키
+    private static List<String> locationIndexKeys(String tileCell, long nowMillis) {
+        long bucket = bucket(nowMillis);
+        List<String> indexKeys = new ArrayList<>();
+        for (int i = 0; i < LIVE_BUCKETS; i++) {
+            indexKeys.add(globalKey(bucket - i));
+            if (tileCell != null) {
+                indexKeys.add(geoKey(tileCell, bucket - i));
+                indexKeys.add(geoKey(tileCell.substring(0, AREA_PRECISION), bucket - i));
+            }
+        }
+        return indexKeys;
+    }
+
+    private void register(String searchKey, Collection<Long> parkingLotIds, List<String> scopeKeys) {
+        redisTemplate.executePipelined(new SessionCallback<Object>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public Object execute(RedisOperations operations) {
+                for (String scopeKey : scopeKeys) {
+                    operations.opsForSet().add(scopeKey, searchKey);
+                    operations.expire(scopeKey, BUCKET_TTL);
+                }
+
+                for (Long parkingLotId : parkingLotIds) {
+                    String parkingLotKey = parkingLotKey(parkingLotId);
+                    operations.opsForSet().add(parkingLotKey, searchKey);
+                    operations.expire(parkingLotKey, RedisConfig.PARKING_LOT_SEARCH_TTL);
+                }
+                return null;
+            }
+        });
+    }
+
+    private void evictIndexedKeys(List<String> indexKeys) {
+        Set<String> searchKeys = new LinkedHashSet<>();
+        for (String indexKey : indexKeys) {
+            Set<Object> members = redisTemplate.opsForSet().members(indexKey);
+            if (!CollectionUtils.isEmpty(members)) {
+                members.forEach(member -> searchKeys.add(String.valueOf(member)));
+            }
+        }
+        if (!searchKeys.isEmpty()) {
+            redisTemplate.delete(searchKeys);
+        }
+        redisTemplate.delete(indexKeys);
+    }
+
+    // 좌표가 속한 타일 칸 (좌표가 없으면 null)
+    public static String tileCell(Double latitude, Double longitude) {
+        if (latitude == null || longitude == null) {
+            return null;
+        }
+        return GeoHash.encode(latitude, longitude, TILE_PRECISION);
+    }
+
+    // 반경 검색 결과를 기록할 칸 (비어 있으면 전역 묶음)
+    static Set<String> areaCells(Double userLatitude, Double userLongitude, Integer radiusInMeters) {
+        if (userLatitude == null || userLongitude == null || radiusInMeters == null
+                || radiusInMeters > MAX_AREA_RADIUS_IN_METERS) {
+            return Set.of();
+        }
+        Set<String> cells = GeoHash.coveringCells(userLatitude, userLongitude, radiusInMeters, AREA_PRECISION);
+        return cells.size() > MAX_AREA_CELLS ? Set.of() : cells;
+    }
+
+    private long currentBucket() {
+        return bucket(System.currentTimeMillis());
+    }
+
+    private static long bucket(long millis) {
+        return millis / BUCKET_SIZE.toMillis();
+    }
+
+    private static String parkingLotKey(Long parkingLotId) {
+        return String.format(PARKING_LOT_KEYS_FORMAT, parkingLotId);
+    }
+
+    private static String geoKey(String geohash, long bucket) {
+        return String.format(GEO_KEYS_FORMAT, geohash, bucket);
+    }
+
+    private static String globalKey(long bucket) {
+        return String.format(GLOBAL_KEYS_FORMAT, bucket);
+    }
+}
@@ -0,0 +1,72 @@
+package com.parkez.parkinglot.rediscache;
+
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * 검색 캐시 미스 시 DB 조회 폭주 방지.
+ * - single-flight: 같은 키는 인스턴스당 하나의 요청만 조회하고 나머지는 그 결과를 기다린다.
+ * - 확률적 조기 갱신(XFetch): 만료가 가까울수록, 조회가 오래 걸릴수록 만료 전에 미리 갱신할 확률이 높아진다.
+ */
+@Component
+public class ParkingLotSearchCacheLoader {
+
+    private static final double EARLY_REFRESH_BETA = 1.0;
+    private static final double LOAD_TIME_SMOOTHING = 0.2;
+
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlightLoads = new ConcurrentHashMap<>();
+
+    // 최근 조회 소요 시간(ms) 지수 이동 평균
+    private volatile double averageLoadMillis = 100;
+
+    @SuppressWarnings("unchecked")
+    public <T> T load(String key, Supplier<T> loader) {
+        CompletableFuture<Object> future = new CompletableFuture<>();
+        CompletableFuture<Object> inFlight = inFlightLoads.putIfAbsent(key, future);
+        if (inFlight != null) {
+            return (T) await(inFlight);
+        }
+
+        long startedAt = System.nanoTime();
+        try {
+            T result = loader.get();
+            future.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            future.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlightLoads.remove(key, future);
+            recordLoadTime((System.nanoTime() - startedAt) / 1_000_000d);
+        }
+    }
+
+    // 남은 TTL 이 짧을수록 true 가 나올 확률이 높음 (-delta * beta * ln(rand) >= 남은 TTL)
+    public boolean shouldRefreshEarly(long remainingTtlMillis) {
+        if (remainingTtlMillis <= 0) {
+            return false;
+        }
+        double random = 1d - ThreadLocalRandom.current().nextDouble(); // (0, 1]
+        return -averageLoadMillis * EARLY_REFRESH_BETA * Math.log(random) >= remainingTtlMillis;
+    }
+
+    private Object await(CompletableFuture<Object> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private void recordLoadTime(double loadMillis) {
+        averageLoadMillis = averageLoadMillis * (1 - LOAD_TIME_SMOOTHING) + loadMillis * LOAD_TIME_SMOOTHING;
+    }
+}
@@ -0,0 +1,102 @@
+package com.parkez.parkinglot.rediscache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheEvictMessage;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 주차장 검색 결과 L1(인스턴스 로컬) 캐시. Redis(L2) 앞단에서 조회 왕복과 역직렬화를 생략한다.
+ * 다른 인스턴스의 변경은 Redis pub/sub 무효화 메시지로 반영되며, 메시지 유실에 대비해 L2 보다 짧게 유지한다.
+ * 항목마다 포함된 주차장과 결과를 좌우하는 geohash 칸을 함께 기록해, 검색 캐시 역색인과 같은 기준으로 해당 항목만 무효화한다.
+ */
+@Component
+public class ParkingLotSearchLocalCache {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final long MAXIMUM_TILE_SIZE = 2_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+
+    private final Cache<String, Entry<RestPage<ParkingLotSearchResponse>>> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // geo 타일 단위 주차장 목록
+    private final Cache<String, Entry<List<ParkingLotSearchResponse>>> tileCache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_TILE_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    public RestPage<ParkingLotSearchResponse> get(String key) {
+        Entry<RestPage<ParkingLotSearchResponse>> entry = cache.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    // 반경 검색 결과는 검색 범위를 덮는 칸, 위치 조건이 없거나 넓은 검색은 전역으로 기록
+    public void put(String key, RestPage<ParkingLotSearchResponse> page,
+                    Double userLatitude, Double userLongitude, Integer radiusInMeters) {
+        Set<String> areaCells = ParkingLotSearchCacheIndex.areaCells(userLatitude, userLongitude, radiusInMeters);
+        cache.put(key, new Entry<>(page, parkingLotIds(page.getContent()), areaCells, areaCells.isEmpty()));
+    }
+
+    public List<ParkingLotSearchResponse> getTile(String key) {
+        Entry<List<ParkingLotSearchResponse>> entry = tileCache.getIfPresent(key);
+        return entry != null ? entry.value() : null;
+    }
+
+    public void putTile(String key, List<ParkingLotSearchResponse> parkingLots, String geohash) {
+        tileCache.put(key, new Entry<>(parkingLots, parkingLotIds(parkingLots), Set.of(geohash), false));
+    }
+
+    // 메시지의 주차장이 포함됐거나, 결과 구성이 바뀐 좌표의 칸(타일 칸, 상위 칸, 전역)에 속한 항목만 무효화
+    public void invalidate(ParkingLotSearchCacheEvictMessage message) {
+        Set<String> cells = new HashSet<>();
+        for (String tileCell : message.getTileCells()) {
+            cells.add(tileCell);
+            if (tileCell.length() >= ParkingLotSearchCacheIndex.AREA_PRECISION) {
+                cells.add(tileCell.substring(0, ParkingLotSearchCacheIndex.AREA_PRECISION));
+            }
+        }
+        cache.asMap().values().removeIf(entry -> entry.matches(message, cells));
+        tileCache.asMap().values().removeIf(entry -> entry.matches(message, cells));
+    }
+
+    public void invalidateAll() {
+        cache.invalidateAll();
+        tileCache.invalidateAll();
+    }
+
+    private Set<Long> parkingLotIds(List<ParkingLotSearchResponse> parkingLots) {
+        return parkingLots.stream()
+                .map(ParkingLotSearchResponse::getParkingLotId)
+                .collect(Collectors.toSet());
+    }
+
+    private record Entry<T>(T value, Set<Long> parkingLotIds, Set<String> cells, boolean global) {
+
+        boolean matches(ParkingLotSearchCacheEvictMessage message, Set<String> changedCells) {
+            if (containsAny(parkingLotIds, message.getParkingLotIds())) {
+                return true;
+            }
+            return message.isMembershipChanged() && (global || containsAny(cells, changedCells));
+        }
+
+        private static <V> boolean containsAny(Set<V> values, Collection<V> candidates) {
+            for (V candidate : candidates) {
+                if (values.contains(candidate)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
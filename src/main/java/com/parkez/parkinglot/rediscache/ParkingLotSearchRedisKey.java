@@ -16,4 +16,26 @@ public class ParkingLotSearchRedisKey {
                 size
         );
     }
+
+    // 커서 조회의 전체 건수 캐시 키 (페이지와 무관)
+    public static String generateCountRedisKey(String name, String address,
+                                               Double userLatitude, Double userLongitude, Integer radiusInMeters
+    ) {
+        return String.format("parking-lots-count-name:%s-addr:%s-lat:%s-lng:%s-radius:%s",
+                name != null ? "val:" + name : "null",
+                address != null ? "val:" + address : "null",
+                userLatitude != null ? (int) (userLatitude * 1000) : "null",
+                userLongitude != null ? (int) (userLongitude * 1000) : "null",
+                radiusInMeters != null ? radiusInMeters : "null"
+        );
+    }
+
+    // geo 타일(geohash 칸) + 검색 조건 단위 캐시 키 (페이지, 반경, 사용자 좌표와 무관)
+    public static String generateTileRedisKey(String name, String address, String geohash) {
+        return String.format("parking-lots-tile:%s-name:%s-addr:%s",
+                geohash,
+                name != null ? "val:" + name : "null",
+                address != null ? "val:" + address : "null"
+        );
+    }
 }
@@ -0,0 +1,46 @@
+package com.parkez.parkinglot.scheduler;
+
+import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.spatial.ParkingLotGeoIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ParkingLotGeoIndexScheduler {
+
+    private static final int CHUNK_SIZE = 1_000;
+
+    private final ParkingLotRepository parkingLotRepository;
+    private final ParkingLotGeoIndex parkingLotGeoIndex;
+
+    // GEO 집합이 비어 있으면 기동 시 적재 (자기 호출이라 ShedLock 을 거치지 않지만, 인덱스가 재적재 중 표시로 노드 간 동시 재적재를 막음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (!parkingLotGeoIndex.isReady()) {
+                rebuild();
+            }
+        } catch (Exception e) {
+            log.error("[GEO 인덱스] 초기 적재 실패 : {}", e.getMessage(), e);
+        }
+    }
+
+    // 매일 새벽 4시 30분 GEO 집합 재적재 (이벤트 반영 실패분 보정)
+    @Scheduled(cron = "0 30 4 * * ?")
+    @SchedulerLock(name = "parkingLotGeoIndexScheduler_rebuild", lockAtLeastFor = "55s", lockAtMostFor = "10m")
+    public void rebuild() {
+        int count = parkingLotGeoIndex.rebuild(parkingLotRepository::findAllActiveLocations, CHUNK_SIZE);
+        if (count == ParkingLotGeoIndex.SKIPPED) {
+            return;
+        }
+
+        log.info("[GEO 인덱스] 주차장 좌표 재적재 완료 count={}", count);
+    }
+}
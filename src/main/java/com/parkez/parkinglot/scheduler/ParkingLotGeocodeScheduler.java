@@ -0,0 +1,38 @@
+package com.parkez.parkinglot.scheduler;
+
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.event.ParkingLotGeocodeRequestedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ParkingLotGeocodeScheduler {
+
+    private static final int BATCH_SIZE = 100;
+
+    private final ParkingLotRepository parkingLotRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 1분마다 재시도 시각이 지난 좌표 변환 대기 주차장을 다시 요청 (일시적 Kakao 오류, 처리 전 인스턴스 종료 보정)
+    @Scheduled(cron = "0 * * * * ?")
+    @SchedulerLock(name = "parkingLotGeocodeScheduler_retry", lockAtLeastFor = "30s", lockAtMostFor = "55s")
+    public void retry() {
+        List<ParkingLot> parkingLots = parkingLotRepository.findGeocodeRetryTargets(LocalDateTime.now(), PageRequest.of(0, BATCH_SIZE));
+        parkingLots.forEach(parkingLot -> eventPublisher.publishEvent(ParkingLotGeocodeRequestedEvent.of(parkingLot)));
+
+        if (!parkingLots.isEmpty()) {
+            log.info("[지오코딩] 좌표 변환 재시도 요청 count={}", parkingLots.size());
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.parkez.parkinglot.scheduler;
+
+import com.parkez.parkinglot.occupancy.ParkingLotOccupancyStore;
+import com.parkez.parkingzone.domain.entity.ParkingZone;
+import com.parkez.parkingzone.domain.repository.ParkingZoneRepository;
+import com.parkez.reservation.availability.ReservationInterval;
+import com.parkez.reservation.domain.enums.ReservationStatus;
+import com.parkez.reservation.domain.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ParkingLotOccupancyScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+    private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    private final ParkingZoneRepository parkingZoneRepository;
+    private final ReservationRepository reservationRepository;
+    private final ParkingLotOccupancyStore parkingLotOccupancyStore;
+
+    // 기동 시 DB 기준으로 점유 정보 적재 (자기 호출이라 ShedLock 을 거치지 않지만, 저장소가 재적재 중 표시로 노드 간 동시 재적재를 막음)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            rebuild();
+        } catch (Exception e) {
+            log.error("[주차장 점유] 초기 적재 실패 : {}", e.getMessage(), e);
+        }
+    }
+
+    // 10분마다 DB 기준으로 점유 정보 재적재 (이벤트 반영 실패, Redis 유실 보정)
+    @Scheduled(cron = "0 */10 * * * ?")
+    @SchedulerLock(name = "parkingLotOccupancyScheduler_rebuild", lockAtLeastFor = "55s", lockAtMostFor = "9m")
+    public void rebuild() {
+        int parkingLots = parkingLotOccupancyStore.rebuild(
+                () -> reservationRepository.findActiveParkingLotIds(ACTIVE_STATUSES, LocalDateTime.now()),
+                this::loadActiveIntervals,
+                CHUNK_SIZE
+        );
+        if (parkingLots == ParkingLotOccupancyStore.SKIPPED) {
+            return;
+        }
+
+        log.info("[주차장 점유] 재적재 완료 count={}", parkingLots);
+    }
+
+    // 주차장별 종료 전 활성 예약 (예약이 없는 주차장도 빈 목록으로 포함하여 남은 키를 지움)
+    private Map<Long, List<ReservationInterval>> loadActiveIntervals(List<Long> parkingLotIds) {
+        Map<Long, List<ReservationInterval>> intervalsByParkingLot = new HashMap<>();
+        parkingLotIds.forEach(parkingLotId -> intervalsByParkingLot.put(parkingLotId, new ArrayList<>()));
+
+        Map<Long, Long> parkingLotIdByZone = new HashMap<>();
+        for (ParkingZone parkingZone : parkingZoneRepository.findAllByParkingLotIdIn(parkingLotIds)) {
+            parkingLotIdByZone.put(parkingZone.getId(), parkingZone.getParkingLot().getId());
+        }
+
+        List<Long> parkingZoneIds = new ArrayList<>(parkingLotIdByZone.keySet());
+        LocalDateTime now = LocalDateTime.now();
+        for (int from = 0; from < parkingZoneIds.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = parkingZoneIds.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, parkingZoneIds.size()));
+            for (ReservationInterval interval : reservationRepository.findActiveIntervalsByParkingZoneIds(chunk, ACTIVE_STATUSES, now)) {
+                intervalsByParkingLot.get(parkingLotIdByZone.get(interval.parkingZoneId())).add(interval);
+            }
+        }
+        return intervalsByParkingLot;
+    }
+}
@@ -0,0 +1,32 @@
+package com.parkez.parkinglot.scheduler;
+
+import com.parkez.parkinglot.service.ParkingLotStatsWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@RequiredArgsConstructor
+@Component
+public class ParkingLotStatsScheduler {
+
+    private static final int CHUNK_SIZE = 500;
+
+    private final ParkingLotStatsWriter parkingLotStatsWriter;
+
+    // 매일 새벽 4시 주차장 통계 재계산 (증분 갱신 누락분 보정)
+    @Scheduled(cron = "0 0 4 * * ?")
+    @SchedulerLock(name = "parkingLotStatsScheduler_rebuild", lockAtLeastFor = "55s", lockAtMostFor = "30m")
+    public void rebuild() {
+        Long lastParkingLotId = 0L;
+        int chunks = 0;
+
+        while ((lastParkingLotId = parkingLotStatsWriter.rebuildChunk(lastParkingLotId, CHUNK_SIZE)) != null) {
+            chunks++;
+        }
+
+        log.info("[주차장 통계] 재계산 완료 chunk 수={}", chunks);
+    }
+}
@@ -2,19 +2,34 @@ package com.parkez.parkinglot.service;
 
 import com.parkez.common.exception.ParkingEasyException;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.domain.entity.ParkingLotStats;
+import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
 import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.domain.repository.ParkingLotStatsRepository;
 import com.parkez.parkinglot.dto.aggregation.ParkingLotAggregation;
 import com.parkez.parkinglot.dto.response.MyParkingLotSearchResponse;
+import com.parkez.parkinglot.dto.response.ParkingLotCursorResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
 import com.parkez.parkinglot.exception.ParkingLotErrorCode;
+import com.parkez.parkinglot.spatial.NearbyParkingLot;
+import com.parkez.parkinglot.spatial.ParkingLotGeoIndex;
+import com.parkez.parkinglot.spatial.ParkingLotSpatialIndex;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @Transactional(readOnly = true)
@@ -22,30 +37,159 @@ import java.util.List;
 public class ParkingLotReader {
 
     private final ParkingLotRepository parkingLotRepository;
+    private final ParkingLotStatsRepository parkingLotStatsRepository;
+    private final ParkingLotSpatialIndex parkingLotSpatialIndex;
+    private final ParkingLotGeoIndex parkingLotGeoIndex;
+
+    // 공간 인덱스 후보가 이보다 많으면 IN 절 대신 DB 거리 조건으로 조회
+    private static final int MAX_SPATIAL_CANDIDATES = 1_000;
+
+    // 최근접 조회 시 영업 중이 아닌 주차장을 건너뛰며 넓혀 볼 최대 후보 수
+    private static final int MAX_NEAREST_CANDIDATES = 1_000;
 
     // 주차장 다건 조회 (이름, 주소)
     public Page<ParkingLotSearchResponse> searchParkingLotsByConditions(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters, int page, int size) {
         Pageable pageable = PageRequest.of(page - 1, size);
 
-        Page<ParkingLotSearchResponse> dtoPage = parkingLotRepository.searchParkingLotsByConditions(
-                name, address, userLatitude, userLongitude, radiusInMeters, pageable);
+        Page<ParkingLotSearchResponse> dtoPage = searchWithLocation(name, address, userLatitude, userLongitude, radiusInMeters, pageable);
 
-        for (ParkingLotSearchResponse dto : dtoPage.getContent()) {
-            // 이미지 목록 업데이트
-            List<String> imageList = parkingLotRepository.findImageListByParkingLotId(dto.getParkingLotId());
-            dto.updateImage(imageList);
+        enrichSearchResponses(dtoPage.getContent());
+        return dtoPage;
+    }
 
-            // 집계 목록 업데이트
-            ParkingLotAggregation aggregation = parkingLotRepository.getAggregationByParkingLotId(dto.getParkingLotId())
-                    .orElseThrow(() -> new ParkingEasyException(ParkingLotErrorCode.NOT_FOUND));
+    // 거리 조건이 있으면 공간 인덱스로 후보를 먼저 좁히고, 인덱스를 쓸 수 없으면 DB 거리 계산으로 조회
+    private Page<ParkingLotSearchResponse> searchWithLocation(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters, Pageable pageable) {
+        boolean hasLocationCondition = userLatitude != null && userLongitude != null && radiusInMeters != null;
+        if (hasLocationCondition) {
+            Optional<List<NearbyParkingLot>> candidates = findNearbyParkingLots(userLatitude, userLongitude, radiusInMeters);
+            if (candidates.isPresent()) {
+                List<NearbyParkingLot> nearby = candidates.get();
+                if (nearby.isEmpty()) {
+                    return Page.empty(pageable);
+                }
+                // 이름, 주소 조건이 없으면 거리순 ID에서 현재 페이지만 잘라 해당 주차장만 DB에서 조회
+                if (!StringUtils.hasText(name) && !StringUtils.hasText(address)) {
+                    return hydrateNearbyPage(nearby, pageable);
+                }
+                if (nearby.size() <= MAX_SPATIAL_CANDIDATES) {
+                    List<Long> candidateIds = nearby.stream()
+                            .map(NearbyParkingLot::parkingLotId)
+                            .toList();
+                    return parkingLotRepository.searchParkingLotsByConditions(name, address, candidateIds, pageable);
+                }
+            }
+        }
+        return parkingLotRepository.searchParkingLotsByConditions(name, address, userLatitude, userLongitude, radiusInMeters, pageable);
+    }
 
-            dto.updateAggregation(
-                    aggregation.getParkingZoneCount(),
-                    aggregation.getReviewCount(),
-                    aggregation.getAvgRating()
-            );
+    // 노드 메모리 인덱스를 우선 사용하고, 미적재 시 Redis GEO 집합(GEOSEARCH) 사용
+    private Optional<List<NearbyParkingLot>> findNearbyParkingLots(double userLatitude, double userLongitude, int radiusInMeters) {
+        if (parkingLotSpatialIndex.isReady()) {
+            return Optional.of(parkingLotSpatialIndex.findWithinRadius(userLatitude, userLongitude, radiusInMeters));
         }
-        return dtoPage;
+        return parkingLotGeoIndex.searchWithinRadius(userLatitude, userLongitude, radiusInMeters);
+    }
+
+    // 거리순 후보 중 현재 페이지의 주차장만 조회하고 거리순을 유지
+    private Page<ParkingLotSearchResponse> hydrateNearbyPage(List<NearbyParkingLot> nearby, Pageable pageable) {
+        int from = (int) Math.min(pageable.getOffset(), nearby.size());
+        int to = Math.min(from + pageable.getPageSize(), nearby.size());
+
+        return new PageImpl<>(hydrateInOrder(nearby.subList(from, to)), pageable, nearby.size());
+    }
+
+    // 후보 주차장을 DB에서 조회하여 후보 순서와 거리를 유지 (인덱스 반영 전 삭제된 주차장은 제외)
+    private List<ParkingLotSearchResponse> hydrateInOrder(List<NearbyParkingLot> candidates) {
+        List<Long> candidateIds = candidates.stream()
+                .map(NearbyParkingLot::parkingLotId)
+                .toList();
+        Map<Long, ParkingLotSearchResponse> responseMap = parkingLotRepository.searchParkingLotsByIds(candidateIds).stream()
+                .collect(Collectors.toMap(ParkingLotSearchResponse::getParkingLotId, Function.identity()));
+
+        List<ParkingLotSearchResponse> content = new ArrayList<>(candidates.size());
+        for (NearbyParkingLot candidate : candidates) {
+            ParkingLotSearchResponse dto = responseMap.get(candidate.parkingLotId());
+            if (dto != null) {
+                dto.updateDistance(candidate.distanceInMeters());
+                content.add(dto);
+            }
+        }
+        return content;
+    }
+
+    // 사용자 위치에서 가장 가까운 영업 중 주차장 size 건 (거리순)
+    public List<ParkingLotSearchResponse> findNearestOpenParkingLots(double userLatitude, double userLongitude, int size, int maxRadiusInMeters) {
+        List<ParkingLotSearchResponse> nearest = findNearestOpenCandidates(userLatitude, userLongitude, size, maxRadiusInMeters)
+                .orElseGet(() -> parkingLotRepository.searchNearestParkingLots(
+                        userLatitude, userLongitude, maxRadiusInMeters, ParkingLotStatus.OPEN, size));
+
+        enrichSearchResponses(nearest);
+        return nearest;
+    }
+
+    // 공간 인덱스에서 가까운 후보 k개를 꺼내 영업 중인 주차장만 채우고, 부족하면 k를 두 배로 늘려 새로 포함된 후보만 추가 조회
+    private Optional<List<ParkingLotSearchResponse>> findNearestOpenCandidates(double userLatitude, double userLongitude, int size, int maxRadiusInMeters) {
+        List<ParkingLotSearchResponse> result = new ArrayList<>(size);
+        int checked = 0;
+        int k = size;
+
+        while (true) {
+            Optional<List<NearbyParkingLot>> candidates = findNearestParkingLots(userLatitude, userLongitude, k, maxRadiusInMeters);
+            if (candidates.isEmpty()) {
+                return Optional.empty();
+            }
+
+            List<NearbyParkingLot> nearest = candidates.get();
+            if (nearest.size() > checked) {
+                for (ParkingLotSearchResponse dto : hydrateInOrder(nearest.subList(checked, nearest.size()))) {
+                    if (dto.getParkingLotStatus() == ParkingLotStatus.OPEN && result.size() < size) {
+                        result.add(dto);
+                    }
+                }
+                checked = nearest.size();
+            }
+
+            // 충분히 찾았거나, 반경 안 후보를 모두 봤거나, 후보 상한에 도달하면 종료
+            if (result.size() >= size || nearest.size() < k || k >= MAX_NEAREST_CANDIDATES) {
+                return Optional.of(result);
+            }
+            k = Math.min(k * 2, MAX_NEAREST_CANDIDATES);
+        }
+    }
+
+    // 노드 메모리 인덱스의 격자 확장 탐색을 우선 사용하고, 미적재 시 Redis GEOSEARCH COUNT 사용
+    private Optional<List<NearbyParkingLot>> findNearestParkingLots(double userLatitude, double userLongitude, int k, int maxRadiusInMeters) {
+        if (parkingLotSpatialIndex.isReady()) {
+            return Optional.of(parkingLotSpatialIndex.findNearest(userLatitude, userLongitude, k, maxRadiusInMeters));
+        }
+        return parkingLotGeoIndex.searchNearest(userLatitude, userLongitude, k, maxRadiusInMeters);
+    }
+
+    // 주차장 커서 기반 다건 조회 (다음 페이지 여부 판단을 위해 size + 1 건 조회)
+    public ParkingLotCursorResponse searchParkingLotsByCursor(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters,
+                                                              Long cursorParkingLotId, Double cursorDistance, int size) {
+        List<ParkingLotSearchResponse> rows = parkingLotRepository.searchParkingLotsByCursor(
+                name, address, userLatitude, userLongitude, radiusInMeters, cursorParkingLotId, cursorDistance, size + 1);
+
+        ParkingLotCursorResponse response = ParkingLotCursorResponse.of(rows, size);
+        enrichSearchResponses(response.getContent());
+        return response;
+    }
+
+    // 위경도 범위 내 주차장 전체 조회 (geo 타일 캐시 적재용)
+    public List<ParkingLotSearchResponse> findParkingLotsInBounds(String name, String address,
+                                                                  double minLatitude, double maxLatitude,
+                                                                  double minLongitude, double maxLongitude) {
+        List<ParkingLotSearchResponse> parkingLots = parkingLotRepository.searchParkingLotsInBounds(
+                name, address, minLatitude, maxLatitude, minLongitude, maxLongitude);
+
+        enrichSearchResponses(parkingLots);
+        return parkingLots;
+    }
+
+    // 검색 조건에 맞는 주차장 수
+    public long countParkingLotsByConditions(String name, String address, Double userLatitude, Double userLongitude, Integer radiusInMeters) {
+        return parkingLotRepository.countParkingLotsByConditions(name, address, userLatitude, userLongitude, radiusInMeters);
     }
 
     // 주차장 단건 조회
@@ -56,19 +200,7 @@ public class ParkingLotReader {
             throw new ParkingEasyException(ParkingLotErrorCode.NOT_FOUND);
         }
 
-        // 이미지 목록 업데이트
-        List<String> imageList = parkingLotRepository.findImageListByParkingLotId(dto.getParkingLotId());
-        dto.updateImage(imageList);
-
-        // 집계 목록 업데이트
-        ParkingLotAggregation aggregation = parkingLotRepository.getAggregationByParkingLotId(dto.getParkingLotId())
-                .orElseThrow(() -> new ParkingEasyException(ParkingLotErrorCode.NOT_FOUND));
-        dto.updateAggregation(
-                aggregation.getParkingZoneCount(),
-                aggregation.getReviewCount(),
-                aggregation.getAvgRating()
-        );
-
+        enrichSearchResponses(List.of(dto));
         return dto;
     }
 
@@ -77,19 +209,22 @@ public class ParkingLotReader {
         Pageable pageable = PageRequest.of(page - 1, size);
         Page<MyParkingLotSearchResponse> dtoPage = parkingLotRepository.findMyParkingLots(userId, pageable);
 
+        List<Long> parkingLotIds = dtoPage.getContent().stream()
+                .map(MyParkingLotSearchResponse::getParkingLotId)
+                .toList();
+        Map<Long, List<String>> imageMap = parkingLotRepository.findImageListByParkingLotIds(parkingLotIds);
+        Map<Long, ParkingLotAggregation> aggregationMap = getAggregationMap(parkingLotIds);
+
         for (MyParkingLotSearchResponse dto : dtoPage.getContent()) {
-            // 이미지 목록 업데이트
-            String imageList = parkingLotRepository.findImageListByParkingLotId(dto.getParkingLotId()).get(0);
-            dto.updateImage(imageList);
+            // 이미지 목록 업데이트 (첫 번째 이미지를 썸네일로 사용)
+            List<String> imageList = imageMap.getOrDefault(dto.getParkingLotId(), Collections.emptyList());
+            dto.updateImage(imageList.isEmpty() ? null : imageList.get(0));
 
             // 집계 목록 업데이트
-            ParkingLotAggregation aggregation = parkingLotRepository.getAggregationByParkingLotId(dto.getParkingLotId())
-                    .orElseThrow(() -> new ParkingEasyException(ParkingLotErrorCode.NOT_FOUND));
-
+            ParkingLotAggregation aggregation = getAggregation(aggregationMap, dto.getParkingLotId());
             dto.updateAggregation(
                     aggregation.getReviewCount()
             );
-
         }
         return dtoPage;
     }
@@ -112,6 +247,53 @@ public class ParkingLotReader {
         }
     }
 
+    // 페이지 단위로 이미지와 집계를 한 번에 조회하여 응답에 채움 (주차장 수와 무관하게 쿼리 2회)
+    private void enrichSearchResponses(List<ParkingLotSearchResponse> dtoList) {
+        List<Long> parkingLotIds = dtoList.stream()
+                .map(ParkingLotSearchResponse::getParkingLotId)
+                .toList();
+        Map<Long, List<String>> imageMap = parkingLotRepository.findImageListByParkingLotIds(parkingLotIds);
+        Map<Long, ParkingLotAggregation> aggregationMap = getAggregationMap(parkingLotIds);
+
+        for (ParkingLotSearchResponse dto : dtoList) {
+            // 이미지 목록 업데이트
+            dto.updateImage(imageMap.getOrDefault(dto.getParkingLotId(), Collections.emptyList()));
+
+            // 집계 목록 업데이트
+            ParkingLotAggregation aggregation = getAggregation(aggregationMap, dto.getParkingLotId());
+            dto.updateAggregation(
+                    aggregation.getParkingZoneCount(),
+                    aggregation.getReviewCount(),
+                    aggregation.getAvgRating()
+            );
+        }
+    }
+
+    // 미리 계산된 주차장 통계를 우선 사용하고, 통계가 없는 주차장만 집계 쿼리로 계산
+    private Map<Long, ParkingLotAggregation> getAggregationMap(List<Long> parkingLotIds) {
+        Map<Long, ParkingLotAggregation> aggregationMap = parkingLotStatsRepository.findAllById(parkingLotIds).stream()
+                .map(ParkingLotStats::toAggregation)
+                .collect(Collectors.toMap(ParkingLotAggregation::getParkingLotId, Function.identity()));
+
+        List<Long> missingParkingLotIds = parkingLotIds.stream()
+                .filter(parkingLotId -> !aggregationMap.containsKey(parkingLotId))
+                .toList();
+
+        if (!missingParkingLotIds.isEmpty()) {
+            parkingLotRepository.getAggregationsByParkingLotIds(missingParkingLotIds)
+                    .forEach(aggregation -> aggregationMap.put(aggregation.getParkingLotId(), aggregation));
+        }
+        return aggregationMap;
+    }
+
+    private ParkingLotAggregation getAggregation(Map<Long, ParkingLotAggregation> aggregationMap, Long parkingLotId) {
+        ParkingLotAggregation aggregation = aggregationMap.get(parkingLotId);
+        if (aggregation == null) {
+            throw new ParkingEasyException(ParkingLotErrorCode.NOT_FOUND);
+        }
+        return aggregation;
+    }
+
     /* ParkingZone 도메인에서 필요한 메서드 - 특정 주차장 존재확인 메서드 */
     public void validateExistence(Long parkingLotId) {
         boolean exists = parkingLotRepository.existsByIdAndDeletedAtIsNull(parkingLotId);
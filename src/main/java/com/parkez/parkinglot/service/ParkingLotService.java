@@ -7,55 +7,95 @@ import com.parkez.common.dto.request.PageRequest;
 import com.parkez.common.exception.ParkingEasyException;
 import com.parkez.common.principal.AuthUser;
 import com.parkez.parkinglot.client.kakaomap.geocode.Geocode;
-import com.parkez.parkinglot.client.kakaomap.geocode.KakaoGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.CachedGeocodeClient;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
 import com.parkez.parkinglot.domain.entity.ParkingLotImage;
 import com.parkez.parkinglot.domain.enums.ChargeType;
+import com.parkez.parkinglot.domain.enums.ParkingLotChangeType;
 import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
 import com.parkez.parkinglot.domain.enums.SourceType;
+import com.parkez.parkinglot.dto.request.ParkingLotAvailabilitySearchRequest;
+import com.parkez.parkinglot.dto.request.ParkingLotCursorSearchRequest;
+import com.parkez.parkinglot.dto.request.ParkingLotNearestSearchRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotImagesRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotSearchRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotStatusRequest;
 import com.parkez.parkinglot.dto.response.MyParkingLotSearchResponse;
+import com.parkez.parkinglot.dto.response.ParkingLotCursorResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
+import com.parkez.parkinglot.event.ParkingLotChangedEvent;
+import com.parkez.parkinglot.event.ParkingLotGeocodeRequestedEvent;
 import com.parkez.parkinglot.exception.ParkingLotErrorCode;
+import com.parkez.parkinglot.occupancy.ParkingLotOccupancyStore;
+import com.parkez.parkinglot.rediscache.ParkingLotGeoTileCache;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchCacheIndex;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchCacheLoader;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchLocalCache;
 import com.parkez.parkinglot.rediscache.ParkingLotSearchRedisKey;
 import com.parkez.parkinglot.rediscache.RestPage;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.parkingzone.domain.enums.ParkingZoneStatus;
 import com.parkez.parkingzone.service.ParkingZoneReader;
+import com.parkez.reservation.availability.ParkingZoneAvailabilityIndex;
 import com.parkez.user.domain.entity.User;
 import com.parkez.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ParkingLotService {
 
+    // 시간대 예약 가능 여부를 처음 확인할 최근접 영업 중 주차장 수와, 결과가 부족할 때 넓혀 볼 최대 수
+    private static final int AVAILABILITY_CANDIDATE_SIZE = 200;
+    private static final int MAX_AVAILABILITY_CANDIDATE_SIZE = 1_000;
+    // 비동기 좌표 변환이 이 시간 안에 끝나지 않으면(인스턴스 종료 등) 스케줄러가 다시 요청
+    private static final Duration GEOCODE_PENDING_TIMEOUT = Duration.ofMinutes(10);
+
     private final ParkingLotWriter parkingLotWriter;
     private final ParkingLotReader parkingLotReader;
     private final UserReader userReader;
-    private final KakaoGeocodeClient kakaoGeocodeClient;
+    private final CachedGeocodeClient cachedGeocodeClient;
     private final ParkingZoneReader parkingZoneReader;
     private final RedisTemplate<String, Object> redisTemplate;
     private final ObjectMapper redisObjectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ParkingLotSearchLocalCache parkingLotSearchLocalCache;
+    private final ParkingLotSearchCacheIndex parkingLotSearchCacheIndex;
+    private final ParkingLotSearchCacheLoader parkingLotSearchCacheLoader;
+    private final ParkingLotGeoTileCache parkingLotGeoTileCache;
+    private final ParkingLotOccupancyStore parkingLotOccupancyStore;
+    private final ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
 
     @Value("${parking-lot.default-image-url}")
     private String defaultParkingLotImageUrl;
 
+    // true 면 주차장을 좌표 없이 먼저 저장하고 커밋 후 비동기로 좌표를 채움
+    @Value("${parking-lot.geocode.async:false}")
+    private boolean asyncGeocode;
+
     // 주차장 생성
     public ParkingLotResponse createParkingLot(AuthUser authUser, ParkingLotRequest request) {
         User user = userReader.getActiveUserById(authUser.getId());
@@ -78,13 +118,20 @@ public class ParkingLotService {
                 .build();
         parkingLot.addImage(defaultImage);
 
-        Geocode geocode = kakaoGeocodeClient.getGeocode(parkingLot.getAddress());
-        Double latitude = geocode.getLatitude();
-        Double longitude = geocode.getLongitude();
-        parkingLot.updateGeocode(latitude, longitude);
+        if (asyncGeocode) {
+            parkingLot.requestGeocode(LocalDateTime.now().plus(GEOCODE_PENDING_TIMEOUT));
+        } else {
+            Geocode geocode = cachedGeocodeClient.getGeocode(parkingLot.getAddress());
+            parkingLot.updateGeocode(geocode.getLatitude(), geocode.getLongitude());
+        }
 
         try {
-            return ParkingLotResponse.from(parkingLotWriter.createParkingLot(parkingLot));
+            ParkingLot savedParkingLot = parkingLotWriter.createParkingLot(parkingLot);
+            eventPublisher.publishEvent(ParkingLotChangedEvent.of(savedParkingLot, ParkingLotChangeType.CREATED));
+            if (asyncGeocode) {
+                eventPublisher.publishEvent(ParkingLotGeocodeRequestedEvent.of(savedParkingLot));
+            }
+            return ParkingLotResponse.from(savedParkingLot);
         } catch (DataIntegrityViolationException e) {
             throw new ParkingEasyException(ParkingLotErrorCode.DUPLICATED_PARKING_LOT_LOCATION);
         }
@@ -92,19 +139,47 @@ public class ParkingLotService {
 
     // 주차장 다건 조회 (이름, 주소)
     public Page<ParkingLotSearchResponse> searchParkingLotsByConditions(ParkingLotSearchRequest request, PageRequest pageRequest) {
+        return withAvailableNow(searchParkingLotPage(request, pageRequest));
+    }
+
+    // 캐시(geo 타일 -> L1 -> L2) 순으로 조회하고 모두 없으면 DB 조회
+    private Page<ParkingLotSearchResponse> searchParkingLotPage(ParkingLotSearchRequest request, PageRequest pageRequest) {
+        // 위치 조건이 있으면 geo 타일 캐시로 조회 (반경 내 결과를 거리순으로 메모리 페이징)
+        Optional<Page<ParkingLotSearchResponse>> tilePage = parkingLotGeoTileCache.search(request.getName(), request.getAddress(),
+                request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters(),
+                pageRequest.getPage(), pageRequest.getSize());
+        if (tilePage.isPresent()) {
+            return tilePage.get();
+        }
+
         String redisKey = ParkingLotSearchRedisKey.generateRedisKey(request.getName(), request.getAddress(),
                 request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters(),
                 pageRequest.getPage() - 1, pageRequest.getSize());
 
-        // 캐시 조회
+        // L1(로컬) 캐시 조회
+        RestPage<ParkingLotSearchResponse> localCache = parkingLotSearchLocalCache.get(redisKey);
+        if (localCache != null) {
+            return localCache;
+        }
+
+        // L2(Redis) 캐시 조회
         Object cache = redisTemplate.opsForValue().get(redisKey);
         if (cache != null) {
             log.info("Redis cache hit for key : {}", redisKey);
             // 역직렬화 타입 명시
             try {
-                return redisObjectMapper.convertValue(cache, new TypeReference<RestPage<ParkingLotSearchResponse>>() {
+                RestPage<ParkingLotSearchResponse> cachedPage = redisObjectMapper.convertValue(cache, new TypeReference<RestPage<ParkingLotSearchResponse>>() {
                 });
 
+                // 만료가 임박한 키는 확률적으로 이 요청에서 미리 갱신
+                Long remainingTtlMillis = redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS);
+                if (remainingTtlMillis == null || !parkingLotSearchCacheLoader.shouldRefreshEarly(remainingTtlMillis)) {
+                    parkingLotSearchLocalCache.put(redisKey, cachedPage,
+                            request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters());
+                    return cachedPage;
+                }
+                log.info("Redis cache early refresh for key : {}", redisKey);
+
             } catch (IllegalArgumentException e) {
                 log.error("Redis 역직렬화 오류 : {}", e.getMessage());
                 redisTemplate.delete(redisKey);
@@ -113,20 +188,165 @@ public class ParkingLotService {
             log.info("Redis cache miss for key : {}", redisKey);
         }
 
-        // DB 조회
+        // DB 조회 (같은 키는 인스턴스당 한 요청만 조회하고 나머지는 결과를 공유)
+        return parkingLotSearchCacheLoader.load(redisKey, () -> loadAndCache(redisKey, request, pageRequest));
+    }
+
+    private Page<ParkingLotSearchResponse> loadAndCache(String redisKey, ParkingLotSearchRequest request, PageRequest pageRequest) {
         Page<ParkingLotSearchResponse> page = parkingLotReader.searchParkingLotsByConditions(request.getName(), request.getAddress(),
                 request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters(),
                 pageRequest.getPage(), pageRequest.getSize());
 
         // 캐시 저장
-        redisTemplate.opsForValue().set(redisKey, RestPage.from(page), RedisConfig.PARKING_LOT_SEARCH_TTL);
+        RestPage<ParkingLotSearchResponse> restPage = RestPage.from(page);
+        redisTemplate.opsForValue().set(redisKey, restPage, RedisConfig.PARKING_LOT_SEARCH_TTL);
+        parkingLotSearchCacheIndex.register(redisKey, page.getContent().stream()
+                        .map(ParkingLotSearchResponse::getParkingLotId)
+                        .toList(),
+                request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters());
+        parkingLotSearchLocalCache.put(redisKey, restPage,
+                request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters());
 
         return page;
     }
 
+    // 주차장 커서 기반 다건 조회 (전체 건수는 요청 시에만 계산하고 캐시)
+    public ParkingLotCursorResponse searchParkingLotsByCursor(ParkingLotCursorSearchRequest request) {
+        ParkingLotCursorResponse response = parkingLotReader.searchParkingLotsByCursor(request.getName(), request.getAddress(),
+                request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters(),
+                request.getCursorParkingLotId(), request.getCursorDistance(), request.getSizeOrDefault());
+
+        response = response.withContent(withAvailableNow(response.getContent()));
+        if (!request.isTotalRequested()) {
+            return response;
+        }
+        return response.withTotalElements(getCachedCount(request));
+    }
+
+    private long getCachedCount(ParkingLotCursorSearchRequest request) {
+        String redisKey = ParkingLotSearchRedisKey.generateCountRedisKey(request.getName(), request.getAddress(),
+                request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters());
+
+        Object cache = redisTemplate.opsForValue().get(redisKey);
+        if (cache instanceof Number count) {
+            return count.longValue();
+        }
+
+        long count = parkingLotReader.countParkingLotsByConditions(request.getName(), request.getAddress(),
+                request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters());
+        redisTemplate.opsForValue().set(redisKey, count, RedisConfig.PARKING_LOT_SEARCH_TTL);
+        // 건수는 범위 안의 주차장 구성에 좌우되므로 검색 범위 칸(또는 전역 묶음)에 기록
+        parkingLotSearchCacheIndex.register(redisKey, List.of(),
+                request.getUserLatitude(), request.getUserLongitude(), request.getRadiusInMeters());
+        return count;
+    }
+
+    // 사용자 위치에서 가장 가까운 영업 중 주차장 조회
+    public List<ParkingLotSearchResponse> searchNearestParkingLots(ParkingLotNearestSearchRequest request) {
+        return withAvailableNow(parkingLotReader.findNearestOpenParkingLots(request.getUserLatitude(), request.getUserLongitude(),
+                request.getSizeOrDefault(), request.getMaxRadiusOrDefault()));
+    }
+
+    // 사용자 위치 근처에서 요청 시간대 전체 동안 빈 주차공간이 있는 주차장 조회 (주차공간별 COUNT 쿼리 없이 구간 인덱스로 확인)
+    public List<ParkingLotSearchResponse> searchAvailableParkingLots(ParkingLotAvailabilitySearchRequest request) {
+        LocalDateTime startDateTime = request.getStartDateTime();
+        LocalDateTime endDateTime = request.getEndDateTime();
+        if (!startDateTime.isBefore(endDateTime)) {
+            throw new ParkingEasyException(ParkingLotErrorCode.INVALID_SEARCH_TIME);
+        }
+
+        // 결과가 부족하면 가까운 영업 중 주차장 후보를 두 배씩 넓혀 보며, 새로 포함된 후보만 예약 가능 여부를 확인
+        int size = request.getSizeOrDefault();
+        List<ParkingLotSearchResponse> result = new ArrayList<>(size);
+        int checked = 0;
+        int candidateSize = AVAILABILITY_CANDIDATE_SIZE;
+        while (true) {
+            List<ParkingLotSearchResponse> nearest = parkingLotReader.findNearestOpenParkingLots(
+                    request.getUserLatitude(), request.getUserLongitude(), candidateSize, request.getMaxRadiusOrDefault());
+            if (nearest.size() > checked) {
+                List<ParkingLotSearchResponse> available = filterAvailable(
+                        nearest.subList(checked, nearest.size()), startDateTime, endDateTime);
+                available.stream().limit(size - result.size()).forEach(result::add);
+                checked = nearest.size();
+            }
+
+            // 충분히 찾았거나, 반경 안 영업 중 주차장을 모두 봤거나, 후보 상한에 도달하면 종료
+            if (result.size() >= size || nearest.size() < candidateSize || candidateSize >= MAX_AVAILABILITY_CANDIDATE_SIZE) {
+                return result;
+            }
+            candidateSize = Math.min(candidateSize * 2, MAX_AVAILABILITY_CANDIDATE_SIZE);
+        }
+    }
+
+    // 후보 중 영업 시간이 맞고 요청 시간대 전체 동안 빈 주차공간이 있는 주차장만 (거리순 유지)
+    private List<ParkingLotSearchResponse> filterAvailable(List<ParkingLotSearchResponse> nearest,
+                                                           LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        List<ParkingLotSearchResponse> candidates = nearest.stream()
+                .filter(parkingLot -> isOpened(parkingLot, startDateTime, endDateTime))
+                .toList();
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        List<ParkingZone> parkingZones = parkingZoneReader.findAvailableByParkingLotIds(
+                candidates.stream().map(ParkingLotSearchResponse::getParkingLotId).toList());
+        Set<Long> freeParkingZoneIds = parkingZoneAvailabilityIndex.findFreeParkingZoneIds(
+                parkingZones.stream().map(ParkingZone::getId).toList(), startDateTime, endDateTime);
+        Set<Long> availableParkingLotIds = parkingZones.stream()
+                .filter(parkingZone -> freeParkingZoneIds.contains(parkingZone.getId()))
+                .map(ParkingZone::getParkingLotId)
+                .collect(Collectors.toSet());
+
+        return candidates.stream()
+                .filter(parkingLot -> availableParkingLotIds.contains(parkingLot.getParkingLotId()))
+                .toList();
+    }
+
+    // 예약 생성 시 영업 시간 조건과 동일 (영업 시간 정보가 없으면 제한하지 않음)
+    private boolean isOpened(ParkingLotSearchResponse parkingLot, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (parkingLot.getOpenedAt() == null || parkingLot.getClosedAt() == null) {
+            return true;
+        }
+        LocalDate date = startDateTime.toLocalDate();
+        return !startDateTime.isBefore(LocalDateTime.of(date, parkingLot.getOpenedAt()))
+                && !endDateTime.isAfter(LocalDateTime.of(date, parkingLot.getClosedAt()));
+    }
+
     // 주차장 단건 조회
     public ParkingLotSearchResponse searchParkingLotById(Long parkingLotId) {
-        return parkingLotReader.searchParkingLotById(parkingLotId);
+        return withAvailableNow(List.of(parkingLotReader.searchParkingLotById(parkingLotId))).get(0);
+    }
+
+    // 캐시된 조회 결과에 현재 이용 가능한 주차공간 수를 채운 복사본 (페이지당 Redis 파이프라인 1회)
+    private Page<ParkingLotSearchResponse> withAvailableNow(Page<ParkingLotSearchResponse> page) {
+        List<ParkingLotSearchResponse> content = withAvailableNow(page.getContent());
+        if (content == page.getContent()) {
+            return page;
+        }
+        return new PageImpl<>(content, page.getPageable(), page.getTotalElements());
+    }
+
+    // 실시간 점유 정보를 조회할 수 없으면 원본을 그대로 반환
+    private List<ParkingLotSearchResponse> withAvailableNow(List<ParkingLotSearchResponse> responses) {
+        if (responses.isEmpty()) {
+            return responses;
+        }
+
+        List<Long> parkingLotIds = responses.stream()
+                .map(ParkingLotSearchResponse::getParkingLotId)
+                .toList();
+        Map<Long, Long> occupiedZones = parkingLotOccupancyStore.countOccupiedZones(parkingLotIds, LocalDateTime.now());
+        if (occupiedZones.isEmpty()) {
+            return responses;
+        }
+
+        return responses.stream()
+                .map(response -> {
+                    long parkingZoneCount = response.getAvailableQuantity() != null ? response.getAvailableQuantity() : 0L;
+                    long occupied = occupiedZones.getOrDefault(response.getParkingLotId(), 0L);
+                    return response.copyWithAvailableNow(Math.max(0L, parkingZoneCount - occupied));
+                })
+                .toList();
     }
 
     // 본인이 소유한 주차장 조회
@@ -141,10 +361,21 @@ public class ParkingLotService {
         Long userId = authUser.getId();
         ParkingLot parkingLot = parkingLotReader.getOwnedParkingLot(userId, parkingLotId);
 
-        Geocode geocode = kakaoGeocodeClient.getGeocode(request.getAddress());
-        Double latitude = geocode.getLatitude();
-        Double longitude = geocode.getLongitude();
-        parkingLot.updateGeocode(latitude, longitude);
+        // 주소가 그대로면 기존 좌표 유지, 바뀌었으면 캐시 조회 (비동기 모드는 새 좌표를 채울 때까지 기존 좌표 유지)
+        boolean addressChanged = !CachedGeocodeClient.normalize(parkingLot.getAddress())
+                .equals(CachedGeocodeClient.normalize(request.getAddress()));
+        Double previousLatitude = parkingLot.getLatitude();
+        Double previousLongitude = parkingLot.getLongitude();
+        Double latitude = previousLatitude;
+        Double longitude = previousLongitude;
+        boolean geocodeRequired = addressChanged || latitude == null || longitude == null;
+        if (geocodeRequired && asyncGeocode) {
+            parkingLot.requestGeocode(LocalDateTime.now().plus(GEOCODE_PENDING_TIMEOUT));
+        } else if (geocodeRequired) {
+            Geocode geocode = cachedGeocodeClient.getGeocode(request.getAddress());
+            latitude = geocode.getLatitude();
+            longitude = geocode.getLongitude();
+        }
 
         parkingLot.update(
                 request.getName(), request.getAddress(),
@@ -152,6 +383,11 @@ public class ParkingLotService {
                 request.getOpenedAt(), request.getClosedAt(),
                 request.getPricePerHour(), request.getDescription(), request.getQuantity()
         );
+        eventPublisher.publishEvent(ParkingLotChangedEvent.of(parkingLot, ParkingLotChangeType.UPDATED,
+                previousLatitude, previousLongitude));
+        if (geocodeRequired && asyncGeocode) {
+            eventPublisher.publishEvent(ParkingLotGeocodeRequestedEvent.of(parkingLot));
+        }
     }
 
     // 주차장 상태 변경 (writer 사용x)
@@ -176,6 +412,7 @@ public class ParkingLotService {
         }
 
         parkingLot.updateStatus(newStatus);
+        eventPublisher.publishEvent(ParkingLotChangedEvent.of(parkingLot, ParkingLotChangeType.STATUS_CHANGED));
     }
 
     // 주차장 이미지 수정 (writer 사용x)
@@ -193,6 +430,7 @@ public class ParkingLotService {
                 .map(url -> ParkingLotImage.builder().imageUrl(url).parkingLot(parkingLot).build())
                 .toList();
         parkingLot.updateImages(newImages);
+        eventPublisher.publishEvent(ParkingLotChangedEvent.of(parkingLot, ParkingLotChangeType.IMAGES_UPDATED));
     }
 
     // 주차장 삭제
@@ -209,6 +447,7 @@ public class ParkingLotService {
         });
 
         parkingLotWriter.deleteParkingLot(parkingLot);
+        eventPublisher.publishEvent(ParkingLotChangedEvent.of(parkingLot, ParkingLotChangeType.DELETED));
     }
 
 }
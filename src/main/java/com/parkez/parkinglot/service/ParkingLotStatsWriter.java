@@ -0,0 +1,58 @@
+package com.parkez.parkinglot.service;
+
+import com.parkez.parkinglot.domain.entity.ParkingLotStats;
+import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.domain.repository.ParkingLotStatsRepository;
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+@Service
+@Transactional
+@RequiredArgsConstructor
+public class ParkingLotStatsWriter {
+
+    private final ParkingLotStatsRepository parkingLotStatsRepository;
+    private final ParkingLotRepository parkingLotRepository;
+
+    // 증분 반영, 통계 row가 없으면 원본 테이블 기준으로 재계산
+    public void apply(ParkingLotStatsEvent event) {
+        int updated = parkingLotStatsRepository.applyDelta(
+                event.getParkingLotId(),
+                event.getParkingZoneDelta(),
+                event.getReviewDelta(),
+                event.getRatingDelta()
+        );
+
+        if (updated == 0) {
+            rebuild(List.of(event.getParkingLotId()));
+        }
+    }
+
+    // 원본 테이블 기준으로 통계 재계산 (드리프트 보정, row가 없으면 생성)
+    public void rebuild(List<Long> parkingLotIds) {
+        parkingLotRepository.getAggregationsByParkingLotIds(parkingLotIds).stream()
+                .map(ParkingLotStats::from)
+                .forEach(stats -> parkingLotStatsRepository.upsert(
+                        stats.getParkingLotId(),
+                        stats.getParkingZoneCount(),
+                        stats.getReviewCount(),
+                        stats.getRatingSum()
+                ));
+    }
+
+    // lastParkingLotId 이후의 주차장 통계를 chunkSize 만큼 재계산하고 마지막 ID 반환 (없으면 null)
+    public Long rebuildChunk(Long lastParkingLotId, int chunkSize) {
+        List<Long> parkingLotIds = parkingLotRepository.findActiveIdsAfter(lastParkingLotId, PageRequest.of(0, chunkSize));
+        if (parkingLotIds.isEmpty()) {
+            return null;
+        }
+
+        rebuild(parkingLotIds);
+        return parkingLotIds.get(parkingLotIds.size() - 1);
+    }
+}
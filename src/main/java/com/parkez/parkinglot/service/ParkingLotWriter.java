@@ -1,27 +1,69 @@
 package com.parkez.parkinglot.service;
 
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.domain.entity.ParkingLotStats;
+import com.parkez.parkinglot.domain.enums.ParkingLotChangeType;
 import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.domain.repository.ParkingLotStatsRepository;
+import com.parkez.parkinglot.event.ParkingLotChangedEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Service
 @Transactional
 @RequiredArgsConstructor
 public class ParkingLotWriter {
 
+    private static final int MAX_GEOCODE_ATTEMPTS = 5;
+    private static final Duration GEOCODE_RETRY_BASE_DELAY = Duration.ofMinutes(1);
+
     private final ParkingLotRepository parkingLotRepository;
+    private final ParkingLotStatsRepository parkingLotStatsRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
-    // 주차장 생성
+    // 주차장 생성 (빈 통계 함께 생성)
     public ParkingLot createParkingLot(ParkingLot parkingLot) {
-        return parkingLotRepository.save(parkingLot);
+        ParkingLot savedParkingLot = parkingLotRepository.save(parkingLot);
+        parkingLotStatsRepository.save(ParkingLotStats.empty(savedParkingLot.getId()));
+        return savedParkingLot;
     }
 
     // 주차장 삭제
     public void deleteParkingLot(ParkingLot parkingLot) {
         parkingLot.updateDeletedAt(LocalDateTime.now());
     }
+
+    // 비동기 좌표 변환 결과 반영 (그 사이 주소가 바뀌었거나 삭제되었으면 무시)
+    public boolean fillGeocode(Long parkingLotId, String address, Double latitude, Double longitude) {
+        return parkingLotRepository.findById(parkingLotId)
+                .filter(parkingLot -> parkingLot.getDeletedAt() == null && Objects.equals(parkingLot.getAddress(), address))
+                .map(parkingLot -> {
+                    Double previousLatitude = parkingLot.getLatitude();
+                    Double previousLongitude = parkingLot.getLongitude();
+                    parkingLot.updateGeocode(latitude, longitude);
+                    eventPublisher.publishEvent(ParkingLotChangedEvent.of(parkingLot, ParkingLotChangeType.UPDATED,
+                            previousLatitude, previousLongitude));
+                    return true;
+                })
+                .orElse(false);
+    }
+
+    // 비동기 좌표 변환 실패 기록 (일시적 오류는 1, 2, 4, 8분 간격으로 재시도 예약, 그 외에는 실패로 표시)
+    public void failGeocode(Long parkingLotId, String address, boolean retryable) {
+        parkingLotRepository.findById(parkingLotId)
+                .filter(parkingLot -> parkingLot.getDeletedAt() == null && Objects.equals(parkingLot.getAddress(), address))
+                .ifPresent(parkingLot -> {
+                    int attempts = parkingLot.getGeocodeAttemptCount() + 1;
+                    LocalDateTime retryAt = retryable && attempts < MAX_GEOCODE_ATTEMPTS
+                            ? LocalDateTime.now().plus(GEOCODE_RETRY_BASE_DELAY.multipliedBy(1L << (attempts - 1)))
+                            : null;
+                    parkingLot.recordGeocodeFailure(retryAt);
+                });
+    }
 }
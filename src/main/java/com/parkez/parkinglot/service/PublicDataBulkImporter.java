@@ -0,0 +1,163 @@
+package com.parkez.parkinglot.service;
+
+import com.parkez.parkinglot.client.publicData.ParkingLotData;
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 공공데이터 bulk 적재. 페이지 조회 → 주소 변환 → DB 저장을 단계별로 동시에 실행한다.
+ * 조회/변환 결과는 페이지 순서대로 크기가 제한된 큐에 쌓이고(큐가 차면 조회를 멈춤),
+ * 저장은 한 스레드가 페이지 순서대로 커밋하면서 같은 트랜잭션에서 다음 페이지를 체크포인트로 기록한다.
+ * 시간 예산을 넘기면 큐에 남은 페이지는 저장하지 않고 취소하며,
+ * 중간에 실패하거나 예산이 끝나도 마지막으로 커밋한 페이지 다음부터 이어서 적재할 수 있다.
+ */
+@Slf4j
+public class PublicDataBulkImporter {
+
+    private static final CompletableFuture<ConvertedPage> END = CompletableFuture.completedFuture(null);
+    private static final long OFFER_TIMEOUT_MILLIS = 100L;
+
+    private final PublicDataReader reader;
+    private final PublicDataWriter writer;
+    private final int pagesInFlight;
+    private final int fetchThreads;
+    private final int convertThreads;
+
+    public PublicDataBulkImporter(PublicDataReader reader, PublicDataWriter writer,
+                                  int pagesInFlight, int fetchThreads, int convertThreads) {
+        this.reader = reader;
+        this.writer = writer;
+        this.pagesInFlight = pagesInFlight;
+        this.fetchThreads = fetchThreads;
+        this.convertThreads = convertThreads;
+    }
+
+    // startPage 부터 데이터가 끝나거나 시간 예산을 다 쓸 때까지 적재 (예산이 끝나면 큐에 남은 페이지는 버리고 마지막 커밋 페이지를 반환)
+    public ImportResult importPages(int startPage, Duration timeBudget) {
+        long deadline = System.nanoTime() + timeBudget.toNanos();
+        BlockingQueue<CompletableFuture<ConvertedPage>> queue = new ArrayBlockingQueue<>(pagesInFlight);
+        AtomicBoolean stopped = new AtomicBoolean(false);
+
+        ExecutorService fetchExecutor = Executors.newFixedThreadPool(fetchThreads);
+        ExecutorService convertExecutor = Executors.newFixedThreadPool(convertThreads);
+        Thread dispatcher = new Thread(() -> dispatch(startPage, deadline, queue, stopped, fetchExecutor, convertExecutor),
+                "public-data-dispatcher");
+        dispatcher.setDaemon(true);
+        dispatcher.start();
+
+        int nextPage = startPage;
+        int pages = 0;
+        int rows = 0;
+        boolean completed = false;
+        try {
+            while (true) {
+                ConvertedPage convertedPage = takeBefore(queue, deadline);
+                if (convertedPage == null) {
+                    break;
+                }
+
+                // 빈 페이지 = 데이터 끝, 다음 실행은 처음부터
+                if (convertedPage.isEmpty()) {
+                    writer.saveParkingLots(List.of(), 1);
+                    nextPage = 1;
+                    completed = true;
+                    break;
+                }
+
+                writer.saveParkingLots(convertedPage.parkingLots(), convertedPage.page() + 1);
+                nextPage = convertedPage.page() + 1;
+                pages++;
+                rows += convertedPage.parkingLots().size();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("공공데이터 bulk 적재 중단", e);
+        } catch (CompletionException e) {
+            throw new RuntimeException("공공데이터 bulk 적재 실패 page=" + nextPage, e.getCause());
+        } finally {
+            stopped.set(true);
+            queue.forEach(future -> future.cancel(true));
+            fetchExecutor.shutdownNow();
+            convertExecutor.shutdownNow();
+            log.info("[공공데이터] bulk 적재 종료 pages={}, rows={}, nextPage={}, completed={}", pages, rows, nextPage, completed);
+        }
+
+        return new ImportResult(pages, rows, nextPage, completed);
+    }
+
+    // 다음 페이지를 기다리되 시간 예산을 넘기면 null (END 를 받아도 null), 기다리던 페이지는 취소
+    private ConvertedPage takeBefore(BlockingQueue<CompletableFuture<ConvertedPage>> queue, long deadline) throws InterruptedException {
+        long remaining = deadline - System.nanoTime();
+        if (remaining <= 0) {
+            return null;
+        }
+        CompletableFuture<ConvertedPage> future = queue.poll(remaining, TimeUnit.NANOSECONDS);
+        if (future == null) {
+            return null;
+        }
+        try {
+            return future.get(Math.max(deadline - System.nanoTime(), 0L), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            return null;
+        } catch (ExecutionException e) {
+            throw new CompletionException(e.getCause());
+        }
+    }
+
+    // 페이지 순서대로 조회 → 변환 작업을 큐에 넣고, 큐가 차 있으면 저장이 따라올 때까지 대기
+    private void dispatch(int startPage, long deadline, BlockingQueue<CompletableFuture<ConvertedPage>> queue, AtomicBoolean stopped,
+                          ExecutorService fetchExecutor, ExecutorService convertExecutor) {
+        try {
+            for (int page = startPage; !stopped.get() && System.nanoTime() < deadline; page++) {
+                int currentPage = page;
+                CompletableFuture<ConvertedPage> future = CompletableFuture
+                        .supplyAsync(() -> reader.fetchPage(currentPage), fetchExecutor)
+                        .thenApplyAsync(dataList -> convert(currentPage, dataList), convertExecutor);
+                if (!offer(queue, future, stopped)) {
+                    future.cancel(true);
+                    return;
+                }
+            }
+            offer(queue, END, stopped);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ConvertedPage convert(int page, List<ParkingLotData> dataList) {
+        return new ConvertedPage(page, dataList.size(), writer.convertToParkingLots(dataList));
+    }
+
+    private boolean offer(BlockingQueue<CompletableFuture<ConvertedPage>> queue, CompletableFuture<ConvertedPage> future,
+                          AtomicBoolean stopped) throws InterruptedException {
+        while (!stopped.get()) {
+            if (queue.offer(future, OFFER_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record ConvertedPage(int page, int fetchedCount, List<ParkingLot> parkingLots) {
+        boolean isEmpty() {
+            return fetchedCount == 0;
+        }
+    }
+
+    public record ImportResult(int pages, int rows, int nextPage, boolean completed) {
+    }
+}
@@ -0,0 +1,174 @@
+package com.parkez.parkinglot.service;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkez.parkinglot.client.publicData.ParkingLotData;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 내려받은 공공데이터 파일(JSON/CSV)을 스트리밍으로 읽어 chunkSize 건씩 넘긴다.
+ * 파일 전체를 메모리에 올리지 않으므로 파일 크기와 관계없이 한 묶음만큼의 메모리만 사용한다.
+ * JSON 은 최상위 배열 또는 API 응답 형식({"data": [...]}), CSV 는 첫 줄이 API 필드명(주차장명, 위도 ...)인 헤더여야 한다.
+ */
+public class PublicDataFileReader {
+
+    private static final String DATA_FIELD = "data";
+    private static final char BOM = '\uFEFF';
+
+    private final ObjectMapper mapper;
+    private final int chunkSize;
+
+    public PublicDataFileReader(int chunkSize) {
+        this.mapper = new ObjectMapper();
+        this.chunkSize = chunkSize;
+    }
+
+    // 읽은 전체 행 수 반환
+    public long read(Path file, Charset charset, Consumer<List<ParkingLotData>> chunkConsumer) {
+        String fileName = file.getFileName().toString().toLowerCase();
+        try (BufferedReader reader = Files.newBufferedReader(file, charset)) {
+            if (fileName.endsWith(".csv")) {
+                return readCsv(reader, chunkConsumer);
+            }
+            if (fileName.endsWith(".json")) {
+                return readJson(reader, chunkConsumer);
+            }
+            throw new IllegalArgumentException("지원하지 않는 파일 형식입니다. file=" + file);
+        } catch (IOException e) {
+            throw new RuntimeException("공공데이터 파일 읽기 실패 file=" + file, e);
+        }
+    }
+
+    long readJson(Reader reader, Consumer<List<ParkingLotData>> chunkConsumer) throws IOException {
+        try (JsonParser parser = mapper.getFactory().createParser(reader)) {
+            moveToDataArray(parser);
+
+            List<ParkingLotData> chunk = new ArrayList<>(chunkSize);
+            long count = 0;
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                chunk.add(mapper.readValue(parser, ParkingLotData.class));
+                count++;
+                chunk = flushIfFull(chunk, chunkConsumer);
+            }
+            flush(chunk, chunkConsumer);
+            return count;
+        }
+    }
+
+    // 최상위 배열이면 그대로, 객체이면 "data" 배열 시작 위치로 이동 (다른 필드는 건너뜀)
+    private void moveToDataArray(JsonParser parser) throws IOException {
+        JsonToken token = parser.nextToken();
+        if (token == JsonToken.START_ARRAY) {
+            return;
+        }
+        if (token != JsonToken.START_OBJECT) {
+            throw new IllegalArgumentException("JSON 배열 또는 객체가 아닙니다.");
+        }
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (DATA_FIELD.equals(field) && value == JsonToken.START_ARRAY) {
+                return;
+            }
+            parser.skipChildren();
+        }
+        throw new IllegalArgumentException("JSON 에 data 배열이 없습니다.");
+    }
+
+    long readCsv(BufferedReader reader, Consumer<List<ParkingLotData>> chunkConsumer) throws IOException {
+        List<String> header = readCsvRecord(reader);
+        if (header == null) {
+            return 0;
+        }
+        if (!header.isEmpty() && !header.get(0).isEmpty() && header.get(0).charAt(0) == BOM) {
+            header.set(0, header.get(0).substring(1));
+        }
+
+        List<ParkingLotData> chunk = new ArrayList<>(chunkSize);
+        long count = 0;
+        List<String> record;
+        while ((record = readCsvRecord(reader)) != null) {
+            if (record.size() == 1 && record.get(0).isBlank()) {
+                continue;
+            }
+
+            Map<String, String> row = new HashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                row.put(header.get(i).trim(), record.get(i).trim());
+            }
+            chunk.add(mapper.convertValue(row, ParkingLotData.class));
+            count++;
+            chunk = flushIfFull(chunk, chunkConsumer);
+        }
+        flush(chunk, chunkConsumer);
+        return count;
+    }
+
+    // RFC 4180 형식의 한 레코드 (따옴표 안의 쉼표/줄바꿈, "" 이스케이프 지원), 파일 끝이면 null
+    private List<String> readCsvRecord(BufferedReader reader) throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        boolean read = false;
+
+        int c;
+        while ((c = reader.read()) != -1) {
+            read = true;
+            if (quoted) {
+                if (c == '"') {
+                    reader.mark(1);
+                    if (reader.read() == '"') {
+                        field.append('"');
+                    } else {
+                        reader.reset();
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n') {
+                break;
+            } else if (c != '\r') {
+                field.append((char) c);
+            }
+        }
+
+        if (!read) {
+            return null;
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private List<ParkingLotData> flushIfFull(List<ParkingLotData> chunk, Consumer<List<ParkingLotData>> chunkConsumer) {
+        if (chunk.size() < chunkSize) {
+            return chunk;
+        }
+        chunkConsumer.accept(chunk);
+        return new ArrayList<>(chunkSize);
+    }
+
+    private void flush(List<ParkingLotData> chunk, Consumer<List<ParkingLotData>> chunkConsumer) {
+        if (!chunk.isEmpty()) {
+            chunkConsumer.accept(chunk);
+        }
+    }
+}
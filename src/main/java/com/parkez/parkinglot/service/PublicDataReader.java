@@ -17,13 +17,24 @@ public class PublicDataReader {
     private final ObjectMapper mapper;
     private final String baseUrl;
     private final String serviceKey;
-    private final int perPage = 2;
+    private final int perPage;
+
+    private static final int DEFAULT_PER_PAGE = 2;
 
     public PublicDataReader(String baseUrl, String serviceKey) {
+        this(baseUrl, serviceKey, DEFAULT_PER_PAGE);
+    }
+
+    public PublicDataReader(String baseUrl, String serviceKey, int perPage) {
         this.http = HttpClient.newHttpClient();
         this.mapper = new ObjectMapper();
         this.baseUrl = baseUrl;
         this.serviceKey = serviceKey;
+        this.perPage = perPage;
+    }
+
+    public int getPerPage() {
+        return perPage;
     }
 
     public List<ParkingLotData> fetchPage(int page) {
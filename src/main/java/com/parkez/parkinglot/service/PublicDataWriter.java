@@ -1,88 +1,444 @@
 package com.parkez.parkinglot.service;
 
-import com.parkez.parkinglot.client.kakaomap.geocode.SimpleKakaoGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.ReverseGeocodeClient;
 import com.parkez.parkinglot.client.publicData.ParkingLotData;
+import com.parkez.parkinglot.client.redis.SimpleRedisGeoClient;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
 import com.parkez.parkinglot.domain.entity.ParkingLotImage;
 import com.parkez.parkinglot.domain.enums.ChargeType;
 import com.parkez.parkinglot.domain.enums.SourceType;
 import com.parkez.parkinglot.domain.repository.PageStateRepository;
+import com.parkez.parkinglot.domain.repository.PublicDataSourceRow;
+import com.parkez.parkinglot.domain.repository.PublicDataSourceRowRepository;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheEvictMessage;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchCacheIndex;
+import com.parkez.parkinglot.spatial.ParkingLotLocation;
 import com.parkez.user.domain.entity.User;
 import com.parkez.user.domain.enums.UserRole;
 import com.parkez.user.service.JdbcUserReader;
+import lombok.extern.slf4j.Slf4j;
 
+import javax.sql.DataSource;
 import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.sql.*;
 import java.time.LocalTime;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+@Slf4j
 public class PublicDataWriter {
 
-    private final String jdbcUrl;
-    private final String dbUser;
-    private final String dbPassword;
+    private final DataSource dataSource;
     private final JdbcUserReader userReader;
-    private final SimpleKakaoGeocodeClient kakaoGeocodeClient;
+    private final ReverseGeocodeClient reverseGeocodeClient;
     private final PageStateRepository pageStateRepo;
+    private final PublicDataSourceRowRepository sourceRowRepo;
     private final String adminEmail;
     private final String defaultParkingLotImageUrl;
+    private final SimpleRedisGeoClient redisGeoClient;
+    // 행 단위 변환(좌표 → 주소 변환 포함)을 동시에 실행하는 스레드 풀
+    private final ExecutorService convertExecutor;
 
     private static final String description = "공공데이터로 등록한 주차장입니다.";
+    private static final int DEFAULT_GEOCODE_CONCURRENCY = 8;
+    private static final int EXISTING_LOOKUP_CHUNK_SIZE = 500;
+    // 한 회차에 추적 중인 행의 이 비율(최소 행 수 이상)보다 많이 사라지면 원본 장애로 보고 폐업 처리하지 않음
+    private static final double MAX_DISAPPEARED_RATIO = 0.1;
+    private static final int DISAPPEARED_GUARD_MIN_ROWS = 100;
 
-    public PublicDataWriter(String jdbcUrl, String dbUser, String dbPassword,
-                            JdbcUserReader userReader, SimpleKakaoGeocodeClient kakaoGeocodeClient,
-                            PageStateRepository pageStateRepo, String adminEmail,
-                            String defaultParkingLotImageUrl
+    public PublicDataWriter(DataSource dataSource,
+                            JdbcUserReader userReader, ReverseGeocodeClient reverseGeocodeClient,
+                            PageStateRepository pageStateRepo, PublicDataSourceRowRepository sourceRowRepo,
+                            String adminEmail,
+                            String defaultParkingLotImageUrl, SimpleRedisGeoClient redisGeoClient
     ) {
-        this.jdbcUrl = jdbcUrl;
-        this.dbUser = dbUser;
-        this.dbPassword = dbPassword;
+        this(dataSource, userReader, reverseGeocodeClient, pageStateRepo, sourceRowRepo, adminEmail,
+                defaultParkingLotImageUrl, redisGeoClient, DEFAULT_GEOCODE_CONCURRENCY);
+    }
+
+    public PublicDataWriter(DataSource dataSource,
+                            JdbcUserReader userReader, ReverseGeocodeClient reverseGeocodeClient,
+                            PageStateRepository pageStateRepo, PublicDataSourceRowRepository sourceRowRepo,
+                            String adminEmail,
+                            String defaultParkingLotImageUrl, SimpleRedisGeoClient redisGeoClient,
+                            int geocodeConcurrency
+    ) {
+        this.dataSource = dataSource;
         this.userReader = userReader;
-        this.kakaoGeocodeClient = kakaoGeocodeClient;
+        this.reverseGeocodeClient = reverseGeocodeClient;
         this.pageStateRepo = pageStateRepo;
+        this.sourceRowRepo = sourceRowRepo;
         this.adminEmail = adminEmail;
         this.defaultParkingLotImageUrl = defaultParkingLotImageUrl;
-
+        this.redisGeoClient = redisGeoClient;
+        this.convertExecutor = Executors.newFixedThreadPool(geocodeConcurrency, runnable -> {
+            Thread thread = new Thread(runnable, "public-data-convert");
+            thread.setDaemon(true);
+            return thread;
+        });
     }
 
     public void savePublicData(List<ParkingLotData> dataList) {
-        try (Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword)) {
+        try (Connection connection = dataSource.getConnection()) {
             connection.setAutoCommit(false);
 
             // 현재 페이지 가져오기
             int page = pageStateRepo.readPage(connection);
 
             // dto -> entity 변환
-            List<ParkingLot> parkingLots = dataList.stream()
-                    .map(this::convertToParkingLot)
-                    .toList();
-
-            // 가져온 데이터 저장
-            bulkInsertParkingLots(connection, parkingLots);
-            bulkInsertImages(connection, parkingLots);
+            List<ParkingLot> parkingLots = convertToParkingLots(dataList);
 
-            // 페이지 업데이트
+            // 가져온 데이터 저장 및 페이지 업데이트
             int nextPage = dataList.isEmpty() ? 1 : page + 1;
-            pageStateRepo.updatePage(connection, nextPage);
-            connection.commit();
+            save(connection, parkingLots, nextPage);
         } catch (SQLException e) {
             throw new RuntimeException("DB 저장 실패", e);
         }
     }
 
-    private void bulkInsertParkingLots(Connection connection, List<ParkingLot> parkingLots) throws SQLException {
+    // 변환이 끝난 한 페이지를 저장하고 같은 트랜잭션에서 다음 페이지를 기록 (bulk 모드 체크포인트)
+    public void saveParkingLots(List<ParkingLot> parkingLots, int nextPage) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            save(connection, parkingLots, nextPage);
+        } catch (SQLException e) {
+            throw new RuntimeException("DB 저장 실패", e);
+        }
+    }
+
+    // 페이지 상태와 무관하게 한 묶음을 저장 (오프라인 시딩, 동기화 회차는 마무리하지 않음)
+    // 원본 행(public_data_source_row)은 만들지 않으므로, 공공데이터 API 가 돌려주지 않는 파일 행이 폐업 처리되지 않는다
+    public void saveParkingLots(List<ParkingLot> parkingLots) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            save(connection, parkingLots, null);
+        } catch (SQLException e) {
+            throw new RuntimeException("DB 저장 실패", e);
+        }
+    }
+
+    // 행마다 좌표 → 주소 변환을 동시에 실행하고, 변환에 실패한 행은 건너뛴다 (입력 순서 유지)
+    public List<ParkingLot> convertToParkingLots(List<ParkingLotData> dataList) {
+        if (dataList.isEmpty()) {
+            return List.of();
+        }
+
+        // 소유자(관리자)는 배치마다 한 번만 조회
+        User owner = userReader.getUserByEmailAndRole(adminEmail, UserRole.ROLE_ADMIN);
+        List<CompletableFuture<ParkingLot>> futures = dataList.stream()
+                .map(data -> CompletableFuture.supplyAsync(() -> convertToParkingLot(data, owner), convertExecutor)
+                        .exceptionally(e -> {
+                            Throwable cause = e.getCause() != null ? e.getCause() : e;
+                            log.warn("[공공데이터] 주차장 변환 실패, 건너뜀 name={} : {}", data.getName(), cause.getMessage());
+                            return null;
+                        }))
+                .toList();
+
+        List<ParkingLot> parkingLots = new ArrayList<>(dataList.size());
+        List<PublicDataSourceRow> unconvertedRows = new ArrayList<>();
+        for (int i = 0; i < dataList.size(); i++) {
+            ParkingLot parkingLot = futures.get(i).join();
+            if (parkingLot != null) {
+                parkingLots.add(parkingLot);
+                continue;
+            }
+            Double latitude = parseDouble(dataList.get(i).getLatitude());
+            Double longitude = parseDouble(dataList.get(i).getLongitude());
+            if (latitude != null && longitude != null) {
+                unconvertedRows.add(new PublicDataSourceRow(longitude, latitude, null, null, false));
+            }
+        }
+        touchUnconvertedRows(unconvertedRows);
+        return parkingLots;
+    }
+
+    // 변환(주소 변환 등)에만 실패한 행은 원본에 남아 있으므로 이번 회차에 본 것으로 기록하여 폐업 처리되지 않게 한다
+    // 이미 추적 중인 행만 갱신되며, 내용 반영은 다음 회차에 변환에 성공할 때 이뤄진다
+    private void touchUnconvertedRows(List<PublicDataSourceRow> rows) {
+        if (rows.isEmpty()) {
+            return;
+        }
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(true);
+            sourceRowRepo.touch(connection, rows, pageStateRepo.readSyncRun(connection));
+        } catch (SQLException e) {
+            log.warn("[공공데이터] 변환 실패 행 기록 실패 count={} : {}", rows.size(), e.getMessage());
+        }
+    }
+
+    // 좌표별 내용 해시로 새 주차장은 저장, 바뀐 주차장만 갱신, 그대로인 주차장은 이번 회차에 본 것만 기록
+    // nextPage 가 null 이면(시딩) 페이지 상태와 원본 행을 갱신하지 않음
+    private void save(Connection connection, List<ParkingLot> parkingLots, Integer nextPage) throws SQLException {
+        // 페이지 상태 행을 잠가 Lambda 동기화/시딩의 저장을 직렬화 (아래의 기존 좌표 조회 후 INSERT 가 경합하지 않음)
+        pageStateRepo.readPage(connection);
+        long syncRun = pageStateRepo.readSyncRun(connection);
+        Map<Coordinate, ParkingLot> distinct = distinctByCoordinate(parkingLots);
+        List<ParkingLot> distinctLots = new ArrayList<>(distinct.values());
+        Map<Coordinate, ExistingParkingLot> existing = findExisting(connection, distinctLots);
+        Map<Coordinate, PublicDataSourceRow> sourceRows = new HashMap<>();
+        for (PublicDataSourceRow row : sourceRowRepo.findByCoordinates(connection, distinctLots)) {
+            sourceRows.put(new Coordinate(row.longitude(), row.latitude()), row);
+        }
+
+        List<ParkingLot> newParkingLots = new ArrayList<>();
+        List<String> newHashes = new ArrayList<>();
+        List<ChangedParkingLot> changedParkingLots = new ArrayList<>();
+        List<PublicDataSourceRow> unchangedRows = new ArrayList<>();
+        for (Map.Entry<Coordinate, ParkingLot> entry : distinct.entrySet()) {
+            ParkingLot pl = entry.getValue();
+            String hash = contentHash(pl);
+            ExistingParkingLot existingLot = existing.get(entry.getKey());
+            PublicDataSourceRow sourceRow = sourceRows.get(entry.getKey());
+
+            if (existingLot == null) {
+                newParkingLots.add(pl);
+                newHashes.add(hash);
+            } else if (!existingLot.publicData() || existingLot.deleted()) {
+                // 소유자가 등록했거나 삭제된 주차장은 공공데이터로 덮어쓰지 않음
+                continue;
+            } else if (sourceRow != null && !sourceRow.missing()
+                    && Objects.equals(sourceRow.parkingLotId(), existingLot.id()) && hash.equals(sourceRow.contentHash())) {
+                unchangedRows.add(sourceRow);
+            } else {
+                // 사라졌던 행의 재영업 처리는 동기화(API)에서만 (시딩 파일은 최신 상태를 보장하지 않음)
+                boolean reappeared = nextPage != null && sourceRow != null && sourceRow.missing();
+                changedParkingLots.add(new ChangedParkingLot(existingLot.id(), pl, hash, reappeared));
+            }
+        }
+
+        List<Long> newIds = bulkInsertParkingLots(connection, newParkingLots);
+        bulkInsertImages(connection, newParkingLots, newIds);
+        bulkInsertEmptyStats(connection, newIds);
+        bulkUpdateParkingLots(connection, changedParkingLots);
+
+        List<PublicDataSourceRow> upsertRows = new ArrayList<>(newIds.size() + changedParkingLots.size());
+        for (int i = 0; i < newIds.size(); i++) {
+            ParkingLot pl = newParkingLots.get(i);
+            upsertRows.add(new PublicDataSourceRow(pl.getLongitude(), pl.getLatitude(), newIds.get(i), newHashes.get(i), false));
+        }
+        for (ChangedParkingLot changed : changedParkingLots) {
+            ParkingLot pl = changed.parkingLot();
+            upsertRows.add(new PublicDataSourceRow(pl.getLongitude(), pl.getLatitude(), changed.id(), changed.contentHash(), false));
+        }
+        // 마지막 페이지까지 돌았으면 이번 회차에 보이지 않은 주차장을 정리하고 다음 회차 시작
+        List<ParkingLotLocation> disappeared = List.of();
+        if (nextPage != null) {
+            sourceRowRepo.upsert(connection, upsertRows, syncRun);
+            sourceRowRepo.touch(connection, unchangedRows, syncRun);
+            if (nextPage == 1) {
+                disappeared = finishSyncRun(connection, syncRun);
+            }
+            pageStateRepo.updatePage(connection, nextPage);
+        }
+        connection.commit();
+
+        log.info("[공공데이터] 동기화 run={}, new={}, changed={}, unchanged={}, disappeared={}",
+                syncRun, newIds.size(), changedParkingLots.size(), unchangedRows.size(), disappeared.size());
+
+        // 커밋된 변경분만 Redis GEO 집합과 검색 캐시에 반영
+        List<ParkingLotLocation> saved = toLocations(newParkingLots, newIds, changedParkingLots);
+        addToGeoIndex(saved);
+        removeFromGeoIndex(disappeared.stream().map(ParkingLotLocation::getParkingLotId).toList());
+        evictSearchCache(saved, disappeared);
+    }
+
+    private List<ParkingLotLocation> finishSyncRun(Connection connection, long syncRun) throws SQLException {
+        List<ParkingLotLocation> disappeared = sourceRowRepo.findDisappearedParkingLots(connection, syncRun);
+        long tracked = sourceRowRepo.countTracked(connection);
+        List<ParkingLotLocation> result = disappeared;
+        if (disappeared.size() > Math.max(tracked * MAX_DISAPPEARED_RATIO, DISAPPEARED_GUARD_MIN_ROWS)) {
+            log.warn("[공공데이터] 사라진 주차장이 너무 많아 폐업 처리를 건너뜀 run={}, disappeared={}, tracked={}",
+                    syncRun, disappeared.size(), tracked);
+            result = List.of();
+        } else if (!disappeared.isEmpty()) {
+            sourceRowRepo.markDisappeared(connection, syncRun);
+        }
+        pageStateRepo.startNextSyncRun(connection);
+        return result;
+    }
+
+    // 같은 배치 안의 중복 좌표는 먼저 나온 행만 유지
+    private Map<Coordinate, ParkingLot> distinctByCoordinate(List<ParkingLot> parkingLots) {
+        Map<Coordinate, ParkingLot> distinct = new LinkedHashMap<>();
+        for (ParkingLot pl : parkingLots) {
+            distinct.putIfAbsent(Coordinate.of(pl), pl);
+        }
+        return distinct;
+    }
+
+    // 배치의 좌표 중 이미 저장된 주차장을 좌표 묶음 단위로 조회 (uk_latitude_longitude 사용)
+    // 삭제된 주차장도 유니크 제약에 걸리므로 새로 저장하지 않음
+    private Map<Coordinate, ExistingParkingLot> findExisting(Connection connection, List<ParkingLot> parkingLots) throws SQLException {
+        Map<Coordinate, ExistingParkingLot> existing = new HashMap<>();
+        for (int from = 0; from < parkingLots.size(); from += EXISTING_LOOKUP_CHUNK_SIZE) {
+            List<ParkingLot> chunk = parkingLots.subList(from, Math.min(from + EXISTING_LOOKUP_CHUNK_SIZE, parkingLots.size()));
+            String sql = """
+                    SELECT pl.id, pl.longitude, pl.latitude, pl.source_type, pl.deleted_at
+                      FROM parking_lot pl
+                     WHERE (pl.longitude, pl.latitude) IN (%s)
+                    """.formatted(String.join(", ", Collections.nCopies(chunk.size(), "(?, ?)")));
+
+            try (PreparedStatement ps = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (ParkingLot pl : chunk) {
+                    ps.setDouble(index++, pl.getLongitude());
+                    ps.setDouble(index++, pl.getLatitude());
+                }
+                try (ResultSet rs = ps.executeQuery()) {
+                    while (rs.next()) {
+                        existing.put(new Coordinate(rs.getDouble(2), rs.getDouble(3)), new ExistingParkingLot(
+                                rs.getLong(1),
+                                SourceType.PUBLIC_DATA.name().equals(rs.getString(4)),
+                                rs.getTimestamp(5) != null
+                        ));
+                    }
+                }
+            }
+        }
+        return existing;
+    }
+
+    private List<ParkingLotLocation> toLocations(List<ParkingLot> newParkingLots, List<Long> newIds, List<ChangedParkingLot> changedParkingLots) {
+        List<ParkingLotLocation> locations = new ArrayList<>(newIds.size() + changedParkingLots.size());
+        for (int i = 0; i < newIds.size(); i++) {
+            ParkingLot pl = newParkingLots.get(i);
+            locations.add(new ParkingLotLocation(newIds.get(i), pl.getLatitude(), pl.getLongitude()));
+        }
+        for (ChangedParkingLot changed : changedParkingLots) {
+            ParkingLot pl = changed.parkingLot();
+            locations.add(new ParkingLotLocation(changed.id(), pl.getLatitude(), pl.getLongitude()));
+        }
+        return locations;
+    }
+
+    private void removeFromGeoIndex(List<Long> parkingLotIds) {
+        if (redisGeoClient == null) {
+            return;
+        }
+        try {
+            redisGeoClient.removeAll(parkingLotIds);
+        } catch (RuntimeException e) {
+            log.warn("[GEO 인덱스] 사라진 공공데이터 주차장 좌표 삭제 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 새로 저장/갱신/폐업 처리한 주차장은 포함 여부나 내용이 바뀌므로 해당 주차장과 좌표 칸의 검색 캐시(L2, 전체 인스턴스 L1) 삭제
+    private void evictSearchCache(List<ParkingLotLocation> saved, List<ParkingLotLocation> disappeared) {
+        if (redisGeoClient == null || (saved.isEmpty() && disappeared.isEmpty())) {
+            return;
+        }
+        List<Long> parkingLotIds = new ArrayList<>(saved.size() + disappeared.size());
+        Set<String> tileCells = new LinkedHashSet<>();
+        for (List<ParkingLotLocation> locations : List.of(saved, disappeared)) {
+            for (ParkingLotLocation location : locations) {
+                parkingLotIds.add(location.getParkingLotId());
+                String tileCell = ParkingLotSearchCacheIndex.tileCell(location.getLatitude(), location.getLongitude());
+                if (tileCell != null) {
+                    tileCells.add(tileCell);
+                }
+            }
+        }
+        try {
+            redisGeoClient.evictSearchCache(ParkingLotSearchCacheEvictMessage.of(parkingLotIds, tileCells));
+        } catch (RuntimeException e) {
+            log.warn("[검색 캐시] 공공데이터 주차장 검색 캐시 삭제 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 원본에서 바뀐 필드만 갱신, 사라졌다가 다시 나타난 주차장은 영업 중으로 되돌림
+    private void bulkUpdateParkingLots(Connection connection, List<ChangedParkingLot> changedParkingLots) throws SQLException {
+        if (changedParkingLots.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+                UPDATE parking_lot
+                   SET name = ?, address = ?, opened_at = ?, closed_at = ?,
+                       quantity = ?, charge_type = ?, status = COALESCE(?, status), modified_at = ?
+                 WHERE id = ?
+                """;
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (ChangedParkingLot changed : changedParkingLots) {
+                ParkingLot pl = changed.parkingLot();
+                ps.setString(1, pl.getName());
+                ps.setString(2, pl.getAddress());
+                ps.setTime(3, Time.valueOf(pl.getOpenedAt()));
+                ps.setTime(4, Time.valueOf(pl.getClosedAt()));
+                ps.setInt(5, pl.getQuantity());
+                ps.setString(6, pl.getChargeType().name());
+                ps.setString(7, changed.reappeared() ? pl.getStatus().name() : null);
+                ps.setTimestamp(8, now);
+                ps.setLong(9, changed.id());
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // 원본에서 오는 필드로 만든 SHA-256 해시
+    private String contentHash(ParkingLot pl) {
+        String content = String.join("\u001F",
+                String.valueOf(pl.getName()),
+                String.valueOf(pl.getAddress()),
+                String.valueOf(pl.getOpenedAt()),
+                String.valueOf(pl.getClosedAt()),
+                String.valueOf(pl.getQuantity()),
+                String.valueOf(pl.getChargeType())
+        );
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // GEO 반영 실패는 적재를 실패시키지 않음 (애플리케이션의 정기 재적재로 보정)
+    private void addToGeoIndex(List<ParkingLotLocation> locations) {
+        if (redisGeoClient == null) {
+            return;
+        }
+        try {
+            redisGeoClient.addAll(locations);
+        } catch (RuntimeException e) {
+            log.warn("[GEO 인덱스] 공공데이터 주차장 좌표 반영 실패 : {}", e.getMessage());
+        }
+    }
+
+    // 저장한 순서대로 생성된 주차장 ID 반환 (rewriteBatchedStatements 로 다중 행 INSERT 전송)
+    private List<Long> bulkInsertParkingLots(Connection connection, List<ParkingLot> parkingLots) throws SQLException {
+        List<Long> ids = new ArrayList<>(parkingLots.size());
+        if (parkingLots.isEmpty()) {
+            return ids;
+        }
+
         String sql = """
                 INSERT INTO parking_lot
                   (owner_id, name, address, latitude, longitude,
                    opened_at, closed_at, price_per_hour,
                    description, quantity, charge_type,
-                   source_type, status, created_at,  modified_at)
-                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
-                 ON DUPLICATE KEY UPDATE id = id
+                   source_type, status, created_at,  modified_at, location)
+                VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ST_SRID(POINT(?, ?), 4326))
                 """;
 
-        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = connection.prepareStatement(sql, Statement.RETURN_GENERATED_KEYS)) {
             for (ParkingLot pl : parkingLots) {
                 ps.setLong(1, pl.getOwner().getId());
                 ps.setString(2, pl.getName());
@@ -97,30 +453,70 @@ public class PublicDataWriter {
                 ps.setString(11, pl.getChargeType().name());
                 ps.setString(12, pl.getSourceType().name());
                 ps.setString(13, pl.getStatus().name());
-                Timestamp now = new Timestamp(System.currentTimeMillis());
                 ps.setTimestamp(14, now);
                 ps.setTimestamp(15, now);
+                ps.setDouble(16, pl.getLongitude());
+                ps.setDouble(17, pl.getLatitude());
                 ps.addBatch();
             }
             ps.executeBatch();
+
+            try (ResultSet keys = ps.getGeneratedKeys()) {
+                while (keys.next()) {
+                    ids.add(keys.getLong(1));
+                }
+            }
+        }
+
+        if (ids.size() != parkingLots.size()) {
+            throw new SQLException("생성된 주차장 ID 수가 저장한 행 수와 다릅니다. expected=" + parkingLots.size() + ", actual=" + ids.size());
         }
+        return ids;
     }
 
-    private void bulkInsertImages(Connection connection, List<ParkingLot> parkingLots) throws SQLException {
+    private void bulkInsertImages(Connection connection, List<ParkingLot> parkingLots, List<Long> parkingLotIds) throws SQLException {
+        if (parkingLots.isEmpty()) {
+            return;
+        }
+
         String sql = """
-                INSERT IGNORE INTO parking_lot_image
+                INSERT INTO parking_lot_image
                   (parking_lot_id, image_url, created_at, modified_at)
-                SELECT pl.id, ?, NOW(), NOW()
-                  FROM parking_lot pl
-                 WHERE pl.longitude = ?
-                   AND pl.latitude = ?
+                VALUES (?, ?, ?, ?)
                 """;
 
+        Timestamp now = new Timestamp(System.currentTimeMillis());
         try (PreparedStatement ps = connection.prepareStatement(sql)) {
-            for (ParkingLot pl : parkingLots) {
-                ps.setString(1, pl.getImages().get(0).getImageUrl());
-                ps.setDouble(2, pl.getLongitude());
-                ps.setDouble(3, pl.getLatitude());
+            for (int i = 0; i < parkingLots.size(); i++) {
+                ps.setLong(1, parkingLotIds.get(i));
+                ps.setString(2, parkingLots.get(i).getImages().get(0).getImageUrl());
+                ps.setTimestamp(3, now);
+                ps.setTimestamp(4, now);
+                ps.addBatch();
+            }
+            ps.executeBatch();
+        }
+    }
+
+    // 새 주차장의 빈 통계 row 생성 (ParkingLotWriter.createParkingLot 과 동일, 이미 있으면 유지)
+    private void bulkInsertEmptyStats(Connection connection, List<Long> parkingLotIds) throws SQLException {
+        if (parkingLotIds.isEmpty()) {
+            return;
+        }
+
+        String sql = """
+                INSERT INTO parking_lot_stats
+                  (parking_lot_id, parking_zone_count, review_count, rating_sum, created_at, modified_at)
+                VALUES (?, 0, 0, 0, ?, ?)
+                ON DUPLICATE KEY UPDATE parking_lot_id = parking_lot_id
+                """;
+
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        try (PreparedStatement ps = connection.prepareStatement(sql)) {
+            for (Long parkingLotId : parkingLotIds) {
+                ps.setLong(1, parkingLotId);
+                ps.setTimestamp(2, now);
+                ps.setTimestamp(3, now);
                 ps.addBatch();
             }
             ps.executeBatch();
@@ -128,28 +524,35 @@ public class PublicDataWriter {
     }
 
     // 받아온 정보를 엔티티로 변경
-    private ParkingLot convertToParkingLot(ParkingLotData data) {
+    private ParkingLot convertToParkingLot(ParkingLotData data, User owner) {
         Double latitude = parseDouble(data.getLatitude());
         Double longitude = parseDouble(data.getLongitude());
-
-        String getAddress = kakaoGeocodeClient.getAddress(longitude, latitude);
-        String address = (data.getAddress() != null && !data.getAddress().isBlank()) ? data.getAddress() : getAddress;
+        if (latitude == null || longitude == null) {
+            throw new IllegalArgumentException("좌표가 올바르지 않습니다. latitude=" + data.getLatitude() + ", longitude=" + data.getLongitude());
+        }
+        // 주차구획수는 필수 컬럼이므로 비어 있거나 숫자가 아닌 행은 저장 단계(배치 전체 롤백)가 아니라 여기서 건너뜀
         Integer quantity = parseInteger(data.getQuantity());
+        if (quantity == null) {
+            throw new IllegalArgumentException("주차구획수가 올바르지 않습니다. quantity=" + data.getQuantity());
+        }
+
+        // 공공데이터에 주소가 있으면 좌표 → 주소 변환 생략
+        String address = (data.getAddress() != null && !data.getAddress().isBlank())
+                ? data.getAddress()
+                : reverseGeocodeClient.getAddress(longitude, latitude);
         LocalTime openedAt = parseTime(data.getOpenedAt());
         LocalTime closedAt = parseTime(data.getClosedAt());
         BigDecimal bigDecimal = BigDecimal.ZERO;
         SourceType sourceType = SourceType.PUBLIC_DATA;
         ChargeType chargeType = parseChargeType(data.getChargeType());
 
-        User user = userReader.getUserByEmailAndRole(adminEmail, UserRole.ROLE_ADMIN);
-
         List<ParkingLotImage> images = new ArrayList<>();
         ParkingLotImage defaultImage = ParkingLotImage.builder()
                 .imageUrl(defaultParkingLotImageUrl)
                 .build();
 
         ParkingLot parkingLot = ParkingLot.builder()
-                .owner(user)
+                .owner(owner)
                 .name(data.getName())
                 .address(address)
                 .latitude(latitude)
@@ -187,7 +590,7 @@ public class PublicDataWriter {
 
     private Integer parseInteger(String value) {
         try {
-            return Integer.valueOf(value);
+            return Integer.valueOf(value.trim());
         } catch (Exception e) {
             return null;
         }
@@ -202,4 +605,16 @@ public class PublicDataWriter {
             return ChargeType.NO_DATA;
         }
     }
+
+    private record ExistingParkingLot(Long id, boolean publicData, boolean deleted) {
+    }
+
+    private record ChangedParkingLot(Long id, ParkingLot parkingLot, String contentHash, boolean reappeared) {
+    }
+
+    private record Coordinate(double longitude, double latitude) {
+        static Coordinate of(ParkingLot parkingLot) {
+            return new Coordinate(parkingLot.getLongitude(), parkingLot.getLatitude());
+        }
+    }
 }
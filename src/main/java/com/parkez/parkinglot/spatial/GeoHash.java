@@ -0,0 +1,119 @@
+package com.parkez.parkinglot.spatial;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+public final class GeoHash {
+
+    private static final char[] BASE32 = "0123456789bcdefghjkmnpqrstuvwxyz".toCharArray();
+
+    private GeoHash() {
+    }
+
+    public static String encode(double latitude, double longitude, int precision) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        StringBuilder hash = new StringBuilder(precision);
+        boolean evenBit = true;
+        int bit = 0;
+        int ch = 0;
+
+        while (hash.length() < precision) {
+            if (evenBit) {
+                double mid = (minLng + maxLng) / 2;
+                if (longitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLng = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLng = mid;
+                }
+            } else {
+                double mid = (minLat + maxLat) / 2;
+                if (latitude >= mid) {
+                    ch = (ch << 1) | 1;
+                    minLat = mid;
+                } else {
+                    ch = ch << 1;
+                    maxLat = mid;
+                }
+            }
+            evenBit = !evenBit;
+
+            if (++bit == 5) {
+                hash.append(BASE32[ch]);
+                bit = 0;
+                ch = 0;
+            }
+        }
+        return hash.toString();
+    }
+
+    // geohash 칸의 범위 [minLat, maxLat, minLng, maxLng]
+    public static double[] bounds(String geohash) {
+        double minLat = -90, maxLat = 90;
+        double minLng = -180, maxLng = 180;
+        boolean evenBit = true;
+
+        for (char c : geohash.toCharArray()) {
+            int index = indexOf(c);
+            for (int shift = 4; shift >= 0; shift--) {
+                int bit = (index >> shift) & 1;
+                if (evenBit) {
+                    double mid = (minLng + maxLng) / 2;
+                    if (bit == 1) {
+                        minLng = mid;
+                    } else {
+                        maxLng = mid;
+                    }
+                } else {
+                    double mid = (minLat + maxLat) / 2;
+                    if (bit == 1) {
+                        minLat = mid;
+                    } else {
+                        maxLat = mid;
+                    }
+                }
+                evenBit = !evenBit;
+            }
+        }
+        return new double[]{minLat, maxLat, minLng, maxLng};
+    }
+
+    // 반경을 덮는 사각 범위와 겹치는 모든 geohash 칸
+    public static Set<String> coveringCells(double latitude, double longitude, double radiusInMeters, int precision) {
+        int totalBits = precision * 5;
+        double cellLatSize = 180d / (1L << (totalBits / 2));
+        double cellLngSize = 360d / (1L << (totalBits - totalBits / 2));
+
+        double latDelta = GeoUtils.latitudeDelta(radiusInMeters);
+        double lngDelta = GeoUtils.longitudeDelta(latitude, radiusInMeters);
+        long minLatIndex = cellIndex(Math.max(-90d, latitude - latDelta) + 90, cellLatSize);
+        long maxLatIndex = cellIndex(Math.min(90d, latitude + latDelta) + 90, cellLatSize);
+        long minLngIndex = cellIndex(Math.max(-180d, longitude - lngDelta) + 180, cellLngSize);
+        long maxLngIndex = cellIndex(Math.min(180d, longitude + lngDelta) + 180, cellLngSize);
+
+        Set<String> cells = new LinkedHashSet<>();
+        for (long latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+            for (long lngIndex = minLngIndex; lngIndex <= maxLngIndex; lngIndex++) {
+                double centerLat = Math.min(90d, (latIndex + 0.5) * cellLatSize - 90);
+                double centerLng = Math.min(180d, (lngIndex + 0.5) * cellLngSize - 180);
+                cells.add(encode(centerLat, centerLng, precision));
+            }
+        }
+        return cells;
+    }
+
+    private static long cellIndex(double offsetDegrees, double cellSize) {
+        return (long) Math.floor(offsetDegrees / cellSize);
+    }
+
+    private static int indexOf(char c) {
+        for (int i = 0; i < BASE32.length; i++) {
+            if (BASE32[i] == c) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("Invalid geohash character: " + c);
+    }
+}
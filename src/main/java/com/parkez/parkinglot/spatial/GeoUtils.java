@@ -0,0 +1,41 @@
+package com.parkez.parkinglot.spatial;
+
+public final class GeoUtils {
+
+    private static final double EARTH_RADIUS_METERS = 6_371_008.8;
+    private static final double METERS_PER_LATITUDE_DEGREE = 111_320d;
+
+    private GeoUtils() {
+    }
+
+    // 두 좌표 사이의 구면 거리 (미터, haversine)
+    public static double distanceInMeters(double latitude1, double longitude1, double latitude2, double longitude2) {
+        double dLat = Math.toRadians(latitude2 - latitude1);
+        double dLng = Math.toRadians(longitude2 - longitude1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(latitude1)) * Math.cos(Math.toRadians(latitude2))
+                * Math.sin(dLng / 2) * Math.sin(dLng / 2);
+        return 2 * EARTH_RADIUS_METERS * Math.asin(Math.min(1d, Math.sqrt(a)));
+    }
+
+    // 반경(미터)을 위도 차이(도)로 변환
+    public static double latitudeDelta(double radiusInMeters) {
+        return radiusInMeters / METERS_PER_LATITUDE_DEGREE;
+    }
+
+    // 반경(미터)을 해당 위도에서의 경도 차이(도)로 변환
+    public static double longitudeDelta(double latitude, double radiusInMeters) {
+        double cos = Math.cos(Math.toRadians(latitude));
+        return cos <= 0 ? 180d : Math.min(180d, radiusInMeters / (METERS_PER_LATITUDE_DEGREE * cos));
+    }
+
+    // 위도 차이(도)를 거리(미터)로 변환
+    public static double latitudeDegreesToMeters(double latitudeDegrees) {
+        return latitudeDegrees * METERS_PER_LATITUDE_DEGREE;
+    }
+
+    // 해당 위도에서의 경도 차이(도)를 거리(미터)로 변환
+    public static double longitudeDegreesToMeters(double latitude, double longitudeDegrees) {
+        return longitudeDegrees * METERS_PER_LATITUDE_DEGREE * Math.max(0d, Math.cos(Math.toRadians(latitude)));
+    }
+}
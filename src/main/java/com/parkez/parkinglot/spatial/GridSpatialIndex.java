@@ -0,0 +1,233 @@
+package com.parkez.parkinglot.spatial;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 위경도를 고정 크기 격자로 나눈 공간 인덱스.
+ * 셀마다 좌표를 primitive 배열로 보관하고, 반경 검색은 반경을 덮는 셀의 후보에 대해서만 거리 계산을 수행한다.
+ */
+public class GridSpatialIndex {
+
+    private final double cellSizeDegrees;
+    private final Map<Long, Cell> cells = new HashMap<>();
+    private final Map<Long, Long> cellKeyByParkingLotId = new HashMap<>();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public GridSpatialIndex(double cellSizeDegrees) {
+        if (cellSizeDegrees <= 0) {
+            throw new IllegalArgumentException("cellSizeDegrees must be positive");
+        }
+        this.cellSizeDegrees = cellSizeDegrees;
+    }
+
+    public void put(long parkingLotId, double latitude, double longitude) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(parkingLotId);
+            long cellKey = cellKey(cellIndex(latitude), cellIndex(longitude));
+            cells.computeIfAbsent(cellKey, key -> new Cell()).add(parkingLotId, latitude, longitude);
+            cellKeyByParkingLotId.put(parkingLotId, cellKey);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(long parkingLotId) {
+        lock.writeLock().lock();
+        try {
+            removeInternal(parkingLotId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return cellKeyByParkingLotId.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 반경 내 주차장을 가까운 순으로 반환
+    public List<GeoHit> findWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        double latDelta = GeoUtils.latitudeDelta(radiusInMeters);
+        double lngDelta = GeoUtils.longitudeDelta(latitude, radiusInMeters);
+
+        int minLatIndex = cellIndex(latitude - latDelta);
+        int maxLatIndex = cellIndex(latitude + latDelta);
+        int minLngIndex = cellIndex(longitude - lngDelta);
+        int maxLngIndex = cellIndex(longitude + lngDelta);
+
+        List<GeoHit> hits = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (int latIndex = minLatIndex; latIndex <= maxLatIndex; latIndex++) {
+                for (int lngIndex = minLngIndex; lngIndex <= maxLngIndex; lngIndex++) {
+                    Cell cell = cells.get(cellKey(latIndex, lngIndex));
+                    if (cell != null) {
+                        cell.collectWithinRadius(latitude, longitude, radiusInMeters, hits);
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        hits.sort(Comparator.comparingDouble(GeoHit::distanceInMeters));
+        return hits;
+    }
+
+    // 기준 셀에서 한 겹씩 바깥 셀로 넓히며 가까운 k개를 찾고, 아직 보지 않은 셀이 현재 k번째보다 멀면 중단
+    public List<GeoHit> findNearest(double latitude, double longitude, int k, double maxRadiusInMeters) {
+        if (k <= 0) {
+            return List.of();
+        }
+
+        int centerLatIndex = cellIndex(latitude);
+        int centerLngIndex = cellIndex(longitude);
+        double latDelta = GeoUtils.latitudeDelta(maxRadiusInMeters);
+        double lngDelta = GeoUtils.longitudeDelta(latitude, maxRadiusInMeters);
+        int maxRing = Math.max(
+                Math.max(cellIndex(latitude + latDelta) - centerLatIndex, centerLatIndex - cellIndex(latitude - latDelta)),
+                Math.max(cellIndex(longitude + lngDelta) - centerLngIndex, centerLngIndex - cellIndex(longitude - lngDelta))
+        );
+
+        PriorityQueue<GeoHit> nearest = new PriorityQueue<>(k, NEAREST_ORDER.reversed());
+        lock.readLock().lock();
+        try {
+            for (int ring = 0; ring <= maxRing; ring++) {
+                for (int latIndex = centerLatIndex - ring; latIndex <= centerLatIndex + ring; latIndex++) {
+                    boolean edgeRow = Math.abs(latIndex - centerLatIndex) == ring;
+                    int lngStep = edgeRow ? 1 : Math.max(1, 2 * ring);
+                    for (int lngIndex = centerLngIndex - ring; lngIndex <= centerLngIndex + ring; lngIndex += lngStep) {
+                        Cell cell = cells.get(cellKey(latIndex, lngIndex));
+                        if (cell != null) {
+                            cell.collectNearest(latitude, longitude, maxRadiusInMeters, k, nearest);
+                        }
+                    }
+                }
+                if (nearest.size() == k && nearest.peek().distanceInMeters() <= coveredRadius(latitude, longitude, centerLatIndex, centerLngIndex, ring)) {
+                    break;
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        List<GeoHit> hits = new ArrayList<>(nearest);
+        hits.sort(NEAREST_ORDER);
+        return hits;
+    }
+
+    // 기준 셀 주변 ring 겹까지 탐색했을 때 누락 없이 보장되는 반경 (탐색 영역 경계까지의 최단 거리)
+    private double coveredRadius(double latitude, double longitude, int centerLatIndex, int centerLngIndex, int ring) {
+        double minLat = (centerLatIndex - ring) * cellSizeDegrees;
+        double maxLat = (centerLatIndex + ring + 1) * cellSizeDegrees;
+        double minLng = (centerLngIndex - ring) * cellSizeDegrees;
+        double maxLng = (centerLngIndex + ring + 1) * cellSizeDegrees;
+
+        double latitudeGap = GeoUtils.latitudeDegreesToMeters(Math.min(latitude - minLat, maxLat - latitude));
+        // 경도 1도의 거리는 극에 가까울수록 짧으므로 탐색 영역에서 극에 가장 가까운 위도 기준으로 보수적으로 계산
+        double farthestLatitude = Math.max(Math.abs(minLat), Math.abs(maxLat));
+        double longitudeGap = GeoUtils.longitudeDegreesToMeters(farthestLatitude, Math.min(longitude - minLng, maxLng - longitude));
+        return Math.min(latitudeGap, longitudeGap);
+    }
+
+    private void removeInternal(long parkingLotId) {
+        Long cellKey = cellKeyByParkingLotId.remove(parkingLotId);
+        if (cellKey == null) {
+            return;
+        }
+        Cell cell = cells.get(cellKey);
+        if (cell != null && cell.remove(parkingLotId) && cell.isEmpty()) {
+            cells.remove(cellKey);
+        }
+    }
+
+    private int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / cellSizeDegrees);
+    }
+
+    private static long cellKey(int latIndex, int lngIndex) {
+        return ((long) latIndex << 32) | (lngIndex & 0xffffffffL);
+    }
+
+    public record GeoHit(long parkingLotId, double distanceInMeters) {
+    }
+
+    // 거리순, 같은 거리면 ID순 (k를 늘려 다시 조회해도 앞쪽 결과가 유지되도록)
+    private static final Comparator<GeoHit> NEAREST_ORDER = Comparator.comparingDouble(GeoHit::distanceInMeters)
+            .thenComparingLong(GeoHit::parkingLotId);
+
+    private static final class Cell {
+        private long[] ids = new long[4];
+        private double[] latitudes = new double[4];
+        private double[] longitudes = new double[4];
+        private int size;
+
+        void add(long parkingLotId, double latitude, double longitude) {
+            if (size == ids.length) {
+                int capacity = ids.length * 2;
+                ids = Arrays.copyOf(ids, capacity);
+                latitudes = Arrays.copyOf(latitudes, capacity);
+                longitudes = Arrays.copyOf(longitudes, capacity);
+            }
+            ids[size] = parkingLotId;
+            latitudes[size] = latitude;
+            longitudes[size] = longitude;
+            size++;
+        }
+
+        boolean remove(long parkingLotId) {
+            for (int i = 0; i < size; i++) {
+                if (ids[i] == parkingLotId) {
+                    int last = --size;
+                    ids[i] = ids[last];
+                    latitudes[i] = latitudes[last];
+                    longitudes[i] = longitudes[last];
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        boolean isEmpty() {
+            return size == 0;
+        }
+
+        void collectWithinRadius(double latitude, double longitude, double radiusInMeters, List<GeoHit> hits) {
+            for (int i = 0; i < size; i++) {
+                double distance = GeoUtils.distanceInMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                if (distance <= radiusInMeters) {
+                    hits.add(new GeoHit(ids[i], distance));
+                }
+            }
+        }
+
+        // 최대 힙(nearest)에 k개까지 유지하며 더 가까운 좌표로 교체
+        void collectNearest(double latitude, double longitude, double maxRadiusInMeters, int k, PriorityQueue<GeoHit> nearest) {
+            for (int i = 0; i < size; i++) {
+                double distance = GeoUtils.distanceInMeters(latitude, longitude, latitudes[i], longitudes[i]);
+                if (distance > maxRadiusInMeters) {
+                    continue;
+                }
+                GeoHit hit = new GeoHit(ids[i], distance);
+                if (nearest.size() < k) {
+                    nearest.add(hit);
+                } else if (NEAREST_ORDER.compare(hit, nearest.peek()) < 0) {
+                    nearest.poll();
+                    nearest.add(hit);
+                }
+            }
+        }
+    }
+}
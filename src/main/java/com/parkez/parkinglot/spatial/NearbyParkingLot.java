@@ -0,0 +1,5 @@
+package com.parkez.parkinglot.spatial;
+
+// 반경 검색 결과 (주차장 ID + 사용자 위치로부터의 거리)
+public record NearbyParkingLot(long parkingLotId, double distanceInMeters) {
+}
@@ -0,0 +1,205 @@
+package com.parkez.parkinglot.spatial;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoSearchCommandArgs;
+import org.springframework.data.redis.domain.geo.GeoReference;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * 주차장 좌표를 Redis GEO 집합으로 유지하여 모든 노드가 같은 반경 검색 결과를 공유한다.
+ * 멤버는 주차장 ID 문자열이며, Lambda 공공데이터 적재(SimpleRedisGeoClient)도 같은 키에 기록한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotGeoIndex {
+
+    public static final String GEO_KEY = "parking-lot:geo";
+    // 재적재 임시 키 접두어 (호출마다 토큰을 붙여 다른 재적재와 섞이지 않게 함)
+    private static final String REBUILD_KEY_PREFIX = "parking-lot:geo:rebuild:";
+    // 재적재 중 표시(값은 재적재 토큰, 노드 간 재적재 락을 겸함)와, 그동안의 추가/삭제 기록 (멤버 -> "경도,위도", 삭제는 빈 문자열)
+    public static final String REBUILDING_KEY = "parking-lot:geo:rebuilding";
+    public static final String CHANGES_KEY = "parking-lot:geo:changes";
+    public static final String REMOVED = "";
+    private static final Duration REBUILDING_TTL = Duration.ofMinutes(10);
+    // 다른 노드가 재적재 중이라 건너뛴 경우의 rebuild 반환값
+    public static final int SKIPPED = -1;
+
+    // 자신이 잡은 재적재 표시만 삭제 (TTL 만료 후 다른 노드가 잡은 표시는 유지)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('GET', KEYS[1]) == ARGV[1] then
+              return redis.call('DEL', KEYS[1])
+            end
+            return 0
+            """, Long.class);
+
+    // GEO 집합 존재 여부 재확인 주기
+    private static final long READY_CHECK_INTERVAL_MILLIS = 60_000L;
+
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private volatile boolean ready = false;
+    private volatile long readyCheckedAt = 0L;
+
+    // GEO 집합이 적재되어 있는지 (키가 없으면 반경 검색 결과가 항상 비어 있으므로 사용하지 않음)
+    // 적재된 뒤에도 키가 사라질 수 있으므로(eviction, FLUSHALL) 주기적으로 다시 확인
+    public boolean isReady() {
+        long now = System.currentTimeMillis();
+        if (now - readyCheckedAt > READY_CHECK_INTERVAL_MILLIS) {
+            readyCheckedAt = now;
+            ready = Boolean.TRUE.equals(stringRedisTemplate.hasKey(GEO_KEY));
+        }
+        return ready;
+    }
+
+    // GEOSEARCH FROMLONLAT BYRADIUS ASC 로 반경 내 주차장을 가까운 순으로 조회, Redis 장애 또는 미적재 시 empty
+    public Optional<List<NearbyParkingLot>> searchWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        return search(latitude, longitude, radiusInMeters,
+                GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending());
+    }
+
+    // GEOSEARCH ... ASC COUNT k 로 최대 반경 안에서 가까운 k개 조회
+    public Optional<List<NearbyParkingLot>> searchNearest(double latitude, double longitude, int k, double maxRadiusInMeters) {
+        return search(latitude, longitude, maxRadiusInMeters,
+                GeoSearchCommandArgs.newGeoSearchArgs().includeDistance().sortAscending().limit(k));
+    }
+
+    private Optional<List<NearbyParkingLot>> search(double latitude, double longitude, double radiusInMeters, GeoSearchCommandArgs args) {
+        try {
+            if (!isReady()) {
+                return Optional.empty();
+            }
+
+            GeoResults<GeoLocation<String>> results = stringRedisTemplate.opsForGeo().search(
+                    GEO_KEY,
+                    GeoReference.fromCoordinate(longitude, latitude),
+                    new Distance(radiusInMeters, Metrics.METERS),
+                    args
+            );
+            if (results == null) {
+                return Optional.empty();
+            }
+
+            // 결과가 비었는데 키도 없으면 집합이 사라진 것이므로 DB 조회로 대체
+            if (results.getContent().isEmpty() && !Boolean.TRUE.equals(stringRedisTemplate.hasKey(GEO_KEY))) {
+                ready = false;
+                readyCheckedAt = System.currentTimeMillis();
+                return Optional.empty();
+            }
+
+            List<NearbyParkingLot> nearby = new ArrayList<>(results.getContent().size());
+            for (GeoResult<GeoLocation<String>> result : results) {
+                nearby.add(new NearbyParkingLot(
+                        Long.parseLong(result.getContent().getName()),
+                        result.getDistance().getValue()
+                ));
+            }
+            return Optional.of(nearby);
+        } catch (Exception e) {
+            log.warn("[GEO 인덱스] 반경 검색 실패, DB 조회로 대체 : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    public void add(Long parkingLotId, Double latitude, Double longitude) {
+        if (parkingLotId == null || latitude == null || longitude == null) {
+            return;
+        }
+        stringRedisTemplate.opsForGeo().add(GEO_KEY, new Point(longitude, latitude), String.valueOf(parkingLotId));
+        recordChange(String.valueOf(parkingLotId), longitude + "," + latitude);
+    }
+
+    public void remove(Long parkingLotId) {
+        if (parkingLotId == null) {
+            return;
+        }
+        stringRedisTemplate.opsForGeo().remove(GEO_KEY, String.valueOf(parkingLotId));
+        recordChange(String.valueOf(parkingLotId), REMOVED);
+    }
+
+    // 재적재 중이면 RENAME 후 다시 반영할 수 있도록 변경 기록
+    private void recordChange(String member, String change) {
+        if (Boolean.TRUE.equals(stringRedisTemplate.hasKey(REBUILDING_KEY))) {
+            stringRedisTemplate.opsForHash().put(CHANGES_KEY, member, change);
+        }
+    }
+
+    // 임시 키에 전체 좌표를 적재한 뒤 RENAME 으로 교체하여, 재적재 중에도 기존 집합으로 검색 가능
+    // 좌표 조회 전에 재적재 중 표시를 남기고, 그 사이의 add/remove 는 교체 후 다시 반영 (적재분이 최신 변경을 덮지 않음)
+    // 재적재 중 표시를 SET NX 로 잡아 노드 간 동시 재적재를 막고, 이미 재적재 중이면 SKIPPED
+    public int rebuild(Supplier<List<ParkingLotLocation>> locationLoader, int chunkSize) {
+        String token = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(stringRedisTemplate.opsForValue().setIfAbsent(REBUILDING_KEY, token, REBUILDING_TTL))) {
+            log.info("[GEO 인덱스] 다른 노드가 재적재 중이므로 건너뜀");
+            return SKIPPED;
+        }
+        String rebuildKey = REBUILD_KEY_PREFIX + token;
+        stringRedisTemplate.delete(CHANGES_KEY);
+        try {
+            List<ParkingLotLocation> locations = locationLoader.get();
+            if (locations.isEmpty()) {
+                stringRedisTemplate.delete(GEO_KEY);
+                ready = false;
+                return 0;
+            }
+
+            for (int from = 0; from < locations.size(); from += chunkSize) {
+                Map<String, Point> members = locations.subList(from, Math.min(from + chunkSize, locations.size())).stream()
+                        .collect(Collectors.toMap(
+                                location -> String.valueOf(location.getParkingLotId()),
+                                location -> new Point(location.getLongitude(), location.getLatitude()),
+                                (first, second) -> second
+                        ));
+                stringRedisTemplate.opsForGeo().add(rebuildKey, members);
+            }
+
+            stringRedisTemplate.rename(rebuildKey, GEO_KEY);
+            ready = true;
+            readyCheckedAt = System.currentTimeMillis();
+            return locations.size();
+        } finally {
+            // 교체 전에 실패했으면 임시 키가 남으므로 삭제 (교체 후에는 없는 키)
+            stringRedisTemplate.delete(rebuildKey);
+            // 기록을 다시 반영한 뒤 표시를 풀어야 다음 재적재가 기록을 지우기 전에 반영됨
+            try {
+                replayChanges();
+            } finally {
+                stringRedisTemplate.execute(RELEASE_SCRIPT, List.of(REBUILDING_KEY), token);
+            }
+        }
+    }
+
+    private void replayChanges() {
+        Map<Object, Object> changes = stringRedisTemplate.opsForHash().entries(CHANGES_KEY);
+        stringRedisTemplate.delete(CHANGES_KEY);
+        changes.forEach((member, change) -> {
+            String value = String.valueOf(change);
+            if (REMOVED.equals(value)) {
+                stringRedisTemplate.opsForGeo().remove(GEO_KEY, String.valueOf(member));
+                return;
+            }
+            String[] coordinates = value.split(",");
+            stringRedisTemplate.opsForGeo().add(GEO_KEY,
+                    new Point(Double.parseDouble(coordinates[0]), Double.parseDouble(coordinates[1])), String.valueOf(member));
+        });
+    }
+}
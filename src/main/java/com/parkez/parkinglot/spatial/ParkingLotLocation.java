@@ -0,0 +1,17 @@
+package com.parkez.parkinglot.spatial;
+
+import lombok.Getter;
+
+@Getter
+public class ParkingLotLocation {
+
+    private final Long parkingLotId;
+    private final Double latitude;
+    private final Double longitude;
+
+    public ParkingLotLocation(Long parkingLotId, Double latitude, Double longitude) {
+        this.parkingLotId = parkingLotId;
+        this.latitude = latitude;
+        this.longitude = longitude;
+    }
+}
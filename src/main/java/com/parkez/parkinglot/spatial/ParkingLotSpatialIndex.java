@@ -0,0 +1,116 @@
+package com.parkez.parkinglot.spatial;
+
+import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 주차장 좌표를 메모리 격자 인덱스로 유지하여 반경 검색 시 DB 전체 거리 계산을 피한다.
+ * 인스턴스마다 독립적으로 유지되는 상태이므로 분산 락 없이 각 노드에서 주기적으로 재적재한다.
+ * 재적재 중의 추가/삭제는 기록해 두었다가 새 격자로 교체하기 전에 다시 반영한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingLotSpatialIndex {
+
+    // 약 1.1km 크기의 격자
+    private static final double CELL_SIZE_DEGREES = 0.01;
+
+    private final ParkingLotRepository parkingLotRepository;
+
+    private volatile GridSpatialIndex grid = new GridSpatialIndex(CELL_SIZE_DEGREES);
+    private volatile boolean ready = false;
+
+    // 재적재 중 추가/삭제 기록 (주차장 ID -> 좌표, 삭제는 null), 재적재 중이 아니면 null
+    private final Object changesLock = new Object();
+    private Map<Long, ParkingLotLocation> changesDuringReload;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        reload();
+    }
+
+    // 10분마다 전체 재적재 (Lambda 공공데이터 적재 등 애플리케이션 밖에서 추가된 주차장 반영)
+    @Scheduled(initialDelay = 600_000, fixedDelay = 600_000)
+    public synchronized void reload() {
+        // 좌표 조회 전에 기록을 시작해야 조회 이후 커밋된 변경이 빠지지 않음
+        synchronized (changesLock) {
+            changesDuringReload = new HashMap<>();
+        }
+        try {
+            List<ParkingLotLocation> locations = parkingLotRepository.findAllActiveLocations();
+            GridSpatialIndex newGrid = new GridSpatialIndex(CELL_SIZE_DEGREES);
+            locations.forEach(location -> newGrid.put(location.getParkingLotId(), location.getLatitude(), location.getLongitude()));
+
+            synchronized (changesLock) {
+                changesDuringReload.forEach((parkingLotId, location) -> {
+                    if (location == null) {
+                        newGrid.remove(parkingLotId);
+                    } else {
+                        newGrid.put(parkingLotId, location.getLatitude(), location.getLongitude());
+                    }
+                });
+                grid = newGrid;
+            }
+            ready = true;
+            log.info("[공간 인덱스] 주차장 좌표 적재 완료 count={}", newGrid.size());
+        } catch (Exception e) {
+            log.error("[공간 인덱스] 주차장 좌표 적재 실패 : {}", e.getMessage(), e);
+        } finally {
+            synchronized (changesLock) {
+                changesDuringReload = null;
+            }
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    // 반경 내 주차장을 가까운 순으로 반환
+    public List<NearbyParkingLot> findWithinRadius(double latitude, double longitude, double radiusInMeters) {
+        return grid.findWithinRadius(latitude, longitude, radiusInMeters).stream()
+                .map(hit -> new NearbyParkingLot(hit.parkingLotId(), hit.distanceInMeters()))
+                .toList();
+    }
+
+    // 최대 반경 안에서 가까운 순으로 최대 k개 반환 (필요한 만큼만 격자를 넓혀 탐색)
+    public List<NearbyParkingLot> findNearest(double latitude, double longitude, int k, double maxRadiusInMeters) {
+        return grid.findNearest(latitude, longitude, k, maxRadiusInMeters).stream()
+                .map(hit -> new NearbyParkingLot(hit.parkingLotId(), hit.distanceInMeters()))
+                .toList();
+    }
+
+    public void upsert(Long parkingLotId, Double latitude, Double longitude) {
+        if (parkingLotId == null || latitude == null || longitude == null) {
+            return;
+        }
+        synchronized (changesLock) {
+            grid.put(parkingLotId, latitude, longitude);
+            if (changesDuringReload != null) {
+                changesDuringReload.put(parkingLotId, new ParkingLotLocation(parkingLotId, latitude, longitude));
+            }
+        }
+    }
+
+    public void remove(Long parkingLotId) {
+        if (parkingLotId == null) {
+            return;
+        }
+        synchronized (changesLock) {
+            grid.remove(parkingLotId);
+            if (changesDuringReload != null) {
+                changesDuringReload.put(parkingLotId, null);
+            }
+        }
+    }
+}
@@ -5,11 +5,15 @@ import com.parkez.common.dto.request.PageRequest;
 import com.parkez.common.dto.response.Response;
 import com.parkez.common.principal.AuthUser;
 import com.parkez.common.resolver.AuthenticatedUser;
+import com.parkez.parkinglot.dto.request.ParkingLotAvailabilitySearchRequest;
+import com.parkez.parkinglot.dto.request.ParkingLotCursorSearchRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotImagesRequest;
+import com.parkez.parkinglot.dto.request.ParkingLotNearestSearchRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotSearchRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotStatusRequest;
 import com.parkez.parkinglot.dto.response.MyParkingLotSearchResponse;
+import com.parkez.parkinglot.dto.response.ParkingLotCursorResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
 import com.parkez.parkinglot.service.ParkingLotService;
@@ -23,6 +27,8 @@ import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.security.access.annotation.Secured;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -54,6 +60,36 @@ public class ParkingLotController {
         return Response.fromPage(parkingLotService.searchParkingLotsByConditions(request, pageRequest));
     }
 
+    // 주차장 커서 기반 다건 조회
+    @GetMapping("/v1/parking-lots/cursor")
+    @Operation(summary = "주차장 커서 기반 다건 조회", description = "위치 조건이 있으면 거리순, 없으면 ID순으로 조회합니다. 응답의 nextCursor 값을 다음 요청에 전달합니다.")
+    @Secured({UserRole.Authority.OWNER, UserRole.Authority.USER})
+    public Response<ParkingLotCursorResponse> searchParkingLotsByCursor(
+            @Valid @ParameterObject @ModelAttribute ParkingLotCursorSearchRequest request
+    ) {
+        return Response.of(parkingLotService.searchParkingLotsByCursor(request));
+    }
+
+    // 최근접 영업 중 주차장 조회
+    @GetMapping("/v1/parking-lots/nearest")
+    @Operation(summary = "최근접 주차장 조회", description = "사용자 위치에서 가장 가까운 영업 중인 주차장을 거리순으로 size 건 조회합니다.")
+    @Secured({UserRole.Authority.OWNER, UserRole.Authority.USER})
+    public Response<List<ParkingLotSearchResponse>> searchNearestParkingLots(
+            @Valid @ParameterObject @ModelAttribute ParkingLotNearestSearchRequest request
+    ) {
+        return Response.of(parkingLotService.searchNearestParkingLots(request));
+    }
+
+    // 시간대 예약 가능 주차장 조회
+    @GetMapping("/v1/parking-lots/available")
+    @Operation(summary = "시간대 예약 가능 주차장 조회", description = "사용자 위치 근처에서 요청 시간대 전체 동안 비어 있는 주차공간이 하나 이상 있는 주차장을 거리순으로 조회합니다. 검색 범위 안의 가까운 영업 중 주차장 최대 1,000곳까지 확인하므로, 그 안에 조건에 맞는 주차장이 부족하면 size 보다 적게 반환될 수 있습니다.")
+    @Secured({UserRole.Authority.OWNER, UserRole.Authority.USER})
+    public Response<List<ParkingLotSearchResponse>> searchAvailableParkingLots(
+            @Valid @ParameterObject @ModelAttribute ParkingLotAvailabilitySearchRequest request
+    ) {
+        return Response.of(parkingLotService.searchAvailableParkingLots(request));
+    }
+
     // 주차장 단건 조회
     @GetMapping("/v1/parking-lots/{parkingLotId}")
     @Operation(summary = "주차장 단건 조회")
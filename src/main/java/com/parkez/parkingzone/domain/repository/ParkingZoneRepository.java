@@ -64,4 +64,20 @@ public interface ParkingZoneRepository extends JpaRepository<ParkingZone, Long>
            AND pz.deletedAt IS NULL
        """)
     List<ParkingZone> findAllByParkingLotId(@Param("parkingLotId") Long parkingLotId);
+
+    @Query("""
+           SELECT pz FROM ParkingZone pz
+           WHERE pz.parkingLot.id IN :parkingLotIds
+           AND pz.status = :status
+           AND pz.deletedAt IS NULL
+       """)
+    List<ParkingZone> findAllByParkingLotIdInAndStatus(@Param("parkingLotIds") List<Long> parkingLotIds,
+                                                       @Param("status") ParkingZoneStatus status);
+
+    @Query("""
+           SELECT pz FROM ParkingZone pz
+           WHERE pz.parkingLot.id IN :parkingLotIds
+           AND pz.deletedAt IS NULL
+       """)
+    List<ParkingZone> findAllByParkingLotIdIn(@Param("parkingLotIds") List<Long> parkingLotIds);
 }
@@ -2,6 +2,7 @@ package com.parkez.parkingzone.service;
 
 import com.parkez.common.exception.ParkingEasyException;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
+import com.parkez.parkingzone.domain.enums.ParkingZoneStatus;
 import com.parkez.parkingzone.domain.repository.ParkingZoneRepository;
 import com.parkez.parkingzone.dto.response.ParkingZoneResponse;
 import com.parkez.parkingzone.exception.ParkingZoneErrorCode;
@@ -42,4 +43,8 @@ public class ParkingZoneReader {
     public List<ParkingZone> findAllByParkingLotId(Long parkingLotId) {
         return parkingZoneRepository.findAllByParkingLotId(parkingLotId);
     }
+
+    public List<ParkingZone> findAvailableByParkingLotIds(List<Long> parkingLotIds) {
+        return parkingZoneRepository.findAllByParkingLotIdInAndStatus(parkingLotIds, ParkingZoneStatus.AVAILABLE);
+    }
 }
@@ -76,7 +76,7 @@ public class ParkingZoneService {
         ParkingZone parkingZone = parkingZoneReader.getActiveByParkingZoneId(parkingZoneId);
         validateOwner(parkingZone, authUser.getId());
         validateNoActiveReservationsForDeletion(parkingZoneId);
-        parkingZoneWriter.deleteParkingZone(parkingZoneId, deletedAt);
+        parkingZoneWriter.deleteParkingZone(parkingZone, deletedAt);
     }
 
     private void validateNotPublicData(ParkingLot parkingLot) {
@@ -1,10 +1,12 @@
 package com.parkez.parkingzone.service;
 
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.parkingzone.domain.enums.ParkingZoneStatus;
 import com.parkez.parkingzone.domain.repository.ParkingZoneRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -16,6 +18,7 @@ import java.time.LocalDateTime;
 public class ParkingZoneWriter {
 
     private final ParkingZoneRepository parkingZoneRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public ParkingZone createParkingZone(String name, String imageUrl, ParkingLot parkingLot) {
         ParkingZone parkingZone = ParkingZone.builder()
@@ -23,10 +26,18 @@ public class ParkingZoneWriter {
                 .name(name)
                 .imageUrl(imageUrl)
                 .build();
-        return parkingZoneRepository.save(parkingZone);
+        ParkingZone savedParkingZone = parkingZoneRepository.save(parkingZone);
+
+        // 주차장 통계 반영
+        eventPublisher.publishEvent(ParkingLotStatsEvent.parkingZoneCreated(parkingLot.getId()));
+
+        return savedParkingZone;
     }
 
-    public void deleteParkingZone(Long parkingZoneId, LocalDateTime deletedAt) {
-        parkingZoneRepository.softDeleteById(parkingZoneId, deletedAt, ParkingZoneStatus.UNAVAILABLE);
+    public void deleteParkingZone(ParkingZone parkingZone, LocalDateTime deletedAt) {
+        parkingZoneRepository.softDeleteById(parkingZone.getId(), deletedAt, ParkingZoneStatus.UNAVAILABLE);
+
+        // 주차장 통계 반영
+        eventPublisher.publishEvent(ParkingLotStatsEvent.parkingZoneDeleted(parkingZone.getParkingLotId()));
     }
 }
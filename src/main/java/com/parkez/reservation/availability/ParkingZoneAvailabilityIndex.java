@@ -0,0 +1,162 @@
+package com.parkez.reservation.availability;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.parkez.reservation.domain.enums.ReservationStatus;
+import com.parkez.reservation.domain.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * 주차공간별 활성 예약 구간 인덱스 (인스턴스 로컬).
+ * 캐시에 없는 주차공간들은 한 번의 IN 조회로 적재하므로, 여러 주차장의 시간대 예약 가능 여부를
+ * 주차공간 수만큼 COUNT 쿼리를 보내지 않고 확인할 수 있다.
+ * 예약 상태가 바뀔 때마다 Redis 의 주차공간별 버전을 올리고, 같은 인스턴스의 구간은 바로 갱신한다.
+ * 검색은 TTL 이내의 구간을 그대로 사용하고, 예약 생성은 버전이 같을 때만 캐시된 구간을 사용한다.
+ * 버전 증가가 실패하면 다른 인스턴스의 구간이 최신이 아닐 수 있으므로, 예약 생성은 저장 전에 DB 로 겹침을 한 번 더 확인한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ParkingZoneAvailabilityIndex {
+
+    private static final long MAXIMUM_SIZE = 50_000;
+    private static final Duration TTL = Duration.ofSeconds(30);
+    private static final int IN_CLAUSE_CHUNK_SIZE = 1_000;
+    private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+    private static final String VERSION_KEY_FORMAT = "reservation:zone-version:%d";
+    private static final long UNKNOWN_VERSION = -1L;
+
+    private final ReservationRepository reservationRepository;
+    private final StringRedisTemplate stringRedisTemplate;
+
+    private final Cache<Long, VersionedIntervals> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(TTL)
+            .build();
+
+    // 요청 시간대 전체가 비어 있는 주차공간 ID
+    public Set<Long> findFreeParkingZoneIds(Collection<Long> parkingZoneIds, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (parkingZoneIds.isEmpty()) {
+            return Set.of();
+        }
+
+        return cache.getAll(parkingZoneIds, this::load).entrySet().stream()
+                .filter(entry -> entry.getValue().intervals().isFree(startDateTime, endDateTime))
+                .map(Map.Entry::getKey)
+                .collect(Collectors.toSet());
+    }
+
+    /**
+     * 예약 생성용 최신 구간. 주차공간-날짜 분산 락 안에서 호출해야 한다 (슬롯 비트맵 경로는 선점으로 배타성을 보장하고 보조 확인으로 사용).
+     * 같은 날짜의 다른 인스턴스 예약 생성도 락 해제 전에 버전을 올리므로, 버전이 같으면 요청 날짜의 구간은 DB 와 같다.
+     * 버전이 다르거나 Redis 장애로 확인할 수 없으면 해당 주차공간만 DB 에서 다시 적재한다.
+     */
+    public ParkingZoneIntervals getLatest(Long parkingZoneId) {
+        long version = currentVersion(parkingZoneId);
+        VersionedIntervals cached = cache.getIfPresent(parkingZoneId);
+        if (version != UNKNOWN_VERSION && cached != null && cached.version() == version) {
+            return cached.intervals();
+        }
+
+        // 적재 전에 읽은 버전으로 저장하므로, 적재 중 바뀐 구간은 다음 확인 때 다시 적재된다
+        ParkingZoneIntervals loaded = load(List.of(parkingZoneId)).get(parkingZoneId).intervals();
+        if (version != UNKNOWN_VERSION) {
+            cache.put(parkingZoneId, new VersionedIntervals(version, loaded));
+        }
+        return loaded;
+    }
+
+    // 커밋된 예약 생성/확정 반영
+    public void occupy(ReservationInterval interval) {
+        update(interval.parkingZoneId(), intervals -> intervals.with(interval));
+    }
+
+    // 커밋된 예약 취소/만료/사용 완료 반영
+    public void release(Long parkingZoneId, Long reservationId) {
+        update(parkingZoneId, intervals -> intervals.without(reservationId));
+    }
+
+    public void evict(Long parkingZoneId) {
+        if (parkingZoneId != null) {
+            cache.invalidate(parkingZoneId);
+        }
+    }
+
+    // 직전 버전의 구간을 가지고 있을 때만 변경분을 적용하고, 그 외에는 무효화하여 다시 적재하도록 한다
+    private void update(Long parkingZoneId, UnaryOperator<ParkingZoneIntervals> change) {
+        if (parkingZoneId == null) {
+            return;
+        }
+
+        long version = increaseVersion(parkingZoneId);
+        if (version == UNKNOWN_VERSION) {
+            cache.invalidate(parkingZoneId);
+            return;
+        }
+        cache.asMap().computeIfPresent(parkingZoneId, (id, cached) -> cached.version() == version - 1
+                ? new VersionedIntervals(version, change.apply(cached.intervals()))
+                : null);
+    }
+
+    private long currentVersion(Long parkingZoneId) {
+        try {
+            String version = stringRedisTemplate.opsForValue().get(versionKey(parkingZoneId));
+            return version == null ? 0L : Long.parseLong(version);
+        } catch (Exception e) {
+            log.warn("[예약 구간] 버전 조회 실패 parkingZoneId={} : {}", parkingZoneId, e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private long increaseVersion(Long parkingZoneId) {
+        try {
+            Long version = stringRedisTemplate.opsForValue().increment(versionKey(parkingZoneId));
+            return version == null ? UNKNOWN_VERSION : version;
+        } catch (Exception e) {
+            log.warn("[예약 구간] 버전 증가 실패 parkingZoneId={} : {}", parkingZoneId, e.getMessage());
+            return UNKNOWN_VERSION;
+        }
+    }
+
+    private String versionKey(Long parkingZoneId) {
+        return String.format(VERSION_KEY_FORMAT, parkingZoneId);
+    }
+
+    // 이미 끝난 예약은 빈 시간 확인에 영향이 없으므로 종료 전 예약만 적재 (검색용 일괄 적재는 버전을 확인하지 않음)
+    private Map<Long, VersionedIntervals> load(Collection<? extends Long> parkingZoneIds) {
+        List<Long> ids = new ArrayList<>(parkingZoneIds);
+        LocalDateTime now = LocalDateTime.now();
+
+        Map<Long, List<ReservationInterval>> intervalsByZone = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += IN_CLAUSE_CHUNK_SIZE) {
+            List<Long> chunk = ids.subList(from, Math.min(from + IN_CLAUSE_CHUNK_SIZE, ids.size()));
+            for (ReservationInterval interval : reservationRepository.findActiveIntervalsByParkingZoneIds(chunk, ACTIVE_STATUSES, now)) {
+                intervalsByZone.computeIfAbsent(interval.parkingZoneId(), key -> new ArrayList<>()).add(interval);
+            }
+        }
+
+        Map<Long, VersionedIntervals> loaded = new HashMap<>();
+        for (Long parkingZoneId : ids) {
+            loaded.put(parkingZoneId, new VersionedIntervals(UNKNOWN_VERSION,
+                    ParkingZoneIntervals.of(intervalsByZone.getOrDefault(parkingZoneId, List.of()))));
+        }
+        return loaded;
+    }
+
+    private record VersionedIntervals(long version, ParkingZoneIntervals intervals) {
+    }
+}
@@ -0,0 +1,134 @@
+package com.parkez.reservation.availability;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * 주차공간 하나의 활성 예약(PENDING, CONFIRMED) 시간 구간.
+ * 겹치거나 맞닿은 구간은 병합하여 시작 시각 순 primitive 배열로 보관하므로 종료 시각도 오름차순이 되고,
+ * 빈 시간 확인은 이진 탐색 한 번으로 끝난다.
+ * 본인 중복 예약 확인을 위해 병합 전 구간도 시작 시각 순으로 사용자 ID 와 함께 보관한다.
+ */
+public final class ParkingZoneIntervals {
+
+    public static final ParkingZoneIntervals EMPTY = new ParkingZoneIntervals(List.of(), new long[0], new long[0], new long[0], new long[0], new long[0]);
+
+    private static final long NO_USER = Long.MIN_VALUE;
+
+    private final List<ReservationInterval> intervals;
+
+    // 병합된 구간
+    private final long[] starts;
+    private final long[] ends;
+
+    // 병합 전 구간 (시작 시각 순)
+    private final long[] reservationStarts;
+    private final long[] reservationEnds;
+    private final long[] userIds;
+
+    private ParkingZoneIntervals(List<ReservationInterval> intervals, long[] starts, long[] ends,
+                                 long[] reservationStarts, long[] reservationEnds, long[] userIds) {
+        this.intervals = intervals;
+        this.starts = starts;
+        this.ends = ends;
+        this.reservationStarts = reservationStarts;
+        this.reservationEnds = reservationEnds;
+        this.userIds = userIds;
+    }
+
+    public static ParkingZoneIntervals of(List<ReservationInterval> intervals) {
+        if (intervals.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<ReservationInterval> sorted = intervals.stream()
+                .sorted(Comparator.comparing(ReservationInterval::startDateTime))
+                .toList();
+
+        int count = sorted.size();
+        long[] reservationStarts = new long[count];
+        long[] reservationEnds = new long[count];
+        long[] userIds = new long[count];
+        long[] starts = new long[count];
+        long[] ends = new long[count];
+        int size = 0;
+        for (int i = 0; i < count; i++) {
+            ReservationInterval interval = sorted.get(i);
+            reservationStarts[i] = toEpochSecond(interval.startDateTime());
+            reservationEnds[i] = toEpochSecond(interval.endDateTime());
+            userIds[i] = interval.userId() == null ? NO_USER : interval.userId();
+
+            if (size > 0 && reservationStarts[i] <= ends[size - 1]) {
+                ends[size - 1] = Math.max(ends[size - 1], reservationEnds[i]);
+                continue;
+            }
+            starts[size] = reservationStarts[i];
+            ends[size] = reservationEnds[i];
+            size++;
+        }
+        return new ParkingZoneIntervals(sorted, Arrays.copyOf(starts, size), Arrays.copyOf(ends, size),
+                reservationStarts, reservationEnds, userIds);
+    }
+
+    // [startDateTime, endDateTime) 와 겹치는 예약이 없는지 (예약 생성 시 중복 조건과 동일)
+    public boolean isFree(LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        long start = toEpochSecond(startDateTime);
+        long end = toEpochSecond(endDateTime);
+
+        // 요청 종료 시각 전에 시작한 마지막 구간만 확인하면 된다
+        int index = Arrays.binarySearch(starts, end);
+        int last = index >= 0 ? index - 1 : -index - 2;
+        return last < 0 || ends[last] <= start;
+    }
+
+    // [startDateTime, endDateTime) 와 겹치는 해당 사용자의 예약이 있는지
+    public boolean isReservedBy(Long userId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        if (userId == null || isFree(startDateTime, endDateTime)) {
+            return false;
+        }
+
+        long start = toEpochSecond(startDateTime);
+        long end = toEpochSecond(endDateTime);
+        // 병합 전 구간은 종료 시각이 정렬되어 있지 않으므로 요청 종료 시각 전에 시작한 구간을 순서대로 확인
+        for (int i = 0; i < reservationStarts.length && reservationStarts[i] < end; i++) {
+            if (userIds[i] == userId && reservationEnds[i] > start) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 예약 생성/확정 반영 (같은 예약 ID 는 교체)
+    public ParkingZoneIntervals with(ReservationInterval interval) {
+        List<ReservationInterval> updated = new ArrayList<>(intervals.size() + 1);
+        for (ReservationInterval existing : intervals) {
+            if (!Objects.equals(existing.reservationId(), interval.reservationId())) {
+                updated.add(existing);
+            }
+        }
+        updated.add(interval);
+        return of(updated);
+    }
+
+    // 예약 취소/만료/사용 완료 반영
+    public ParkingZoneIntervals without(Long reservationId) {
+        List<ReservationInterval> updated = intervals.stream()
+                .filter(existing -> !Objects.equals(existing.reservationId(), reservationId))
+                .toList();
+        return updated.size() == intervals.size() ? this : of(updated);
+    }
+
+    public int size() {
+        return starts.length;
+    }
+
+    // 구간 비교만 하므로 시간대와 무관한 UTC 기준 초로 변환
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
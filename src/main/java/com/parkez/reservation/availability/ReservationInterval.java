@@ -0,0 +1,8 @@
+package com.parkez.reservation.availability;
+
+import java.time.LocalDateTime;
+
+// 주차공간별 활성 예약 시간 구간 조회용 projection (본인 중복 예약 확인, 구간 갱신용 예약/사용자 ID 포함)
+public record ReservationInterval(Long reservationId, Long parkingZoneId, Long userId,
+                                  LocalDateTime startDateTime, LocalDateTime endDateTime) {
+}
@@ -4,5 +4,5 @@ import java.util.concurrent.Callable;
 
 public interface DistributedLockManager {
 
-    <T> T executeWithLock(Long key, Callable<T> task);
+    <T> T executeWithLock(LockKey key, Callable<T> task);
 }
@@ -0,0 +1,20 @@
+package com.parkez.reservation.distributedlockmanager;
+
+import java.time.LocalDate;
+
+/**
+ * 분산 락 키. keyClass 는 지표 태그로 쓰이므로 값 종류가 적어야 하고, value 가 실제 잠금 대상을 구분한다.
+ */
+public record LockKey(String keyClass, String value) {
+
+    private static final String PARKING_ZONE_DATE = "parking-zone-date";
+
+    // 예약은 하루 안에서만 가능하므로 날짜가 다른 예약은 겹칠 수 없어 주차공간+날짜 단위로 잠근다
+    public static LockKey parkingZoneDate(Long parkingZoneId, LocalDate date) {
+        return new LockKey(PARKING_ZONE_DATE, parkingZoneId + ":" + date);
+    }
+
+    public String name() {
+        return keyClass + ":" + value;
+    }
+}
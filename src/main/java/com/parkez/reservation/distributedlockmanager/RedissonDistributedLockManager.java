@@ -2,6 +2,9 @@ package com.parkez.reservation.distributedlockmanager;
 
 import com.parkez.common.exception.ParkingEasyException;
 import com.parkez.reservation.exception.ReservationErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -17,24 +20,38 @@ import java.util.concurrent.TimeUnit;
 public class RedissonDistributedLockManager implements DistributedLockManager {
 
     private final RedissonClient redissonClient;
+    private final MeterRegistry meterRegistry;
     private static final String LOCK_KEY_PREFIX = "distributed-lock:";
     private static final long WAIT_TIME = 5L;
     private static final long LEASE_TIME = -1L;
 
+    // 키 종류(keyClass)별 락 대기/점유 시간, 획득 실패 수
+    private static final String WAIT_TIMER = "reservation.lock.wait";
+    private static final String HOLD_TIMER = "reservation.lock.hold";
+    private static final String FAILURE_COUNTER = "reservation.lock.failures";
+
     @Override
-    public <T> T executeWithLock(Long key, Callable<T> task) {
-        String lockKey = LOCK_KEY_PREFIX + key;
+    public <T> T executeWithLock(LockKey key, Callable<T> task) {
+        String lockKey = LOCK_KEY_PREFIX + key.name();
         RLock lock = redissonClient.getLock(lockKey);
+        long waitStartedAt = System.nanoTime();
+        long acquiredAt = 0L;
 
         try {
             // 5초 내로 락 획득 시도, -1초 후 자동으로 락 해제(수동으로만 락 해제 가능하도록 설정)
             if (!lock.tryLock(WAIT_TIME, LEASE_TIME, TimeUnit.SECONDS)) {
+                recordWait(key, waitStartedAt, "timeout");
+                countFailure(key, "timeout");
                 throw new ParkingEasyException(ReservationErrorCode.RESERVATION_LOCK_FAILED);
             }
+            recordWait(key, waitStartedAt, "acquired");
+            acquiredAt = System.nanoTime();
             return task.call();
 
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+            recordWait(key, waitStartedAt, "interrupted");
+            countFailure(key, "interrupted");
             throw new ParkingEasyException(ReservationErrorCode.RESERVATION_LOCK_INTERRUPTED);
 
         } catch (Exception e) {
@@ -48,6 +65,32 @@ public class RedissonDistributedLockManager implements DistributedLockManager {
             if (lock.isHeldByCurrentThread()) {
                 lock.unlock(); // 작업 완료 후 락 해제
             }
+            if (acquiredAt != 0L) {
+                recordHold(key, acquiredAt);
+            }
         }
     }
+
+    private void recordWait(LockKey key, long waitStartedAt, String outcome) {
+        Timer.builder(WAIT_TIMER)
+                .tag("key.class", key.keyClass())
+                .tag("outcome", outcome)
+                .register(meterRegistry)
+                .record(System.nanoTime() - waitStartedAt, TimeUnit.NANOSECONDS);
+    }
+
+    private void countFailure(LockKey key, String reason) {
+        Counter.builder(FAILURE_COUNTER)
+                .tag("key.class", key.keyClass())
+                .tag("reason", reason)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void recordHold(LockKey key, long acquiredAt) {
+        Timer.builder(HOLD_TIMER)
+                .tag("key.class", key.keyClass())
+                .register(meterRegistry)
+                .record(System.nanoTime() - acquiredAt, TimeUnit.NANOSECONDS);
+    }
 }
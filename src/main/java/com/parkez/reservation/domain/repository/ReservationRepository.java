@@ -1,6 +1,7 @@
 package com.parkez.reservation.domain.repository;
 
 import com.parkez.parkingzone.domain.entity.ParkingZone;
+import com.parkez.reservation.availability.ReservationInterval;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.reservation.domain.enums.ReservationStatus;
 import com.parkez.reservation.dto.response.ReservationWithReviewDto;
@@ -34,6 +35,26 @@ public interface ReservationRepository extends JpaRepository<Reservation, Long>
                                           @Param("end") LocalDateTime end,
                                           @Param("statusList") List<ReservationStatus> statusList);
 
+    @Query("""
+                SELECT new com.parkez.reservation.availability.ReservationInterval(r.id, r.parkingZone.id, r.user.id, r.startDateTime, r.endDateTime)
+                FROM Reservation r
+                WHERE r.parkingZone.id IN :parkingZoneIds
+                  AND r.status IN :statusList
+                  AND r.endDateTime > :now
+            """)
+    List<ReservationInterval> findActiveIntervalsByParkingZoneIds(@Param("parkingZoneIds") List<Long> parkingZoneIds,
+                                                                  @Param("statusList") List<ReservationStatus> statusList,
+                                                                  @Param("now") LocalDateTime now);
+
+    @Query("""
+                SELECT DISTINCT r.parkingZone.parkingLot.id
+                FROM Reservation r
+                WHERE r.status IN :statusList
+                  AND r.endDateTime > :now
+            """)
+    List<Long> findActiveParkingLotIds(@Param("statusList") List<ReservationStatus> statusList,
+                                       @Param("now") LocalDateTime now);
+
     boolean existsByUser_Id(Long userId);
 
     @Query("""
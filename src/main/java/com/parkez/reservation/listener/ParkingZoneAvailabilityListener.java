@@ -0,0 +1,26 @@
+package com.parkez.reservation.listener;
+
+import com.parkez.parkinglot.event.ParkingLotOccupancyEvent;
+import com.parkez.reservation.availability.ParkingZoneAvailabilityIndex;
+import com.parkez.reservation.availability.ReservationInterval;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ParkingZoneAvailabilityListener {
+
+    private final ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
+
+    // 커밋된 예약 상태 변경을 해당 주차공간 구간에 반영
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotOccupancyEvent(ParkingLotOccupancyEvent event) {
+        if (event.isOccupied()) {
+            parkingZoneAvailabilityIndex.occupy(new ReservationInterval(event.getReservationId(), event.getParkingZoneId(),
+                    event.getUserId(), event.getStartDateTime(), event.getEndDateTime()));
+            return;
+        }
+        parkingZoneAvailabilityIndex.release(event.getParkingZoneId(), event.getReservationId());
+    }
+}
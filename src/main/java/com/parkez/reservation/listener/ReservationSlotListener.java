@@ -0,0 +1,32 @@
+package com.parkez.reservation.listener;
+
+import com.parkez.parkinglot.event.ParkingLotOccupancyEvent;
+import com.parkez.reservation.slot.ReservationSlotStore;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotListener {
+
+    private final ReservationSlotStore reservationSlotStore;
+
+    @Value("${reservation.slot-claim.enabled:false}")
+    private boolean slotClaimEnabled;
+
+    // 커밋된 예약 상태 변경을 슬롯 비트맵에 반영 (대기열 예약 등 선점을 거치지 않은 예약 포함)
+    @TransactionalEventListener(fallbackExecution = true)
+    public void handleParkingLotOccupancyEvent(ParkingLotOccupancyEvent event) {
+        if (!slotClaimEnabled) {
+            return;
+        }
+
+        if (event.isOccupied()) {
+            reservationSlotStore.occupy(event.getParkingZoneId(), event.getStartDateTime(), event.getEndDateTime());
+            return;
+        }
+        reservationSlotStore.release(event.getParkingZoneId(), event.getStartDateTime(), event.getEndDateTime());
+    }
+}
@@ -14,6 +14,8 @@ import com.parkez.promotion.service.PromotionIssueWriter;
 import com.parkez.queue.domain.enums.JoinQueueResult;
 import com.parkez.queue.exception.QueueErrorCode;
 import com.parkez.queue.service.QueueService;
+import com.parkez.reservation.availability.ParkingZoneAvailabilityIndex;
+import com.parkez.reservation.availability.ParkingZoneIntervals;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.reservation.domain.enums.ReservationStatus;
 import com.parkez.reservation.dto.request.ReservationRequest;
@@ -34,6 +36,8 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ReservationProcessor {
 
+    private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
     private final ReservationReader reservationReader;
     private final ReservationWriter reservationWriter;
     private final UserReader userReader;
@@ -42,6 +46,7 @@ public class ReservationProcessor {
     private final PromotionIssueValidator promotionIssueValidator;
     private final PromotionIssueWriter promotionIssueWriter;
     private final QueueService queueService;
+    private final ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
 
     @Transactional
     public ReservationResponse create(AuthUser authUser, ReservationRequest request, LocalDateTime now) {
@@ -60,15 +65,24 @@ public class ReservationProcessor {
             throw new ParkingEasyException(ReservationErrorCode.CANT_RESERVE_AT_CLOSE_TIME);
         }
 
-        List<ReservationStatus> statusList = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+        // 분산 락 안에서 주차공간의 최신 예약 구간으로 본인/타인 중복 예약을 함께 확인
+        ParkingZoneIntervals intervals = parkingZoneAvailabilityIndex.getLatest(parkingZone.getId());
 
-        if (reservationReader.existsReservationByConditionsForUser(parkingZone, request.getStartDateTime(), request.getEndDateTime(), user.getId(), statusList)) {
+        if (intervals.isReservedBy(user.getId(), request.getStartDateTime(), request.getEndDateTime())) {
             throw new ParkingEasyException(ReservationErrorCode.ALREADY_RESERVED_BY_YOURSELF);
         }
 
-        boolean existed = reservationReader.existsReservationByConditions(parkingZone, request.getStartDateTime(), request.getEndDateTime(), statusList);
+        if (!intervals.isFree(request.getStartDateTime(), request.getEndDateTime())) {
+            handleJoinQueue(user, request);
+            return null;
+        }
 
-        if (existed) {
+        // 다른 인스턴스의 버전 증가가 실패하면 캐시된 구간이 최신이 아닐 수 있으므로, 저장 전 DB 로 겹치는 예약을 한 번 더 확인
+        if (reservationReader.existsReservationByConditions(parkingZone, request.getStartDateTime(), request.getEndDateTime(), ACTIVE_STATUSES)) {
+            parkingZoneAvailabilityIndex.evict(parkingZone.getId());
+            if (reservationReader.existsReservationByConditionsForUser(parkingZone, request.getStartDateTime(), request.getEndDateTime(), user.getId(), ACTIVE_STATUSES)) {
+                throw new ParkingEasyException(ReservationErrorCode.ALREADY_RESERVED_BY_YOURSELF);
+            }
             handleJoinQueue(user, request);
             return null;
         }
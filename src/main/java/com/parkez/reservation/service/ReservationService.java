@@ -18,7 +18,10 @@ import com.parkez.queue.dto.WaitingUserDto;
 import com.parkez.queue.exception.QueueErrorCode;
 import com.parkez.queue.redis.QueueKey;
 import com.parkez.queue.service.QueueService;
+import com.parkez.reservation.availability.ParkingZoneAvailabilityIndex;
+import com.parkez.reservation.availability.ParkingZoneIntervals;
 import com.parkez.reservation.distributedlockmanager.DistributedLockManager;
+import com.parkez.reservation.distributedlockmanager.LockKey;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.reservation.domain.enums.ReservationStatus;
 import com.parkez.reservation.dto.request.ReservationCancelRequest;
@@ -26,11 +29,14 @@ import com.parkez.reservation.dto.request.ReservationRequest;
 import com.parkez.reservation.dto.response.ReservationResponse;
 import com.parkez.reservation.dto.response.ReservationWithReviewDto;
 import com.parkez.reservation.exception.ReservationErrorCode;
+import com.parkez.reservation.slot.ReservationSlotStore;
+import com.parkez.reservation.slot.SlotClaimResult;
 import com.parkez.review.service.ReviewReader;
 import com.parkez.user.domain.entity.User;
 import com.parkez.user.service.UserReader;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -60,13 +66,27 @@ public class ReservationService {
 	private final PromotionIssueWriter promotionIssueWriter;
     private final QueueService queueService;
 	private final ReservationProcessor reservationProcessor;
+	private final ReservationSlotStore reservationSlotStore;
+	private final ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
+
+	// true 면 분산 락 대신 Redis 슬롯 비트맵 선점으로 예약 생성
+	@Value("${reservation.slot-claim.enabled:false}")
+	private boolean slotClaimEnabled;
 
 	private static final long CANCEL_LIMIT_HOURS = 1L;
 	private static final long EXPIRATION_TIME = 10L;
 
 	public ReservationResponse createReservation(AuthUser authUser, ReservationRequest request, LocalDateTime now) {
+		if (slotClaimEnabled && validateRequestTime(request)) {
+			return createWithSlotClaim(authUser, request, now);
+		}
+		return createWithLock(authUser, request, now);
+	}
+
+	private ReservationResponse createWithLock(AuthUser authUser, ReservationRequest request, LocalDateTime now) {
 		try {
-			return distributedLockManager.executeWithLock(request.getParkingZoneId(), () -> reservationProcessor.create(authUser, request, now));
+			LockKey lockKey = LockKey.parkingZoneDate(request.getParkingZoneId(), request.getStartDateTime().toLocalDate());
+			return distributedLockManager.executeWithLock(lockKey, () -> reservationProcessor.create(authUser, request, now));
 		} catch (ParkingEasyException e) {
 			if (e.getErrorCode() == ReservationErrorCode.RESERVATION_LOCK_FAILED) {
 				// 락 선점 실패 → 대기열 등록은 완료했으므로 예약 생성 결과 데이터는 null 반환
@@ -77,6 +97,47 @@ public class ReservationService {
 		}
 	}
 
+	// 슬롯 비트맵 선점으로 분산 락 없이 예약 생성 (DB 로 겹침이 확인된 선점 실패만 대기열, Redis 장애 시 분산 락 경로)
+	private ReservationResponse createWithSlotClaim(AuthUser authUser, ReservationRequest request, LocalDateTime now) {
+		Long parkingZoneId = request.getParkingZoneId();
+		LocalDateTime startDateTime = request.getStartDateTime();
+		LocalDateTime endDateTime = request.getEndDateTime();
+
+		SlotClaimResult result = reservationSlotStore.claim(parkingZoneId, startDateTime, endDateTime);
+
+		if (result == SlotClaimResult.CONFLICT) {
+			ParkingZoneIntervals intervals = parkingZoneAvailabilityIndex.getLatest(parkingZoneId);
+			if (intervals.isReservedBy(authUser.getId(), startDateTime, endDateTime)) {
+				throw new ParkingEasyException(ReservationErrorCode.ALREADY_RESERVED_BY_YOURSELF);
+			}
+			// DB 에는 겹치는 예약이 없으면 비트맵에 남은 비트이므로 다시 채운 뒤 한 번 더 선점 (진행 중인 선점은 유지됨)
+			if (intervals.isFree(startDateTime, endDateTime)) {
+				result = reservationSlotStore.reloadAndClaim(parkingZoneId, startDateTime, endDateTime);
+			}
+			if (result == SlotClaimResult.CONFLICT) {
+				handleQueueOnLockFail(authUser, request);
+				return null;
+			}
+		}
+
+		if (result == SlotClaimResult.UNAVAILABLE) {
+			return createWithLock(authUser, request, now);
+		}
+
+		// 선점한 슬롯은 DB 중복 확인을 거쳐 저장하고, 저장하지 못하면 선점을 되돌린다
+		ReservationResponse response;
+		try {
+			response = reservationProcessor.create(authUser, request, now);
+		} catch (RuntimeException e) {
+			reservationSlotStore.release(parkingZoneId, startDateTime, endDateTime);
+			throw e;
+		}
+		if (response == null) {
+			reservationSlotStore.release(parkingZoneId, startDateTime, endDateTime);
+		}
+		return response;
+	}
+
 	public Page<ReservationResponse> getMyReservations(AuthUser authUser, int page, int size) {
 
 		int adjustedPage = page - 1;
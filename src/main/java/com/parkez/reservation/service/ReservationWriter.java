@@ -1,5 +1,6 @@
 package com.parkez.reservation.service;
 
+import com.parkez.parkinglot.event.ParkingLotOccupancyEvent;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.reservation.domain.repository.ReservationRepository;
@@ -7,6 +8,7 @@ import com.parkez.user.domain.entity.User;
 
 import lombok.RequiredArgsConstructor;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -20,6 +22,7 @@ import java.util.List;
 public class ReservationWriter {
 
 	private final ReservationRepository reservationRepository;
+	private final ApplicationEventPublisher eventPublisher;
 
 	public Reservation create(
 		User user, ParkingZone parkingZone, LocalDateTime startDateTime, LocalDateTime endDateTime,
@@ -37,25 +40,31 @@ public class ReservationWriter {
 			.promotionIssueId(promotionIssueId)
 			.build();
 
-		return reservationRepository.save(reservation);
+		Reservation savedReservation = reservationRepository.save(reservation);
+		publishOccupied(savedReservation);
+		return savedReservation;
 	}
 
 	public void complete(Reservation reservation) {
 		reservation.complete(LocalDateTime.now());
+		publishReleased(reservation);
 	}
 
 	public void cancel(Reservation reservation) {
 		reservation.cancel();
 		reservationRepository.save(reservation);
+		publishReleased(reservation);
 	}
 
 	public void updateStatusConfirm(Reservation reservation) {
 		reservation.confirm();
 		reservationRepository.save(reservation);
+		publishOccupied(reservation);
 	}
 
 	public void expirePaymentTimeout(Reservation reservation) {
 		reservation.expire();
+		publishReleased(reservation);
 	}
 
 	public List<Reservation> expire(LocalDateTime expiredTime) {
@@ -64,9 +73,23 @@ public class ReservationWriter {
 		if (!expireToReservation.isEmpty()) {
 			expireToReservation.forEach(Reservation::expire);
 			reservationRepository.saveAll(expireToReservation);
+			expireToReservation.forEach(this::publishReleased);
 		}
 
 		return expireToReservation;
 	}
 
+	// 주차장 검색 결과의 실시간 이용 가능 수 반영용 (커밋 후 Redis 에 기록)
+	private void publishOccupied(Reservation reservation) {
+		eventPublisher.publishEvent(ParkingLotOccupancyEvent.occupied(
+			reservation.getParkingZone().getParkingLotId(), reservation.getParkingZoneId(), reservation.getId(), reservation.getUserId(),
+			reservation.getStartDateTime(), reservation.getEndDateTime()));
+	}
+
+	private void publishReleased(Reservation reservation) {
+		eventPublisher.publishEvent(ParkingLotOccupancyEvent.released(
+			reservation.getParkingZone().getParkingLotId(), reservation.getParkingZoneId(), reservation.getId(),
+			reservation.getStartDateTime(), reservation.getEndDateTime()));
+	}
+
 }
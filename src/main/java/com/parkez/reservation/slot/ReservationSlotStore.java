@@ -0,0 +1,198 @@
+package com.parkez.reservation.slot;
+
+import com.parkez.reservation.availability.ReservationInterval;
+import com.parkez.reservation.domain.enums.ReservationStatus;
+import com.parkez.reservation.domain.repository.ReservationRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 주차공간-날짜별 1분 단위 예약 슬롯을 Redis 비트맵(비트 1440개 + 적재 표시 비트)으로 관리한다.
+ * 요청 시간대 [시작, 종료) 슬롯이 모두 비어 있으면 Lua 스크립트 한 번으로 확인과 선점을 원자적으로 처리하므로,
+ * 같은 주차공간이라도 겹치지 않는 시간대 예약은 분산 락 없이 동시에 진행된다.
+ * 비트맵이 없으면 DB 의 활성 예약으로 먼저 채우고, 이후 예약 상태 변경은 커밋 후 이벤트로 반영한다.
+ * 최근 선점/점유 구간은 별도 ZSET 에 잠시 보관하여, 비트맵을 DB 기준으로 다시 채울 때 아직 커밋되지 않은 선점이 사라지지 않게 한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReservationSlotStore {
+
+    private static final String KEY_FORMAT = "reservation:slot:%d:%s";
+    private static final String PENDING_KEY_FORMAT = "reservation:slot-pending:%d:%s";
+    private static final DateTimeFormatter KEY_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+    private static final int SLOTS_PER_DAY = 24 * 60;
+    // 선점 후 예약 저장(커밋)까지 걸릴 수 있는 시간보다 충분히 길게
+    private static final long PENDING_TTL_SECONDS = 60L;
+    private static final List<ReservationStatus> ACTIVE_STATUSES = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+
+    // 1: 선점, 0: 이미 선점된 슬롯 있음, -1: 비트맵 미적재 (ARGV: 구간 시작, 종료, 보관 만료 시각(ms), 보관 키 TTL)
+    private static final RedisScript<Long> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return -1
+            end
+            local from = tonumber(ARGV[1])
+            local to = tonumber(ARGV[2])
+            for slot = from, to - 1 do
+              if redis.call('GETBIT', KEYS[1], slot) == 1 then
+                return 0
+              end
+            end
+            for slot = from, to - 1 do
+              redis.call('SETBIT', KEYS[1], slot, 1)
+            end
+            redis.call('ZADD', KEYS[2], ARGV[3], ARGV[1] .. ':' .. ARGV[2])
+            redis.call('EXPIRE', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    // DB 구간과 보관 중인 최근 선점으로 비트맵을 채운다
+    // ARGV: 적재 표시 비트, 만료 시각, 현재 시각(ms), 강제 여부(1 이면 기존 비트맵을 지우고 다시 채움), 구간 시작/종료 쌍...
+    private static final RedisScript<Long> LOAD_SCRIPT = new DefaultRedisScript<>("""
+            if ARGV[4] ~= '1' and redis.call('EXISTS', KEYS[1]) == 1 then
+              return 0
+            end
+            redis.call('DEL', KEYS[1])
+            redis.call('SETBIT', KEYS[1], tonumber(ARGV[1]), 1)
+            for i = 5, #ARGV, 2 do
+              for slot = tonumber(ARGV[i]), tonumber(ARGV[i + 1]) - 1 do
+                redis.call('SETBIT', KEYS[1], slot, 1)
+              end
+            end
+            redis.call('ZREMRANGEBYSCORE', KEYS[2], '-inf', ARGV[3])
+            for _, member in ipairs(redis.call('ZRANGE', KEYS[2], 0, -1)) do
+              local separator = string.find(member, ':')
+              for slot = tonumber(string.sub(member, 1, separator - 1)), tonumber(string.sub(member, separator + 1)) - 1 do
+                redis.call('SETBIT', KEYS[1], slot, 1)
+              end
+            end
+            redis.call('EXPIREAT', KEYS[1], tonumber(ARGV[2]))
+            return 1
+            """, Long.class);
+
+    // 점유는 보관 후 적재된 비트맵에 반영, 해제는 보관에서 빼고 반영 (ARGV: 구간 시작, 종료, 비트 값, 보관 만료 시각(ms), 보관 키 TTL)
+    private static final RedisScript<Long> UPDATE_SCRIPT = new DefaultRedisScript<>("""
+            local member = ARGV[1] .. ':' .. ARGV[2]
+            local value = tonumber(ARGV[3])
+            if value == 1 then
+              redis.call('ZADD', KEYS[2], ARGV[4], member)
+              redis.call('EXPIRE', KEYS[2], ARGV[5])
+            else
+              redis.call('ZREM', KEYS[2], member)
+            end
+            if redis.call('EXISTS', KEYS[1]) == 0 then
+              return 0
+            end
+            for slot = tonumber(ARGV[1]), tonumber(ARGV[2]) - 1 do
+              redis.call('SETBIT', KEYS[1], slot, value)
+            end
+            return 1
+            """, Long.class);
+
+    private final StringRedisTemplate stringRedisTemplate;
+    private final ReservationRepository reservationRepository;
+
+    // 같은 날짜 안의 시간대만 받는다 (예약 요청 검증을 통과한 시간대)
+    public SlotClaimResult claim(Long parkingZoneId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return claim(parkingZoneId, startDateTime, endDateTime, false);
+    }
+
+    /**
+     * 비트맵을 DB 기준으로 다시 채운 뒤 선점한다.
+     * 선점 실패였지만 DB 에는 겹치는 예약이 없을 때 사용하며, 저장 전 종료/해제 실패/적재 경합으로 남은 비트를 정리한다.
+     */
+    public SlotClaimResult reloadAndClaim(Long parkingZoneId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        return claim(parkingZoneId, startDateTime, endDateTime, true);
+    }
+
+    // 커밋된 예약 생성/확정 반영
+    public void occupy(Long parkingZoneId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        update(parkingZoneId, startDateTime, endDateTime, true);
+    }
+
+    // 커밋된 예약 취소/만료/사용 완료 반영, 선점 후 예약 생성에 실패한 경우 되돌리기
+    public void release(Long parkingZoneId, LocalDateTime startDateTime, LocalDateTime endDateTime) {
+        update(parkingZoneId, startDateTime, endDateTime, false);
+    }
+
+    private SlotClaimResult claim(Long parkingZoneId, LocalDateTime startDateTime, LocalDateTime endDateTime, boolean reload) {
+        LocalDate date = startDateTime.toLocalDate();
+        List<String> keys = keys(parkingZoneId, date);
+        String from = String.valueOf(toSlot(startDateTime));
+        String to = String.valueOf(toSlot(endDateTime));
+
+        try {
+            if (reload) {
+                load(keys, parkingZoneId, date, true);
+            }
+            Long result = stringRedisTemplate.execute(CLAIM_SCRIPT, keys, from, to, pendingUntil(), String.valueOf(PENDING_TTL_SECONDS));
+            if (result != null && result == -1) {
+                load(keys, parkingZoneId, date, false);
+                result = stringRedisTemplate.execute(CLAIM_SCRIPT, keys, from, to, pendingUntil(), String.valueOf(PENDING_TTL_SECONDS));
+            }
+            if (result == null || result == -1) {
+                return SlotClaimResult.UNAVAILABLE;
+            }
+            return result == 1 ? SlotClaimResult.CLAIMED : SlotClaimResult.CONFLICT;
+        } catch (Exception e) {
+            log.warn("[예약 슬롯] 선점 실패 parkingZoneId={} : {}", parkingZoneId, e.getMessage());
+            return SlotClaimResult.UNAVAILABLE;
+        }
+    }
+
+    // 실패해도 남은 비트는 선점 실패 시 DB 확인 후 다시 채우면서 정리된다
+    private void update(Long parkingZoneId, LocalDateTime startDateTime, LocalDateTime endDateTime, boolean occupied) {
+        try {
+            stringRedisTemplate.execute(UPDATE_SCRIPT, keys(parkingZoneId, startDateTime.toLocalDate()),
+                    String.valueOf(toSlot(startDateTime)), String.valueOf(toSlot(endDateTime)), occupied ? "1" : "0",
+                    pendingUntil(), String.valueOf(PENDING_TTL_SECONDS));
+        } catch (Exception e) {
+            log.warn("[예약 슬롯] 반영 실패 parkingZoneId={}, occupied={} : {}", parkingZoneId, occupied, e.getMessage());
+        }
+    }
+
+    // 해당 날짜의 활성 예약으로 비트맵을 채우고, 날짜가 지나면 만료되도록 다음 날 자정에 만료
+    private void load(List<String> keys, Long parkingZoneId, LocalDate date, boolean force) {
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(SLOTS_PER_DAY));
+        args.add(String.valueOf(date.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toEpochSecond()));
+        args.add(String.valueOf(System.currentTimeMillis()));
+        args.add(force ? "1" : "0");
+
+        List<ReservationInterval> intervals = reservationRepository.findActiveIntervalsByParkingZoneIds(
+                List.of(parkingZoneId), ACTIVE_STATUSES, date.atStartOfDay());
+        for (ReservationInterval interval : intervals) {
+            if (interval.startDateTime().toLocalDate().equals(date)) {
+                args.add(String.valueOf(toSlot(interval.startDateTime())));
+                args.add(String.valueOf(toSlot(interval.endDateTime())));
+            }
+        }
+        stringRedisTemplate.execute(LOAD_SCRIPT, keys, args.toArray());
+    }
+
+    private List<String> keys(Long parkingZoneId, LocalDate date) {
+        String formattedDate = date.format(KEY_DATE_FORMAT);
+        return List.of(String.format(KEY_FORMAT, parkingZoneId, formattedDate),
+                String.format(PENDING_KEY_FORMAT, parkingZoneId, formattedDate));
+    }
+
+    private String pendingUntil() {
+        return String.valueOf(System.currentTimeMillis() + PENDING_TTL_SECONDS * 1_000);
+    }
+
+    // 하루 중 몇 번째 분인지 (종료 슬롯은 미포함)
+    static int toSlot(LocalDateTime dateTime) {
+        return dateTime.getHour() * 60 + dateTime.getMinute();
+    }
+}
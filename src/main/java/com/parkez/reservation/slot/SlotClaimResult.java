@@ -0,0 +1,7 @@
+package com.parkez.reservation.slot;
+
+public enum SlotClaimResult {
+    CLAIMED,     // 요청 시간대 슬롯 선점 성공
+    CONFLICT,    // 이미 선점된 슬롯이 있음 → 대기열
+    UNAVAILABLE  // Redis 장애 등으로 확인 불가 → 분산 락 경로로 처리
+}
@@ -1,10 +1,12 @@
 package com.parkez.review.service;
 
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.review.domain.entity.Review;
 import com.parkez.review.domain.repository.ReviewRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,6 +16,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class ReviewWriter {
 
     private final ReviewRepository reviewRepository;
+    private final ApplicationEventPublisher eventPublisher;
 
     public Review createReview(Reservation reservation, Integer rating, String content) {
         Review review = Review.builder()
@@ -30,11 +33,21 @@ public class ReviewWriter {
         // 예약 리뷰 작성 여부 수정
         reservation.writeReview();
 
-        return reviewRepository.save(review);
+        Review savedReview = reviewRepository.save(review);
+
+        // 주차장 통계 반영
+        eventPublisher.publishEvent(ParkingLotStatsEvent.reviewCreated(parkingZone.getParkingLotId(), rating));
+
+        return savedReview;
     }
 
     public void updateReview(Review review, Integer rating, String content) {
+        int oldRating = review.getRating();
         review.update(rating, content);
+
+        // 주차장 통계 반영
+        Long parkingLotId = review.getReservation().getParkingZone().getParkingLotId();
+        eventPublisher.publishEvent(ParkingLotStatsEvent.reviewUpdated(parkingLotId, oldRating, rating));
     }
 
     public void deleteReview(Review review) {
@@ -44,5 +57,8 @@ public class ReviewWriter {
         parkingZone.decrementReviewCount();
 
         reviewRepository.deleteById(review.getId());
+
+        // 주차장 통계 반영
+        eventPublisher.publishEvent(ParkingLotStatsEvent.reviewDeleted(parkingZone.getParkingLotId(), review.getRating()));
     }
 }
@@ -5,17 +5,14 @@ import com.parkez.user.domain.entity.User;
 import com.parkez.user.domain.enums.UserRole;
 import com.parkez.user.exception.UserErrorCode;
 
+import javax.sql.DataSource;
 import java.sql.*;
 
 public class JdbcUserReader {
-    private final String jdbcUrl;
-    private final String dbUser;
-    private final String dbPassword;
+    private final DataSource dataSource;
 
-    public JdbcUserReader(String jdbcUrl, String dbUser, String dbPassword) {
-        this.jdbcUrl = jdbcUrl;
-        this.dbUser = dbUser;
-        this.dbPassword = dbPassword;
+    public JdbcUserReader(DataSource dataSource) {
+        this.dataSource = dataSource;
     }
 
     // getUserByEmailAndRole 구현
@@ -29,7 +26,7 @@ public class JdbcUserReader {
                 """;
 
         try (
-                Connection connection = DriverManager.getConnection(jdbcUrl, dbUser, dbPassword);
+                Connection connection = dataSource.getConnection();
                 PreparedStatement ps = connection.prepareStatement(sql)
         ) {
             ps.setString(1, email);
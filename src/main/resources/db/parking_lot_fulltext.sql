@@ -0,0 +1,6 @@
+-- parking_lot 이름/주소 ngram FULLTEXT 인덱스
+-- ParkingLotRepositoryImpl 의 이름/주소 검색(match_against)이 이 인덱스를 사용한다.
+-- ngram_token_size 기본값(2) 기준, 1글자 검색어는 LIKE 로 처리된다.
+
+ALTER TABLE parking_lot ADD FULLTEXT INDEX ft_parking_lot_name (name) WITH PARSER ngram;
+ALTER TABLE parking_lot ADD FULLTEXT INDEX ft_parking_lot_address (address) WITH PARSER ngram;
@@ -0,0 +1,8 @@
+-- 비동기 좌표 변환(parking-lot.geocode.async) 상태 컬럼
+-- PENDING 이고 geocode_retry_at 이 지난 주차장은 ParkingLotGeocodeScheduler 가 다시 변환을 요청한다.
+-- ddl-auto 로 컬럼이 이미 생성된 환경이라면 건너뛴다.
+
+ALTER TABLE parking_lot ADD COLUMN geocode_status VARCHAR(20) NULL;
+ALTER TABLE parking_lot ADD COLUMN geocode_attempts INT NULL;
+ALTER TABLE parking_lot ADD COLUMN geocode_retry_at DATETIME(6) NULL;
+CREATE INDEX idx_parking_lot_geocode_retry ON parking_lot (geocode_status, geocode_retry_at);
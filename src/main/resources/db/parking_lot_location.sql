@@ -0,0 +1,21 @@
+-- parking_lot.location (POINT SRID 4326) 컬럼 및 SPATIAL 인덱스 추가
+-- 반경 검색 시 MBRContains 사각 범위 필터가 이 인덱스를 사용한다.
+-- ddl-auto 로 컬럼이 이미 생성된 환경이라면 1번은 건너뛴다.
+
+-- 1. 컬럼 추가 (기존 데이터 채우기 전이므로 NULL 허용)
+ALTER TABLE parking_lot ADD COLUMN location POINT SRID 4326 NULL;
+
+-- 2. 기존 데이터(공공데이터 적재분 포함) 위도/경도로 채우기 (x = 경도, y = 위도)
+UPDATE parking_lot
+   SET location = ST_SRID(POINT(longitude, latitude), 4326)
+ WHERE latitude IS NOT NULL
+   AND longitude IS NOT NULL;
+
+-- 좌표가 없는 주차장은 (0, 0)으로 대체 (ParkingLot.toLocation 과 동일)
+UPDATE parking_lot
+   SET location = ST_SRID(POINT(0, 0), 4326)
+ WHERE location IS NULL;
+
+-- 3. SPATIAL 인덱스는 NOT NULL 컬럼에만 생성 가능
+ALTER TABLE parking_lot MODIFY COLUMN location POINT SRID 4326 NOT NULL;
+CREATE SPATIAL INDEX idx_parking_lot_location ON parking_lot (location);
@@ -0,0 +1,35 @@
+-- 주차장별 집계(주차공간 수, 리뷰 수, 평점 합계) 테이블
+-- 리뷰/주차공간 변경 시 ParkingLotStatsWriter 가 증분 반영하고, 공공데이터 적재(Lambda)는 새 주차장마다 빈 row를 만든다.
+-- ddl-auto 로 테이블이 이미 생성된 환경이라면 1번은 건너뛴다.
+
+-- 1. 테이블 생성
+CREATE TABLE IF NOT EXISTS parking_lot_stats (
+    parking_lot_id      BIGINT    NOT NULL,
+    parking_zone_count  BIGINT    NOT NULL,
+    review_count        BIGINT    NOT NULL,
+    rating_sum          BIGINT    NOT NULL,
+    created_at          DATETIME  NOT NULL,
+    modified_at         DATETIME  NULL,
+    PRIMARY KEY (parking_lot_id)
+);
+
+-- 2. 기존 주차장 통계 채우기 (ParkingLotRepositoryImpl.getAggregationsByParkingLotIds 와 같은 기준)
+--    이미 있는 row도 원본 기준 값으로 덮어쓰므로 여러 번 실행해도 안전하다.
+INSERT INTO parking_lot_stats
+  (parking_lot_id, parking_zone_count, review_count, rating_sum, created_at, modified_at)
+SELECT p.id,
+       COUNT(DISTINCT CASE WHEN z.deleted_at IS NULL THEN z.id END),
+       COUNT(rv.id),
+       COALESCE(SUM(rv.rating), 0),
+       NOW(),
+       NOW()
+  FROM parking_lot p
+  LEFT JOIN parking_zone z ON z.parking_lot_id = p.id
+  LEFT JOIN reservation r ON r.parking_zone_id = z.id
+  LEFT JOIN review rv ON rv.reservation_id = r.id
+ GROUP BY p.id
+ON DUPLICATE KEY UPDATE
+  parking_zone_count = VALUES(parking_zone_count),
+  review_count = VALUES(review_count),
+  rating_sum = VALUES(rating_sum),
+  modified_at = NOW();
@@ -0,0 +1,6 @@
+-- 공공데이터 페이지 체크포인트의 페이지 크기
+-- current_page 는 per_page 단위이므로 PUBLIC_DATA_BULK_MODE / PUBLIC_DATA_PER_PAGE 를 바꾸면
+-- PublicDataHandler 가 처리한 행 수 기준으로 current_page 를 새 크기에 맞춰 환산한다.
+-- 기존 체크포인트는 단건 모드(perPage = 2)로 기록된 것으로 본다.
+
+ALTER TABLE public_data_page_state ADD COLUMN per_page INT NOT NULL DEFAULT 2;
@@ -0,0 +1,17 @@
+-- 공공데이터 증분 동기화
+-- 원본 행(좌표 단위)마다 내용 해시와 마지막으로 본 동기화 회차를 기록한다.
+-- 해시가 같으면 저장을 건너뛰고, 한 회차 동안 보이지 않은 행의 주차장은 폐업 처리한다.
+
+ALTER TABLE public_data_page_state ADD COLUMN sync_run BIGINT NOT NULL DEFAULT 1;
+
+CREATE TABLE IF NOT EXISTS public_data_source_row (
+    longitude       DOUBLE       NOT NULL,
+    latitude        DOUBLE       NOT NULL,
+    parking_lot_id  BIGINT       NOT NULL,
+    content_hash    CHAR(64)     NOT NULL,
+    last_seen_run   BIGINT       NOT NULL,
+    missing_since   DATETIME     NULL,
+    updated_at      DATETIME     NOT NULL,
+    PRIMARY KEY (longitude, latitude),
+    INDEX idx_public_data_source_row_last_seen_run (last_seen_run)
+);
@@ -0,0 +1,10 @@
+-- 공공데이터 적재 시 좌표 → 주소 변환(Kakao coord2address) 결과 캐시
+-- CachedReverseGeocodeClient 가 좌표를 소수점 5자리로 반올림한 정수값(좌표 * 100000)을 키로 사용한다.
+
+CREATE TABLE IF NOT EXISTS reverse_geocode_cache (
+    latitude_key   BIGINT        NOT NULL,
+    longitude_key  BIGINT        NOT NULL,
+    address        VARCHAR(255)  NOT NULL,
+    created_at     DATETIME      NOT NULL,
+    PRIMARY KEY (latitude_key, longitude_key)
+);
@@ -0,0 +1,94 @@
+package com.parkez.parkinglot.client.kakaomap.geocode;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedGeocodeClientTest {
+
+    private static final String ADDRESS = "서울시 강남구 테헤란로 131";
+    private static final String REDIS_KEY = "geocode:" + ADDRESS;
+
+    @Mock
+    private KakaoGeocodeClient kakaoGeocodeClient;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @InjectMocks
+    private CachedGeocodeClient cachedGeocodeClient;
+
+    private Geocode getGeocode() {
+        return Geocode.builder()
+                .latitude(37.500066200)
+                .longitude(127.032926912)
+                .build();
+    }
+
+    @Nested
+    class GetGeocode {
+
+        @Test
+        void 캐시에_없으면_Kakao를_호출하고_Redis와_메모리에_저장한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(REDIS_KEY)).thenReturn(null);
+            when(kakaoGeocodeClient.getGeocode(" 서울시  강남구 테헤란로 131")).thenReturn(getGeocode());
+
+            // when
+            Geocode first = cachedGeocodeClient.getGeocode(" 서울시  강남구 테헤란로 131");
+            Geocode second = cachedGeocodeClient.getGeocode(ADDRESS);
+
+            // then
+            assertThat(first.getLatitude()).isEqualTo(37.500066200);
+            assertThat(second).isSameAs(first);
+            verify(kakaoGeocodeClient, times(1)).getGeocode(anyString());
+            verify(valueOperations).set(eq(REDIS_KEY), eq("127.032926912,37.5000662"), any(Duration.class));
+        }
+
+        @Test
+        void Redis에_있으면_Kakao를_호출하지_않는다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(REDIS_KEY)).thenReturn("127.032926912,37.5000662");
+
+            // when
+            Geocode result = cachedGeocodeClient.getGeocode(ADDRESS);
+
+            // then
+            assertThat(result.getLongitude()).isEqualTo(127.032926912);
+            assertThat(result.getLatitude()).isEqualTo(37.5000662);
+            verifyNoInteractions(kakaoGeocodeClient);
+        }
+
+        @Test
+        void Redis_조회에_실패하면_Kakao를_호출한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenThrow(new RuntimeException("connection refused"));
+            when(kakaoGeocodeClient.getGeocode(ADDRESS)).thenReturn(getGeocode());
+
+            // when
+            Geocode result = cachedGeocodeClient.getGeocode(ADDRESS);
+
+            // then
+            assertThat(result.getLatitude()).isEqualTo(37.500066200);
+            verify(kakaoGeocodeClient).getGeocode(ADDRESS);
+        }
+    }
+}
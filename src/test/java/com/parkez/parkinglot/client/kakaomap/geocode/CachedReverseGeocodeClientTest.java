@@ -0,0 +1,144 @@
+package com.parkez.parkinglot.client.kakaomap.geocode;
+
+import com.parkez.parkinglot.domain.repository.ReverseGeocodeCacheRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CachedReverseGeocodeClientTest {
+
+    private static final double LONGITUDE = 127.032926912;
+    private static final double LATITUDE = 37.500066200;
+    private static final long LONGITUDE_KEY = 12703293L;
+    private static final long LATITUDE_KEY = 3750007L;
+    private static final String ADDRESS = "서울 강남구 역삼동 825";
+
+    @Mock
+    private ReverseGeocodeClient delegate;
+
+    @Mock
+    private ReverseGeocodeCacheRepository cacheRepository;
+
+    @InjectMocks
+    private CachedReverseGeocodeClient cachedReverseGeocodeClient;
+
+    @Nested
+    class GetAddress {
+
+        @Test
+        void 캐시에_없으면_Kakao를_호출하고_결과를_저장한다() {
+            // given
+            when(cacheRepository.findAddress(LATITUDE_KEY, LONGITUDE_KEY)).thenReturn(Optional.empty());
+            when(delegate.getAddress(LONGITUDE, LATITUDE)).thenReturn(ADDRESS);
+
+            // when
+            String result = cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE);
+
+            // then
+            assertThat(result).isEqualTo(ADDRESS);
+            verify(cacheRepository).save(LATITUDE_KEY, LONGITUDE_KEY, ADDRESS);
+        }
+
+        @Test
+        void 캐시_테이블에_있으면_Kakao를_호출하지_않는다() {
+            // given
+            when(cacheRepository.findAddress(LATITUDE_KEY, LONGITUDE_KEY)).thenReturn(Optional.of(ADDRESS));
+
+            // when
+            String result = cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE);
+
+            // then
+            assertThat(result).isEqualTo(ADDRESS);
+            verify(delegate, never()).getAddress(anyDouble(), anyDouble());
+            verify(cacheRepository, never()).save(anyLong(), anyLong(), anyString());
+        }
+
+        @Test
+        void 반올림하면_같은_좌표는_메모리_캐시에서_반환한다() {
+            // given
+            when(cacheRepository.findAddress(LATITUDE_KEY, LONGITUDE_KEY)).thenReturn(Optional.empty());
+            when(delegate.getAddress(LONGITUDE, LATITUDE)).thenReturn(ADDRESS);
+            cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE);
+
+            // when
+            String result = cachedReverseGeocodeClient.getAddress(LONGITUDE + 0.000001, LATITUDE - 0.000001);
+
+            // then
+            assertThat(result).isEqualTo(ADDRESS);
+            verify(delegate, times(1)).getAddress(anyDouble(), anyDouble());
+            verify(cacheRepository, times(1)).findAddress(anyLong(), anyLong());
+        }
+
+        @Test
+        void 캐시_테이블_조회에_실패해도_Kakao_결과를_반환한다() {
+            // given
+            when(cacheRepository.findAddress(LATITUDE_KEY, LONGITUDE_KEY)).thenThrow(new RuntimeException("DB 장애"));
+            when(delegate.getAddress(LONGITUDE, LATITUDE)).thenReturn(ADDRESS);
+
+            // when
+            String result = cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE);
+
+            // then
+            assertThat(result).isEqualTo(ADDRESS);
+        }
+
+        @Test
+        void 주소_없음_결과는_캐시_테이블에_저장하지_않고_잠시_메모리에만_기억한다() {
+            // given
+            when(cacheRepository.findAddress(LATITUDE_KEY, LONGITUDE_KEY)).thenReturn(Optional.empty());
+            when(delegate.getAddress(LONGITUDE, LATITUDE)).thenReturn(SimpleKakaoGeocodeClient.NOT_FOUND_ADDRESS);
+            cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE);
+
+            // when
+            String result = cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE);
+
+            // then
+            assertThat(result).isEqualTo(SimpleKakaoGeocodeClient.NOT_FOUND_ADDRESS);
+            verify(delegate, times(1)).getAddress(anyDouble(), anyDouble());
+            verify(cacheRepository, never()).save(anyLong(), anyLong(), anyString());
+        }
+
+        @Test
+        void 캐시_테이블의_주소_없음_행은_무시하고_Kakao를_다시_호출한다() {
+            // given
+            when(cacheRepository.findAddress(LATITUDE_KEY, LONGITUDE_KEY))
+                    .thenReturn(Optional.of(SimpleKakaoGeocodeClient.NOT_FOUND_ADDRESS));
+            when(delegate.getAddress(LONGITUDE, LATITUDE)).thenReturn(ADDRESS);
+
+            // when
+            String result = cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE);
+
+            // then
+            assertThat(result).isEqualTo(ADDRESS);
+            verify(cacheRepository).save(LATITUDE_KEY, LONGITUDE_KEY, ADDRESS);
+        }
+
+        @Test
+        void Kakao_오류는_캐시하지_않고_전파한다() {
+            // given
+            when(cacheRepository.findAddress(LATITUDE_KEY, LONGITUDE_KEY)).thenReturn(Optional.empty());
+            when(delegate.getAddress(LONGITUDE, LATITUDE))
+                    .thenThrow(new RuntimeException("Kakao API 오류 응답 : status=429"))
+                    .thenReturn(ADDRESS);
+
+            // when & then
+            assertThatThrownBy(() -> cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE))
+                    .isInstanceOf(RuntimeException.class);
+            assertThat(cachedReverseGeocodeClient.getAddress(LONGITUDE, LATITUDE)).isEqualTo(ADDRESS);
+            verify(cacheRepository, times(1)).save(LATITUDE_KEY, LONGITUDE_KEY, ADDRESS);
+        }
+        }
+    }
+}
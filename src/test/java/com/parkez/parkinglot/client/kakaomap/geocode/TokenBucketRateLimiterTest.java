@@ -0,0 +1,50 @@
+package com.parkez.parkinglot.client.kakaomap.geocode;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private final AtomicLong clock = new AtomicLong();
+
+    @Test
+    void 버스트만큼은_대기_없이_사용하고_이후에는_채워지는_속도만큼_대기한다() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 2, clock::get);
+
+        // when & then
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isEqualTo(SECOND / 10);
+        assertThat(rateLimiter.reserve()).isEqualTo(SECOND / 10 * 2);
+    }
+
+    @Test
+    void 시간이_지나면_버스트_크기까지만_다시_채워진다() {
+        // given
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter(10, 2, clock::get);
+        rateLimiter.reserve();
+        rateLimiter.reserve();
+
+        // when
+        clock.addAndGet(SECOND * 10);
+
+        // then
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isZero();
+        assertThat(rateLimiter.reserve()).isPositive();
+    }
+
+    @Test
+    void 속도나_버스트가_0_이하이면_예외가_발생한다() {
+        assertThatThrownBy(() -> new TokenBucketRateLimiter(0, 1))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
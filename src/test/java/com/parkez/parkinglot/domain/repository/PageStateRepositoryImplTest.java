@@ -0,0 +1,107 @@
+package com.parkez.parkinglot.domain.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class PageStateRepositoryImplTest {
+
+    @Autowired
+    DataSource dataSource;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    PageStateRepositoryImpl pageStateRepository = new PageStateRepositoryImpl();
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.execute("DELETE FROM public_data_page_state");
+        // 단건 모드(perPage = 2)로 500 페이지(1,000 행)까지 처리한 상태
+        jdbcTemplate.update(
+                "INSERT INTO public_data_page_state(id, current_page, per_page, sync_run, updated_at) " +
+                        "VALUES (1, ?, 2, 3, NOW())",
+                501
+        );
+    }
+
+    @Nested
+    class AlignPage {
+
+        @Test
+        void 페이지_크기가_같으면_현재_페이지를_그대로_돌려준다() throws SQLException {
+            // when
+            int page = align(2);
+
+            // then
+            assertThat(page).isEqualTo(501);
+            assertThat(currentPage()).isEqualTo(501);
+        }
+
+        @Test
+        void 페이지_크기가_바뀌면_처리한_행_수를_새_크기의_페이지로_환산한다() throws SQLException {
+            // when
+            int page = align(1_000);
+
+            // then
+            assertThat(page).isEqualTo(2);
+            assertThat(currentPage()).isEqualTo(2);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT per_page FROM public_data_page_state WHERE id=1", Integer.class)).isEqualTo(1_000);
+            assertThat(jdbcTemplate.queryForObject(
+                    "SELECT sync_run FROM public_data_page_state WHERE id=1", Long.class)).isEqualTo(3L);
+        }
+
+        @Test
+        void 새_크기로_나누어_떨어지지_않으면_행을_건너뛰지_않도록_앞_페이지부터_다시_읽는다() throws SQLException {
+            // given
+            jdbcTemplate.update("UPDATE public_data_page_state SET current_page = ? WHERE id=1", 1_301);
+
+            // when
+            int page = align(1_000);
+
+            // then
+            // 2,600 행까지 처리했으므로 2,001 ~ 3,000 번째 행인 3 페이지부터
+            assertThat(page).isEqualTo(3);
+        }
+
+        @Test
+        void bulk_모드에서_단건_모드로_돌아가도_처리한_위치를_유지한다() throws SQLException {
+            // given
+            jdbcTemplate.update("UPDATE public_data_page_state SET current_page = 4, per_page = 1000 WHERE id=1");
+
+            // when
+            int page = align(2);
+
+            // then
+            assertThat(page).isEqualTo(1_501);
+        }
+    }
+
+    private int align(int perPage) throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            int page = pageStateRepository.alignPage(connection, perPage);
+            connection.commit();
+            return page;
+        }
+    }
+
+    private Integer currentPage() {
+        return jdbcTemplate.queryForObject("SELECT current_page FROM public_data_page_state WHERE id=1", Integer.class);
+    }
+}
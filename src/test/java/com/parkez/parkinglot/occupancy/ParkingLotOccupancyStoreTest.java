@@ -0,0 +1,242 @@
+package com.parkez.parkinglot.occupancy;
+
+import com.parkez.reservation.availability.ReservationInterval;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingLotOccupancyStoreTest {
+
+    @InjectMocks
+    private ParkingLotOccupancyStore parkingLotOccupancyStore;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private RedisOperations<String, String> operations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @Mock
+    private Cursor<String> cursor;
+
+    @Nested
+    class CountOccupiedZones {
+
+        @Test
+        void 이미_시작한_예약의_주차공간만_중복_없이_센다() {
+            // given
+            long now = 10_000L;
+            Set<String> members = Set.of(
+                    "1:10:5000",   // 이용 중
+                    "2:10:9000",   // 같은 주차공간의 연장 예약
+                    "3:11:10000",  // 방금 시작
+                    "4:12:20000"   // 아직 시작 전
+            );
+
+            // when
+            long result = ParkingLotOccupancyStore.countOccupiedZones(members, now);
+
+            // then
+            assertThat(result).isEqualTo(2L);
+        }
+
+        @Test
+        void 파이프라인_결과를_주차장별_이용_중_주차공간_수로_변환한다() {
+            // given
+            LocalDateTime now = LocalDateTime.now();
+            long startedMillis = 0L;
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                    .thenReturn(List.of(0L, Set.of("1:10:" + startedMillis, "2:11:" + startedMillis), 1L, Set.of()));
+
+            // when
+            Map<Long, Long> result = parkingLotOccupancyStore.countOccupiedZones(List.of(1L, 2L), now);
+
+            // then
+            assertThat(result).containsEntry(1L, 2L).containsEntry(2L, 0L);
+        }
+
+        @Test
+        void 주차장_목록이_비어_있으면_Redis를_조회하지_않는다() {
+            // when
+            Map<Long, Long> result = parkingLotOccupancyStore.countOccupiedZones(List.of(), LocalDateTime.now());
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(stringRedisTemplate);
+        }
+
+        @Test
+        void Redis_조회에_실패하면_빈_결과를_반환한다() {
+            // given
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class)))
+                    .thenThrow(new RuntimeException("connection refused"));
+
+            // when
+            Map<Long, Long> result = parkingLotOccupancyStore.countOccupiedZones(List.of(1L), LocalDateTime.now());
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    class Reload {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void 활성_예약이_있으면_임시_키에_적재해_교체하고_없으면_삭제한다() {
+            // given
+            LocalDateTime start = LocalDateTime.now().minusHours(1);
+            LocalDateTime end = LocalDateTime.now().plusHours(1);
+            Map<Long, List<ReservationInterval>> intervals = new LinkedHashMap<>();
+            intervals.put(1L, List.of(new ReservationInterval(100L, 10L, 7L, start, end)));
+            intervals.put(2L, List.of());
+
+            when(operations.opsForZSet()).thenReturn(zSetOperations);
+            when(stringRedisTemplate.executePipelined(any(SessionCallback.class))).thenAnswer(invocation -> {
+                SessionCallback<Object> callback = invocation.getArgument(0);
+                callback.execute(operations);
+                return List.of();
+            });
+
+            // when
+            parkingLotOccupancyStore.reload(intervals);
+
+            // then
+            ArgumentCaptor<Set<ZSetOperations.TypedTuple<String>>> captor = ArgumentCaptor.forClass(Set.class);
+            verify(zSetOperations).add(eq("parking-lot:occupancy:1:reload"), captor.capture());
+            assertThat(captor.getValue())
+                    .extracting(ZSetOperations.TypedTuple::getValue)
+                    .containsExactly("100:10:" + start.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+            verify(operations).rename("parking-lot:occupancy:1:reload", "parking-lot:occupancy:1");
+            verify(operations).delete("parking-lot:occupancy:2");
+        }
+    }
+
+    @Nested
+    class Rebuild {
+
+        @Test
+        @SuppressWarnings("unchecked")
+        void 활성_예약이_있는_주차장과_키가_남아_있는_주차장만_다시_적재한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotOccupancyStore.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+            when(cursor.hasNext()).thenReturn(true, true, true, false);
+            when(cursor.next()).thenReturn("parking-lot:occupancy:3", "parking-lot:occupancy:3:reload", ParkingLotOccupancyStore.CHANGES_KEY);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(ParkingLotOccupancyStore.CHANGES_KEY)).thenReturn(Map.of());
+            List<List<Long>> loadedChunks = new ArrayList<>();
+
+            // when
+            int count = parkingLotOccupancyStore.rebuild(() -> List.of(2L, 1L), parkingLotIds -> {
+                loadedChunks.add(List.copyOf(parkingLotIds));
+                return Map.of();
+            }, 2);
+
+            // then
+            assertThat(count).isEqualTo(3);
+            assertThat(loadedChunks).containsExactly(List.of(1L, 2L), List.of(3L));
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(ParkingLotOccupancyStore.REBUILDING_KEY)), anyString());
+        }
+
+        @Test
+        void 재적재_중의_점유와_해제는_교체_후_다시_반영한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotOccupancyStore.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(ParkingLotOccupancyStore.CHANGES_KEY)).thenReturn(Map.of(
+                    "1/100:10:5000", "9000",
+                    "1/101:11:5000", ""
+            ));
+            when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+
+            // when
+            parkingLotOccupancyStore.rebuild(() -> List.of(1L), parkingLotIds -> Map.of(), 500);
+
+            // then
+            verify(zSetOperations).add("parking-lot:occupancy:1", "100:10:5000", 9000.0);
+            verify(zSetOperations).remove("parking-lot:occupancy:1", "101:11:5000");
+        }
+
+        @Test
+        void 다른_노드가_재적재_중이면_건너뛴다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotOccupancyStore.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+            // when
+            int count = parkingLotOccupancyStore.rebuild(() -> List.of(1L), parkingLotIds -> Map.of(), 500);
+
+            // then
+            assertThat(count).isEqualTo(ParkingLotOccupancyStore.SKIPPED);
+            verify(stringRedisTemplate, never()).delete(ParkingLotOccupancyStore.CHANGES_KEY);
+            verify(stringRedisTemplate, never()).executePipelined(any(SessionCallback.class));
+        }
+    }
+
+    @Nested
+    class OccupyAndRelease {
+
+        @Test
+        void 재적재_중이면_점유와_해제를_기록한다() {
+            // given
+            LocalDateTime start = LocalDateTime.now().minusHours(1);
+            LocalDateTime end = LocalDateTime.now().plusHours(1);
+            String member = "100:10:" + start.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            when(stringRedisTemplate.opsForZSet()).thenReturn(zSetOperations);
+            when(stringRedisTemplate.hasKey(ParkingLotOccupancyStore.REBUILDING_KEY)).thenReturn(true);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+
+            // when
+            parkingLotOccupancyStore.occupy(1L, 10L, 100L, start, end);
+            parkingLotOccupancyStore.release(1L, 10L, 100L, start);
+
+            // then
+            verify(hashOperations).put(ParkingLotOccupancyStore.CHANGES_KEY, "1/" + member,
+                    String.valueOf(end.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()));
+            verify(hashOperations).put(ParkingLotOccupancyStore.CHANGES_KEY, "1/" + member, "");
+        }
+    }
+}
@@ -0,0 +1,138 @@
+package com.parkez.parkinglot.rediscache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
+import com.parkez.parkinglot.service.ParkingLotReader;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+public class ParkingLotGeoTileCacheTest {
+
+    private static final double LATITUDE = 37.500066200;
+    private static final double LONGITUDE = 127.032926912;
+
+    @InjectMocks
+    private ParkingLotGeoTileCache parkingLotGeoTileCache;
+
+    @Mock
+    private ParkingLotReader parkingLotReader;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private ValueOperations<String, Object> valueOperations;
+
+    @Mock
+    private ObjectMapper redisObjectMapper;
+
+    @Mock
+    private ParkingLotSearchLocalCache parkingLotSearchLocalCache;
+
+    @Mock
+    private ParkingLotSearchCacheIndex parkingLotSearchCacheIndex;
+
+    @Spy
+    private ParkingLotSearchCacheLoader parkingLotSearchCacheLoader = new ParkingLotSearchCacheLoader();
+
+    private ParkingLotSearchResponse getParkingLot(Long parkingLotId, double latitude, double longitude) {
+        return new ParkingLotSearchResponse(parkingLotId, "주차장" + parkingLotId, "서울시 강남구 테헤란로 " + parkingLotId,
+                null, null, null, 10, null, null, null, latitude, longitude);
+    }
+
+    private List<ParkingLotSearchResponse> getTile() {
+        return List.of(
+                getParkingLot(3L, LATITUDE + 0.004, LONGITUDE),   // 약 445m
+                getParkingLot(1L, LATITUDE, LONGITUDE),           // 0m
+                getParkingLot(2L, LATITUDE + 0.002, LONGITUDE),   // 약 222m
+                getParkingLot(4L, LATITUDE + 0.02, LONGITUDE)     // 약 2.2km (반경 밖)
+        );
+    }
+
+    @Nested
+    class Search {
+
+        @Test
+        void 위치_조건이_없으면_타일_캐시를_사용하지_않는다() {
+            // when
+            Optional<Page<ParkingLotSearchResponse>> result = parkingLotGeoTileCache.search(null, null, null, null, null, 1, 10);
+
+            // then
+            assertTrue(result.isEmpty());
+            verifyNoInteractions(redisTemplate, parkingLotReader);
+        }
+
+        @Test
+        void 타일이_캐시에_없으면_DB에서_적재하고_반경_내_주차장을_거리순으로_페이징한다() {
+            // given
+            List<ParkingLotSearchResponse> tile = getTile();
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.multiGet(anyList())).thenAnswer(invocation ->
+                    Arrays.asList(new Object[invocation.<List<String>>getArgument(0).size()]));
+            when(parkingLotReader.findParkingLotsInBounds(any(), any(), anyDouble(), anyDouble(), anyDouble(), anyDouble()))
+                    .thenReturn(tile);
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotGeoTileCache.search(null, null, LATITUDE, LONGITUDE, 1000, 1, 2)
+                    .orElseThrow();
+
+            // then
+            assertEquals(3, result.getTotalElements());
+            assertThat(result.getContent()).extracting("parkingLotId").containsExactly(1L, 2L);
+            assertThat(result.getContent().get(1).getDistanceInMeters()).isBetween(200.0, 250.0);
+            verify(valueOperations).set(anyString(), eq(tile), any(Duration.class));
+            verify(parkingLotSearchCacheIndex).registerTile(anyString(), anyString(), eq(List.of(3L, 1L, 2L, 4L)));
+        }
+
+        @Test
+        void 로컬_캐시에_타일이_있으면_Redis를_조회하지_않는다() {
+            // given
+            when(parkingLotSearchLocalCache.getTile(anyString())).thenReturn(new ArrayList<>(getTile()));
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotGeoTileCache.search(null, null, LATITUDE, LONGITUDE, 1000, 2, 2)
+                    .orElseThrow();
+
+            // then
+            assertThat(result.getContent()).extracting("parkingLotId").containsExactly(3L);
+            verifyNoInteractions(redisTemplate, parkingLotReader);
+        }
+
+        @Test
+        void 캐시된_주차장_객체의_거리는_변경하지_않는다() {
+            // given
+            List<ParkingLotSearchResponse> tile = getTile();
+            when(parkingLotSearchLocalCache.getTile(anyString())).thenReturn(tile);
+
+            // when
+            parkingLotGeoTileCache.search(null, null, LATITUDE, LONGITUDE, 1000, 1, 10);
+
+            // then
+            assertThat(tile).allMatch(parkingLot -> parkingLot.getDistanceInMeters() == null);
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.parkez.parkinglot.rediscache;
+
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheEvictMessage;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingLotSearchCacheIndexTest {
+
+    private static final double LATITUDE = 37.500066200;
+    private static final double LONGITUDE = 127.032926912;
+    // 위 좌표의 geohash 5자리 / 4자리 칸
+    private static final String TILE_CELL = "wydm6";
+    private static final String AREA_CELL = "wydm";
+
+    @InjectMocks
+    private ParkingLotSearchCacheIndex parkingLotSearchCacheIndex;
+
+    @Mock
+    private RedisTemplate<String, Object> redisTemplate;
+
+    @Mock
+    private SetOperations<String, Object> setOperations;
+
+    @Nested
+    class EvictByLocation {
+
+        @Test
+        void 좌표가_속한_칸과_전역_묶음의_검색_결과만_삭제한다() {
+            // given
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            when(setOperations.members(anyString())).thenAnswer(invocation -> {
+                String indexKey = invocation.getArgument(0);
+                if (indexKey.startsWith("parking-lot-search-keys:geo:" + TILE_CELL + ":")) {
+                    return Set.of("tile-key");
+                }
+                if (indexKey.startsWith("parking-lot-search-keys:global:")) {
+                    return Set.of("name-key");
+                }
+                return Set.of();
+            });
+
+            // when
+            parkingLotSearchCacheIndex.evictByLocation(LATITUDE, LONGITUDE);
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(redisTemplate, times(2)).delete(captor.capture());
+            assertThat(captor.getAllValues().get(0)).containsExactlyInAnyOrder("tile-key", "name-key");
+            assertThat(captor.getAllValues().get(1))
+                    .anyMatch(key -> key.startsWith("parking-lot-search-keys:geo:" + TILE_CELL + ":"))
+                    .anyMatch(key -> key.startsWith("parking-lot-search-keys:geo:" + AREA_CELL + ":"))
+                    .anyMatch(key -> key.startsWith("parking-lot-search-keys:global:"))
+                    .noneMatch(key -> key.equals("parking-lot-search-keys:all"));
+        }
+
+        @Test
+        void 좌표가_없으면_전역_묶음만_삭제한다() {
+            // given
+            when(redisTemplate.opsForSet()).thenReturn(setOperations);
+            when(setOperations.members(anyString())).thenReturn(Set.of());
+
+            // when
+            parkingLotSearchCacheIndex.evictByLocation(null, null);
+
+            // then
+            @SuppressWarnings("unchecked")
+            ArgumentCaptor<Collection<String>> captor = ArgumentCaptor.forClass(Collection.class);
+            verify(redisTemplate, times(1)).delete(captor.capture());
+            assertThat(captor.getValue()).allMatch(key -> key.startsWith("parking-lot-search-keys:global:"));
+        }
+    }
+
+    @Nested
+    class IndexKeys {
+
+        @Test
+        void 결과_구성이_바뀐_메시지는_주차장_칸_상위_칸_전역_색인_키를_모두_포함한다() {
+            // given
+            ParkingLotSearchCacheEvictMessage message = ParkingLotSearchCacheEvictMessage.of(List.of(1L), List.of(TILE_CELL));
+
+            // when
+            Set<String> indexKeys = ParkingLotSearchCacheIndex.indexKeys(message, System.currentTimeMillis());
+
+            // then
+            assertThat(indexKeys)
+                    .contains("parking-lot-search-keys:lot:1")
+                    .anyMatch(key -> key.startsWith("parking-lot-search-keys:geo:" + TILE_CELL + ":"))
+                    .anyMatch(key -> key.startsWith("parking-lot-search-keys:geo:" + AREA_CELL + ":"))
+                    .anyMatch(key -> key.startsWith("parking-lot-search-keys:global:"));
+        }
+
+        @Test
+        void 내용만_바뀐_메시지는_주차장_색인_키만_포함한다() {
+            // given
+            ParkingLotSearchCacheEvictMessage message = ParkingLotSearchCacheEvictMessage.of(List.of(1L, 2L));
+
+            // when
+            Set<String> indexKeys = ParkingLotSearchCacheIndex.indexKeys(message, System.currentTimeMillis());
+
+            // then
+            assertThat(indexKeys).containsExactly("parking-lot-search-keys:lot:1", "parking-lot-search-keys:lot:2");
+        }
+    }
+}
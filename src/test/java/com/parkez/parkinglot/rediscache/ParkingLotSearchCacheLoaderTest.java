@@ -0,0 +1,104 @@
+package com.parkez.parkinglot.rediscache;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ParkingLotSearchCacheLoaderTest {
+
+    private final ParkingLotSearchCacheLoader loader = new ParkingLotSearchCacheLoader();
+
+    @Nested
+    class Load {
+
+        @Test
+        void 같은_키를_동시에_조회하면_한_번만_로딩하고_결과를_공유한다() throws Exception {
+            // given
+            int threadCount = 10;
+            AtomicInteger loadCount = new AtomicInteger();
+            CountDownLatch loading = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+
+            // when
+            List<Future<String>> results = new ArrayList<>();
+            results.add(executor.submit(() -> loader.load("key", () -> {
+                loadCount.incrementAndGet();
+                loading.countDown();
+                awaitQuietly(release);
+                return "result";
+            })));
+            loading.await(1, TimeUnit.SECONDS);
+            for (int i = 1; i < threadCount; i++) {
+                results.add(executor.submit(() -> loader.load("key", () -> {
+                    loadCount.incrementAndGet();
+                    return "other";
+                })));
+            }
+            Thread.sleep(100);
+            release.countDown();
+
+            // then
+            for (Future<String> result : results) {
+                assertEquals("result", result.get(1, TimeUnit.SECONDS));
+            }
+            assertEquals(1, loadCount.get());
+            executor.shutdown();
+        }
+
+        @Test
+        void 로딩이_끝난_뒤에는_다시_로딩한다() {
+            // given
+            AtomicInteger loadCount = new AtomicInteger();
+
+            // when
+            loader.load("key", loadCount::incrementAndGet);
+            loader.load("key", loadCount::incrementAndGet);
+
+            // then
+            assertEquals(2, loadCount.get());
+        }
+
+        @Test
+        void 로딩_중_예외가_발생하면_그대로_전달한다() {
+            // when & then
+            assertThrows(IllegalStateException.class, () -> loader.load("key", () -> {
+                throw new IllegalStateException("DB 오류");
+            }));
+        }
+    }
+
+    @Nested
+    class ShouldRefreshEarly {
+
+        @Test
+        void 남은_TTL이_없으면_조기_갱신하지_않는다() {
+            assertFalse(loader.shouldRefreshEarly(0));
+            assertFalse(loader.shouldRefreshEarly(-1));
+        }
+
+        @Test
+        void 남은_TTL이_충분히_길면_조기_갱신하지_않는다() {
+            assertThat(loader.shouldRefreshEarly(TimeUnit.HOURS.toMillis(1))).isFalse();
+        }
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
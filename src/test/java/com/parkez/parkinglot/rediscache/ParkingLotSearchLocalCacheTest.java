@@ -0,0 +1,72 @@
+package com.parkez.parkinglot.rediscache;
+
+import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
+import com.parkez.parkinglot.pubsub.ParkingLotSearchCacheEvictMessage;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParkingLotSearchLocalCacheTest {
+
+    private static final double LATITUDE = 37.500066200;
+    private static final double LONGITUDE = 127.032926912;
+    // 위 좌표의 geohash 5자리 칸
+    private static final String TILE_CELL = "wydm6";
+    private static final String OTHER_TILE_CELL = "xn76u";
+
+    private final ParkingLotSearchLocalCache localCache = new ParkingLotSearchLocalCache();
+
+    private RestPage<ParkingLotSearchResponse> getPage(Long parkingLotId) {
+        List<ParkingLotSearchResponse> content = List.of(ParkingLotSearchResponse.builder().parkingLotId(parkingLotId).build());
+        return RestPage.from(new PageImpl<>(content, PageRequest.of(0, 10), content.size()));
+    }
+
+    private List<ParkingLotSearchResponse> getTile(Long parkingLotId) {
+        return List.of(ParkingLotSearchResponse.builder().parkingLotId(parkingLotId).build());
+    }
+
+    @Nested
+    class Invalidate {
+
+        @Test
+        void 내용만_바뀐_주차장은_그_주차장이_포함된_항목만_무효화한다() {
+            // given
+            localCache.put("page-1", getPage(1L), null, null, null);
+            localCache.put("page-2", getPage(2L), null, null, null);
+            localCache.putTile("tile-1", getTile(1L), TILE_CELL);
+
+            // when
+            localCache.invalidate(ParkingLotSearchCacheEvictMessage.decode(
+                    ParkingLotSearchCacheEvictMessage.of(List.of(1L)).encode()));
+
+            // then
+            assertThat(localCache.get("page-1")).isNull();
+            assertThat(localCache.getTile("tile-1")).isNull();
+            assertThat(localCache.get("page-2")).isNotNull();
+        }
+
+        @Test
+        void 결과_구성이_바뀌면_좌표_칸과_위치_조건이_없는_항목까지_무효화한다() {
+            // given
+            localCache.putTile("tile-near", getTile(3L), TILE_CELL);
+            localCache.putTile("tile-far", getTile(4L), OTHER_TILE_CELL);
+            localCache.put("page-global", getPage(5L), null, null, null);
+            localCache.put("page-near", getPage(6L), LATITUDE, LONGITUDE, 1_000);
+
+            // when
+            localCache.invalidate(ParkingLotSearchCacheEvictMessage.decode(
+                    ParkingLotSearchCacheEvictMessage.of(List.of(99L), List.of(TILE_CELL)).encode()));
+
+            // then
+            assertThat(localCache.getTile("tile-near")).isNull();
+            assertThat(localCache.get("page-global")).isNull();
+            assertThat(localCache.get("page-near")).isNull();
+            assertThat(localCache.getTile("tile-far")).isNotNull();
+        }
+    }
+}
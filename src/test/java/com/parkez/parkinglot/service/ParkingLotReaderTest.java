@@ -3,11 +3,18 @@ package com.parkez.parkinglot.service;
 import com.parkez.common.dto.request.PageRequest;
 import com.parkez.common.exception.ParkingEasyException;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.domain.entity.ParkingLotStats;
+import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
 import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.domain.repository.ParkingLotStatsRepository;
 import com.parkez.parkinglot.dto.aggregation.ParkingLotAggregation;
 import com.parkez.parkinglot.dto.response.MyParkingLotSearchResponse;
+import com.parkez.parkinglot.dto.response.ParkingLotCursorResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
 import com.parkez.parkinglot.exception.ParkingLotErrorCode;
+import com.parkez.parkinglot.spatial.NearbyParkingLot;
+import com.parkez.parkinglot.spatial.ParkingLotGeoIndex;
+import com.parkez.parkinglot.spatial.ParkingLotSpatialIndex;
 import com.parkez.user.domain.entity.User;
 import com.parkez.user.domain.enums.UserRole;
 import org.junit.jupiter.api.Nested;
@@ -24,12 +31,19 @@ import org.springframework.test.util.ReflectionTestUtils;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +55,15 @@ public class ParkingLotReaderTest {
     @Mock
     private ParkingLotRepository parkingLotRepository;
 
+    @Mock
+    private ParkingLotStatsRepository parkingLotStatsRepository;
+
+    @Mock
+    private ParkingLotSpatialIndex parkingLotSpatialIndex;
+
+    @Mock
+    private ParkingLotGeoIndex parkingLotGeoIndex;
+
     private final PageRequest pageRequest = new PageRequest(1, 10);
     Pageable pageable = org.springframework.data.domain.PageRequest.of(pageRequest.getPage() - 1, pageRequest.getSize());
 
@@ -124,19 +147,14 @@ public class ParkingLotReaderTest {
                     null, null, null, null, null, pageable
             )).thenReturn(page);
 
-            when(parkingLotRepository.findImageListByParkingLotId(1L))
-                    .thenReturn(List.of("image1.jpg", "image2.jpg"));
-
-            when(parkingLotRepository.findImageListByParkingLotId(2L))
-                    .thenReturn(List.of("image3.jpg"));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(1L, 2L)))
+                    .thenReturn(Map.of(1L, List.of("image1.jpg", "image2.jpg"), 2L, List.of("image3.jpg")));
 
             ParkingLotAggregation parkingLotAggregation1 = getParkingLotAggregation1();
-            when(parkingLotRepository.getAggregationByParkingLotId(1L))
-                    .thenReturn(Optional.of(parkingLotAggregation1));
 
             ParkingLotAggregation parkingLotAggregation2 = getParkingLotAggregation2();
-            when(parkingLotRepository.getAggregationByParkingLotId(2L))
-                    .thenReturn(Optional.of(parkingLotAggregation2));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L, 2L)))
+                    .thenReturn(List.of(parkingLotAggregation1, parkingLotAggregation2));
 
             // when
             Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
@@ -170,12 +188,12 @@ public class ParkingLotReaderTest {
                     name, null, null, null, null, pageable
             )).thenReturn(page);
 
-            when(parkingLotRepository.findImageListByParkingLotId(1L))
-                    .thenReturn(List.of("image1.jpg", "image2.jpg"));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(1L)))
+                    .thenReturn(Map.of(1L, List.of("image1.jpg", "image2.jpg")));
 
             ParkingLotAggregation parkingLotAggregation = getParkingLotAggregation1();
-            when(parkingLotRepository.getAggregationByParkingLotId(1L))
-                    .thenReturn(Optional.of(parkingLotAggregation));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(parkingLotAggregation));
 
             // when
             Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
@@ -205,12 +223,12 @@ public class ParkingLotReaderTest {
                     null, address, null, null, null, pageable
             )).thenReturn(page);
 
-            when(parkingLotRepository.findImageListByParkingLotId(1L))
-                    .thenReturn(List.of("image1.jpg", "image2.jpg"));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(1L)))
+                    .thenReturn(Map.of(1L, List.of("image1.jpg", "image2.jpg")));
 
             ParkingLotAggregation parkingLotAggregation = getParkingLotAggregation1();
-            when(parkingLotRepository.getAggregationByParkingLotId(1L))
-                    .thenReturn(Optional.of(parkingLotAggregation));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(parkingLotAggregation));
 
             // when
             Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
@@ -242,12 +260,12 @@ public class ParkingLotReaderTest {
                     name, address, null, null, null, pageable
             )).thenReturn(page);
 
-            when(parkingLotRepository.findImageListByParkingLotId(1L))
-                    .thenReturn(List.of("image1.jpg", "image2.jpg"));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(1L)))
+                    .thenReturn(Map.of(1L, List.of("image1.jpg", "image2.jpg")));
 
             ParkingLotAggregation parkingLotAggregation = getParkingLotAggregation1();
-            when(parkingLotRepository.getAggregationByParkingLotId(1L))
-                    .thenReturn(Optional.of(parkingLotAggregation));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(parkingLotAggregation));
 
             // when
             Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
@@ -281,12 +299,12 @@ public class ParkingLotReaderTest {
                     null, null, userLatitude, userLongitude, radiusInMeters, pageable
             )).thenReturn(page);
 
-            when(parkingLotRepository.findImageListByParkingLotId(parkingLot1.getParkingLotId()))
-                    .thenReturn(List.of("img1.jpg", "img2.jpg"));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(parkingLot1.getParkingLotId())))
+                    .thenReturn(Map.of(parkingLot1.getParkingLotId(), List.of("img1.jpg", "img2.jpg")));
 
             ParkingLotAggregation parkingLotAggregation = getParkingLotAggregation1();
-            when(parkingLotRepository.getAggregationByParkingLotId(1L))
-                    .thenReturn(Optional.of(parkingLotAggregation));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(parkingLotAggregation));
 
             // when
             Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
@@ -303,6 +321,344 @@ public class ParkingLotReaderTest {
                                     parkingLotAggregation.getParkingZoneCount(), parkingLotAggregation.getReviewCount(), parkingLotAggregation.getAvgRating())
                     );
         }
+
+        @Test
+        void 공간_인덱스가_준비되면_이름_조건은_반경_내_주차장_ID로_한정하여_조회한다() {
+            // given
+            ParkingLotSearchResponse parkingLot1 = getParkingLotResponse1();
+            List<ParkingLotSearchResponse> parkingLotList = Arrays.asList(parkingLot1);
+            Page<ParkingLotSearchResponse> page = new PageImpl<>(parkingLotList, pageable, parkingLotList.size());
+
+            String name = "참쉬운";
+            Double userLatitude = 37.500066200;
+            Double userLongitude = 127.032926912;
+            Integer radiusInMeters = 1000;
+
+            when(parkingLotSpatialIndex.isReady()).thenReturn(true);
+            when(parkingLotSpatialIndex.findWithinRadius(userLatitude, userLongitude, radiusInMeters))
+                    .thenReturn(List.of(new NearbyParkingLot(1L, 120.0)));
+            when(parkingLotRepository.searchParkingLotsByConditions(name, null, List.of(1L), pageable)).thenReturn(page);
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(1L)))
+                    .thenReturn(Map.of(1L, List.of("img1.jpg")));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(getParkingLotAggregation1()));
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
+                    name, null, userLatitude, userLongitude, radiusInMeters,
+                    pageRequest.getPage(), pageRequest.getSize()
+            );
+
+            // then
+            assertEquals(1, result.getTotalElements());
+            verify(parkingLotRepository, never()).searchParkingLotsByConditions(
+                    name, null, userLatitude, userLongitude, radiusInMeters, pageable);
+        }
+
+        @Test
+        void 이름_주소_조건이_없으면_거리순_후보_중_현재_페이지의_주차장만_조회한다() {
+            // given
+            Double userLatitude = 37.500066200;
+            Double userLongitude = 127.032926912;
+            Integer radiusInMeters = 1000;
+            Pageable firstPage = org.springframework.data.domain.PageRequest.of(0, 2);
+
+            when(parkingLotSpatialIndex.isReady()).thenReturn(true);
+            when(parkingLotSpatialIndex.findWithinRadius(userLatitude, userLongitude, radiusInMeters))
+                    .thenReturn(List.of(
+                            new NearbyParkingLot(2L, 50.0),
+                            new NearbyParkingLot(1L, 120.0),
+                            new NearbyParkingLot(3L, 800.0)
+                    ));
+            when(parkingLotRepository.searchParkingLotsByIds(List.of(2L, 1L)))
+                    .thenReturn(List.of(getParkingLotResponse1(), getParkingLotResponse2()));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(2L, 1L)))
+                    .thenReturn(List.of(getParkingLotAggregation1(), getParkingLotAggregation2()));
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
+                    null, null, userLatitude, userLongitude, radiusInMeters,
+                    firstPage.getPageNumber() + 1, firstPage.getPageSize()
+            );
+
+            // then
+            assertEquals(3, result.getTotalElements());
+            assertThat(result.getContent())
+                    .extracting("parkingLotId", "distanceInMeters")
+                    .containsExactly(tuple(2L, 50.0), tuple(1L, 120.0));
+            verify(parkingLotRepository, never()).searchParkingLotsByConditions(
+                    null, null, userLatitude, userLongitude, radiusInMeters, firstPage);
+        }
+
+        @Test
+        void 공간_인덱스가_준비되지_않으면_Redis_GEO_검색_결과로_조회한다() {
+            // given
+            Double userLatitude = 37.500066200;
+            Double userLongitude = 127.032926912;
+            Integer radiusInMeters = 1000;
+
+            when(parkingLotSpatialIndex.isReady()).thenReturn(false);
+            when(parkingLotGeoIndex.searchWithinRadius(userLatitude, userLongitude, radiusInMeters))
+                    .thenReturn(Optional.of(List.of(new NearbyParkingLot(1L, 120.0))));
+            when(parkingLotRepository.searchParkingLotsByIds(List.of(1L)))
+                    .thenReturn(List.of(getParkingLotResponse1()));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(getParkingLotAggregation1()));
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
+                    null, null, userLatitude, userLongitude, radiusInMeters,
+                    pageRequest.getPage(), pageRequest.getSize()
+            );
+
+            // then
+            assertThat(result.getContent())
+                    .extracting("parkingLotId", "distanceInMeters")
+                    .containsExactly(tuple(1L, 120.0));
+            verify(parkingLotSpatialIndex, never()).findWithinRadius(userLatitude, userLongitude, radiusInMeters);
+        }
+
+        @Test
+        void 공간_인덱스_반경_내_주차장이_없으면_DB를_조회하지_않고_빈_페이지를_반환한다() {
+            // given
+            Double userLatitude = 37.500066200;
+            Double userLongitude = 127.032926912;
+            Integer radiusInMeters = 1000;
+
+            when(parkingLotSpatialIndex.isReady()).thenReturn(true);
+            when(parkingLotSpatialIndex.findWithinRadius(userLatitude, userLongitude, radiusInMeters))
+                    .thenReturn(List.of());
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
+                    null, null, userLatitude, userLongitude, radiusInMeters,
+                    pageRequest.getPage(), pageRequest.getSize()
+            );
+
+            // then
+            assertTrue(result.isEmpty());
+            verify(parkingLotRepository, never()).searchParkingLotsByIds(anyList());
+        }
+
+        @Test
+        void 조회된_주차장_수와_무관하게_이미지와_집계는_한_번씩만_조회한다() {
+            // given
+            ParkingLotSearchResponse parkingLot1 = getParkingLotResponse1();
+            ParkingLotSearchResponse parkingLot2 = getParkingLotResponse2();
+            List<ParkingLotSearchResponse> parkingLotList = Arrays.asList(parkingLot1, parkingLot2);
+            Page<ParkingLotSearchResponse> page = new PageImpl<>(parkingLotList, pageable, parkingLotList.size());
+
+            when(parkingLotRepository.searchParkingLotsByConditions(
+                    null, null, null, null, null, pageable
+            )).thenReturn(page);
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L, 2L)))
+                    .thenReturn(List.of(getParkingLotAggregation1(), getParkingLotAggregation2()));
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
+                    null, null, null, null, null,
+                    pageRequest.getPage(), pageRequest.getSize()
+            );
+
+            // then
+            assertThat(result.getContent())
+                    .extracting("images")
+                    .containsExactly(List.of(), List.of());
+            verify(parkingLotRepository, times(1)).findImageListByParkingLotIds(anyList());
+            verify(parkingLotRepository, times(1)).getAggregationsByParkingLotIds(anyList());
+        }
+
+        @Test
+        void 미리_계산된_통계가_있으면_집계_쿼리를_실행하지_않는다() {
+            // given
+            ParkingLotSearchResponse parkingLot1 = getParkingLotResponse1();
+            ParkingLotSearchResponse parkingLot2 = getParkingLotResponse2();
+            List<ParkingLotSearchResponse> parkingLotList = Arrays.asList(parkingLot1, parkingLot2);
+            Page<ParkingLotSearchResponse> page = new PageImpl<>(parkingLotList, pageable, parkingLotList.size());
+
+            when(parkingLotRepository.searchParkingLotsByConditions(
+                    null, null, null, null, null, pageable
+            )).thenReturn(page);
+
+            ParkingLotStats stats1 = ParkingLotStats.builder()
+                    .parkingLotId(1L).parkingZoneCount(3L).reviewCount(2L).ratingSum(9L)
+                    .build();
+            when(parkingLotStatsRepository.findAllById(List.of(1L, 2L))).thenReturn(List.of(stats1));
+
+            ParkingLotAggregation parkingLotAggregation2 = getParkingLotAggregation2();
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(2L)))
+                    .thenReturn(List.of(parkingLotAggregation2));
+
+            // when
+            Page<ParkingLotSearchResponse> result = parkingLotReader.searchParkingLotsByConditions(
+                    null, null, null, null, null,
+                    pageRequest.getPage(), pageRequest.getSize()
+            );
+
+            // then
+            assertThat(result.getContent())
+                    .extracting("availableQuantity", "reviewCount", "averageRating")
+                    .containsExactly(
+                            tuple(3L, 2L, 4.5),
+                            tuple(parkingLotAggregation2.getParkingZoneCount(), parkingLotAggregation2.getReviewCount(), parkingLotAggregation2.getAvgRating())
+                    );
+        }
+
+        @Test
+        void 집계_결과가_없는_주차장이_있으면_NOT_FOUND_예외가_발생한다() {
+            // given
+            ParkingLotSearchResponse parkingLot1 = getParkingLotResponse1();
+            List<ParkingLotSearchResponse> parkingLotList = Arrays.asList(parkingLot1);
+            Page<ParkingLotSearchResponse> page = new PageImpl<>(parkingLotList, pageable, parkingLotList.size());
+
+            when(parkingLotRepository.searchParkingLotsByConditions(
+                    null, null, null, null, null, pageable
+            )).thenReturn(page);
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of());
+
+            // when & then
+            assertThatThrownBy(() -> parkingLotReader.searchParkingLotsByConditions(
+                    null, null, null, null, null,
+                    pageRequest.getPage(), pageRequest.getSize()
+            ))
+                    .isInstanceOf(ParkingEasyException.class)
+                    .hasMessage(ParkingLotErrorCode.NOT_FOUND.getDefaultMessage());
+        }
+    }
+
+    @Nested
+    class findNearestOpenParkingLots {
+
+        private final double userLatitude = 37.500066200;
+        private final double userLongitude = 127.032926912;
+
+        private ParkingLotSearchResponse getParkingLotResponse(Long parkingLotId, ParkingLotStatus status) {
+            return ParkingLotSearchResponse.builder()
+                    .parkingLotId(parkingLotId)
+                    .name("주차장" + parkingLotId)
+                    .parkingLotStatus(status)
+                    .build();
+        }
+
+        @Test
+        void 영업_중이_아닌_주차장은_건너뛰고_후보를_넓혀_가까운_순으로_채운다() {
+            // given
+            when(parkingLotSpatialIndex.isReady()).thenReturn(true);
+            when(parkingLotSpatialIndex.findNearest(userLatitude, userLongitude, 2, 20_000))
+                    .thenReturn(List.of(new NearbyParkingLot(1L, 50.0), new NearbyParkingLot(2L, 80.0)));
+            when(parkingLotSpatialIndex.findNearest(userLatitude, userLongitude, 4, 20_000))
+                    .thenReturn(List.of(new NearbyParkingLot(1L, 50.0), new NearbyParkingLot(2L, 80.0), new NearbyParkingLot(3L, 120.0)));
+            when(parkingLotRepository.searchParkingLotsByIds(List.of(1L, 2L)))
+                    .thenReturn(List.of(getParkingLotResponse(1L, ParkingLotStatus.OPEN), getParkingLotResponse(2L, ParkingLotStatus.CLOSED)));
+            when(parkingLotRepository.searchParkingLotsByIds(List.of(3L)))
+                    .thenReturn(List.of(getParkingLotResponse(3L, ParkingLotStatus.OPEN)));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L, 3L)))
+                    .thenReturn(List.of(getParkingLotAggregation1(), new ParkingLotAggregation(3L, 1L, 0L, 0.0)));
+
+            // when
+            List<ParkingLotSearchResponse> result = parkingLotReader.findNearestOpenParkingLots(userLatitude, userLongitude, 2, 20_000);
+
+            // then
+            assertThat(result)
+                    .extracting("parkingLotId", "distanceInMeters")
+                    .containsExactly(tuple(1L, 50.0), tuple(3L, 120.0));
+        }
+
+        @Test
+        void 반경_안_후보를_모두_봤으면_더_넓히지_않는다() {
+            // given
+            when(parkingLotSpatialIndex.isReady()).thenReturn(true);
+            when(parkingLotSpatialIndex.findNearest(userLatitude, userLongitude, 2, 20_000))
+                    .thenReturn(List.of(new NearbyParkingLot(1L, 50.0)));
+            when(parkingLotRepository.searchParkingLotsByIds(List.of(1L)))
+                    .thenReturn(List.of(getParkingLotResponse(1L, ParkingLotStatus.OPEN)));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(getParkingLotAggregation1()));
+
+            // when
+            List<ParkingLotSearchResponse> result = parkingLotReader.findNearestOpenParkingLots(userLatitude, userLongitude, 2, 20_000);
+
+            // then
+            assertThat(result).extracting("parkingLotId").containsExactly(1L);
+            verify(parkingLotSpatialIndex, times(1)).findNearest(anyDouble(), anyDouble(), anyInt(), anyDouble());
+        }
+
+        @Test
+        void 공간_인덱스를_쓸_수_없으면_DB_거리순으로_조회한다() {
+            // given
+            ParkingLotSearchResponse parkingLot1 = getParkingLotResponse(1L, ParkingLotStatus.OPEN);
+            parkingLot1.updateDistance(50.0);
+
+            when(parkingLotSpatialIndex.isReady()).thenReturn(false);
+            when(parkingLotGeoIndex.searchNearest(userLatitude, userLongitude, 2, 20_000)).thenReturn(Optional.empty());
+            when(parkingLotRepository.searchNearestParkingLots(userLatitude, userLongitude, 20_000, ParkingLotStatus.OPEN, 2))
+                    .thenReturn(List.of(parkingLot1));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(getParkingLotAggregation1()));
+
+            // when
+            List<ParkingLotSearchResponse> result = parkingLotReader.findNearestOpenParkingLots(userLatitude, userLongitude, 2, 20_000);
+
+            // then
+            assertThat(result)
+                    .extracting("parkingLotId", "distanceInMeters")
+                    .containsExactly(tuple(1L, 50.0));
+        }
+    }
+
+    @Nested
+    class searchParkingLotsByCursor {
+
+        @Test
+        void 다음_페이지가_있으면_마지막_주차장으로_커서를_만든다() {
+            // given
+            ParkingLotSearchResponse parkingLot1 = getParkingLotResponse1();
+            ParkingLotSearchResponse parkingLot2 = getParkingLotResponse2();
+            parkingLot1.updateDistance(100.0);
+            parkingLot2.updateDistance(200.0);
+            Double userLatitude = 37.500066200;
+            Double userLongitude = 127.032926912;
+
+            when(parkingLotRepository.searchParkingLotsByCursor(null, null, userLatitude, userLongitude, 1000, null, null, 2))
+                    .thenReturn(List.of(parkingLot1, parkingLot2));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(1L)))
+                    .thenReturn(Map.of(1L, List.of("image1.jpg")));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(getParkingLotAggregation1()));
+
+            // when
+            ParkingLotCursorResponse result = parkingLotReader.searchParkingLotsByCursor(
+                    null, null, userLatitude, userLongitude, 1000, null, null, 1);
+
+            // then
+            assertTrue(result.isHasNext());
+            assertThat(result.getContent()).extracting("parkingLotId").containsExactly(1L);
+            assertEquals(1L, result.getNextCursorParkingLotId());
+            assertEquals(100.0, result.getNextCursorDistance());
+        }
+
+        @Test
+        void 마지막_페이지면_커서를_반환하지_않는다() {
+            // given
+            ParkingLotSearchResponse parkingLot2 = getParkingLotResponse2();
+
+            when(parkingLotRepository.searchParkingLotsByCursor(null, null, null, null, null, 1L, null, 11))
+                    .thenReturn(List.of(parkingLot2));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(2L)))
+                    .thenReturn(Map.of(2L, List.of("image3.jpg")));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(2L)))
+                    .thenReturn(List.of(getParkingLotAggregation2()));
+
+            // when
+            ParkingLotCursorResponse result = parkingLotReader.searchParkingLotsByCursor(
+                    null, null, null, null, null, 1L, null, 10);
+
+            // then
+            assertFalse(result.isHasNext());
+            assertNull(result.getNextCursorParkingLotId());
+            assertThat(result.getContent()).extracting("parkingLotId").containsExactly(2L);
+        }
     }
 
     @Nested
@@ -315,12 +671,12 @@ public class ParkingLotReaderTest {
 
             when(parkingLotRepository.searchParkingLotById(parkingLotId)).thenReturn(parkingLot1);
 
-            when(parkingLotRepository.findImageListByParkingLotId(parkingLot1.getParkingLotId()))
-                    .thenReturn(List.of("img1.jpg", "img2.jpg"));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(parkingLot1.getParkingLotId())))
+                    .thenReturn(Map.of(parkingLot1.getParkingLotId(), List.of("img1.jpg", "img2.jpg")));
 
             ParkingLotAggregation aggregation = new ParkingLotAggregation(parkingLotId, 4L, 8L, 4.2);
-            when(parkingLotRepository.getAggregationByParkingLotId(parkingLotId))
-                    .thenReturn(Optional.of(aggregation));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(parkingLotId)))
+                    .thenReturn(List.of(aggregation));
 
             // when
             ParkingLotSearchResponse result = parkingLotReader.searchParkingLotById(parkingLotId);
@@ -364,18 +720,17 @@ public class ParkingLotReaderTest {
 
             when(parkingLotRepository.findMyParkingLots(userId, pageable)).thenReturn(page);
 
-            when(parkingLotRepository.findImageListByParkingLotId(parkingLot1.getParkingLotId()))
-                    .thenReturn(List.of("img1.jpg"));
-            when(parkingLotRepository.findImageListByParkingLotId(parkingLot2.getParkingLotId()))
-                    .thenReturn(List.of("img2.jpg"));
+            when(parkingLotRepository.findImageListByParkingLotIds(List.of(parkingLot1.getParkingLotId(), parkingLot2.getParkingLotId())))
+                    .thenReturn(Map.of(
+                            parkingLot1.getParkingLotId(), List.of("img1.jpg"),
+                            parkingLot2.getParkingLotId(), List.of("img2.jpg")
+                    ));
 
             ParkingLotAggregation parkingLotAggregation1 = getParkingLotAggregation1();
-            when(parkingLotRepository.getAggregationByParkingLotId(1L))
-                    .thenReturn(Optional.of(parkingLotAggregation1));
 
             ParkingLotAggregation parkingLotAggregation2 = getParkingLotAggregation2();
-            when(parkingLotRepository.getAggregationByParkingLotId(2L))
-                    .thenReturn(Optional.of(parkingLotAggregation2));
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L, 2L)))
+                    .thenReturn(List.of(parkingLotAggregation1, parkingLotAggregation2));
 
             // when
             Page<MyParkingLotSearchResponse> result = parkingLotReader.getMyParkingLots(userId, pageRequest.getPage(), pageRequest.getSize());
@@ -2,25 +2,41 @@ package com.parkez.parkinglot.service;
 
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.parkez.common.config.RedisConfig;
 import com.parkez.common.dto.request.PageRequest;
 import com.parkez.common.exception.ParkingEasyException;
 import com.parkez.common.principal.AuthUser;
 import com.parkez.parkinglot.client.kakaomap.geocode.Geocode;
-import com.parkez.parkinglot.client.kakaomap.geocode.KakaoGeocodeClient;
+import com.parkez.parkinglot.client.kakaomap.geocode.CachedGeocodeClient;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
 import com.parkez.parkinglot.domain.entity.ParkingLotImage;
+import com.parkez.parkinglot.domain.enums.GeocodeStatus;
+import com.parkez.parkinglot.domain.enums.ParkingLotChangeType;
 import com.parkez.parkinglot.domain.enums.ParkingLotStatus;
+import com.parkez.parkinglot.dto.request.ParkingLotAvailabilitySearchRequest;
+import com.parkez.parkinglot.dto.request.ParkingLotCursorSearchRequest;
+import com.parkez.parkinglot.dto.request.ParkingLotNearestSearchRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotImagesRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotSearchRequest;
 import com.parkez.parkinglot.dto.request.ParkingLotStatusRequest;
 import com.parkez.parkinglot.dto.response.MyParkingLotSearchResponse;
+import com.parkez.parkinglot.dto.response.ParkingLotCursorResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotResponse;
 import com.parkez.parkinglot.dto.response.ParkingLotSearchResponse;
+import com.parkez.parkinglot.event.ParkingLotChangedEvent;
+import com.parkez.parkinglot.event.ParkingLotGeocodeRequestedEvent;
 import com.parkez.parkinglot.exception.ParkingLotErrorCode;
+import com.parkez.parkinglot.occupancy.ParkingLotOccupancyStore;
+import com.parkez.parkinglot.rediscache.ParkingLotGeoTileCache;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchCacheIndex;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchCacheLoader;
+import com.parkez.parkinglot.rediscache.ParkingLotSearchLocalCache;
 import com.parkez.parkinglot.rediscache.ParkingLotSearchRedisKey;
 import com.parkez.parkinglot.rediscache.RestPage;
+import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.parkingzone.service.ParkingZoneReader;
+import com.parkez.reservation.availability.ParkingZoneAvailabilityIndex;
 import com.parkez.user.domain.entity.User;
 import com.parkez.user.domain.enums.UserRole;
 import com.parkez.user.service.UserReader;
@@ -29,7 +45,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -38,14 +56,21 @@ import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.tuple;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
@@ -62,7 +87,7 @@ public class ParkingLotServiceTest {
     private ParkingLotReader parkingLotReader;
 
     @Mock
-    private KakaoGeocodeClient kakaoGeocodeClient;
+    private CachedGeocodeClient cachedGeocodeClient;
 
     @Mock
     private RedisTemplate<String, Object> redisTemplate;
@@ -79,6 +104,27 @@ public class ParkingLotServiceTest {
     @Mock
     private ParkingZoneReader parkingZoneReader;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private ParkingLotSearchLocalCache parkingLotSearchLocalCache;
+
+    @Mock
+    private ParkingLotSearchCacheIndex parkingLotSearchCacheIndex;
+
+    @Spy
+    private ParkingLotSearchCacheLoader parkingLotSearchCacheLoader = new ParkingLotSearchCacheLoader();
+
+    @Mock
+    private ParkingLotGeoTileCache parkingLotGeoTileCache;
+
+    @Mock
+    private ParkingLotOccupancyStore parkingLotOccupancyStore;
+
+    @Mock
+    private ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
+
     private final PageRequest pageRequest = new PageRequest(1, 10);
     Pageable pageable = org.springframework.data.domain.PageRequest.of(pageRequest.getPage() - 1, pageRequest.getSize());
 
@@ -186,7 +232,7 @@ public class ParkingLotServiceTest {
                     .build();
 
             when(userReader.getActiveUserById(authUser.getId())).thenReturn(owner);
-            when(kakaoGeocodeClient.getGeocode(parkingLotRequest.getAddress())).thenReturn(geocode);
+            when(cachedGeocodeClient.getGeocode(parkingLotRequest.getAddress())).thenReturn(geocode);
             when(parkingLotWriter.createParkingLot(any(ParkingLot.class))).thenReturn(parkingLot);
 
             // when
@@ -200,7 +246,8 @@ public class ParkingLotServiceTest {
             // 단순 호출 검증
             verify(userReader).getActiveUserById(authUser.getId());
             verify(parkingLotWriter).createParkingLot(any(ParkingLot.class));
-            verify(kakaoGeocodeClient).getGeocode(parkingLotRequest.getAddress());
+            verify(cachedGeocodeClient).getGeocode(parkingLotRequest.getAddress());
+            verify(eventPublisher).publishEvent(any(ParkingLotChangedEvent.class));
         }
 
         @Test
@@ -216,7 +263,7 @@ public class ParkingLotServiceTest {
 
             when(userReader.getActiveUserById(authUser.getId())).thenReturn(owner);
 
-            when(kakaoGeocodeClient.getGeocode(parkingLotRequest.getAddress())).thenReturn(geocode);
+            when(cachedGeocodeClient.getGeocode(parkingLotRequest.getAddress())).thenReturn(geocode);
 
             when(parkingLotWriter.createParkingLot(any(ParkingLot.class)))
                     .thenThrow(new ParkingEasyException(ParkingLotErrorCode.DUPLICATED_PARKING_LOT_LOCATION));
@@ -230,14 +277,140 @@ public class ParkingLotServiceTest {
             assertEquals(ParkingLotErrorCode.DUPLICATED_PARKING_LOT_LOCATION, exception.getErrorCode());
 
             verify(userReader).getActiveUserById(authUser.getId());
-            verify(kakaoGeocodeClient).getGeocode(parkingLotRequest.getAddress());
+            verify(cachedGeocodeClient).getGeocode(parkingLotRequest.getAddress());
             verify(parkingLotWriter).createParkingLot(any(ParkingLot.class));
         }
+
+        @Test
+        void 비동기_지오코딩_모드면_좌표_없이_저장하고_좌표_변환을_요청한다() {
+            // given
+            ReflectionTestUtils.setField(parkingLotService, "asyncGeocode", true);
+            AuthUser authUser = getAuthUserOwner();
+            User owner = getOwnerUser();
+            ParkingLot parkingLot = getParkingLot();
+            ParkingLotRequest parkingLotRequest = getParkingLotRequest();
+
+            when(userReader.getActiveUserById(authUser.getId())).thenReturn(owner);
+            when(parkingLotWriter.createParkingLot(any(ParkingLot.class))).thenReturn(parkingLot);
+
+            // when
+            parkingLotService.createParkingLot(authUser, parkingLotRequest);
+
+            // then
+            verify(parkingLotWriter).createParkingLot(argThat(saved -> saved.getLatitude() == null && saved.getLongitude() == null
+                    && saved.getGeocodeStatus() == GeocodeStatus.PENDING));
+            verify(cachedGeocodeClient, never()).getGeocode(any());
+            verify(eventPublisher).publishEvent(any(ParkingLotGeocodeRequestedEvent.class));
+        }
     }
 
     @Nested
     class searchParkingLotsByConditions {
 
+        @Nested
+        class GeoTile {
+
+            @Test
+            void 위치_조건이_있으면_geo_타일_캐시_결과를_반환한다() {
+                // given
+                ParkingLotSearchResponse searchResponse1 = getParkingLotSearchResponse1();
+                Page<ParkingLotSearchResponse> page = new PageImpl<>(List.of(searchResponse1), pageable, 1);
+
+                ParkingLotSearchRequest searchRequest = ParkingLotSearchRequest.builder()
+                        .userLatitude(37.500066200)
+                        .userLongitude(127.032926912)
+                        .radiusInMeters(1000)
+                        .build();
+
+                when(parkingLotGeoTileCache.search(null, null, 37.500066200, 127.032926912, 1000,
+                        pageRequest.getPage(), pageRequest.getSize())).thenReturn(Optional.of(page));
+
+                // when
+                Page<ParkingLotSearchResponse> result = parkingLotService.searchParkingLotsByConditions(searchRequest, pageRequest);
+
+                // then
+                assertEquals(page, result);
+                verifyNoInteractions(redisTemplate, parkingLotReader, parkingLotSearchLocalCache);
+            }
+        }
+
+        @Nested
+        class LocalCacheHit {
+
+            @Test
+            void 로컬_캐시에_있으면_Redis를_조회하지_않는다() {
+                // given
+                ParkingLotSearchResponse searchResponse1 = getParkingLotSearchResponse1();
+                List<ParkingLotSearchResponse> responses = Arrays.asList(searchResponse1);
+                RestPage<ParkingLotSearchResponse> cachedPage = RestPage.from(new PageImpl<>(responses, pageable, responses.size()));
+
+                ParkingLotSearchRequest searchRequest = ParkingLotSearchRequest.builder().build();
+                String redisKey = generateRedisKey(searchRequest);
+
+                when(parkingLotSearchLocalCache.get(redisKey)).thenReturn(cachedPage);
+
+                // when
+                Page<ParkingLotSearchResponse> result = parkingLotService.searchParkingLotsByConditions(searchRequest, pageRequest);
+
+                // then
+                assertEquals(1, result.getTotalElements());
+                verifyNoInteractions(redisTemplate, parkingLotReader);
+            }
+
+            @Test
+            void Redis_캐시_적중_결과를_로컬_캐시에_저장한다() {
+                // given
+                ParkingLotSearchResponse searchResponse1 = getParkingLotSearchResponse1();
+                List<ParkingLotSearchResponse> responses = Arrays.asList(searchResponse1);
+                RestPage<ParkingLotSearchResponse> cachedPage = RestPage.from(new PageImpl<>(responses, pageable, responses.size()));
+
+                ParkingLotSearchRequest searchRequest = ParkingLotSearchRequest.builder().build();
+                String redisKey = generateRedisKey(searchRequest);
+
+                when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+                when(valueOperations.get(redisKey)).thenReturn(cachedPage);
+                when(redisObjectMapper.convertValue(any(Object.class), any(TypeReference.class))).thenReturn(cachedPage);
+
+                // when
+                parkingLotService.searchParkingLotsByConditions(searchRequest, pageRequest);
+
+                // then
+                verify(parkingLotSearchLocalCache).put(redisKey, cachedPage, null, null, null);
+            }
+        }
+
+        @Nested
+        class EarlyRefresh {
+
+            @Test
+            void 만료가_임박한_키로_판단되면_캐시가_있어도_DB에서_다시_조회한다() {
+                // given
+                ParkingLotSearchResponse searchResponse1 = getParkingLotSearchResponse1();
+                List<ParkingLotSearchResponse> responses = Arrays.asList(searchResponse1);
+                Page<ParkingLotSearchResponse> page = new PageImpl<>(responses, pageable, responses.size());
+                RestPage<ParkingLotSearchResponse> cachedPage = RestPage.from(page);
+
+                ParkingLotSearchRequest searchRequest = ParkingLotSearchRequest.builder().build();
+                String redisKey = generateRedisKey(searchRequest);
+
+                when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+                when(valueOperations.get(redisKey)).thenReturn(cachedPage);
+                when(redisObjectMapper.convertValue(any(Object.class), any(TypeReference.class))).thenReturn(cachedPage);
+                when(redisTemplate.getExpire(redisKey, TimeUnit.MILLISECONDS)).thenReturn(10L);
+                doReturn(true).when(parkingLotSearchCacheLoader).shouldRefreshEarly(10L);
+                when(parkingLotReader.searchParkingLotsByConditions(null, null, null, null, null,
+                        pageRequest.getPage(), pageRequest.getSize())).thenReturn(page);
+
+                // when
+                parkingLotService.searchParkingLotsByConditions(searchRequest, pageRequest);
+
+                // then
+                verify(parkingLotReader).searchParkingLotsByConditions(null, null, null, null, null,
+                        pageRequest.getPage(), pageRequest.getSize());
+                verify(valueOperations).set(eq(redisKey), any(RestPage.class), eq(RedisConfig.PARKING_LOT_SEARCH_TTL));
+            }
+        }
+
         @Nested
         class RedisKeyHit {
 
@@ -673,6 +846,220 @@ public class ParkingLotServiceTest {
         }
     }
 
+    @Nested
+    class searchParkingLotsByCursor {
+
+        private ParkingLotCursorResponse getCursorResponse() {
+            return ParkingLotCursorResponse.of(List.of(getParkingLotSearchResponse1()), 10);
+        }
+
+        @Test
+        void 전체_건수를_요청하지_않으면_건수를_조회하지_않는다() {
+            // given
+            ParkingLotCursorSearchRequest request = ParkingLotCursorSearchRequest.builder().build();
+            when(parkingLotReader.searchParkingLotsByCursor(null, null, null, null, null, null, null, 10))
+                    .thenReturn(getCursorResponse());
+
+            // when
+            ParkingLotCursorResponse result = parkingLotService.searchParkingLotsByCursor(request);
+
+            // then
+            assertEquals(1, result.getContent().size());
+            assertNull(result.getTotalElements());
+            verify(parkingLotReader, never()).countParkingLotsByConditions(any(), any(), any(), any(), any());
+            verifyNoInteractions(redisTemplate);
+        }
+
+        @Test
+        void 캐시된_전체_건수가_있으면_건수_쿼리를_실행하지_않는다() {
+            // given
+            ParkingLotCursorSearchRequest request = ParkingLotCursorSearchRequest.builder()
+                    .includeTotal(true)
+                    .build();
+            String redisKey = ParkingLotSearchRedisKey.generateCountRedisKey(null, null, null, null, null);
+
+            when(parkingLotReader.searchParkingLotsByCursor(null, null, null, null, null, null, null, 10))
+                    .thenReturn(getCursorResponse());
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(redisKey)).thenReturn(243);
+
+            // when
+            ParkingLotCursorResponse result = parkingLotService.searchParkingLotsByCursor(request);
+
+            // then
+            assertEquals(243L, result.getTotalElements());
+            verify(parkingLotReader, never()).countParkingLotsByConditions(any(), any(), any(), any(), any());
+        }
+
+        @Test
+        void 캐시된_전체_건수가_없으면_건수를_조회하여_캐시에_저장한다() {
+            // given
+            ParkingLotCursorSearchRequest request = ParkingLotCursorSearchRequest.builder()
+                    .includeTotal(true)
+                    .build();
+            String redisKey = ParkingLotSearchRedisKey.generateCountRedisKey(null, null, null, null, null);
+
+            when(parkingLotReader.searchParkingLotsByCursor(null, null, null, null, null, null, null, 10))
+                    .thenReturn(getCursorResponse());
+            when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get(redisKey)).thenReturn(null);
+            when(parkingLotReader.countParkingLotsByConditions(null, null, null, null, null)).thenReturn(243L);
+
+            // when
+            ParkingLotCursorResponse result = parkingLotService.searchParkingLotsByCursor(request);
+
+            // then
+            assertEquals(243L, result.getTotalElements());
+            verify(valueOperations).set(eq(redisKey), eq(243L), any(Duration.class));
+        }
+    }
+
+    @Nested
+    class searchNearestParkingLots {
+
+        @Test
+        void 기본값으로_가까운_영업_중_주차장을_조회한다() {
+            // given
+            ParkingLotNearestSearchRequest request = ParkingLotNearestSearchRequest.builder()
+                    .userLatitude(37.500066200)
+                    .userLongitude(127.032926912)
+                    .build();
+            List<ParkingLotSearchResponse> nearest = List.of(getParkingLotSearchResponse1());
+            when(parkingLotReader.findNearestOpenParkingLots(37.500066200, 127.032926912, 10, 20_000)).thenReturn(nearest);
+
+            // when
+            List<ParkingLotSearchResponse> result = parkingLotService.searchNearestParkingLots(request);
+
+            // then
+            assertEquals(1, result.size());
+            verify(parkingLotReader).findNearestOpenParkingLots(37.500066200, 127.032926912, 10, 20_000);
+        }
+
+        @Test
+        void 실시간_점유_정보가_있으면_현재_이용_가능한_주차공간_수를_채운_복사본을_반환한다() {
+            // given
+            ParkingLotNearestSearchRequest request = ParkingLotNearestSearchRequest.builder()
+                    .userLatitude(37.500066200)
+                    .userLongitude(127.032926912)
+                    .build();
+            ParkingLotSearchResponse parkingLot1 = ParkingLotSearchResponse.builder().parkingLotId(1L).availableQuantity(5L).build();
+            ParkingLotSearchResponse parkingLot2 = ParkingLotSearchResponse.builder().parkingLotId(2L).availableQuantity(2L).build();
+            when(parkingLotReader.findNearestOpenParkingLots(37.500066200, 127.032926912, 10, 20_000))
+                    .thenReturn(List.of(parkingLot1, parkingLot2));
+            when(parkingLotOccupancyStore.countOccupiedZones(eq(List.of(1L, 2L)), any(LocalDateTime.class)))
+                    .thenReturn(Map.of(1L, 2L, 2L, 3L));
+
+            // when
+            List<ParkingLotSearchResponse> result = parkingLotService.searchNearestParkingLots(request);
+
+            // then
+            assertThat(result)
+                    .extracting(ParkingLotSearchResponse::getParkingLotId, ParkingLotSearchResponse::getAvailableNow)
+                    .containsExactly(tuple(1L, 3L), tuple(2L, 0L));
+            assertNull(parkingLot1.getAvailableNow());
+        }
+    }
+
+    @Nested
+    class searchAvailableParkingLots {
+
+        private final LocalDateTime startDateTime = LocalDateTime.of(2025, 4, 7, 14, 0);
+        private final LocalDateTime endDateTime = LocalDateTime.of(2025, 4, 7, 17, 0);
+
+        private ParkingZone getParkingZone(Long parkingZoneId, Long parkingLotId) {
+            ParkingLot parkingLot = getParkingLot();
+            ReflectionTestUtils.setField(parkingLot, "id", parkingLotId);
+            ParkingZone parkingZone = ParkingZone.builder()
+                    .parkingLot(parkingLot)
+                    .name("A구역")
+                    .build();
+            ReflectionTestUtils.setField(parkingZone, "id", parkingZoneId);
+            return parkingZone;
+        }
+
+        @Test
+        void 요청_시간대에_빈_주차공간이_있는_주차장만_거리순으로_조회한다() {
+            // given
+            ParkingLotAvailabilitySearchRequest request = ParkingLotAvailabilitySearchRequest.builder()
+                    .userLatitude(37.500066200)
+                    .userLongitude(127.032926912)
+                    .startDateTime(startDateTime)
+                    .endDateTime(endDateTime)
+                    .build();
+            ParkingLotSearchResponse parkingLot1 = ParkingLotSearchResponse.builder().parkingLotId(1L).build();
+            ParkingLotSearchResponse parkingLot2 = ParkingLotSearchResponse.builder().parkingLotId(2L).build();
+            ParkingLotSearchResponse parkingLot3 = ParkingLotSearchResponse.builder()
+                    .parkingLotId(3L)
+                    .openedAt(LocalTime.of(9, 0))
+                    .closedAt(LocalTime.of(15, 0))
+                    .build();
+            when(parkingLotReader.findNearestOpenParkingLots(37.500066200, 127.032926912, 200, 5_000))
+                    .thenReturn(List.of(parkingLot1, parkingLot2, parkingLot3));
+            when(parkingZoneReader.findAvailableByParkingLotIds(List.of(1L, 2L)))
+                    .thenReturn(List.of(getParkingZone(10L, 1L), getParkingZone(20L, 2L), getParkingZone(21L, 2L)));
+            when(parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(10L, 20L, 21L), startDateTime, endDateTime))
+                    .thenReturn(Set.of(21L));
+
+            // when
+            List<ParkingLotSearchResponse> result = parkingLotService.searchAvailableParkingLots(request);
+
+            // then
+            assertThat(result).extracting(ParkingLotSearchResponse::getParkingLotId).containsExactly(2L);
+        }
+
+        @Test
+        void 가까운_후보에서_부족하면_후보를_넓혀_새로_포함된_주차장만_확인한다() {
+            // given
+            ParkingLotAvailabilitySearchRequest request = ParkingLotAvailabilitySearchRequest.builder()
+                    .userLatitude(37.500066200)
+                    .userLongitude(127.032926912)
+                    .startDateTime(startDateTime)
+                    .endDateTime(endDateTime)
+                    .size(1)
+                    .build();
+            List<ParkingLotSearchResponse> nearest = new ArrayList<>();
+            for (long id = 1; id <= 201; id++) {
+                nearest.add(ParkingLotSearchResponse.builder().parkingLotId(id).build());
+            }
+            List<Long> firstIds = nearest.subList(0, 200).stream().map(ParkingLotSearchResponse::getParkingLotId).toList();
+            when(parkingLotReader.findNearestOpenParkingLots(37.500066200, 127.032926912, 200, 5_000))
+                    .thenReturn(nearest.subList(0, 200));
+            when(parkingLotReader.findNearestOpenParkingLots(37.500066200, 127.032926912, 400, 5_000))
+                    .thenReturn(nearest);
+            when(parkingZoneReader.findAvailableByParkingLotIds(firstIds)).thenReturn(List.of());
+            when(parkingZoneReader.findAvailableByParkingLotIds(List.of(201L)))
+                    .thenReturn(List.of(getParkingZone(2010L, 201L)));
+            when(parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(), startDateTime, endDateTime))
+                    .thenReturn(Set.of());
+            when(parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(2010L), startDateTime, endDateTime))
+                    .thenReturn(Set.of(2010L));
+
+            // when
+            List<ParkingLotSearchResponse> result = parkingLotService.searchAvailableParkingLots(request);
+
+            // then
+            assertThat(result).extracting(ParkingLotSearchResponse::getParkingLotId).containsExactly(201L);
+            verify(parkingLotReader, never()).findNearestOpenParkingLots(anyDouble(), anyDouble(), eq(800), anyInt());
+        }
+
+        @Test
+        void 종료_시간이_시작_시간_이전이면_예외가_발생한다() {
+            // given
+            ParkingLotAvailabilitySearchRequest request = ParkingLotAvailabilitySearchRequest.builder()
+                    .userLatitude(37.500066200)
+                    .userLongitude(127.032926912)
+                    .startDateTime(endDateTime)
+                    .endDateTime(startDateTime)
+                    .build();
+
+            // when & then
+            ParkingEasyException exception = assertThrows(ParkingEasyException.class,
+                    () -> parkingLotService.searchAvailableParkingLots(request));
+            assertEquals(ParkingLotErrorCode.INVALID_SEARCH_TIME, exception.getErrorCode());
+            verifyNoInteractions(parkingZoneAvailabilityIndex);
+        }
+    }
+
     @Nested
     class searchParkingLotById {
 
@@ -771,7 +1158,7 @@ public class ParkingLotServiceTest {
                     .build();
 
             when(parkingLotReader.getOwnedParkingLot(userId, parkingLotId)).thenReturn(parkingLot);
-            when(kakaoGeocodeClient.getGeocode(request.getAddress())).thenReturn(geocode);
+            when(cachedGeocodeClient.getGeocode(request.getAddress())).thenReturn(geocode);
 
             // when
             parkingLotService.updateParkingLot(authUser, parkingLotId, request);
@@ -787,6 +1174,56 @@ public class ParkingLotServiceTest {
                     );
         }
 
+        @Test
+        void 주소가_그대로이고_좌표가_있으면_지오코딩을_생략한다() {
+            // given
+            Long parkingLotId = 1L;
+            AuthUser authUser = getAuthUserOwner();
+            ParkingLot parkingLot = getParkingLot();
+            parkingLot.updateGeocode(37.5, 127.0);
+            ParkingLotRequest request = ParkingLotRequest.builder()
+                    .name("새이름주차장")
+                    .address("  서울시 강남구   테헤란로 131 ")
+                    .build();
+
+            when(parkingLotReader.getOwnedParkingLot(authUser.getId(), parkingLotId)).thenReturn(parkingLot);
+
+            // when
+            parkingLotService.updateParkingLot(authUser, parkingLotId, request);
+
+            // then
+            assertThat(parkingLot)
+                    .extracting("name", "latitude", "longitude")
+                    .containsExactly("새이름주차장", 37.5, 127.0);
+            verify(cachedGeocodeClient, never()).getGeocode(any());
+        }
+
+        @Test
+        void 비동기_지오코딩_모드에서_주소가_바뀌면_기존_좌표를_유지하고_좌표_변환을_요청한다() {
+            // given
+            ReflectionTestUtils.setField(parkingLotService, "asyncGeocode", true);
+            Long parkingLotId = 1L;
+            AuthUser authUser = getAuthUserOwner();
+            ParkingLot parkingLot = getParkingLot();
+            parkingLot.updateGeocode(37.5, 127.0);
+            ParkingLotRequest request = ParkingLotRequest.builder()
+                    .name("참쉬운주차장")
+                    .address("서울시 강남구 테헤란로 501")
+                    .build();
+
+            when(parkingLotReader.getOwnedParkingLot(authUser.getId(), parkingLotId)).thenReturn(parkingLot);
+
+            // when
+            parkingLotService.updateParkingLot(authUser, parkingLotId, request);
+
+            // then
+            assertThat(parkingLot.getLatitude()).isEqualTo(37.5);
+            assertThat(parkingLot.getLongitude()).isEqualTo(127.0);
+            assertThat(parkingLot.getGeocodeStatus()).isEqualTo(GeocodeStatus.PENDING);
+            verify(cachedGeocodeClient, never()).getGeocode(any());
+            verify(eventPublisher).publishEvent(any(ParkingLotGeocodeRequestedEvent.class));
+        }
+
         @Test
         void 소유자가_아니면_특정_주차장_수정에_실패한다() {
             // given
@@ -852,6 +1289,8 @@ public class ParkingLotServiceTest {
 
             // then
              assertEquals(ParkingLotStatus.TEMPORARILY_CLOSED, parkingLot.getStatus());
+            verify(eventPublisher).publishEvent(argThat((ParkingLotChangedEvent event) ->
+                    event.getChangeType() == ParkingLotChangeType.STATUS_CHANGED));
         }
 
         @Test
@@ -957,6 +1396,8 @@ public class ParkingLotServiceTest {
             assertThat(images)
                     .extracting("imageUrl")
                     .containsExactly(request.getImageUrls().get(0), request.getImageUrls().get(1));
+            verify(eventPublisher).publishEvent(argThat((ParkingLotChangedEvent event) ->
+                    event.getChangeType() == ParkingLotChangeType.IMAGES_UPDATED));
         }
 
         @Test
@@ -1041,6 +1482,8 @@ public class ParkingLotServiceTest {
 
             // then
             verify(parkingLotWriter).deleteParkingLot(parkingLot);
+            verify(eventPublisher).publishEvent(argThat((ParkingLotChangedEvent event) ->
+                    event.getChangeType() == ParkingLotChangeType.DELETED));
         }
 
         @Test
@@ -0,0 +1,114 @@
+package com.parkez.parkinglot.service;
+
+import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.domain.repository.ParkingLotStatsRepository;
+import com.parkez.parkinglot.dto.aggregation.ParkingLotAggregation;
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingLotStatsWriterTest {
+
+    @InjectMocks
+    private ParkingLotStatsWriter parkingLotStatsWriter;
+
+    @Mock
+    private ParkingLotStatsRepository parkingLotStatsRepository;
+
+    @Mock
+    private ParkingLotRepository parkingLotRepository;
+
+    @Nested
+    class Apply {
+
+        @Test
+        void 통계가_존재하면_증분만_반영한다() {
+            // given
+            ParkingLotStatsEvent event = ParkingLotStatsEvent.reviewCreated(1L, 4);
+            when(parkingLotStatsRepository.applyDelta(1L, 0L, 1L, 4L)).thenReturn(1);
+
+            // when
+            parkingLotStatsWriter.apply(event);
+
+            // then
+            verify(parkingLotRepository, never()).getAggregationsByParkingLotIds(anyList());
+        }
+
+        @Test
+        void 통계가_없으면_원본_테이블_기준으로_재계산한다() {
+            // given
+            ParkingLotStatsEvent event = ParkingLotStatsEvent.parkingZoneCreated(1L);
+            when(parkingLotStatsRepository.applyDelta(1L, 1L, 0L, 0L)).thenReturn(0);
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L)))
+                    .thenReturn(List.of(new ParkingLotAggregation(1L, 1L, 2L, 3.5)));
+
+            // when
+            parkingLotStatsWriter.apply(event);
+
+            // then
+            verify(parkingLotStatsRepository).upsert(1L, 1L, 2L, 7L);
+        }
+    }
+
+    @Nested
+    class Rebuild {
+
+        @Test
+        void 재계산한_값을_upsert로_저장한다() {
+            // given
+            when(parkingLotRepository.getAggregationsByParkingLotIds(List.of(1L, 2L)))
+                    .thenReturn(List.of(
+                            new ParkingLotAggregation(1L, 2L, 0L, null),
+                            new ParkingLotAggregation(2L, 1L, 2L, 4.5)
+                    ));
+
+            // when
+            parkingLotStatsWriter.rebuild(List.of(1L, 2L));
+
+            // then
+            verify(parkingLotStatsRepository).upsert(1L, 2L, 0L, 0L);
+            verify(parkingLotStatsRepository).upsert(2L, 1L, 2L, 9L);
+        }
+
+        @Test
+        void 더_이상_주차장이_없으면_null을_반환한다() {
+            // given
+            when(parkingLotRepository.findActiveIdsAfter(anyLong(), any(Pageable.class))).thenReturn(List.of());
+
+            // when
+            Long lastParkingLotId = parkingLotStatsWriter.rebuildChunk(0L, 500);
+
+            // then
+            assertThat(lastParkingLotId).isNull();
+            verify(parkingLotStatsRepository, never()).upsert(anyLong(), anyLong(), anyLong(), anyLong());
+        }
+
+        @Test
+        void 청크_단위로_재계산하고_마지막_ID를_반환한다() {
+            // given
+            when(parkingLotRepository.findActiveIdsAfter(eq(0L), any(Pageable.class))).thenReturn(List.of(1L, 2L));
+
+            // when
+            Long lastParkingLotId = parkingLotStatsWriter.rebuildChunk(0L, 2);
+
+            // then
+            assertThat(lastParkingLotId).isEqualTo(2L);
+            verify(parkingLotRepository).getAggregationsByParkingLotIds(List.of(1L, 2L));
+        }
+    }
+}
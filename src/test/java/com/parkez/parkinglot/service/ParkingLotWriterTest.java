@@ -2,17 +2,27 @@ package com.parkez.parkinglot.service;
 
 
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.domain.entity.ParkingLotStats;
+import com.parkez.parkinglot.domain.enums.GeocodeStatus;
 import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import com.parkez.parkinglot.domain.repository.ParkingLotStatsRepository;
+import com.parkez.parkinglot.event.ParkingLotChangedEvent;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 @ExtendWith(MockitoExtension.class)
@@ -24,6 +34,12 @@ public class ParkingLotWriterTest {
     @Mock
     private ParkingLotRepository parkingLotrepository;
 
+    @Mock
+    private ParkingLotStatsRepository parkingLotStatsRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     private ParkingLot getParkingLot() {
         return ParkingLot.builder()
                 .name("테스트 주차장")
@@ -45,6 +61,7 @@ public class ParkingLotWriterTest {
             assertNotNull(result);
             assertEquals(getParkingLot().getName(), result.getName());
             verify(parkingLotrepository).save(parkingLot);
+            verify(parkingLotStatsRepository).save(any(ParkingLotStats.class));
         }
     }
 
@@ -64,4 +81,109 @@ public class ParkingLotWriterTest {
             assertNotNull(parkingLot.getDeletedAt());
         }
     }
+
+    @Nested
+    class fillGeocode {
+
+        @Test
+        void 주소가_그대로면_좌표를_채우고_변경_이벤트를_발행한다() {
+            // given
+            ParkingLot parkingLot = ParkingLot.builder()
+                    .name("테스트 주차장")
+                    .address("서울시 강남구 테헤란로 131")
+                    .build();
+            when(parkingLotrepository.findById(1L)).thenReturn(Optional.of(parkingLot));
+
+            // when
+            boolean result = parkingLotWriter.fillGeocode(1L, "서울시 강남구 테헤란로 131", 37.5, 127.0);
+
+            // then
+            assertThat(result).isTrue();
+            assertThat(parkingLot.getLatitude()).isEqualTo(37.5);
+            assertThat(parkingLot.getLongitude()).isEqualTo(127.0);
+            verify(eventPublisher).publishEvent(any(ParkingLotChangedEvent.class));
+        }
+
+        @Test
+        void 그_사이_주소가_바뀌었으면_반영하지_않는다() {
+            // given
+            ParkingLot parkingLot = ParkingLot.builder()
+                    .name("테스트 주차장")
+                    .address("서울시 강남구 테헤란로 501")
+                    .build();
+            when(parkingLotrepository.findById(1L)).thenReturn(Optional.of(parkingLot));
+
+            // when
+            boolean result = parkingLotWriter.fillGeocode(1L, "서울시 강남구 테헤란로 131", 37.5, 127.0);
+
+            // then
+            assertThat(result).isFalse();
+            assertThat(parkingLot.getLatitude()).isNull();
+            verifyNoInteractions(eventPublisher);
+        }
+    }
+
+    @Nested
+    class failGeocode {
+
+        @Test
+        void 일시적_오류면_재시도를_예약한다() {
+            // given
+            ParkingLot parkingLot = ParkingLot.builder()
+                    .name("테스트 주차장")
+                    .address("서울시 강남구 테헤란로 131")
+                    .build();
+            parkingLot.updateGeocode(37.5, 127.0);
+            parkingLot.requestGeocode(LocalDateTime.now());
+            when(parkingLotrepository.findById(1L)).thenReturn(Optional.of(parkingLot));
+
+            // when
+            parkingLotWriter.failGeocode(1L, "서울시 강남구 테헤란로 131", true);
+
+            // then
+            assertThat(parkingLot.getGeocodeStatus()).isEqualTo(GeocodeStatus.PENDING);
+            assertThat(parkingLot.getGeocodeAttempts()).isEqualTo(1);
+            assertThat(parkingLot.getGeocodeRetryAt()).isAfter(LocalDateTime.now());
+            assertThat(parkingLot.getLatitude()).isEqualTo(37.5);
+        }
+
+        @Test
+        void 재시도할_수_없는_오류면_실패로_표시한다() {
+            // given
+            ParkingLot parkingLot = ParkingLot.builder()
+                    .name("테스트 주차장")
+                    .address("서울시 강남구 테헤란로 131")
+                    .build();
+            parkingLot.requestGeocode(LocalDateTime.now());
+            when(parkingLotrepository.findById(1L)).thenReturn(Optional.of(parkingLot));
+
+            // when
+            parkingLotWriter.failGeocode(1L, "서울시 강남구 테헤란로 131", false);
+
+            // then
+            assertThat(parkingLot.getGeocodeStatus()).isEqualTo(GeocodeStatus.FAILED);
+            assertThat(parkingLot.getGeocodeRetryAt()).isNull();
+        }
+
+        @Test
+        void 재시도_횟수를_넘으면_실패로_표시한다() {
+            // given
+            ParkingLot parkingLot = ParkingLot.builder()
+                    .name("테스트 주차장")
+                    .address("서울시 강남구 테헤란로 131")
+                    .build();
+            parkingLot.requestGeocode(LocalDateTime.now());
+            for (int i = 0; i < 4; i++) {
+                parkingLot.recordGeocodeFailure(LocalDateTime.now());
+            }
+            when(parkingLotrepository.findById(1L)).thenReturn(Optional.of(parkingLot));
+
+            // when
+            parkingLotWriter.failGeocode(1L, "서울시 강남구 테헤란로 131", true);
+
+            // then
+            assertThat(parkingLot.getGeocodeStatus()).isEqualTo(GeocodeStatus.FAILED);
+            assertThat(parkingLot.getGeocodeAttempts()).isEqualTo(5);
+        }
+    }
 }
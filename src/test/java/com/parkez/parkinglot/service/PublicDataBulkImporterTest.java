@@ -0,0 +1,155 @@
+package com.parkez.parkinglot.service;
+
+import com.parkez.parkinglot.client.publicData.ParkingLotData;
+import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class PublicDataBulkImporterTest {
+
+    private static final Pattern PAGE_PATTERN = Pattern.compile("page=(\\d+)");
+    private static final int LAST_PAGE = 3;
+
+    private HttpServer server;
+    private PublicDataReader reader;
+    private PublicDataWriter writer;
+
+    // 공공데이터 API 대역: LAST_PAGE 까지는 2건씩, 이후 페이지는 빈 목록
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/parking-lots", exchange -> {
+            Matcher matcher = PAGE_PATTERN.matcher(exchange.getRequestURI().getQuery());
+            int page = matcher.find() ? Integer.parseInt(matcher.group(1)) : 1;
+            String data = page <= LAST_PAGE
+                    ? "[{\"주차장명\":\"lot-" + page + "-1\"},{\"주차장명\":\"lot-" + page + "-2\"}]"
+                    : "[]";
+            byte[] body = ("{\"page\":" + page + ",\"data\":" + data + "}").getBytes(StandardCharsets.UTF_8);
+            exchange.sendResponseHeaders(200, body.length);
+            try (OutputStream os = exchange.getResponseBody()) {
+                os.write(body);
+            }
+        });
+        server.start();
+
+        reader = new PublicDataReader("http://127.0.0.1:" + server.getAddress().getPort() + "/parking-lots", "KEY", 2);
+        writer = mock(PublicDataWriter.class);
+        when(writer.convertToParkingLots(anyList())).thenAnswer(invocation -> {
+            List<ParkingLotData> dataList = invocation.getArgument(0);
+            return dataList.stream()
+                    .map(data -> ParkingLot.builder().name(data.getName()).build())
+                    .toList();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @Nested
+    class importPages {
+
+        @Test
+        void 데이터가_끝날_때까지_페이지_순서대로_저장하고_체크포인트를_기록한다() {
+            // given
+            PublicDataBulkImporter importer = new PublicDataBulkImporter(reader, writer, 2, 2, 2);
+
+            // when
+            PublicDataBulkImporter.ImportResult result = importer.importPages(1, Duration.ofSeconds(30));
+
+            // then
+            assertThat(result.pages()).isEqualTo(LAST_PAGE);
+            assertThat(result.rows()).isEqualTo(LAST_PAGE * 2);
+            assertThat(result.completed()).isTrue();
+            assertThat(result.nextPage()).isEqualTo(1);
+
+            InOrder inOrder = inOrder(writer);
+            inOrder.verify(writer).saveParkingLots(argThat(lots -> lots.size() == 2 && lots.get(0).getName().equals("lot-1-1")), eq(2));
+            inOrder.verify(writer).saveParkingLots(argThat(lots -> lots.get(0).getName().equals("lot-2-1")), eq(3));
+            inOrder.verify(writer).saveParkingLots(argThat(lots -> lots.get(0).getName().equals("lot-3-1")), eq(4));
+            inOrder.verify(writer).saveParkingLots(List.of(), 1);
+        }
+
+        @Test
+        void 체크포인트_페이지부터_이어서_적재한다() {
+            // given
+            PublicDataBulkImporter importer = new PublicDataBulkImporter(reader, writer, 2, 1, 1);
+
+            // when
+            PublicDataBulkImporter.ImportResult result = importer.importPages(3, Duration.ofSeconds(30));
+
+            // then
+            assertThat(result.pages()).isEqualTo(1);
+            verify(writer).saveParkingLots(anyList(), eq(4));
+            verify(writer).saveParkingLots(List.of(), 1);
+            verify(writer, times(2)).saveParkingLots(anyList(), anyInt());
+        }
+
+        @Test
+        void 시간_예산이_없으면_아무것도_저장하지_않는다() {
+            // given
+            PublicDataBulkImporter importer = new PublicDataBulkImporter(reader, writer, 2, 1, 1);
+
+            // when
+            PublicDataBulkImporter.ImportResult result = importer.importPages(1, Duration.ZERO);
+
+            // then
+            assertThat(result.pages()).isZero();
+            assertThat(result.nextPage()).isEqualTo(1);
+            assertThat(result.completed()).isFalse();
+            verify(writer, never()).saveParkingLots(anyList(), anyInt());
+        }
+
+        @Test
+        void 시간_예산을_넘기면_큐에_남은_페이지는_저장하지_않고_마지막_커밋_페이지를_반환한다() {
+            // given
+            doAnswer(invocation -> {
+                Thread.sleep(1_000);
+                return null;
+            }).when(writer).saveParkingLots(anyList(), eq(2));
+            PublicDataBulkImporter importer = new PublicDataBulkImporter(reader, writer, 2, 2, 2);
+
+            // when
+            PublicDataBulkImporter.ImportResult result = importer.importPages(1, Duration.ofMillis(500));
+
+            // then
+            assertThat(result.pages()).isEqualTo(1);
+            assertThat(result.nextPage()).isEqualTo(2);
+            assertThat(result.completed()).isFalse();
+            verify(writer, times(1)).saveParkingLots(anyList(), anyInt());
+        }
+
+        @Test
+        void 저장에_실패하면_이후_페이지는_저장하지_않고_예외를_던진다() {
+            // given
+            doNothing().when(writer).saveParkingLots(anyList(), eq(2));
+            doThrow(new RuntimeException("DB 저장 실패")).when(writer).saveParkingLots(anyList(), eq(3));
+            PublicDataBulkImporter importer = new PublicDataBulkImporter(reader, writer, 2, 2, 2);
+
+            // when & then
+            assertThatThrownBy(() -> importer.importPages(1, Duration.ofSeconds(30)))
+                    .hasMessage("DB 저장 실패");
+            verify(writer, never()).saveParkingLots(anyList(), eq(4));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.parkez.parkinglot.service;
+
+import com.parkez.parkinglot.client.publicData.ParkingLotData;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PublicDataFileReaderTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final PublicDataFileReader reader = new PublicDataFileReader(2);
+
+    @Nested
+    class readJson {
+
+        @Test
+        void API_응답_형식의_data_배열을_묶음_단위로_읽는다() throws IOException {
+            // given
+            Path file = write("parking-lots.json", """
+                    {"page": 1, "meta": {"pages": [1, 2]}, "data": [
+                      {"주차장명": "A", "위도": 37.5, "경도": "127.0", "기타": {"x": 1}},
+                      {"주차장명": "B", "주차장도로명주소": "서울 중구"},
+                      {"주차장명": "C"}
+                    ]}
+                    """);
+            List<List<ParkingLotData>> chunks = new ArrayList<>();
+
+            // when
+            long count = reader.read(file, StandardCharsets.UTF_8, chunks::add);
+
+            // then
+            assertThat(count).isEqualTo(3);
+            assertThat(chunks).hasSize(2);
+            assertThat(chunks.get(0)).extracting(ParkingLotData::getName).containsExactly("A", "B");
+            assertThat(chunks.get(0).get(0).getLatitude()).isEqualTo("37.5");
+            assertThat(chunks.get(0).get(1).getAddress()).isEqualTo("서울 중구");
+            assertThat(chunks.get(1)).extracting(ParkingLotData::getName).containsExactly("C");
+        }
+
+        @Test
+        void 최상위_배열도_읽는다() throws IOException {
+            // given
+            Path file = write("parking-lots.json", "[{\"주차장명\": \"A\"}]");
+            List<List<ParkingLotData>> chunks = new ArrayList<>();
+
+            // when
+            long count = reader.read(file, StandardCharsets.UTF_8, chunks::add);
+
+            // then
+            assertThat(count).isEqualTo(1);
+            assertThat(chunks.get(0)).extracting(ParkingLotData::getName).containsExactly("A");
+        }
+    }
+
+    @Nested
+    class readCsv {
+
+        @Test
+        void 헤더의_필드명으로_매핑하고_따옴표_안의_쉼표와_줄바꿈을_유지한다() throws IOException {
+            // given
+            Path file = write("parking-lots.csv",
+                    "\uFEFF주차장명,주차장도로명주소,위도,경도\r\n"
+                            + "A,\"서울, 중구\",37.1,127.1\r\n"
+                            + "\"B \"\"2층\"\"\",\"첫 줄\n둘째 줄\",37.2,127.2\n"
+                            + "\n"
+                            + "C,,37.3,127.3");
+            List<List<ParkingLotData>> chunks = new ArrayList<>();
+
+            // when
+            long count = reader.read(file, StandardCharsets.UTF_8, chunks::add);
+
+            // then
+            assertThat(count).isEqualTo(3);
+            ParkingLotData first = chunks.get(0).get(0);
+            ParkingLotData second = chunks.get(0).get(1);
+            ParkingLotData third = chunks.get(1).get(0);
+            assertThat(first.getName()).isEqualTo("A");
+            assertThat(first.getAddress()).isEqualTo("서울, 중구");
+            assertThat(first.getLongitude()).isEqualTo("127.1");
+            assertThat(second.getName()).isEqualTo("B \"2층\"");
+            assertThat(second.getAddress()).isEqualTo("첫 줄\n둘째 줄");
+            assertThat(third.getAddress()).isEmpty();
+            assertThat(third.getLatitude()).isEqualTo("37.3");
+        }
+    }
+
+    @Test
+    void 지원하지_않는_확장자면_예외가_발생한다() throws IOException {
+        // given
+        Path file = write("parking-lots.xml", "<data/>");
+
+        // when & then
+        assertThatThrownBy(() -> reader.read(file, StandardCharsets.UTF_8, chunk -> {
+        }))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private Path write(String fileName, String content) throws IOException {
+        return Files.writeString(tempDir.resolve(fileName), content, StandardCharsets.UTF_8);
+    }
+}
@@ -3,6 +3,7 @@ package com.parkez.parkinglot.service;
 import com.parkez.parkinglot.client.kakaomap.geocode.SimpleKakaoGeocodeClient;
 import com.parkez.parkinglot.client.publicData.ParkingLotData;
 import com.parkez.parkinglot.domain.repository.PageStateRepositoryImpl;
+import com.parkez.parkinglot.domain.repository.PublicDataSourceRowRepositoryImpl;
 import com.parkez.user.domain.entity.User;
 import com.parkez.user.domain.enums.UserRole;
 import com.parkez.user.service.JdbcUserReader;
@@ -11,7 +12,6 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.jdbc.core.JdbcTemplate;
@@ -35,21 +35,16 @@ class PublicDataWriterTest {
     @Autowired
     JdbcTemplate jdbcTemplate;
 
-    @Value("${spring.datasource.url}")
-    String jdbcUrl;
-    @Value("${spring.datasource.username}")
-    String dbUser;
-    @Value("${spring.datasource.password}")
-    String dbPassword;
-
     PublicDataWriter writer;
 
     @BeforeEach
     void setUp() {
         // 기존 데이터 삭제
         jdbcTemplate.execute("DELETE FROM parking_lot_image");
+        jdbcTemplate.execute("DELETE FROM parking_lot_stats");
         jdbcTemplate.execute("DELETE FROM parking_lot");
         jdbcTemplate.execute("DELETE FROM public_data_page_state");
+        jdbcTemplate.execute("DELETE FROM public_data_source_row");
         jdbcTemplate.execute("DELETE FROM users");
 
         jdbcTemplate.update(
@@ -75,7 +70,7 @@ class PublicDataWriterTest {
                 5
         );
 
-        JdbcUserReader userReader = new JdbcUserReader(jdbcUrl, dbUser, dbPassword) {
+        JdbcUserReader userReader = new JdbcUserReader(dataSource) {
             @Override
             public User getUserByEmailAndRole(String email, UserRole role) {
                 return User.ofIdEmailRole(1L, email, role);
@@ -84,11 +79,13 @@ class PublicDataWriterTest {
 
         SimpleKakaoGeocodeClient geoClient = new SimpleKakaoGeocodeClient("DUMMY_KEY");
         writer = new PublicDataWriter(
-                jdbcUrl, dbUser, dbPassword,
+                dataSource,
                 userReader, geoClient,
                 new PageStateRepositoryImpl(),
+                new PublicDataSourceRowRepositoryImpl(),
                 "admin@parkez.com",
-                "parking-lot-default.jpg"
+                "parking-lot-default.jpg",
+                null
         );
     }
 
@@ -129,8 +126,49 @@ class PublicDataWriterTest {
             // then
             Integer lots = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM parking_lot", Integer.class);
             Integer imgs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM parking_lot_image", Integer.class);
+            Integer stats = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM parking_lot_stats s JOIN parking_lot p ON p.id = s.parking_lot_id", Integer.class);
             assertThat(lots).isEqualTo(1);
             assertThat(imgs).isEqualTo(1);
+            assertThat(stats).isEqualTo(1);
+
+            Integer page = jdbcTemplate.queryForObject(
+                    "SELECT current_page FROM public_data_page_state WHERE id=1",
+                    Integer.class
+            );
+            assertThat(page).isEqualTo(6);
+        }
+
+        @Test
+        void 좌표가_올바르지_않은_행은_건너뛰고_나머지는_저장한다() {
+            // given
+            ParkingLotData valid = ParkingLotData.builder()
+                    .name("ValidLot")
+                    .address("123 Main St")
+                    .latitude("37.0")
+                    .longitude("127.0")
+                    .quantity("10")
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+            ParkingLotData invalid = ParkingLotData.builder()
+                    .name("InvalidLot")
+                    .address("456 Main St")
+                    .latitude("위도 없음")
+                    .longitude("127.1")
+                    .quantity("10")
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+
+            // when
+            writer.savePublicData(List.of(invalid, valid));
+
+            // then
+            List<String> names = jdbcTemplate.queryForList("SELECT name FROM parking_lot", String.class);
+            assertThat(names).containsExactly("ValidLot");
 
             Integer page = jdbcTemplate.queryForObject(
                     "SELECT current_page FROM public_data_page_state WHERE id=1",
@@ -138,5 +176,212 @@ class PublicDataWriterTest {
             );
             assertThat(page).isEqualTo(6);
         }
+
+        @Test
+        void 주차구획수가_비어_있는_행은_건너뛰고_나머지는_저장한다() {
+            // given
+            ParkingLotData valid = ParkingLotData.builder()
+                    .name("ValidLot")
+                    .address("123 Main St")
+                    .latitude("37.0")
+                    .longitude("127.0")
+                    .quantity("10")
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+            ParkingLotData invalid = ParkingLotData.builder()
+                    .name("NoQuantityLot")
+                    .address("456 Main St")
+                    .latitude("37.1")
+                    .longitude("127.1")
+                    .quantity("")
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+
+            // when
+            writer.savePublicData(List.of(invalid, valid));
+
+            // then
+            List<String> names = jdbcTemplate.queryForList("SELECT name FROM parking_lot", String.class);
+            assertThat(names).containsExactly("ValidLot");
+
+            Integer page = jdbcTemplate.queryForObject(
+                    "SELECT current_page FROM public_data_page_state WHERE id=1",
+                    Integer.class
+            );
+            assertThat(page).isEqualTo(6);
+        }
+
+        @Test
+        void 이미_저장된_좌표는_갱신하고_배치_안의_중복_좌표는_건너뛰며_새_주차장에만_이미지를_저장한다() {
+            // given
+            ParkingLotData first = ParkingLotData.builder()
+                    .name("FirstLot")
+                    .address("123 Main St")
+                    .latitude("37.0")
+                    .longitude("127.0")
+                    .quantity("10")
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+            writer.savePublicData(List.of(first));
+
+            ParkingLotData sameCoordinate = ParkingLotData.builder()
+                    .name("SameCoordinateLot")
+                    .address("123 Main St")
+                    .latitude("37.0")
+                    .longitude("127.0")
+                    .quantity("10")
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+            ParkingLotData second = ParkingLotData.builder()
+                    .name("SecondLot")
+                    .address("456 Main St")
+                    .latitude("37.1")
+                    .longitude("127.1")
+                    .quantity("10")
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+
+            // when
+            writer.savePublicData(List.of(sameCoordinate, second, second));
+
+            // then
+            List<String> names = jdbcTemplate.queryForList("SELECT name FROM parking_lot ORDER BY id", String.class);
+            assertThat(names).containsExactly("SameCoordinateLot", "SecondLot");
+
+            Integer unmatchedImages = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM parking_lot pl LEFT JOIN parking_lot_image pli ON pli.parking_lot_id = pl.id WHERE pli.id IS NULL",
+                    Integer.class
+            );
+            Integer imgs = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM parking_lot_image", Integer.class);
+            assertThat(unmatchedImages).isZero();
+            assertThat(imgs).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    class deltaSync {
+
+        @Test
+        void 내용이_같은_행은_갱신하지_않고_바뀐_행만_갱신한다() {
+            // given
+            writer.savePublicData(List.of(parkingLotData("DeltaLot", "37.0", "127.0", "10")));
+            jdbcTemplate.update("UPDATE parking_lot SET name = 'Untouched'");
+
+            // when
+            writer.savePublicData(List.of(parkingLotData("DeltaLot", "37.0", "127.0", "10")));
+
+            // then
+            String name = jdbcTemplate.queryForObject("SELECT name FROM parking_lot", String.class);
+            assertThat(name).isEqualTo("Untouched");
+
+            // when
+            writer.savePublicData(List.of(parkingLotData("DeltaLot", "37.0", "127.0", "20")));
+
+            // then
+            Integer quantity = jdbcTemplate.queryForObject("SELECT quantity FROM parking_lot", Integer.class);
+            name = jdbcTemplate.queryForObject("SELECT name FROM parking_lot", String.class);
+            Integer lots = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM parking_lot", Integer.class);
+            assertThat(quantity).isEqualTo(20);
+            assertThat(name).isEqualTo("DeltaLot");
+            assertThat(lots).isEqualTo(1);
+        }
+
+        @Test
+        void 한_회차_동안_보이지_않은_주차장은_폐업_처리하고_다시_나타나면_영업_중으로_되돌린다() {
+            // given
+            writer.savePublicData(List.of(
+                    parkingLotData("StayLot", "37.0", "127.0", "10"),
+                    parkingLotData("GoneLot", "37.1", "127.1", "10")
+            ));
+            jdbcTemplate.update("UPDATE public_data_page_state SET sync_run = 2 WHERE id = 1");
+            writer.savePublicData(List.of(parkingLotData("StayLot", "37.0", "127.0", "10")));
+
+            // when
+            writer.savePublicData(Collections.emptyList());
+
+            // then
+            String goneStatus = jdbcTemplate.queryForObject("SELECT status FROM parking_lot WHERE name = 'GoneLot'", String.class);
+            String stayStatus = jdbcTemplate.queryForObject("SELECT status FROM parking_lot WHERE name = 'StayLot'", String.class);
+            Long syncRun = jdbcTemplate.queryForObject("SELECT sync_run FROM public_data_page_state WHERE id = 1", Long.class);
+            assertThat(goneStatus).isEqualTo("CLOSED");
+            assertThat(stayStatus).isEqualTo("OPEN");
+            assertThat(syncRun).isEqualTo(3L);
+
+            // when
+            writer.savePublicData(List.of(parkingLotData("GoneLot", "37.1", "127.1", "10")));
+
+            // then
+            goneStatus = jdbcTemplate.queryForObject("SELECT status FROM parking_lot WHERE name = 'GoneLot'", String.class);
+            assertThat(goneStatus).isEqualTo("OPEN");
+        }
+
+        @Test
+        void 변환에만_실패한_행의_주차장은_사라진_것으로_보지_않는다() {
+            // given
+            writer.savePublicData(List.of(
+                    parkingLotData("StayLot", "37.0", "127.0", "10"),
+                    parkingLotData("FailedLot", "37.1", "127.1", "10")
+            ));
+            jdbcTemplate.update("UPDATE public_data_page_state SET sync_run = 2 WHERE id = 1");
+            ParkingLotData unconvertible = ParkingLotData.builder()
+                    .name("FailedLot")
+                    .address("123 Main St")
+                    .latitude("37.1")
+                    .longitude("127.1")
+                    .openedAt("invalid")
+                    .build();
+            writer.savePublicData(List.of(parkingLotData("StayLot", "37.0", "127.0", "10"), unconvertible));
+
+            // when
+            writer.savePublicData(Collections.emptyList());
+
+            // then
+            String failedStatus = jdbcTemplate.queryForObject("SELECT status FROM parking_lot WHERE name = 'FailedLot'", String.class);
+            Long lastSeenRun = jdbcTemplate.queryForObject(
+                    "SELECT last_seen_run FROM public_data_source_row WHERE latitude = 37.1", Long.class);
+            assertThat(failedStatus).isEqualTo("OPEN");
+            assertThat(lastSeenRun).isEqualTo(2L);
+        }
+
+        @Test
+        void 시딩한_주차장은_원본_행을_만들지_않아_API에_없어도_폐업_처리하지_않는다() {
+            // given
+            writer.savePublicData(List.of(parkingLotData("ApiLot", "37.0", "127.0", "10")));
+            writer.saveParkingLots(writer.convertToParkingLots(List.of(parkingLotData("SeededLot", "37.1", "127.1", "10"))));
+            jdbcTemplate.update("UPDATE public_data_page_state SET sync_run = 2 WHERE id = 1");
+            writer.savePublicData(List.of(parkingLotData("ApiLot", "37.0", "127.0", "10")));
+
+            // when
+            writer.savePublicData(Collections.emptyList());
+
+            // then
+            String seededStatus = jdbcTemplate.queryForObject("SELECT status FROM parking_lot WHERE name = 'SeededLot'", String.class);
+            Integer sourceRows = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM public_data_source_row", Integer.class);
+            assertThat(seededStatus).isEqualTo("OPEN");
+            assertThat(sourceRows).isEqualTo(1);
+        }
+
+        private ParkingLotData parkingLotData(String name, String latitude, String longitude, String quantity) {
+            return ParkingLotData.builder()
+                    .name(name)
+                    .address("123 Main St")
+                    .latitude(latitude)
+                    .longitude(longitude)
+                    .quantity(quantity)
+                    .openedAt("08:00")
+                    .closedAt("22:00")
+                    .chargeType("유료")
+                    .build();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,68 @@
+package com.parkez.parkinglot.spatial;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GeoHashTest {
+
+    private static final double LATITUDE = 37.500066200;
+    private static final double LONGITUDE = 127.032926912;
+
+    @Nested
+    class Encode {
+
+        @Test
+        void 좌표를_geohash로_변환한다() {
+            assertEquals("u4pruydqqvj", GeoHash.encode(57.64911, 10.40744, 11));
+        }
+
+        @Test
+        void 정밀도가_낮은_geohash는_높은_geohash의_접두사이다() {
+            String geohash = GeoHash.encode(LATITUDE, LONGITUDE, 7);
+
+            assertThat(geohash).startsWith(GeoHash.encode(LATITUDE, LONGITUDE, 5));
+        }
+    }
+
+    @Nested
+    class Bounds {
+
+        @Test
+        void geohash_칸의_범위는_원래_좌표를_포함한다() {
+            double[] bounds = GeoHash.bounds(GeoHash.encode(LATITUDE, LONGITUDE, 5));
+
+            assertTrue(bounds[0] <= LATITUDE && LATITUDE < bounds[1]);
+            assertTrue(bounds[2] <= LONGITUDE && LONGITUDE < bounds[3]);
+        }
+    }
+
+    @Nested
+    class CoveringCells {
+
+        @Test
+        void 반경을_덮는_칸에는_중심_좌표의_칸이_포함된다() {
+            Set<String> cells = GeoHash.coveringCells(LATITUDE, LONGITUDE, 1000, 5);
+
+            assertThat(cells).contains(GeoHash.encode(LATITUDE, LONGITUDE, 5));
+        }
+
+        @Test
+        void 반경_경계의_좌표가_속한_칸도_포함된다() {
+            double northLatitude = LATITUDE + GeoUtils.latitudeDelta(3000);
+            double eastLongitude = LONGITUDE + GeoUtils.longitudeDelta(LATITUDE, 3000);
+
+            Set<String> cells = GeoHash.coveringCells(LATITUDE, LONGITUDE, 3000, 5);
+
+            assertThat(cells).contains(
+                    GeoHash.encode(northLatitude, LONGITUDE, 5),
+                    GeoHash.encode(LATITUDE, eastLongitude, 5)
+            );
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.parkez.parkinglot.spatial;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class GridSpatialIndexTest {
+
+    private static final double CENTER_LATITUDE = 37.500066200;
+    private static final double CENTER_LONGITUDE = 127.032926912;
+
+    private GridSpatialIndex getIndex() {
+        GridSpatialIndex index = new GridSpatialIndex(0.01);
+        index.put(1L, CENTER_LATITUDE, CENTER_LONGITUDE);                   // 0m
+        index.put(2L, CENTER_LATITUDE + 0.004, CENTER_LONGITUDE);           // 약 445m
+        index.put(3L, CENTER_LATITUDE, CENTER_LONGITUDE + 0.02);            // 약 1.8km (다른 격자)
+        index.put(4L, CENTER_LATITUDE + 0.5, CENTER_LONGITUDE + 0.5);       // 약 70km
+        return index;
+    }
+
+    private List<Long> ids(List<GridSpatialIndex.GeoHit> hits) {
+        return hits.stream().map(GridSpatialIndex.GeoHit::parkingLotId).toList();
+    }
+
+    @Nested
+    class FindWithinRadius {
+
+        @Test
+        void 반경_내_주차장을_가까운_순으로_반환한다() {
+            // given
+            GridSpatialIndex index = getIndex();
+
+            // when
+            List<GridSpatialIndex.GeoHit> hits = index.findWithinRadius(CENTER_LATITUDE, CENTER_LONGITUDE, 2000);
+
+            // then
+            assertThat(ids(hits)).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        void 격자_경계를_넘는_주차장도_거리로_판단한다() {
+            // given
+            GridSpatialIndex index = getIndex();
+
+            // when
+            List<GridSpatialIndex.GeoHit> hits = index.findWithinRadius(CENTER_LATITUDE, CENTER_LONGITUDE, 500);
+
+            // then
+            assertThat(ids(hits)).containsExactly(1L, 2L);
+        }
+    }
+
+    @Nested
+    class FindNearest {
+
+        @Test
+        void 가까운_순으로_k개만_반환한다() {
+            // given
+            GridSpatialIndex index = getIndex();
+
+            // when
+            List<GridSpatialIndex.GeoHit> hits = index.findNearest(CENTER_LATITUDE, CENTER_LONGITUDE, 2, 100_000);
+
+            // then
+            assertThat(ids(hits)).containsExactly(1L, 2L);
+        }
+
+        @Test
+        void 기준_격자에_후보가_부족하면_바깥_격자로_넓혀_찾는다() {
+            // given
+            GridSpatialIndex index = getIndex();
+
+            // when
+            List<GridSpatialIndex.GeoHit> hits = index.findNearest(CENTER_LATITUDE, CENTER_LONGITUDE, 3, 100_000);
+
+            // then
+            assertThat(ids(hits)).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        void 최대_반경_밖의_주차장은_반환하지_않는다() {
+            // given
+            GridSpatialIndex index = getIndex();
+
+            // when
+            List<GridSpatialIndex.GeoHit> hits = index.findNearest(CENTER_LATITUDE, CENTER_LONGITUDE, 10, 2_000);
+
+            // then
+            assertThat(ids(hits)).containsExactly(1L, 2L, 3L);
+        }
+
+        @Test
+        void 같은_격자의_점보다_옆_격자의_점이_더_가까우면_옆_격자의_점을_반환한다() {
+            // given
+            GridSpatialIndex index = new GridSpatialIndex(0.01);
+            index.put(1L, 37.5020, 127.0050);   // 같은 격자, 약 870m
+            index.put(2L, 37.5105, 127.0050);   // 위쪽 격자, 약 78m
+            double latitude = 37.5098;
+            double longitude = 127.0050;
+
+            // when
+            List<GridSpatialIndex.GeoHit> hits = index.findNearest(latitude, longitude, 1, 10_000);
+
+            // then
+            assertThat(ids(hits)).containsExactly(2L);
+        }
+    }
+
+    @Nested
+    class PutAndRemove {
+
+        @Test
+        void 같은_주차장을_다시_넣으면_위치가_갱신된다() {
+            // given
+            GridSpatialIndex index = getIndex();
+
+            // when
+            index.put(4L, CENTER_LATITUDE + 0.001, CENTER_LONGITUDE);
+
+            // then
+            assertEquals(4, index.size());
+            assertThat(ids(index.findWithinRadius(CENTER_LATITUDE, CENTER_LONGITUDE, 500))).containsExactly(1L, 4L, 2L);
+        }
+
+        @Test
+        void 삭제한_주차장은_검색되지_않는다() {
+            // given
+            GridSpatialIndex index = getIndex();
+
+            // when
+            index.remove(2L);
+
+            // then
+            assertEquals(3, index.size());
+            assertThat(ids(index.findWithinRadius(CENTER_LATITUDE, CENTER_LONGITUDE, 2000))).containsExactly(1L, 3L);
+        }
+    }
+}
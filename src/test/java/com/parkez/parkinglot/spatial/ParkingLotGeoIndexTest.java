@@ -0,0 +1,264 @@
+package com.parkez.parkinglot.spatial;
+
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.geo.Distance;
+import org.springframework.data.geo.GeoResult;
+import org.springframework.data.geo.GeoResults;
+import org.springframework.data.geo.Metrics;
+import org.springframework.data.geo.Point;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoLocation;
+import org.springframework.data.redis.connection.RedisGeoCommands.GeoSearchCommandArgs;
+import org.springframework.data.redis.core.GeoOperations;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.domain.geo.GeoReference;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingLotGeoIndexTest {
+
+    private static final double LATITUDE = 37.500066200;
+    private static final double LONGITUDE = 127.032926912;
+
+    @InjectMocks
+    private ParkingLotGeoIndex parkingLotGeoIndex;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private GeoOperations<String, String> geoOperations;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    private GeoResult<GeoLocation<String>> geoResult(String parkingLotId, double distanceInMeters) {
+        return new GeoResult<>(new GeoLocation<>(parkingLotId, new Point(LONGITUDE, LATITUDE)),
+                new Distance(distanceInMeters, Metrics.METERS));
+    }
+
+    @Nested
+    class SearchWithinRadius {
+
+        @Test
+        void GEO_집합이_없으면_empty를_반환한다() {
+            // given
+            when(stringRedisTemplate.hasKey(ParkingLotGeoIndex.GEO_KEY)).thenReturn(false);
+
+            // when
+            Optional<List<NearbyParkingLot>> result = parkingLotGeoIndex.searchWithinRadius(LATITUDE, LONGITUDE, 1000);
+
+            // then
+            assertThat(result).isEmpty();
+            verify(stringRedisTemplate, never()).opsForGeo();
+        }
+
+        @Test
+        void GEOSEARCH_결과를_거리순_주차장_목록으로_변환한다() {
+            // given
+            when(stringRedisTemplate.hasKey(ParkingLotGeoIndex.GEO_KEY)).thenReturn(true);
+            when(stringRedisTemplate.opsForGeo()).thenReturn(geoOperations);
+            when(geoOperations.search(eq(ParkingLotGeoIndex.GEO_KEY), any(GeoReference.class), any(Distance.class), any(GeoSearchCommandArgs.class)))
+                    .thenReturn(new GeoResults<>(List.of(geoResult("2", 50.0), geoResult("1", 120.0))));
+
+            // when
+            Optional<List<NearbyParkingLot>> result = parkingLotGeoIndex.searchWithinRadius(LATITUDE, LONGITUDE, 1000);
+
+            // then
+            assertThat(result).isPresent();
+            assertThat(result.get())
+                    .extracting(NearbyParkingLot::parkingLotId, NearbyParkingLot::distanceInMeters)
+                    .containsExactly(tuple(2L, 50.0), tuple(1L, 120.0));
+        }
+
+        @Test
+        void 결과가_비었는데_GEO_집합이_사라졌으면_empty를_반환한다() {
+            // given
+            when(stringRedisTemplate.hasKey(ParkingLotGeoIndex.GEO_KEY)).thenReturn(true, false);
+            when(stringRedisTemplate.opsForGeo()).thenReturn(geoOperations);
+            when(geoOperations.search(eq(ParkingLotGeoIndex.GEO_KEY), any(GeoReference.class), any(Distance.class), any(GeoSearchCommandArgs.class)))
+                    .thenReturn(new GeoResults<>(List.of()));
+
+            // when
+            Optional<List<NearbyParkingLot>> result = parkingLotGeoIndex.searchWithinRadius(LATITUDE, LONGITUDE, 1000);
+
+            // then
+            assertThat(result).isEmpty();
+            assertThat(parkingLotGeoIndex.isReady()).isFalse();
+        }
+
+        @Test
+        void Redis_조회에_실패하면_empty를_반환한다() {
+            // given
+            when(stringRedisTemplate.hasKey(ParkingLotGeoIndex.GEO_KEY)).thenReturn(true);
+            when(stringRedisTemplate.opsForGeo()).thenThrow(new RuntimeException("connection refused"));
+
+            // when
+            Optional<List<NearbyParkingLot>> result = parkingLotGeoIndex.searchWithinRadius(LATITUDE, LONGITUDE, 1000);
+
+            // then
+            assertThat(result).isEmpty();
+        }
+    }
+
+    @Nested
+    class Rebuild {
+
+        @Test
+        void 임시_키에_청크_단위로_적재한_뒤_GEO_키로_교체한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotGeoIndex.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(ParkingLotGeoIndex.CHANGES_KEY)).thenReturn(Map.of());
+            when(stringRedisTemplate.opsForGeo()).thenReturn(geoOperations);
+            List<ParkingLotLocation> locations = List.of(
+                    new ParkingLotLocation(1L, 37.5, 127.0),
+                    new ParkingLotLocation(2L, 37.6, 127.1),
+                    new ParkingLotLocation(3L, 37.7, 127.2)
+            );
+
+            // when
+            int count = parkingLotGeoIndex.rebuild(() -> locations, 2);
+
+            // then
+            assertThat(count).isEqualTo(3);
+            verify(geoOperations, times(2)).add(anyString(), anyMap());
+            verify(stringRedisTemplate).rename(anyString(), eq(ParkingLotGeoIndex.GEO_KEY));
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(List.of(ParkingLotGeoIndex.REBUILDING_KEY)), anyString());
+            assertThat(parkingLotGeoIndex.isReady()).isTrue();
+        }
+
+        @Test
+        void 재적재마다_다른_임시_키를_사용한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotGeoIndex.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(ParkingLotGeoIndex.CHANGES_KEY)).thenReturn(Map.of());
+            when(stringRedisTemplate.opsForGeo()).thenReturn(geoOperations);
+            List<ParkingLotLocation> locations = List.of(new ParkingLotLocation(1L, 37.5, 127.0));
+
+            // when
+            parkingLotGeoIndex.rebuild(() -> locations, 1000);
+            parkingLotGeoIndex.rebuild(() -> locations, 1000);
+
+            // then
+            ArgumentCaptor<String> rebuildKeys = ArgumentCaptor.forClass(String.class);
+            verify(stringRedisTemplate, times(2)).rename(rebuildKeys.capture(), eq(ParkingLotGeoIndex.GEO_KEY));
+            assertThat(rebuildKeys.getAllValues()).doesNotHaveDuplicates();
+        }
+
+        @Test
+        void 다른_노드가_재적재_중이면_건너뛴다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotGeoIndex.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(false);
+
+            // when
+            int count = parkingLotGeoIndex.rebuild(() -> List.of(new ParkingLotLocation(1L, 37.5, 127.0)), 1000);
+
+            // then
+            assertThat(count).isEqualTo(ParkingLotGeoIndex.SKIPPED);
+            verify(stringRedisTemplate, never()).delete(ParkingLotGeoIndex.CHANGES_KEY);
+            verify(stringRedisTemplate, never()).rename(anyString(), anyString());
+            verify(stringRedisTemplate, never()).execute(any(RedisScript.class), anyList(), any());
+        }
+
+        @Test
+        void 재적재_중의_추가와_삭제는_교체_후_다시_반영한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotGeoIndex.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(ParkingLotGeoIndex.CHANGES_KEY)).thenReturn(Map.of(
+                    "1", ParkingLotGeoIndex.REMOVED,
+                    "4", "127.3,37.8"
+            ));
+            when(stringRedisTemplate.opsForGeo()).thenReturn(geoOperations);
+
+            // when
+            parkingLotGeoIndex.rebuild(() -> List.of(new ParkingLotLocation(1L, 37.5, 127.0)), 1000);
+
+            // then
+            InOrder inOrder = inOrder(stringRedisTemplate, geoOperations);
+            inOrder.verify(stringRedisTemplate).rename(anyString(), eq(ParkingLotGeoIndex.GEO_KEY));
+            inOrder.verify(geoOperations).remove(ParkingLotGeoIndex.GEO_KEY, "1");
+            verify(geoOperations).add(ParkingLotGeoIndex.GEO_KEY, new Point(127.3, 37.8), "4");
+        }
+
+        @Test
+        void 적재할_좌표가_없으면_GEO_키를_삭제한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.setIfAbsent(eq(ParkingLotGeoIndex.REBUILDING_KEY), anyString(), any(Duration.class))).thenReturn(true);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+            when(hashOperations.entries(ParkingLotGeoIndex.CHANGES_KEY)).thenReturn(Map.of());
+
+            // when
+            parkingLotGeoIndex.rebuild(List::of, 1000);
+
+            // then
+            verify(stringRedisTemplate).delete(ParkingLotGeoIndex.GEO_KEY);
+            verify(stringRedisTemplate, never()).rename(anyString(), anyString());
+        }
+    }
+
+    @Nested
+    class AddAndRemove {
+
+        @Test
+        void 재적재_중이면_변경을_기록한다() {
+            // given
+            when(stringRedisTemplate.opsForGeo()).thenReturn(geoOperations);
+            when(stringRedisTemplate.hasKey(ParkingLotGeoIndex.REBUILDING_KEY)).thenReturn(true);
+            when(stringRedisTemplate.opsForHash()).thenReturn(hashOperations);
+
+            // when
+            parkingLotGeoIndex.add(4L, 37.8, 127.3);
+            parkingLotGeoIndex.remove(1L);
+
+            // then
+            verify(hashOperations).put(ParkingLotGeoIndex.CHANGES_KEY, "4", "127.3,37.8");
+            verify(hashOperations).put(ParkingLotGeoIndex.CHANGES_KEY, "1", ParkingLotGeoIndex.REMOVED);
+        }
+
+        @Test
+        void 재적재_중이_아니면_기록하지_않는다() {
+            // given
+            when(stringRedisTemplate.opsForGeo()).thenReturn(geoOperations);
+            when(stringRedisTemplate.hasKey(ParkingLotGeoIndex.REBUILDING_KEY)).thenReturn(false);
+
+            // when
+            parkingLotGeoIndex.add(4L, 37.8, 127.3);
+
+            // then
+            verify(stringRedisTemplate, never()).opsForHash();
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.parkez.parkinglot.spatial;
+
+import com.parkez.parkinglot.domain.repository.ParkingLotRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingLotSpatialIndexTest {
+
+    private static final double LATITUDE = 37.500066200;
+    private static final double LONGITUDE = 127.032926912;
+
+    @InjectMocks
+    private ParkingLotSpatialIndex parkingLotSpatialIndex;
+
+    @Mock
+    private ParkingLotRepository parkingLotRepository;
+
+    private List<Long> ids(List<NearbyParkingLot> nearby) {
+        return nearby.stream().map(NearbyParkingLot::parkingLotId).toList();
+    }
+
+    @Nested
+    class Reload {
+
+        @Test
+        void 조회한_좌표로_격자를_교체한다() {
+            // given
+            when(parkingLotRepository.findAllActiveLocations()).thenReturn(List.of(
+                    new ParkingLotLocation(1L, LATITUDE, LONGITUDE),
+                    new ParkingLotLocation(2L, LATITUDE + 0.001, LONGITUDE)
+            ));
+
+            // when
+            parkingLotSpatialIndex.reload();
+
+            // then
+            assertThat(parkingLotSpatialIndex.isReady()).isTrue();
+            assertThat(ids(parkingLotSpatialIndex.findWithinRadius(LATITUDE, LONGITUDE, 1000))).containsExactly(1L, 2L);
+        }
+
+        @Test
+        void 재적재_중의_추가와_삭제는_새_격자에도_반영한다() {
+            // given
+            when(parkingLotRepository.findAllActiveLocations()).thenAnswer(invocation -> {
+                // 좌표 조회 이후 커밋된 변경
+                parkingLotSpatialIndex.upsert(3L, LATITUDE + 0.002, LONGITUDE);
+                parkingLotSpatialIndex.remove(1L);
+                return List.of(
+                        new ParkingLotLocation(1L, LATITUDE, LONGITUDE),
+                        new ParkingLotLocation(2L, LATITUDE + 0.001, LONGITUDE)
+                );
+            });
+
+            // when
+            parkingLotSpatialIndex.reload();
+
+            // then
+            assertThat(ids(parkingLotSpatialIndex.findWithinRadius(LATITUDE, LONGITUDE, 1000))).containsExactly(2L, 3L);
+        }
+
+        @Test
+        void 재적재가_끝난_뒤의_변경은_현재_격자에만_반영한다() {
+            // given
+            when(parkingLotRepository.findAllActiveLocations()).thenReturn(List.of(new ParkingLotLocation(1L, LATITUDE, LONGITUDE)));
+            parkingLotSpatialIndex.reload();
+
+            // when
+            parkingLotSpatialIndex.upsert(2L, LATITUDE + 0.001, LONGITUDE);
+
+            // then
+            assertThat(ids(parkingLotSpatialIndex.findWithinRadius(LATITUDE, LONGITUDE, 1000))).containsExactly(1L, 2L);
+        }
+    }
+}
@@ -154,4 +154,22 @@ class ParkingZoneReaderTest {
             verify(parkingZoneRepository).findAllByParkingLotId(1L);
         }
     }
+
+    @Nested
+    class FindAvailableByParkingLotIds {
+        @Test
+        void 주차장_아이디_목록으로_이용_가능한_주차공간을_한번에_조회() {
+            // given
+            List<Long> parkingLotIds = List.of(1L, 2L);
+            List<ParkingZone> parkingZones = List.of(getActiveByParkingZoneId1(), getActiveByParkingZoneId2());
+            when(parkingZoneRepository.findAllByParkingLotIdInAndStatus(parkingLotIds, ParkingZoneStatus.AVAILABLE)).thenReturn(parkingZones);
+
+            // when
+            List<ParkingZone> result = parkingZoneReader.findAvailableByParkingLotIds(parkingLotIds);
+
+            // then
+            assertThat(result).hasSize(2);
+            verify(parkingZoneRepository).findAllByParkingLotIdInAndStatus(parkingLotIds, ParkingZoneStatus.AVAILABLE);
+        }
+    }
 }
@@ -423,7 +423,7 @@ class ParkingZoneServiceTest {
             parkingZoneService.deleteParkingZone(authUser, parkingZone.getId(),deletedAt);
 
             // then
-            verify(parkingZoneWriter, times(1)).deleteParkingZone(parkingZone.getId(),deletedAt);
+            verify(parkingZoneWriter, times(1)).deleteParkingZone(parkingZone,deletedAt);
         }
 
         @Test
@@ -2,6 +2,7 @@ package com.parkez.parkingzone.service;
 
 import com.parkez.common.principal.AuthUser;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
 import com.parkez.parkinglot.service.ParkingLotReader;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.parkingzone.domain.enums.ParkingZoneStatus;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
@@ -38,6 +40,9 @@ class ParkingZoneWriterTest {
     @Mock
     private ParkingLotReader parkingLotReader;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ParkingZoneWriter parkingZoneWriter;
 
@@ -113,11 +118,12 @@ class ParkingZoneWriterTest {
             }).when(parkingZoneRepository).softDeleteById(anyLong(), any(LocalDateTime.class), any());
 
             // when
-            parkingZoneWriter.deleteParkingZone(parkingZone.getId(),  LocalDateTime.now());
+            parkingZoneWriter.deleteParkingZone(parkingZone,  LocalDateTime.now());
 
             // then
             verify(parkingZoneRepository).softDeleteById(eq(parkingZone.getId()), any(LocalDateTime.class), eq(ParkingZoneStatus.UNAVAILABLE));
             assertThat(ReflectionTestUtils.getField(parkingZone, "deletedAt")).isNotNull();
+            verify(eventPublisher).publishEvent(any(ParkingLotStatsEvent.class));
         }
     }
 }
\ No newline at end of file
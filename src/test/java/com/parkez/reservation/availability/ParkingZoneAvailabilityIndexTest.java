@@ -0,0 +1,184 @@
+package com.parkez.reservation.availability;
+
+import com.parkez.reservation.domain.repository.ReservationRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ParkingZoneAvailabilityIndexTest {
+
+    @InjectMocks
+    private ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    private final LocalDateTime startDateTime = LocalDateTime.now().plusDays(1).withHour(14).withMinute(0).withSecond(0).withNano(0);
+    private final LocalDateTime endDateTime = startDateTime.plusHours(3);
+
+    @Nested
+    class FindFreeParkingZoneIds {
+
+        @Test
+        void 요청_시간대와_겹치는_예약이_없는_주차공간만_반환한다() {
+            // given
+            when(reservationRepository.findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class)))
+                    .thenReturn(List.of(
+                            new ReservationInterval(10L, 1L, 100L, startDateTime.plusHours(1), startDateTime.plusHours(2)),
+                            new ReservationInterval(20L, 2L, 100L, startDateTime.minusHours(2), startDateTime)
+                    ));
+
+            // when
+            Set<Long> result = parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(1L, 2L, 3L), startDateTime, endDateTime);
+
+            // then
+            assertThat(result).containsExactlyInAnyOrder(2L, 3L);
+        }
+
+        @Test
+        void 적재된_주차공간은_다시_조회하지_않고_무효화되면_다시_적재한다() {
+            // given
+            when(reservationRepository.findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class)))
+                    .thenReturn(List.of());
+
+            // when
+            parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(1L, 2L), startDateTime, endDateTime);
+            parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(1L, 2L), startDateTime, endDateTime);
+            parkingZoneAvailabilityIndex.evict(1L);
+            parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(1L, 2L), startDateTime, endDateTime);
+
+            // then
+            verify(reservationRepository).findActiveIntervalsByParkingZoneIds(eq(List.of(1L)), anyList(), any(LocalDateTime.class));
+            verify(reservationRepository, times(2)).findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class));
+        }
+
+        @Test
+        void 주차공간_목록이_비어_있으면_조회하지_않는다() {
+            // when
+            Set<Long> result = parkingZoneAvailabilityIndex.findFreeParkingZoneIds(List.of(), startDateTime, endDateTime);
+
+            // then
+            assertThat(result).isEmpty();
+            verifyNoInteractions(reservationRepository);
+        }
+    }
+
+    @Nested
+    class GetLatest {
+
+        @Test
+        void 버전이_같으면_DB_를_다시_조회하지_않는다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get("reservation:zone-version:1")).thenReturn("3");
+            when(reservationRepository.findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class)))
+                    .thenReturn(List.of(new ReservationInterval(10L, 1L, 100L, startDateTime, endDateTime)));
+
+            // when
+            parkingZoneAvailabilityIndex.getLatest(1L);
+            ParkingZoneIntervals result = parkingZoneAvailabilityIndex.getLatest(1L);
+
+            // then
+            assertThat(result.isFree(startDateTime, endDateTime)).isFalse();
+            verify(reservationRepository, times(1)).findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class));
+        }
+
+        @Test
+        void 다른_인스턴스의_변경으로_버전이_바뀌면_다시_적재한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get("reservation:zone-version:1")).thenReturn("3", "4");
+            when(reservationRepository.findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class)))
+                    .thenReturn(List.of())
+                    .thenReturn(List.of(new ReservationInterval(10L, 1L, 100L, startDateTime, endDateTime)));
+
+            // when
+            parkingZoneAvailabilityIndex.getLatest(1L);
+            ParkingZoneIntervals result = parkingZoneAvailabilityIndex.getLatest(1L);
+
+            // then
+            assertThat(result.isFree(startDateTime, endDateTime)).isFalse();
+            verify(reservationRepository, times(2)).findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class));
+        }
+
+        @Test
+        void 버전을_확인할_수_없으면_매번_DB_에서_적재한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenThrow(new RuntimeException("Redis 장애"));
+            when(reservationRepository.findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class)))
+                    .thenReturn(List.of());
+
+            // when
+            parkingZoneAvailabilityIndex.getLatest(1L);
+            parkingZoneAvailabilityIndex.getLatest(1L);
+
+            // then
+            verify(reservationRepository, times(2)).findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class));
+        }
+    }
+
+    @Nested
+    class OccupyAndRelease {
+
+        @Test
+        void 직전_버전의_구간을_가지고_있으면_DB_조회_없이_변경분을_반영한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get("reservation:zone-version:1")).thenReturn("3", "4", "5");
+            when(valueOperations.increment("reservation:zone-version:1")).thenReturn(4L, 5L);
+            when(reservationRepository.findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class)))
+                    .thenReturn(List.of());
+            parkingZoneAvailabilityIndex.getLatest(1L);
+
+            // when
+            parkingZoneAvailabilityIndex.occupy(new ReservationInterval(10L, 1L, 100L, startDateTime, endDateTime));
+            ParkingZoneIntervals occupied = parkingZoneAvailabilityIndex.getLatest(1L);
+            parkingZoneAvailabilityIndex.release(1L, 10L);
+            ParkingZoneIntervals released = parkingZoneAvailabilityIndex.getLatest(1L);
+
+            // then
+            assertThat(occupied.isReservedBy(100L, startDateTime, endDateTime)).isTrue();
+            assertThat(released.isFree(startDateTime, endDateTime)).isTrue();
+            verify(reservationRepository, times(1)).findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class));
+        }
+
+        @Test
+        void 중간_버전을_놓쳤으면_무효화하고_다시_적재한다() {
+            // given
+            when(stringRedisTemplate.opsForValue()).thenReturn(valueOperations);
+            when(valueOperations.get("reservation:zone-version:1")).thenReturn("3", "5");
+            when(valueOperations.increment("reservation:zone-version:1")).thenReturn(5L);
+            when(reservationRepository.findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class)))
+                    .thenReturn(List.of());
+            parkingZoneAvailabilityIndex.getLatest(1L);
+
+            // when
+            parkingZoneAvailabilityIndex.occupy(new ReservationInterval(10L, 1L, 100L, startDateTime, endDateTime));
+            parkingZoneAvailabilityIndex.getLatest(1L);
+
+            // then
+            verify(reservationRepository, times(2)).findActiveIntervalsByParkingZoneIds(anyList(), anyList(), any(LocalDateTime.class));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.parkez.reservation.availability;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ParkingZoneIntervalsTest {
+
+    private static final Long PARKING_ZONE_ID = 1L;
+    private static final LocalDateTime BASE = LocalDateTime.of(2025, 4, 7, 0, 0);
+
+    private static final Long USER_ID = 100L;
+
+    private ReservationInterval interval(int startHour, int endHour) {
+        return interval(startHour * 100L + endHour, USER_ID, startHour, endHour);
+    }
+
+    private ReservationInterval interval(Long reservationId, Long userId, int startHour, int endHour) {
+        return new ReservationInterval(reservationId, PARKING_ZONE_ID, userId, BASE.plusHours(startHour), BASE.plusHours(endHour));
+    }
+
+    @Test
+    void 예약이_없으면_모든_시간대가_비어_있다() {
+        // when
+        ParkingZoneIntervals intervals = ParkingZoneIntervals.of(List.of());
+
+        // then
+        assertThat(intervals.isFree(BASE.plusHours(14), BASE.plusHours(17))).isTrue();
+    }
+
+    @Test
+    void 예약과_겹치는_시간대는_비어_있지_않다() {
+        // given
+        ParkingZoneIntervals intervals = ParkingZoneIntervals.of(List.of(interval(10, 12), interval(15, 16)));
+
+        // when & then
+        assertThat(intervals.isFree(BASE.plusHours(14), BASE.plusHours(17))).isFalse();
+        assertThat(intervals.isFree(BASE.plusHours(11), BASE.plusHours(13))).isFalse();
+        assertThat(intervals.isFree(BASE.plusHours(9), BASE.plusHours(18))).isFalse();
+    }
+
+    @Test
+    void 예약_시작_또는_종료_시각과_맞닿은_시간대는_비어_있다() {
+        // given
+        ParkingZoneIntervals intervals = ParkingZoneIntervals.of(List.of(interval(10, 12), interval(15, 16)));
+
+        // when & then
+        assertThat(intervals.isFree(BASE.plusHours(12), BASE.plusHours(15))).isTrue();
+        assertThat(intervals.isFree(BASE.plusHours(8), BASE.plusHours(10))).isTrue();
+        assertThat(intervals.isFree(BASE.plusHours(16), BASE.plusHours(20))).isTrue();
+    }
+
+    @Test
+    void 겹치거나_맞닿은_예약은_하나의_구간으로_병합한다() {
+        // given
+        ParkingZoneIntervals intervals = ParkingZoneIntervals.of(List.of(
+                interval(13, 15), interval(10, 12), interval(11, 13), interval(9, 10)));
+
+        // when & then
+        assertThat(intervals.size()).isEqualTo(1);
+        assertThat(intervals.isFree(BASE.plusHours(14), BASE.plusHours(16))).isFalse();
+        assertThat(intervals.isFree(BASE.plusHours(15), BASE.plusHours(16))).isTrue();
+    }
+
+    @Test
+    void 요청_시간대와_겹치는_본인_예약이_있는지_확인한다() {
+        // given
+        ParkingZoneIntervals intervals = ParkingZoneIntervals.of(List.of(
+                interval(1L, 200L, 8, 18), interval(2L, USER_ID, 10, 11), interval(3L, USER_ID, 15, 16)));
+
+        // when & then
+        assertThat(intervals.isReservedBy(USER_ID, BASE.plusHours(12), BASE.plusHours(14))).isFalse();
+        assertThat(intervals.isReservedBy(USER_ID, BASE.plusHours(15), BASE.plusHours(17))).isTrue();
+        assertThat(intervals.isReservedBy(USER_ID, BASE.plusHours(9), BASE.plusHours(10))).isFalse();
+        assertThat(intervals.isReservedBy(200L, BASE.plusHours(12), BASE.plusHours(14))).isTrue();
+    }
+
+    @Test
+    void 예약_추가와_삭제를_반영한_새_구간을_만든다() {
+        // given
+        ParkingZoneIntervals intervals = ParkingZoneIntervals.of(List.of(interval(1L, USER_ID, 10, 12)));
+
+        // when
+        ParkingZoneIntervals occupied = intervals.with(interval(2L, 200L, 14, 16)).with(interval(2L, 200L, 14, 16));
+        ParkingZoneIntervals released = occupied.without(1L);
+
+        // then
+        assertThat(occupied.size()).isEqualTo(2);
+        assertThat(occupied.isFree(BASE.plusHours(14), BASE.plusHours(15))).isFalse();
+        assertThat(released.size()).isEqualTo(1);
+        assertThat(released.isFree(BASE.plusHours(10), BASE.plusHours(12))).isTrue();
+        assertThat(released.without(99L)).isSameAs(released);
+    }
+}
@@ -2,6 +2,8 @@ package com.parkez.reservation.distributedlockmanager;
 
 import com.parkez.common.exception.ParkingEasyException;
 import com.parkez.reservation.exception.ReservationErrorCode;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -11,6 +13,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.redisson.api.RLock;
 import org.redisson.api.RedissonClient;
 
+import java.time.LocalDate;
 import java.util.concurrent.Callable;
 import java.util.concurrent.TimeUnit;
 
@@ -32,15 +35,17 @@ class RedissonDistributedLockManagerTest {
     @InjectMocks
     private RedissonDistributedLockManager redissonDistributedLockManager;
 
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
     @BeforeEach
     void setUp() {
-        redissonDistributedLockManager = new RedissonDistributedLockManager(redissonClient);
+        redissonDistributedLockManager = new RedissonDistributedLockManager(redissonClient, meterRegistry);
     }
 
     @Test
     void 락을_획득하고_정상적으로_실행되면_결과_반환() throws InterruptedException {
         // given
-        Long key = 1L;
+        LockKey key = LockKey.parkingZoneDate(1L, LocalDate.of(2025, 4, 7));
         String expectedResult = "Success";
         Callable<String> task = () -> expectedResult;
 
@@ -54,12 +59,15 @@ class RedissonDistributedLockManagerTest {
         // then
         assertThat(result).isEqualTo(expectedResult);
         verify(lock).unlock();
+        verify(redissonClient).getLock("distributed-lock:parking-zone-date:1:2025-04-07");
+        assertThat(meterRegistry.get("reservation.lock.wait").tags("key.class", "parking-zone-date", "outcome", "acquired").timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("reservation.lock.hold").tag("key.class", "parking-zone-date").timer().count()).isEqualTo(1);
     }
 
     @Test
     void 락을_획득하지_못하면_RESERVATION_LOCK_FAILED_예외() throws InterruptedException {
         // given
-        Long key = 1L;
+        LockKey key = LockKey.parkingZoneDate(1L, LocalDate.of(2025, 4, 7));
         String expectedResult = "Success";
         Callable<String> task = () -> expectedResult;
 
@@ -70,12 +78,14 @@ class RedissonDistributedLockManagerTest {
         ParkingEasyException exception = assertThrows(ParkingEasyException.class,
                 () -> redissonDistributedLockManager.executeWithLock(key, task));
         assertThat(exception.getErrorCode()).isEqualTo(ReservationErrorCode.RESERVATION_LOCK_FAILED);
+        assertThat(meterRegistry.get("reservation.lock.failures").tags("key.class", "parking-zone-date", "reason", "timeout").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.find("reservation.lock.hold").timer()).isNull();
     }
 
     @Test
     void Interrupt_발생시_RESERVATION_LOCK_INTERRUPTED_예외() throws InterruptedException {
         // given
-        Long key = 1L;
+        LockKey key = LockKey.parkingZoneDate(1L, LocalDate.of(2025, 4, 7));
         String expectedResult = "Success";
         Callable<String> task = () -> expectedResult;
 
@@ -91,7 +101,7 @@ class RedissonDistributedLockManagerTest {
     @Test
     void 예외_발생_시_해당_예외가_ParkingEasyException에서_처리하는_예외라면_ParkingEasyException_반환() throws InterruptedException {
         // given
-        Long key = 1L;
+        LockKey key = LockKey.parkingZoneDate(1L, LocalDate.of(2025, 4, 7));
         ParkingEasyException expectedException = new ParkingEasyException(ReservationErrorCode.RESERVATION_LOCK_FAILED);
         Callable<String> task = () -> {
             throw expectedException;
@@ -109,7 +119,7 @@ class RedissonDistributedLockManagerTest {
     @Test
     void Custom_Error_Response로_처리되지_않은_예외_발생_시_UNKNOWN_ERROR_예외() throws Exception {
         // given
-        Long key = 1L;
+        LockKey key = LockKey.parkingZoneDate(1L, LocalDate.of(2025, 4, 7));
         Callable<String> task = () -> {
             throw new RuntimeException();
         };
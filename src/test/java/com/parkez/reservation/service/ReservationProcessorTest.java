@@ -17,9 +17,11 @@ import com.parkez.promotion.service.PromotionIssueValidator;
 import com.parkez.promotion.service.PromotionIssueWriter;
 import com.parkez.queue.domain.enums.JoinQueueResult;
 import com.parkez.queue.service.QueueService;
+import com.parkez.reservation.availability.ParkingZoneAvailabilityIndex;
+import com.parkez.reservation.availability.ParkingZoneIntervals;
+import com.parkez.reservation.availability.ReservationInterval;
 import com.parkez.reservation.distributedlockmanager.DistributedLockManager;
 import com.parkez.reservation.domain.entity.Reservation;
-import com.parkez.reservation.domain.enums.ReservationStatus;
 import com.parkez.reservation.dto.request.ReservationRequest;
 import com.parkez.reservation.dto.response.ReservationResponse;
 import com.parkez.reservation.exception.ReservationErrorCode;
@@ -48,6 +50,7 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class ReservationProcessorTest {
@@ -76,6 +79,9 @@ class ReservationProcessorTest {
     @Mock
     private QueueService queueService;
 
+    @Mock
+    private ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
+
     @InjectMocks
     private ReservationProcessor reservationProcessor;
 
@@ -244,6 +250,7 @@ class ReservationProcessorTest {
             
             given(userReader.getActiveUserById(anyLong())).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
+            given(parkingZoneAvailabilityIndex.getLatest(anyLong())).willReturn(ParkingZoneIntervals.EMPTY);
             given(promotionIssueReader.getWithPromotionAndCouponById(anyLong())).willThrow(new ParkingEasyException(PROMOTION_ISSUE_NOT_FOUND));
 
             // when & then
@@ -300,6 +307,7 @@ class ReservationProcessorTest {
 
             given(userReader.getActiveUserById(anyLong())).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
+            given(parkingZoneAvailabilityIndex.getLatest(anyLong())).willReturn(ParkingZoneIntervals.EMPTY);
             given(promotionIssueReader.getWithPromotionAndCouponById(anyLong())).willReturn(promotionIssue);
             doThrow(new ParkingEasyException(EXPIRED_COUPON)).when(promotionIssueValidator).validateCanBeUsed(any(),any());
 
@@ -357,6 +365,7 @@ class ReservationProcessorTest {
 
             given(userReader.getActiveUserById(anyLong())).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
+            given(parkingZoneAvailabilityIndex.getLatest(anyLong())).willReturn(ParkingZoneIntervals.EMPTY);
             given(promotionIssueReader.getWithPromotionAndCouponById(anyLong())).willReturn(promotionIssue);
             doThrow(new ParkingEasyException(ALREADY_USED)).when(promotionIssueValidator).validateCanBeUsed(any(),any());
 
@@ -415,6 +424,7 @@ class ReservationProcessorTest {
 
             given(userReader.getActiveUserById(anyLong())).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
+            given(parkingZoneAvailabilityIndex.getLatest(anyLong())).willReturn(ParkingZoneIntervals.EMPTY);
             given(promotionIssueReader.getWithPromotionAndCouponById(anyLong())).willReturn(promotionIssue);
 
             // when & then
@@ -482,6 +492,7 @@ class ReservationProcessorTest {
 
             given(userReader.getActiveUserById(anyLong())).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
+            given(parkingZoneAvailabilityIndex.getLatest(anyLong())).willReturn(ParkingZoneIntervals.EMPTY);
             given(promotionIssueReader.getWithPromotionAndCouponById(anyLong())).willReturn(promotionIssue);
             given(reservationWriter.create(any(User.class), any(ParkingZone.class), any(LocalDateTime.class), any(LocalDateTime.class),any(BigDecimal.class),any(
                     BigDecimal.class),any(BigDecimal.class),any()))
@@ -531,6 +542,7 @@ class ReservationProcessorTest {
 
             given(userReader.getActiveUserById(anyLong())).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
+            given(parkingZoneAvailabilityIndex.getLatest(anyLong())).willReturn(ParkingZoneIntervals.EMPTY);
             given(reservationWriter.create(any(User.class), any(ParkingZone.class), any(LocalDateTime.class), any(LocalDateTime.class),any(BigDecimal.class),any(
                     BigDecimal.class),any(BigDecimal.class),any()))
                     .willReturn(reservation);
@@ -755,7 +767,8 @@ class ReservationProcessorTest {
 
             given(userReader.getActiveUserById(anyLong())).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
-            given(reservationReader.existsReservationByConditions(any(ParkingZone.class), any(LocalDateTime.class), any(LocalDateTime.class), anyList())).willReturn(true);
+            given(parkingZoneAvailabilityIndex.getLatest(parkingZoneId)).willReturn(ParkingZoneIntervals.of(List.of(
+                    new ReservationInterval(1L, parkingZoneId, ownerId, RESERVATION_START_DATE_TIME, RESERVATION_END_DATE_TIME))));
             given(queueService.joinWaitingQueue(anyLong(), any())).willReturn(JoinQueueResult.JOINED);
 
             // when
@@ -766,7 +779,7 @@ class ReservationProcessorTest {
         }
 
         @Test
-        void 본인이_이미_예약한_경우_예외발생() {
+        void 캐시된_구간이_비어_있어도_DB에_겹치는_예약이_있으면_캐시를_비우고_대기열_등록된다() {
             // given
             Long ownerId = 1L;
             Long userId = 2L;
@@ -783,13 +796,43 @@ class ReservationProcessorTest {
             ParkingLot parkingLot = createParkingLot(parkingLotId, owner);
             ParkingZone parkingZone = createParkingZone(parkingZoneId, parkingLot);
 
-            List<ReservationStatus> statusList = List.of(ReservationStatus.PENDING, ReservationStatus.CONFIRMED);
+            given(userReader.getActiveUserById(anyLong())).willReturn(user);
+            given(parkingZoneReader.getActiveByParkingZoneId(anyLong())).willReturn(parkingZone);
+            given(parkingZoneAvailabilityIndex.getLatest(parkingZoneId)).willReturn(ParkingZoneIntervals.EMPTY);
+            given(reservationReader.existsReservationByConditions(eq(parkingZone), eq(RESERVATION_START_DATE_TIME), eq(RESERVATION_END_DATE_TIME), anyList()))
+                    .willReturn(true);
+            given(queueService.joinWaitingQueue(anyLong(), any())).willReturn(JoinQueueResult.JOINED);
+
+            // when
+            ReservationResponse response = reservationProcessor.create(authUser, request, LocalDateTime.now());
+
+            // then
+            assertThat(response).isNull();
+            verify(parkingZoneAvailabilityIndex).evict(parkingZoneId);
+        }
+
+        @Test
+        void 본인이_이미_예약한_경우_예외발생() {
+            // given
+            Long ownerId = 1L;
+            Long userId = 2L;
+            Long parkingLotId = 1L;
+            Long parkingZoneId = 1L;
+
+            AuthUser authUser = createAuthUser(userId);
+
+            ReservationRequest request = createRequest(parkingZoneId, null);
+
+            User owner = createOwner(ownerId);
+            User user = createUser(authUser.getId());
 
+            ParkingLot parkingLot = createParkingLot(parkingLotId, owner);
+            ParkingZone parkingZone = createParkingZone(parkingZoneId, parkingLot);
 
             given(userReader.getActiveUserById(userId)).willReturn(user);
             given(parkingZoneReader.getActiveByParkingZoneId(parkingZoneId)).willReturn(parkingZone);
-            given(reservationReader.existsReservationByConditionsForUser(parkingZone, request.getStartDateTime(), request.getEndDateTime(), userId, statusList))
-                    .willReturn(true);
+            given(parkingZoneAvailabilityIndex.getLatest(parkingZoneId)).willReturn(ParkingZoneIntervals.of(List.of(
+                    new ReservationInterval(1L, parkingZoneId, userId, RESERVATION_START_DATE_TIME.plusHours(1), RESERVATION_START_DATE_TIME.plusHours(2)))));
 
             // when & then
             ParkingEasyException exception = assertThrows(ParkingEasyException.class,
@@ -22,7 +22,11 @@ import com.parkez.queue.domain.enums.JoinQueueResult;
 import com.parkez.queue.dto.WaitingUserDto;
 import com.parkez.queue.exception.QueueErrorCode;
 import com.parkez.queue.service.QueueService;
+import com.parkez.reservation.availability.ParkingZoneAvailabilityIndex;
+import com.parkez.reservation.availability.ParkingZoneIntervals;
+import com.parkez.reservation.availability.ReservationInterval;
 import com.parkez.reservation.distributedlockmanager.DistributedLockManager;
+import com.parkez.reservation.distributedlockmanager.LockKey;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.reservation.domain.enums.ReservationStatus;
 import com.parkez.reservation.dto.request.ReservationCancelRequest;
@@ -30,6 +34,8 @@ import com.parkez.reservation.dto.request.ReservationRequest;
 import com.parkez.reservation.dto.response.ReservationResponse;
 import com.parkez.reservation.dto.response.ReservationWithReviewDto;
 import com.parkez.reservation.exception.ReservationErrorCode;
+import com.parkez.reservation.slot.ReservationSlotStore;
+import com.parkez.reservation.slot.SlotClaimResult;
 import com.parkez.review.service.ReviewReader;
 import com.parkez.user.domain.entity.User;
 import com.parkez.user.domain.enums.UserRole;
@@ -92,6 +98,15 @@ class ReservationServiceTest {
     @Mock
     private QueueService queueService;
 
+    @Mock
+    private ReservationProcessor reservationProcessor;
+
+    @Mock
+    private ReservationSlotStore reservationSlotStore;
+
+    @Mock
+    private ParkingZoneAvailabilityIndex parkingZoneAvailabilityIndex;
+
     @InjectMocks
     private ReservationService reservationService;
 
@@ -259,7 +274,7 @@ class ReservationServiceTest {
             ReservationRequest request = createRequest(parkingZoneId, null);
 
             // 락 선점 실패 상황을 가짜로 만들어줌
-            given(distributedLockManager.executeWithLock(anyLong(), any()))
+            given(distributedLockManager.executeWithLock(any(LockKey.class), any()))
                     .willThrow(new ParkingEasyException(ReservationErrorCode.RESERVATION_LOCK_FAILED));
             given(userReader.getActiveUserById(anyLong())).willReturn(createUser(userId));
             given(queueService.joinWaitingQueue(anyLong(), any())).willReturn(JoinQueueResult.JOINED);
@@ -272,6 +287,145 @@ class ReservationServiceTest {
         }
     }
 
+    @Nested
+    class CreateReservationWithSlotClaim {
+
+        @Test
+        void 슬롯을_선점하면_분산_락_없이_예약을_생성한다() {
+            // given
+            ReflectionTestUtils.setField(reservationService, "slotClaimEnabled", true);
+            AuthUser authUser = createAuthUser(1L);
+            ReservationRequest request = createRequest(1L, null);
+            ReservationResponse response = mock(ReservationResponse.class);
+
+            given(reservationSlotStore.claim(1L, RESERVATION_START_DATE_TIME, RESERVATION_END_DATE_TIME)).willReturn(SlotClaimResult.CLAIMED);
+            given(reservationProcessor.create(eq(authUser), eq(request), any(LocalDateTime.class))).willReturn(response);
+
+            // when
+            ReservationResponse result = reservationService.createReservation(authUser, request, LocalDateTime.now());
+
+            // then
+            assertThat(result).isSameAs(response);
+            verifyNoInteractions(distributedLockManager);
+            verify(reservationSlotStore, never()).release(anyLong(), any(), any());
+        }
+
+        @Test
+        void 선점에_실패하고_DB_에서도_겹치는_예약이_확인되면_대기열에_등록하고_null을_반환한다() {
+            // given
+            ReflectionTestUtils.setField(reservationService, "slotClaimEnabled", true);
+            AuthUser authUser = createAuthUser(1L);
+            ReservationRequest request = createRequest(1L, null);
+
+            given(reservationSlotStore.claim(anyLong(), any(), any())).willReturn(SlotClaimResult.CONFLICT);
+            given(parkingZoneAvailabilityIndex.getLatest(1L)).willReturn(ParkingZoneIntervals.of(List.of(
+                    new ReservationInterval(10L, 1L, 2L, RESERVATION_START_DATE_TIME, RESERVATION_END_DATE_TIME))));
+            given(userReader.getActiveUserById(1L)).willReturn(createUser(1L));
+            given(queueService.joinWaitingQueue(anyLong(), any())).willReturn(JoinQueueResult.JOINED);
+
+            // when
+            ReservationResponse result = reservationService.createReservation(authUser, request, LocalDateTime.now());
+
+            // then
+            assertThat(result).isNull();
+            verifyNoInteractions(distributedLockManager, reservationProcessor);
+            verify(reservationSlotStore, never()).reloadAndClaim(anyLong(), any(), any());
+        }
+
+        @Test
+        void 선점에_실패했지만_DB_에_겹치는_예약이_없으면_비트맵을_다시_채워_선점한다() {
+            // given
+            ReflectionTestUtils.setField(reservationService, "slotClaimEnabled", true);
+            AuthUser authUser = createAuthUser(1L);
+            ReservationRequest request = createRequest(1L, null);
+            ReservationResponse response = mock(ReservationResponse.class);
+
+            given(reservationSlotStore.claim(anyLong(), any(), any())).willReturn(SlotClaimResult.CONFLICT);
+            given(parkingZoneAvailabilityIndex.getLatest(1L)).willReturn(ParkingZoneIntervals.EMPTY);
+            given(reservationSlotStore.reloadAndClaim(1L, RESERVATION_START_DATE_TIME, RESERVATION_END_DATE_TIME)).willReturn(SlotClaimResult.CLAIMED);
+            given(reservationProcessor.create(eq(authUser), eq(request), any(LocalDateTime.class))).willReturn(response);
+
+            // when
+            ReservationResponse result = reservationService.createReservation(authUser, request, LocalDateTime.now());
+
+            // then
+            assertThat(result).isSameAs(response);
+            verifyNoInteractions(queueService, distributedLockManager);
+        }
+
+        @Test
+        void 다시_채운_뒤에도_진행_중인_선점과_겹치면_대기열에_등록한다() {
+            // given
+            ReflectionTestUtils.setField(reservationService, "slotClaimEnabled", true);
+            AuthUser authUser = createAuthUser(1L);
+            ReservationRequest request = createRequest(1L, null);
+
+            given(reservationSlotStore.claim(anyLong(), any(), any())).willReturn(SlotClaimResult.CONFLICT);
+            given(parkingZoneAvailabilityIndex.getLatest(1L)).willReturn(ParkingZoneIntervals.EMPTY);
+            given(reservationSlotStore.reloadAndClaim(anyLong(), any(), any())).willReturn(SlotClaimResult.CONFLICT);
+            given(userReader.getActiveUserById(1L)).willReturn(createUser(1L));
+            given(queueService.joinWaitingQueue(anyLong(), any())).willReturn(JoinQueueResult.JOINED);
+
+            // when
+            ReservationResponse result = reservationService.createReservation(authUser, request, LocalDateTime.now());
+
+            // then
+            assertThat(result).isNull();
+            verifyNoInteractions(reservationProcessor);
+        }
+
+        @Test
+        void 본인_예약과_겹쳐_선점에_실패하면_ALREADY_RESERVED_BY_YOURSELF_예외가_발생한다() {
+            // given
+            ReflectionTestUtils.setField(reservationService, "slotClaimEnabled", true);
+            AuthUser authUser = createAuthUser(1L);
+            ReservationRequest request = createRequest(1L, null);
+
+            given(reservationSlotStore.claim(anyLong(), any(), any())).willReturn(SlotClaimResult.CONFLICT);
+            given(parkingZoneAvailabilityIndex.getLatest(1L)).willReturn(ParkingZoneIntervals.of(List.of(
+                    new ReservationInterval(10L, 1L, 1L, RESERVATION_START_DATE_TIME, RESERVATION_END_DATE_TIME))));
+
+            // when & then
+            ParkingEasyException exception = assertThrows(ParkingEasyException.class,
+                    () -> reservationService.createReservation(authUser, request, LocalDateTime.now()));
+            assertThat(exception.getErrorCode()).isEqualTo(ReservationErrorCode.ALREADY_RESERVED_BY_YOURSELF);
+            verifyNoInteractions(queueService);
+        }
+
+        @Test
+        void 예약_생성에_실패하면_선점한_슬롯을_되돌린다() {
+            // given
+            ReflectionTestUtils.setField(reservationService, "slotClaimEnabled", true);
+            AuthUser authUser = createAuthUser(1L);
+            ReservationRequest request = createRequest(1L, null);
+
+            given(reservationSlotStore.claim(anyLong(), any(), any())).willReturn(SlotClaimResult.CLAIMED);
+            given(reservationProcessor.create(any(), any(), any()))
+                    .willThrow(new ParkingEasyException(ReservationErrorCode.CANT_RESERVE_AT_CLOSE_TIME));
+
+            // when & then
+            assertThatThrownBy(() -> reservationService.createReservation(authUser, request, LocalDateTime.now()))
+                    .isInstanceOf(ParkingEasyException.class);
+            verify(reservationSlotStore).release(1L, RESERVATION_START_DATE_TIME, RESERVATION_END_DATE_TIME);
+        }
+
+        @Test
+        void Redis_장애로_선점을_확인할_수_없으면_분산_락으로_처리한다() {
+            // given
+            ReflectionTestUtils.setField(reservationService, "slotClaimEnabled", true);
+            AuthUser authUser = createAuthUser(1L);
+            ReservationRequest request = createRequest(1L, null);
+
+            given(reservationSlotStore.claim(anyLong(), any(), any())).willReturn(SlotClaimResult.UNAVAILABLE);
+
+            // when
+            reservationService.createReservation(authUser, request, LocalDateTime.now());
+
+            // then
+            verify(distributedLockManager).executeWithLock(eq(LockKey.parkingZoneDate(1L, RESERVATION_START_DATE_TIME.toLocalDate())), any());
+        }
+    }
+
     @Nested
     class GetReservationsByUserId {
 
@@ -15,9 +15,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.event.ParkingLotOccupancyEvent;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.reservation.domain.enums.ReservationStatus;
@@ -29,6 +31,8 @@ class ReservationWriterTest {
 
     @Mock
     private ReservationRepository reservationRepository;
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
     @InjectMocks
     private ReservationWriter reservationWriter;
 
@@ -84,7 +88,13 @@ class ReservationWriterTest {
     }
 
     private static Reservation getReservation(Long id) {
-        Reservation reservation = Reservation.builder().build();
+        ParkingZone parkingZone = createParkingZone(1L, createParkingLot(1L, createUser(2L), "test"));
+        Reservation reservation = Reservation.builder()
+                .user(createUser(1L))
+                .parkingZone(parkingZone)
+                .startDateTime(LocalDateTime.now().plusHours(1))
+                .endDateTime(LocalDateTime.now().plusHours(2))
+                .build();
         ReflectionTestUtils.setField(reservation, "id", id);
         return reservation;
     }
@@ -133,6 +143,11 @@ class ReservationWriterTest {
                     .isEqualTo(
                             List.of(reservationId, user, parkingZone, parkingLotName, startDateTime, endDateTime, price, ReservationStatus.PENDING, false)
                     );
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof ParkingLotOccupancyEvent occupancyEvent
+                            && occupancyEvent.isOccupied()
+                            && occupancyEvent.getParkingLotId().equals(parkingLotId)
+                            && occupancyEvent.getReservationId().equals(reservationId)));
         }
     }
 
@@ -172,6 +187,8 @@ class ReservationWriterTest {
 
             // then
             assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CANCELED);
+            verify(eventPublisher).publishEvent(argThat((Object event) ->
+                    event instanceof ParkingLotOccupancyEvent occupancyEvent && !occupancyEvent.isOccupied()));
         }
     }
 
@@ -235,6 +252,7 @@ class ReservationWriterTest {
             // then
             assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.PAYMENT_EXPIRED);
             verify(reservationRepository).saveAll(expiredToReservation);
+            verify(eventPublisher).publishEvent(any(ParkingLotOccupancyEvent.class));
         }
     }
 }
\ No newline at end of file
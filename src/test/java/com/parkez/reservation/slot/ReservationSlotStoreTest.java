@@ -0,0 +1,116 @@
+package com.parkez.reservation.slot;
+
+import com.parkez.reservation.availability.ReservationInterval;
+import com.parkez.reservation.domain.repository.ReservationRepository;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ReservationSlotStoreTest {
+
+    @InjectMocks
+    private ReservationSlotStore reservationSlotStore;
+
+    @Mock
+    private StringRedisTemplate stringRedisTemplate;
+
+    @Mock
+    private ReservationRepository reservationRepository;
+
+    private static final LocalDate DATE = LocalDate.of(2025, 4, 7);
+    private static final List<String> KEYS = List.of("reservation:slot:1:20250407", "reservation:slot-pending:1:20250407");
+
+    @Nested
+    class Claim {
+
+        @Test
+        void 비트맵이_없으면_DB_의_당일_예약으로_채운_뒤_선점한다() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("540"), eq("600"), any(), eq("60")))
+                    .willReturn(-1L, 1L);
+            given(reservationRepository.findActiveIntervalsByParkingZoneIds(eq(List.of(1L)), anyList(), eq(DATE.atStartOfDay())))
+                    .willReturn(List.of(
+                            new ReservationInterval(10L, 1L, 2L, DATE.atTime(10, 0), DATE.atTime(11, 30)),
+                            new ReservationInterval(11L, 1L, 2L, DATE.plusDays(1).atTime(9, 0), DATE.plusDays(1).atTime(10, 0))
+                    ));
+            // 적재 스크립트는 선점 스크립트와 인자 개수가 달라 따로 지정
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1440"), any(), any(), eq("0"), eq("600"), eq("690")))
+                    .willReturn(1L);
+
+            // when
+            SlotClaimResult result = reservationSlotStore.claim(1L, DATE.atTime(9, 0), DATE.atTime(10, 0));
+
+            // then
+            assertThat(result).isEqualTo(SlotClaimResult.CLAIMED);
+            verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("1440"), any(), any(), eq("0"), eq("600"), eq("690"));
+        }
+
+        @Test
+        void 이미_선점된_슬롯이_있으면_CONFLICT_를_반환한다() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("540"), eq("600"), any(), eq("60")))
+                    .willReturn(0L);
+
+            // when
+            SlotClaimResult result = reservationSlotStore.claim(1L, DATE.atTime(9, 0), DATE.atTime(10, 0));
+
+            // then
+            assertThat(result).isEqualTo(SlotClaimResult.CONFLICT);
+        }
+
+        @Test
+        void Redis_장애면_UNAVAILABLE_을_반환한다() {
+            // given
+            given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("540"), eq("600"), any(), eq("60")))
+                    .willThrow(new RuntimeException("Redis 장애"));
+
+            // when
+            SlotClaimResult result = reservationSlotStore.claim(1L, DATE.atTime(9, 0), DATE.atTime(10, 0));
+
+            // then
+            assertThat(result).isEqualTo(SlotClaimResult.UNAVAILABLE);
+        }
+    }
+
+    @Test
+    void 다시_채워_선점하면_기존_비트맵을_지우고_DB_기준으로_적재한다() {
+        // given
+        given(reservationRepository.findActiveIntervalsByParkingZoneIds(eq(List.of(1L)), anyList(), eq(DATE.atStartOfDay())))
+                .willReturn(List.of());
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("1440"), any(), any(), eq("1")))
+                .willReturn(1L);
+        given(stringRedisTemplate.execute(any(RedisScript.class), eq(KEYS), eq("540"), eq("600"), any(), eq("60")))
+                .willReturn(1L);
+
+        // when
+        SlotClaimResult result = reservationSlotStore.reloadAndClaim(1L, DATE.atTime(9, 0), DATE.atTime(10, 0));
+
+        // then
+        assertThat(result).isEqualTo(SlotClaimResult.CLAIMED);
+        verify(stringRedisTemplate).execute(any(RedisScript.class), eq(KEYS), eq("1440"), any(), any(), eq("1"));
+    }
+
+    @Test
+    void 하루_중_분_단위_슬롯으로_변환한다() {
+        // when & then
+        assertThat(ReservationSlotStore.toSlot(LocalDateTime.of(2025, 4, 7, 0, 0))).isZero();
+        assertThat(ReservationSlotStore.toSlot(LocalDateTime.of(2025, 4, 7, 23, 59))).isEqualTo(1439);
+    }
+}
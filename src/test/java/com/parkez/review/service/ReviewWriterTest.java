@@ -2,6 +2,7 @@ package com.parkez.review.service;
 
 import com.parkez.common.principal.AuthUser;
 import com.parkez.parkinglot.domain.entity.ParkingLot;
+import com.parkez.parkinglot.event.ParkingLotStatsEvent;
 import com.parkez.parkingzone.domain.entity.ParkingZone;
 import com.parkez.reservation.domain.entity.Reservation;
 import com.parkez.review.domain.entity.Review;
@@ -16,6 +17,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -29,6 +31,9 @@ class ReviewWriterTest {
     @Mock
     private ReviewRepository reviewRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private ReviewWriter reviewWriter;
 
@@ -126,6 +131,7 @@ class ReviewWriterTest {
             // then
             assertThat(result).extracting("id","reservationId","rating","content")
                     .containsExactly(1L,1L,5,"좋아요");
+            verify(eventPublisher).publishEvent(any(ParkingLotStatsEvent.class));
         }
     }
 
@@ -1,6 +1,26 @@
 CREATE TABLE IF NOT EXISTS public_data_page_state (
     id            BIGINT       NOT NULL,
     current_page  INT          NOT NULL,
+    per_page      INT          NOT NULL DEFAULT 2,
+    sync_run      BIGINT       NOT NULL DEFAULT 1,
     updated_at    DATETIME     NOT NULL,
     PRIMARY KEY (id)
-    );
\ No newline at end of file
+    );
+CREATE TABLE IF NOT EXISTS reverse_geocode_cache (
+    latitude_key   BIGINT        NOT NULL,
+    longitude_key  BIGINT        NOT NULL,
+    address        VARCHAR(255)  NOT NULL,
+    created_at     DATETIME      NOT NULL,
+    PRIMARY KEY (latitude_key, longitude_key)
+    );
+CREATE TABLE IF NOT EXISTS public_data_source_row (
+    longitude       DOUBLE       NOT NULL,
+    latitude        DOUBLE       NOT NULL,
+    parking_lot_id  BIGINT       NOT NULL,
+    content_hash    CHAR(64)     NOT NULL,
+    last_seen_run   BIGINT       NOT NULL,
+    missing_since   DATETIME     NULL,
+    updated_at      DATETIME     NOT NULL,
+    PRIMARY KEY (longitude, latitude),
+    INDEX idx_public_data_source_row_last_seen_run (last_seen_run)
+    );